@@ -0,0 +1,97 @@
+package com.visualfiredev.javabase.benchmarks;
+
+import com.visualfiredev.javabase.Database;
+import com.visualfiredev.javabase.DatabaseType;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.util.ArrayList;
+
+/**
+ * Connects to the database every benchmark runs against, with a fresh table.
+ *
+ * <p>
+ *     By default this is an SQLite file in the temporary directory. To run against a local MySQL or MariaDB server
+ *     instead, pass "-p type=MySQL" or "-p type=MariaDB" and set the "javabase.host", "javabase.database",
+ *     "javabase.username", and "javabase.password" system properties using "-jvmArgsAppend".
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class DatabaseState {
+
+    // The type of database to run against
+    @Param({ "SQLite" })
+    public String type;
+
+    // Connection
+    public Database database;
+    private File file;
+
+    /**
+     * Connects to the database and creates an empty table.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @Setup(Level.Trial)
+    public void connect() throws Exception {
+        DatabaseType databaseType = DatabaseType.valueOf(type);
+        if (databaseType == DatabaseType.SQLite) {
+            file = File.createTempFile("javabase-benchmarks", ".db");
+            database = new Database("", file.getAbsolutePath(), databaseType).connect("", "");
+        } else {
+            database = new Database(System.getProperty("javabase.host", "localhost"), System.getProperty("javabase.database", "javabase_benchmarks"), databaseType)
+                .connect(System.getProperty("javabase.username", "root"), System.getProperty("javabase.password", ""));
+        }
+        database.createTable(Flavor.TABLE_SCHEMA, true);
+    }
+
+    /**
+     * Drops the table and disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if dropping the table failed.
+     */
+    @TearDown(Level.Trial)
+    public void disconnect() throws Exception {
+        database.dropTable(Flavor.TABLE_SCHEMA);
+        database.disconnect();
+        if (file != null) {
+            file.delete();
+        }
+    }
+
+    /**
+     * Removes every row from the table.
+     * @throws Exception Thrown if deleting the rows failed.
+     */
+    public void clear() throws Exception {
+        database.delete(Flavor.TABLE_SCHEMA);
+    }
+
+    /**
+     * Inserts the specified amount of rows in one batch.
+     *
+     * @param rows The amount of rows to insert.
+     * @throws Exception Thrown if inserting the rows failed.
+     */
+    public void seed(int rows) throws Exception {
+        database.insert(DatabaseState.createFlavors(rows));
+    }
+
+    /**
+     * Creates new flavors to insert.
+     *
+     * @param amount The amount of flavors to create.
+     * @return An ArrayList of new flavors.
+     */
+    public static ArrayList<Flavor> createFlavors(int amount) {
+        ArrayList<Flavor> flavors = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            flavors.add(new Flavor("Flavor " + i, i % 2 == 0, i % 5));
+        }
+        return flavors;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.visualfiredev.javabase.benchmarks;
+
+import com.visualfiredev.javabase.DataType;
+import com.visualfiredev.javabase.DatabaseObject;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+
+/**
+ * The object every benchmark stores, shaped like the ice cream flavors of the README.
+ */
+public class Flavor extends DatabaseObject {
+
+    // Schema
+    public static final TableSchema TABLE_SCHEMA = new TableSchema("benchmark_flavors",
+        new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+        new ColumnSchema("Name", DataType.VARCHAR, 32),
+        new ColumnSchema("Sprinkles", DataType.TINYINT, 1),
+        new ColumnSchema("Scoops", DataType.INTEGER)
+    );
+
+    // Values
+    private int id = -1;
+    private String name;
+    private boolean sprinkles;
+    private int scoops;
+
+    /**
+     * Creates a new Flavor to insert.
+     *
+     * @param name The name of the flavor.
+     * @param sprinkles Whether or not the flavor has sprinkles.
+     * @param scoops The amount of scoops.
+     */
+    public Flavor(String name, boolean sprinkles, int scoops) {
+        super(TABLE_SCHEMA);
+        this.name = name;
+        this.sprinkles = sprinkles;
+        this.scoops = scoops;
+    }
+
+    /**
+     * Creates a blank Flavor for Javabase to map into.
+     */
+    public Flavor() {
+        super(TABLE_SCHEMA);
+    }
+
+    /**
+     * Returns the id of the flavor, or -1 if it has not been inserted.
+     * @return The id of the flavor.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the flavor.
+     * @return The name of the flavor.
+     */
+    public String getName() {
+        return name;
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.visualfiredev.javabase.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures inserting objects, one at a time and as a batch. The table is emptied before every iteration, so that
+ * its size does not grow without bound.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertBenchmark {
+
+    // The amount of objects inserted by each batch
+    @Param({ "100" })
+    public int batchSize;
+
+    // Objects To Insert
+    private Flavor flavor;
+    private ArrayList<Flavor> batch;
+
+    /**
+     * Creates the objects to insert. Auto-increment keys are ignored when inserting, so they are reused.
+     */
+    @Setup(Level.Trial)
+    public void createObjects() {
+        flavor = new Flavor("Vanilla", true, 2);
+        batch = DatabaseState.createFlavors(batchSize);
+    }
+
+    /**
+     * Empties the table.
+     * @param state The database.
+     * @throws Exception Thrown if deleting the rows failed.
+     */
+    @Setup(Level.Iteration)
+    public void clear(DatabaseState state) throws Exception {
+        state.clear();
+    }
+
+    /**
+     * Inserts a single object, including reading back its generated key.
+     * @param state The database.
+     * @throws Exception Thrown if inserting failed.
+     */
+    @Benchmark
+    public void insert(DatabaseState state) throws Exception {
+        state.database.insert(flavor);
+    }
+
+    /**
+     * Inserts a batch of objects in one transaction.
+     * @param state The database.
+     * @throws Exception Thrown if inserting failed.
+     */
+    @Benchmark
+    public void batchInsert(DatabaseState state) throws Exception {
+        state.database.insert(batch);
+    }
+
+}
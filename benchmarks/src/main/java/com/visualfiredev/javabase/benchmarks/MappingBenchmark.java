@@ -0,0 +1,114 @@
+package com.visualfiredev.javabase.benchmarks;
+
+import com.visualfiredev.javabase.DatabaseResult;
+import com.visualfiredev.javabase.DatabaseValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the steps between the driver and the caller: reading a ResultSet into a {@link DatabaseResult}, and
+ * mapping rows to and from objects. Reading the ResultSet without Javabase is the baseline of materializing, so
+ * the difference between the two is the cost of {@link DatabaseResult}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    // The amount of rows in the table
+    @Param({ "1000" })
+    public int rows;
+
+    // Inputs
+    private String sql;
+    private DatabaseResult result;
+    private ArrayList<Flavor> flavors;
+
+    /**
+     * Fills the table and selects it once, as the input of mapping.
+     * @param state The database.
+     * @throws Exception Thrown if inserting or selecting the rows failed.
+     */
+    @Setup(Level.Trial)
+    public void seed(DatabaseState state) throws Exception {
+        state.clear();
+        state.seed(rows);
+        sql = "SELECT Id, Name, Sprinkles, Scoops FROM " + Flavor.TABLE_SCHEMA.getName();
+        result = state.database.selectAll(Flavor.TABLE_SCHEMA, -1);
+        flavors = result.toObjects(Flavor.TABLE_SCHEMA, Flavor.class);
+    }
+
+    /**
+     * Reads every value of the table straight from the ResultSet.
+     * @param state The database.
+     * @param blackhole Consumes every value.
+     * @throws Exception Thrown if selecting failed.
+     */
+    @Benchmark
+    public void readResultSet(DatabaseState state, Blackhole blackhole) throws Exception {
+        try (ResultSet set = state.database.rawQuery(sql)) {
+            ResultSetMetaData meta = set.getMetaData();
+            int columns = meta.getColumnCount();
+            while (set.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    blackhole.consume(set.getObject(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads every value of the table into a {@link DatabaseResult}.
+     * @param state The database.
+     * @return The result.
+     * @throws Exception Thrown if selecting failed.
+     */
+    @Benchmark
+    public DatabaseResult materialize(DatabaseState state) throws Exception {
+        try (ResultSet set = state.database.rawQuery(sql)) {
+            return new DatabaseResult(set);
+        }
+    }
+
+    /**
+     * Maps every row of an already selected result to objects.
+     * @return The objects.
+     * @throws Exception Thrown if mapping failed.
+     */
+    @Benchmark
+    public ArrayList<Flavor> toObjects() throws Exception {
+        return result.toObjects(Flavor.TABLE_SCHEMA, Flavor.class);
+    }
+
+    /**
+     * Converts every object back to the values which would be inserted.
+     * @param blackhole Consumes the values of every object.
+     * @throws Exception Thrown if converting failed.
+     */
+    @Benchmark
+    public void fromObjects(Blackhole blackhole) throws Exception {
+        for (Flavor flavor : flavors) {
+            blackhole.consume(DatabaseValue.fromObject(Flavor.TABLE_SCHEMA, flavor));
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.visualfiredev.javabase.benchmarks;
+
+import com.visualfiredev.javabase.DatabaseResult;
+import com.visualfiredev.javabase.query.Condition;
+import com.visualfiredev.javabase.query.Query;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures selecting a single row by its primary key and scanning the entire table, from running the query to
+ * returning a {@link DatabaseResult} or mapped objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SelectBenchmark {
+
+    // The amount of rows in the table
+    @Param({ "1000" })
+    public int rows;
+
+    // Primary Key (Keys are not reused after deleting, so they may not start at 1)
+    private ColumnSchema id;
+    private int firstKey;
+
+    /**
+     * Fills the table.
+     * @param state The database.
+     * @throws Exception Thrown if inserting the rows failed.
+     */
+    @Setup(Level.Trial)
+    public void seed(DatabaseState state) throws Exception {
+        id = Flavor.TABLE_SCHEMA.getColumn("Id");
+        state.clear();
+        state.seed(rows);
+        firstKey = ((Number) state.database.min(Flavor.TABLE_SCHEMA, id, null)).intValue();
+    }
+
+    /**
+     * Selects a random row by its primary key using a typed query, which reuses a cached prepared statement.
+     * @param state The database.
+     * @return The selected row.
+     * @throws Exception Thrown if selecting failed.
+     */
+    @Benchmark
+    public DatabaseResult selectByKey(DatabaseState state) throws Exception {
+        int key = firstKey + ThreadLocalRandom.current().nextInt(rows);
+        return state.database.select(new Query(Flavor.TABLE_SCHEMA).where(Condition.eq(id, key)));
+    }
+
+    /**
+     * Selects every row into a {@link DatabaseResult}.
+     * @param state The database.
+     * @return Every row.
+     * @throws Exception Thrown if selecting failed.
+     */
+    @Benchmark
+    public DatabaseResult fullScan(DatabaseState state) throws Exception {
+        return state.database.selectAll(Flavor.TABLE_SCHEMA, -1);
+    }
+
+    /**
+     * Selects every row and maps them to objects.
+     * @param state The database.
+     * @return Every row, as objects.
+     * @throws Exception Thrown if selecting or mapping failed.
+     */
+    @Benchmark
+    public ArrayList<Flavor> fullScanObjects(DatabaseState state) throws Exception {
+        return state.database.selectAll(Flavor.TABLE_SCHEMA, -1, Flavor.class);
+    }
+
+}
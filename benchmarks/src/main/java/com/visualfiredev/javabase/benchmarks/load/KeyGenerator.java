@@ -0,0 +1,18 @@
+package com.visualfiredev.javabase.benchmarks.load;
+
+import java.util.Random;
+
+/**
+ * Chooses which of the loaded records an operation uses.
+ */
+public interface KeyGenerator {
+
+    /**
+     * Chooses the key of a record.
+     *
+     * @param random The random of the thread choosing.
+     * @return A key from 0 up to, but not including, the amount of records.
+     */
+    long nextKey(Random random);
+
+}
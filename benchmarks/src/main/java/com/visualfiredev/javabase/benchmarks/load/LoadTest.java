@@ -0,0 +1,321 @@
+package com.visualfiredev.javabase.benchmarks.load;
+
+import com.visualfiredev.javabase.Database;
+import com.visualfiredev.javabase.DatabaseType;
+import com.visualfiredev.javabase.metrics.LatencyHistogram;
+import com.visualfiredev.javabase.query.Condition;
+import com.visualfiredev.javabase.query.Query;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs a YCSB-style load test against a database: the table is loaded with records, and then several threads run a
+ * mix of reads, updates, inserts, and scans for a while, after which the throughput and latency percentiles of every
+ * operation are reported.
+ *
+ * <p>
+ *     Every thread uses its own connection, made using {@link Database#fork()}. Run with "--help" for the options.
+ * </p>
+ */
+public class LoadTest {
+
+    // The amount of records inserted at once while loading
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    // Options
+    private final DatabaseType type;
+    private final String host;
+    private final String databaseName;
+    private final String username;
+    private final String password;
+    private final Workload workload;
+    private final String distribution;
+    private final long records;
+    private final int threads;
+    private final long duration;
+    private final int fieldLength;
+    private final int maxScanLength;
+    private final boolean load;
+
+    // Results, Indexed By Operation
+    private final LatencyHistogram[] latencies = new LatencyHistogram[Workload.Operation.values().length];
+    private final LongAdder[] errors = new LongAdder[Workload.Operation.values().length];
+
+    // The key of the next inserted record
+    private final AtomicLong nextKey = new AtomicLong();
+
+    /**
+     * Creates a new LoadTest from the command line options.
+     *
+     * @param options The options, by name without the leading dashes.
+     * @throws IllegalArgumentException Thrown if an option is invalid.
+     */
+    LoadTest(HashMap<String, String> options) {
+        this.type = DatabaseType.valueOf(options.getOrDefault("type", "SQLite"));
+        this.host = options.getOrDefault("host", "localhost");
+        this.databaseName = options.getOrDefault("database", type == DatabaseType.SQLite ? new File(System.getProperty("java.io.tmpdir"), "javabase-load.db").getPath() : "javabase_load");
+        this.username = options.getOrDefault("username", "root");
+        this.password = options.getOrDefault("password", "");
+        this.distribution = options.getOrDefault("distribution", "zipfian");
+        this.records = Long.parseLong(options.getOrDefault("records", "10000"));
+        this.threads = Integer.parseInt(options.getOrDefault("threads", "4"));
+        this.duration = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("duration", "30")));
+        this.fieldLength = Integer.parseInt(options.getOrDefault("field-length", "100"));
+        this.maxScanLength = Integer.parseInt(options.getOrDefault("max-scan-length", "100"));
+        this.load = !options.containsKey("skip-load");
+
+        // Workload (A preset, with any proportion overridden)
+        Workload workload = Workload.of(options.getOrDefault("workload", "A"));
+        for (Workload.Operation operation : Workload.Operation.values()) {
+            String proportion = options.get(operation.name().toLowerCase().replace('_', '-'));
+            if (proportion != null) {
+                workload.set(operation, Double.parseDouble(proportion));
+            }
+        }
+        this.workload = workload;
+
+        // Results
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+            errors[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args The command line options, such as "--workload B --threads 8 --duration 60".
+     * @throws Exception Thrown if connecting to or loading the database failed.
+     */
+    public static void main(String[] args) throws Exception {
+        // Parse Options
+        HashMap<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option starting with \"--\", but found " + args[i] + "!");
+            }
+            String name = args[i].substring(2);
+            if (name.equals("help")) {
+                LoadTest.printUsage();
+                return;
+            } else if (name.equals("skip-load")) {
+                options.put(name, "true");
+            } else if (i + 1 < args.length) {
+                options.put(name, args[++i]);
+            } else {
+                throw new IllegalArgumentException("The option " + args[i] + " is missing a value!");
+            }
+        }
+
+        new LoadTest(options).run();
+    }
+
+    /**
+     * Prints the options of the load test.
+     */
+    private static void printUsage() {
+        System.out.println("Usage: java -cp target/benchmarks.jar " + LoadTest.class.getName() + " [options]");
+        System.out.println();
+        System.out.println("  --type <SQLite|MySQL|MariaDB>    The type of database. Defaults to SQLite.");
+        System.out.println("  --host <host>                    The host of a MySQL or MariaDB server. Defaults to localhost.");
+        System.out.println("  --database <name>                The database name, or the SQLite file. Defaults to a temporary file.");
+        System.out.println("  --username <name>                The username of a MySQL or MariaDB server. Defaults to root.");
+        System.out.println("  --password <password>            The password of a MySQL or MariaDB server.");
+        System.out.println("  --workload <A|B|C|D|E|F>         The YCSB core workload to start from. Defaults to A.");
+        System.out.println("  --read <proportion>              Overrides the proportion of reads, from 0 to 1.");
+        System.out.println("  --update <proportion>            Overrides the proportion of updates.");
+        System.out.println("  --insert <proportion>            Overrides the proportion of inserts.");
+        System.out.println("  --scan <proportion>              Overrides the proportion of scans.");
+        System.out.println("  --read-modify-write <proportion> Overrides the proportion of read-modify-writes.");
+        System.out.println("  --distribution <zipfian|uniform> How keys are chosen. Defaults to zipfian.");
+        System.out.println("  --records <amount>               The amount of records loaded. Defaults to 10000.");
+        System.out.println("  --threads <amount>               The amount of threads. Defaults to 4.");
+        System.out.println("  --duration <seconds>             How long to run for. Defaults to 30.");
+        System.out.println("  --field-length <length>          The length of every field. Defaults to 100.");
+        System.out.println("  --max-scan-length <amount>       The most records a scan selects. Defaults to 100.");
+        System.out.println("  --skip-load                      Uses the records already in the table.");
+    }
+
+    /**
+     * Makes an SQLite connection wait up to 30 seconds for another connection to release its lock, instead of failing
+     * right away. The busy timeout belongs to the connection, so every fork needs it too.
+     *
+     * @param connection The connection.
+     * @throws SQLException Thrown if setting the busy timeout failed.
+     */
+    private void waitWhenLocked(Database connection) throws SQLException {
+        if (type == DatabaseType.SQLite) {
+            connection.raw("PRAGMA busy_timeout=30000");
+        }
+    }
+
+    /**
+     * Loads the table, runs every thread for the duration, and prints the report.
+     * @throws Exception Thrown if connecting to or loading the database failed.
+     */
+    void run() throws Exception {
+        // Connect
+        Database database = new Database(host, databaseName, type).connect(username, password);
+        if (type == DatabaseType.SQLite) {
+            // Let readers and writers on different connections run at once
+            database.raw("PRAGMA journal_mode=WAL");
+        }
+        this.waitWhenLocked(database);
+
+        // Load
+        if (load) {
+            System.out.println("Loading " + records + " records...");
+            long start = System.nanoTime();
+            database.createTable(UserRecord.TABLE_SCHEMA, true);
+            Random random = new Random(0);
+            ArrayList<UserRecord> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            for (long key = 0; key < records; key++) {
+                batch.add(new UserRecord(key, fieldLength, random));
+                if (batch.size() == LOAD_BATCH_SIZE || key == records - 1) {
+                    database.insert(batch);
+                    batch.clear();
+                }
+            }
+            System.out.printf("Loaded in %.1f seconds%n", (System.nanoTime() - start) / 1e9);
+        }
+        // Inserted Keys Continue After The Highest Key
+        Object highest = database.max(UserRecord.TABLE_SCHEMA, UserRecord.TABLE_SCHEMA.getColumn("Id"), null);
+        nextKey.set(highest != null ? ((Number) highest).longValue() + 1 : records);
+
+        // Keys
+        KeyGenerator keys;
+        if (distribution.equalsIgnoreCase("zipfian")) {
+            keys = new ZipfianGenerator(records);
+        } else if (distribution.equalsIgnoreCase("uniform")) {
+            keys = new UniformGenerator(records);
+        } else {
+            throw new IllegalArgumentException("There is no distribution " + distribution + "! Use zipfian or uniform.");
+        }
+
+        // Run
+        System.out.println("Running " + workload + " with " + distribution + " keys on " + threads + " threads for " + TimeUnit.NANOSECONDS.toSeconds(duration) + " seconds...");
+        ArrayList<Database> connections = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Database connection = database.fork();
+            this.waitWhenLocked(connection);
+            connections.add(connection);
+        }
+        CountDownLatch finished = new CountDownLatch(threads);
+        long start = System.nanoTime();
+        long end = start + duration;
+        for (int i = 0; i < threads; i++) {
+            Database connection = connections.get(i);
+            Thread thread = new Thread(() -> {
+                try {
+                    this.runThread(connection, keys, end);
+                } finally {
+                    finished.countDown();
+                }
+            }, "Javabase-Load-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        finished.await();
+        long elapsed = System.nanoTime() - start;
+
+        // Disconnect
+        for (Database connection : connections) {
+            connection.disconnect();
+        }
+        database.disconnect();
+
+        this.printReport(elapsed);
+    }
+
+    /**
+     * Runs operations on a single connection until the end.
+     *
+     * @param database The connection of the thread.
+     * @param keys Chooses the records of each operation.
+     * @param end When to stop, from {@link System#nanoTime()}.
+     */
+    private void runThread(Database database, KeyGenerator keys, long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ColumnSchema id = UserRecord.TABLE_SCHEMA.getColumn("Id");
+        while (System.nanoTime() < end) {
+            Workload.Operation operation = workload.next(random);
+            long start = System.nanoTime();
+            try {
+                switch (operation) {
+                    case READ:
+                        database.select(new Query(UserRecord.TABLE_SCHEMA).where(Condition.eq(id, keys.nextKey(random))), UserRecord.class);
+                        break;
+                    case UPDATE: {
+                        UserRecord record = new UserRecord(keys.nextKey(random), fieldLength, random);
+                        database.update(record);
+                        break;
+                    }
+                    case INSERT:
+                        database.insert(new UserRecord(nextKey.getAndIncrement(), fieldLength, random));
+                        break;
+                    case SCAN: {
+                        Query query = new Query(UserRecord.TABLE_SCHEMA)
+                                .where(Condition.ge(id, keys.nextKey(random)))
+                                .orderBy(id)
+                                .limit(1 + random.nextInt(maxScanLength));
+                        database.select(query, UserRecord.class);
+                        break;
+                    }
+                    case READ_MODIFY_WRITE: {
+                        ArrayList<UserRecord> found = database.select(new Query(UserRecord.TABLE_SCHEMA).where(Condition.eq(id, keys.nextKey(random))), UserRecord.class);
+                        if (!found.isEmpty()) {
+                            found.get(0).touch(fieldLength, random);
+                            database.update(found.get(0));
+                        }
+                        break;
+                    }
+                }
+                latencies[operation.ordinal()].record(System.nanoTime() - start);
+            } catch (Exception e) {
+                errors[operation.ordinal()].increment();
+            }
+        }
+    }
+
+    /**
+     * Prints the throughput and latency percentiles of every operation.
+     * @param elapsed How long the operations ran for, in nanoseconds.
+     */
+    private void printReport(long elapsed) {
+        double seconds = elapsed / 1e9;
+        long total = 0;
+        for (LatencyHistogram latency : latencies) {
+            total += latency.getCount();
+        }
+
+        System.out.println();
+        System.out.printf("Throughput: %.1f operations/second (%d operations in %.1f seconds)%n", total / seconds, total, seconds);
+        System.out.println();
+        System.out.printf("%-18s %10s %8s %10s %10s %10s %10s %10s %10s%n", "Operation", "Count", "Errors", "Ops/s", "Mean(us)", "p50(us)", "p95(us)", "p99(us)", "Max(us)");
+        for (Workload.Operation operation : Workload.Operation.values()) {
+            LatencyHistogram latency = latencies[operation.ordinal()];
+            long failed = errors[operation.ordinal()].sum();
+            if (latency.getCount() == 0 && failed == 0) {
+                continue;
+            }
+            System.out.printf("%-18s %10d %8d %10.1f %10d %10d %10d %10d %10d%n",
+                    operation, latency.getCount(), failed, latency.getCount() / seconds,
+                    TimeUnit.NANOSECONDS.toMicros((long) latency.getMean()),
+                    TimeUnit.NANOSECONDS.toMicros(latency.getPercentile(0.5)),
+                    TimeUnit.NANOSECONDS.toMicros(latency.getPercentile(0.95)),
+                    TimeUnit.NANOSECONDS.toMicros(latency.getPercentile(0.99)),
+                    TimeUnit.NANOSECONDS.toMicros(latency.getMax()));
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.visualfiredev.javabase.benchmarks.load;
+
+import java.util.Random;
+
+/**
+ * Chooses every record equally often.
+ */
+public class UniformGenerator implements KeyGenerator {
+
+    // Constructor Arguments
+    private final long items;
+
+    /**
+     * Creates a new UniformGenerator.
+     * @param items The amount of records to choose from.
+     */
+    public UniformGenerator(long items) {
+        this.items = items;
+    }
+
+    @Override
+    public long nextKey(Random random) {
+        return (long) (random.nextDouble() * items);
+    }
+
+}
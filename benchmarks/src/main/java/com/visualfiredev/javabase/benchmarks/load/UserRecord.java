@@ -0,0 +1,108 @@
+package com.visualfiredev.javabase.benchmarks.load;
+
+import com.visualfiredev.javabase.DataType;
+import com.visualfiredev.javabase.DatabaseObject;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+
+import java.util.Random;
+
+/**
+ * A record of the load test, shaped like the "usertable" of YCSB: a key and ten text fields.
+ */
+public class UserRecord extends DatabaseObject {
+
+    // Schema
+    public static final TableSchema TABLE_SCHEMA = new TableSchema("usertable",
+        new ColumnSchema("Id", DataType.BIGINT).setPrimaryKey(true),
+        new ColumnSchema("Field0", DataType.VARCHAR, 255),
+        new ColumnSchema("Field1", DataType.VARCHAR, 255),
+        new ColumnSchema("Field2", DataType.VARCHAR, 255),
+        new ColumnSchema("Field3", DataType.VARCHAR, 255),
+        new ColumnSchema("Field4", DataType.VARCHAR, 255),
+        new ColumnSchema("Field5", DataType.VARCHAR, 255),
+        new ColumnSchema("Field6", DataType.VARCHAR, 255),
+        new ColumnSchema("Field7", DataType.VARCHAR, 255),
+        new ColumnSchema("Field8", DataType.VARCHAR, 255),
+        new ColumnSchema("Field9", DataType.VARCHAR, 255)
+    );
+
+    // Characters used for random values
+    private static final char[] CHARACTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+    // Values
+    private long id;
+    private String field0;
+    private String field1;
+    private String field2;
+    private String field3;
+    private String field4;
+    private String field5;
+    private String field6;
+    private String field7;
+    private String field8;
+    private String field9;
+
+    /**
+     * Creates a new UserRecord with random values.
+     *
+     * @param id The key of the record.
+     * @param fieldLength The length of every field.
+     * @param random The random used to create the values.
+     */
+    public UserRecord(long id, int fieldLength, Random random) {
+        super(TABLE_SCHEMA);
+        this.id = id;
+        this.field0 = UserRecord.randomValue(fieldLength, random);
+        this.field1 = UserRecord.randomValue(fieldLength, random);
+        this.field2 = UserRecord.randomValue(fieldLength, random);
+        this.field3 = UserRecord.randomValue(fieldLength, random);
+        this.field4 = UserRecord.randomValue(fieldLength, random);
+        this.field5 = UserRecord.randomValue(fieldLength, random);
+        this.field6 = UserRecord.randomValue(fieldLength, random);
+        this.field7 = UserRecord.randomValue(fieldLength, random);
+        this.field8 = UserRecord.randomValue(fieldLength, random);
+        this.field9 = UserRecord.randomValue(fieldLength, random);
+    }
+
+    /**
+     * Creates a blank UserRecord for Javabase to map into.
+     */
+    public UserRecord() {
+        super(TABLE_SCHEMA);
+    }
+
+    /**
+     * Replaces the value of the first field, as an update of YCSB changes a single field.
+     *
+     * @param fieldLength The length of the new value.
+     * @param random The random used to create the value.
+     */
+    public void touch(int fieldLength, Random random) {
+        this.field0 = UserRecord.randomValue(fieldLength, random);
+    }
+
+    /**
+     * Returns the key of the record.
+     * @return The key of the record.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Creates a random value.
+     *
+     * @param length The length of the value.
+     * @param random The random used to create the value.
+     * @return The random value.
+     */
+    static String randomValue(int length, Random random) {
+        char[] value = new char[length];
+        for (int i = 0; i < length; i++) {
+            value[i] = CHARACTERS[random.nextInt(CHARACTERS.length)];
+        }
+        return new String(value);
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.visualfiredev.javabase.benchmarks.load;
+
+import java.util.Random;
+
+/**
+ * Defines the mix of operations of a load test, as proportions which add up to 1.
+ */
+public class Workload {
+
+    /**
+     * Defines the operations of a load test.
+     */
+    public enum Operation {
+
+        /**
+         * Selects a single record by its key.
+         */
+        READ,
+
+        /**
+         * Changes a single field of a record.
+         */
+        UPDATE,
+
+        /**
+         * Adds a new record.
+         */
+        INSERT,
+
+        /**
+         * Selects a range of records, starting at a key.
+         */
+        SCAN,
+
+        /**
+         * Selects a record and then changes a field of it.
+         */
+        READ_MODIFY_WRITE
+
+    }
+
+    // Proportions, Indexed By Operation
+    private final double[] proportions = new double[Operation.values().length];
+
+    /**
+     * Creates the workload of one of the core workloads of YCSB.
+     *
+     * <ul>
+     *     <li>A: 50% reads and 50% updates.</li>
+     *     <li>B: 95% reads and 5% updates.</li>
+     *     <li>C: 100% reads.</li>
+     *     <li>D: 95% reads and 5% inserts.</li>
+     *     <li>E: 95% scans and 5% inserts.</li>
+     *     <li>F: 50% reads and 50% read-modify-writes.</li>
+     * </ul>
+     *
+     * @param name The letter of the workload.
+     * @return The workload.
+     * @throws IllegalArgumentException Thrown if there is no such workload.
+     */
+    public static Workload of(String name) {
+        switch (name.toUpperCase()) {
+            case "A":
+                return new Workload().set(Operation.READ, 0.5).set(Operation.UPDATE, 0.5);
+            case "B":
+                return new Workload().set(Operation.READ, 0.95).set(Operation.UPDATE, 0.05);
+            case "C":
+                return new Workload().set(Operation.READ, 1);
+            case "D":
+                return new Workload().set(Operation.READ, 0.95).set(Operation.INSERT, 0.05);
+            case "E":
+                return new Workload().set(Operation.SCAN, 0.95).set(Operation.INSERT, 0.05);
+            case "F":
+                return new Workload().set(Operation.READ, 0.5).set(Operation.READ_MODIFY_WRITE, 0.5);
+            default:
+                throw new IllegalArgumentException("There is no workload " + name + "! Use A, B, C, D, E, or F.");
+        }
+    }
+
+    /**
+     * Sets the proportion of an operation.
+     *
+     * @param operation The operation.
+     * @param proportion The proportion of operations, from 0 to 1.
+     * @return The Workload.
+     */
+    public Workload set(Operation operation, double proportion) {
+        proportions[operation.ordinal()] = proportion;
+        return this;
+    }
+
+    /**
+     * Returns the proportion of an operation.
+     *
+     * @param operation The operation.
+     * @return The proportion of operations, from 0 to 1.
+     */
+    public double get(Operation operation) {
+        return proportions[operation.ordinal()];
+    }
+
+    /**
+     * Chooses the next operation.
+     *
+     * @param random The random of the thread choosing.
+     * @return The operation.
+     * @throws IllegalStateException Thrown if every proportion is 0.
+     */
+    public Operation next(Random random) {
+        double total = 0;
+        for (double proportion : proportions) {
+            total += proportion;
+        }
+        if (total <= 0) {
+            throw new IllegalStateException("At least one operation must have a proportion above 0!");
+        }
+
+        // Walk The Proportions
+        double chosen = random.nextDouble() * total;
+        Operation last = null;
+        for (Operation operation : Operation.values()) {
+            if (proportions[operation.ordinal()] <= 0) {
+                continue;
+            }
+            chosen -= proportions[operation.ordinal()];
+            if (chosen < 0) {
+                return operation;
+            }
+            last = operation;
+        }
+        return last;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        for (Operation operation : Operation.values()) {
+            if (proportions[operation.ordinal()] > 0) {
+                if (string.length() > 0) {
+                    string.append(", ");
+                }
+                string.append(operation).append("=").append(proportions[operation.ordinal()]);
+            }
+        }
+        return string.toString();
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.visualfiredev.javabase.benchmarks.load;
+
+import java.util.Random;
+
+/**
+ * Chooses a few records far more often than the rest, following a Zipfian distribution like the one of YCSB.
+ *
+ * <p>
+ *     Uses the algorithm from "Quickly Generating Billion-Record Synthetic Databases" by Gray et al. The popular
+ *     records are scattered over the keys by hashing, so that they are not all next to each other at the start of
+ *     the table, which would favour the first pages of every index.
+ * </p>
+ */
+public class ZipfianGenerator implements KeyGenerator {
+
+    // The default constant of YCSB, where roughly 20% of the records receive 80% of the operations
+    public static final double DEFAULT_CONSTANT = 0.99;
+
+    // FNV-1a
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    // Constructor Arguments
+    private final long items;
+    private final double theta;
+
+    // Precalculated
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+    private final double half;
+
+    /**
+     * Creates a new ZipfianGenerator using the default constant.
+     * @param items The amount of records to choose from.
+     */
+    public ZipfianGenerator(long items) {
+        this(items, DEFAULT_CONSTANT);
+    }
+
+    /**
+     * Creates a new ZipfianGenerator.
+     *
+     * @param items The amount of records to choose from.
+     * @param theta The Zipfian constant, where higher values choose the popular records more often. Must be below 1.
+     */
+    public ZipfianGenerator(long items, double theta) {
+        if (theta <= 0 || theta >= 1) {
+            throw new IllegalArgumentException("The Zipfian constant must be between 0 and 1!");
+        }
+        this.items = items;
+        this.theta = theta;
+        this.zetaN = ZipfianGenerator.zeta(items, theta);
+        double zeta2 = ZipfianGenerator.zeta(2, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetaN);
+        this.half = 1 + Math.pow(0.5, theta);
+    }
+
+    @Override
+    public long nextKey(Random random) {
+        // Choose The Rank
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        long rank;
+        if (uz < 1.0) {
+            rank = 0;
+        } else if (uz < half) {
+            rank = 1;
+        } else {
+            rank = (long) (items * Math.pow(eta * u - eta + 1, alpha));
+        }
+
+        // Scatter The Rank Over The Keys
+        return Math.floorMod(ZipfianGenerator.hash(Math.min(rank, items - 1)), items);
+    }
+
+    /**
+     * Calculates the zeta constant of the distribution.
+     *
+     * @param items The amount of records.
+     * @param theta The Zipfian constant.
+     * @return The sum of 1 / i^theta for every i from 1 to the amount of records.
+     */
+    private static double zeta(long items, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= items; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+
+    /**
+     * Hashes a rank using FNV-1a over its bytes.
+     *
+     * @param value The rank.
+     * @return The hash of the rank.
+     */
+    private static long hash(long value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+}
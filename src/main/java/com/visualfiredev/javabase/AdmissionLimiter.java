@@ -0,0 +1,146 @@
+package com.visualfiredev.javabase;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits how many statements a {@link Database} runs at once, set using {@link Database#setAdmissionLimiter(AdmissionLimiter)}.
+ *
+ * <p>
+ *     Once the limit is reached, a bounded amount of statements wait for their turn, for a bounded amount of time.
+ *     Any statement beyond that is rejected right away with a {@link CallRejectedException}, so that a saturated
+ *     database sheds load instead of every caller piling up behind it. Waiting never continues past the current
+ *     {@link Deadline}.
+ * </p>
+ */
+public class AdmissionLimiter {
+
+    // Constructor Arguments
+    private int maxConcurrent;
+    private int maxQueued;
+    private long maxWait;
+
+    // Permits
+    private Semaphore permits;
+    private AtomicInteger queued = new AtomicInteger();
+    private AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Creates a new AdmissionLimiter.
+     *
+     * @param maxConcurrent The maximum amount of statements running at once.
+     * @param maxQueued The maximum amount of statements waiting for their turn. Set to 0 to reject as soon as the limit is reached.
+     * @param maxWait The maximum amount of time a statement waits for its turn.
+     * @param unit The unit of the maximum wait.
+     * @throws IllegalArgumentException Thrown if the maximum amount of statements running at once is less than 1.
+     */
+    public AdmissionLimiter(int maxConcurrent, int maxQueued, long maxWait, TimeUnit unit) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("At least one statement must be able to run at once!");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWait = unit.toNanos(maxWait);
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Waits for the turn of a statement, which must be released once it has run.
+     *
+     * @param sql The SQL of the statement.
+     * @throws CallRejectedException Thrown if too many statements are waiting or the wait took too long.
+     */
+    void acquire(String sql) throws CallRejectedException {
+        // Run Right Away
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        // Queue Is Full
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.incrementAndGet();
+            throw new CallRejectedException("Too many statements are waiting to run!", sql);
+        }
+
+        // Wait, But Not Past The Deadline
+        try {
+            long wait = maxWait;
+            Deadline deadline = Deadline.current();
+            if (deadline != null) {
+                wait = Math.min(wait, TimeUnit.MILLISECONDS.toNanos(Math.max(deadline.getRemainingMillis(), 0)));
+            }
+            if (!permits.tryAcquire(wait, TimeUnit.NANOSECONDS)) {
+                rejected.incrementAndGet();
+                throw new CallRejectedException("The statement waited too long for its turn to run!", sql);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.incrementAndGet();
+            throw new CallRejectedException("The statement was interrupted while waiting for its turn to run!", sql);
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Releases the turn of a statement once it has run.
+     */
+    void release() {
+        permits.release();
+    }
+
+    /**
+     * Returns the maximum amount of statements running at once.
+     * @return The maximum amount of statements running at once.
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Returns the maximum amount of statements waiting for their turn.
+     * @return The maximum amount of statements waiting for their turn.
+     */
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    /**
+     * Returns the amount of statements currently running.
+     * @return The amount of statements currently running.
+     */
+    public int getRunning() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Returns the amount of statements currently waiting for their turn.
+     * @return The amount of statements currently waiting for their turn.
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * Returns the amount of statements rejected.
+     * @return The amount of statements rejected.
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AdmissionLimiter{" +
+                "maxConcurrent=" + maxConcurrent +
+                ", maxQueued=" + maxQueued +
+                ", running=" + this.getRunning() +
+                ", queued=" + this.getQueued() +
+                ", rejected=" + this.getRejected() +
+                '}';
+    }
+
+}
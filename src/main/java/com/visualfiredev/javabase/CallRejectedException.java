@@ -0,0 +1,23 @@
+package com.visualfiredev.javabase;
+
+import java.sql.SQLTransientException;
+
+/**
+ * Thrown when a statement is rejected without being run, because the {@link CircuitBreaker} is open or the
+ * {@link AdmissionLimiter} is saturated. The statement may succeed if it is tried again later.
+ */
+public class CallRejectedException extends SQLTransientException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new CallRejectedException.
+     *
+     * @param reason Why the statement was rejected.
+     * @param sql The SQL of the statement.
+     */
+    public CallRejectedException(String reason, String sql) {
+        super(reason + " SQL Statement: " + sql);
+    }
+
+}
@@ -0,0 +1,350 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stops sending statements to a database that is failing or slow, set using {@link Database#setCircuitBreaker(CircuitBreaker)}.
+ *
+ * <p>
+ *     The breaker remembers the outcome of the most recent statements. Once enough statements have run and too many
+ *     of them failed or were slow, the breaker opens and every statement is rejected right away with a
+ *     {@link CallRejectedException}, instead of waiting on a database that is unlikely to answer. After a while the
+ *     breaker becomes half-open and lets a few statements through as probes. If every probe succeeds the breaker
+ *     closes again, otherwise it opens for another while.
+ *     <br><br>
+ *     Only failures caused by the database being unavailable count, meaning timeouts and connection failures.
+ *     Statements failing because of their own SQL are not the database's fault and count as successes, while
+ *     statements cancelled by their caller through a {@link Deadline} are not counted at all. Anything other than
+ *     an {@link SQLException}, such as a driver throwing a runtime exception, counts as a failure.
+ * </p>
+ */
+public class CircuitBreaker {
+
+    /**
+     * Defines the states a {@link CircuitBreaker} can be in.
+     */
+    public enum State {
+
+        /**
+         * Every statement is let through.
+         */
+        CLOSED,
+
+        /**
+         * Every statement is rejected.
+         */
+        OPEN,
+
+        /**
+         * A few statements are let through to probe whether the database has recovered.
+         */
+        HALF_OPEN
+
+    }
+
+    // Outcomes
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    /**
+     * Returned by {@link CircuitBreaker#tryAcquire()} when a statement is rejected.
+     */
+    static final long REJECTED = -1;
+
+    // Breaker Options
+    private double failureRateThreshold = 0.5;
+    private double slowCallRateThreshold = 1.0;
+    private long slowCallDuration = TimeUnit.SECONDS.toNanos(5);
+    private int minimumCalls = 10;
+    private long openDuration = TimeUnit.SECONDS.toNanos(10);
+    private int halfOpenCalls = 3;
+
+    // Window Of Recent Outcomes
+    private byte[] window = new byte[100];
+    private int position = 0;
+    private int calls = 0;
+    private int failures = 0;
+    private int slowCalls = 0;
+
+    // State
+    private State state = State.CLOSED;
+    private long generation = 0;
+    private long openedAt;
+    private int probesStarted = 0;
+    private int probesSucceeded = 0;
+    private long rejected = 0;
+
+    /**
+     * Checks whether or not a statement may run, and if so, counts it as started.
+     * <p>
+     *     The returned permit must be handed back to {@link CircuitBreaker#record(long, long, SQLException)} or
+     *     {@link CircuitBreaker#release(long)} once the statement has finished. A permit only counts while the breaker
+     *     is still in the state it was taken in, so a statement let through while closed is never mistaken for a probe.
+     * </p>
+     *
+     * @return The permit of the statement, or {@link CircuitBreaker#REJECTED} if it should be rejected.
+     */
+    synchronized long tryAcquire() {
+        // Open, Until It Is Time To Probe
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDuration) {
+                rejected++;
+                return REJECTED;
+            }
+            this.transition(State.HALF_OPEN);
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+
+        // Half Open, Until Every Probe Has Started
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenCalls) {
+                rejected++;
+                return REJECTED;
+            }
+            probesStarted++;
+        }
+        return generation;
+    }
+
+    /**
+     * Records the outcome of a statement that was let through.
+     *
+     * @param permit The permit returned by {@link CircuitBreaker#tryAcquire()}.
+     * @param durationNanos How long the statement took.
+     * @param exception The exception thrown by the statement, or null if it succeeded.
+     */
+    synchronized void record(long permit, long durationNanos, @Nullable SQLException exception) {
+        this.record(permit, durationNanos, exception == null, exception);
+    }
+
+    /**
+     * Records the outcome of a statement that was let through.
+     *
+     * @param permit The permit returned by {@link CircuitBreaker#tryAcquire()}.
+     * @param durationNanos How long the statement took.
+     * @param isSuccess True if the statement succeeded, otherwise false.
+     * @param failure Whatever the statement threw, or null if it succeeded or is not known.
+     */
+    synchronized void record(long permit, long durationNanos, boolean isSuccess, @Nullable Throwable failure) {
+        // Ignore Statements Let Through Before The Last Change Of State
+        if (permit != generation) {
+            return;
+        }
+        boolean isFailure = !isSuccess && (!(failure instanceof SQLException) || CircuitBreaker.isUnavailable((SQLException) failure));
+        boolean isSlow = durationNanos >= slowCallDuration;
+
+        // Half Open: Any Bad Probe Opens The Breaker Again, While Every Good Probe Closes It
+        if (state == State.HALF_OPEN) {
+            if (isFailure || isSlow) {
+                this.open();
+            } else if (++probesSucceeded >= halfOpenCalls) {
+                this.transition(State.CLOSED);
+                this.resetWindow();
+            }
+            return;
+        }
+
+        // Replace The Oldest Outcome
+        if (calls == window.length) {
+            byte oldest = window[position];
+            failures -= (oldest & FAILED) != 0 ? 1 : 0;
+            slowCalls -= (oldest & SLOW) != 0 ? 1 : 0;
+        } else {
+            calls++;
+        }
+        window[position] = (byte) ((isFailure ? FAILED : 0) | (isSlow ? SLOW : 0));
+        position = (position + 1) % window.length;
+        failures += isFailure ? 1 : 0;
+        slowCalls += isSlow ? 1 : 0;
+
+        // Open If Either Rate Is Reached
+        if (calls >= minimumCalls && ((double) failures / calls >= failureRateThreshold || (double) slowCalls / calls >= slowCallRateThreshold)) {
+            this.open();
+        }
+    }
+
+    /**
+     * Forgets a statement that was let through but cancelled by its caller, which says nothing about the database.
+     * A probe that is forgotten frees its place for another probe.
+     *
+     * @param permit The permit returned by {@link CircuitBreaker#tryAcquire()}.
+     */
+    synchronized void release(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            probesStarted--;
+        }
+    }
+
+    /**
+     * Opens the breaker, rejecting every statement until the open duration has passed.
+     */
+    private void open() {
+        this.transition(State.OPEN);
+        openedAt = System.nanoTime();
+        this.resetWindow();
+    }
+
+    /**
+     * Changes the state of the breaker, invalidating the permit of every statement still running.
+     * @param state The new state.
+     */
+    private void transition(State state) {
+        this.state = state;
+        generation++;
+    }
+
+    /**
+     * Forgets the outcome of every statement.
+     */
+    private void resetWindow() {
+        position = 0;
+        calls = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    /**
+     * Checks whether or not the failure means the database is unavailable, being a timeout or a connection failure.
+     *
+     * @param exception The failure.
+     * @return True if the failure means the database is unavailable, otherwise false.
+     */
+    static boolean isUnavailable(SQLException exception) {
+        if (exception instanceof CallRejectedException) {
+            return false;
+        } else if (exception instanceof SQLTimeoutException || exception instanceof SQLRecoverableException
+                || exception instanceof SQLTransientConnectionException || exception instanceof SQLNonTransientConnectionException) {
+            return true;
+        }
+        String state = exception.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+
+    /**
+     * Returns the current state of the breaker.
+     * @return The current state of the breaker.
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDuration) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Returns the amount of statements rejected by the breaker.
+     * @return The amount of statements rejected by the breaker.
+     */
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Sets the rate of failures, from 0 to 1, at which the breaker opens. Defaults to 0.5.
+     *
+     * @param failureRateThreshold The rate of failures at which the breaker opens.
+     * @return The CircuitBreaker.
+     */
+    public synchronized CircuitBreaker setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the rate of slow statements, from 0 to 1, at which the breaker opens. Defaults to 1, meaning only when
+     * every statement is slow.
+     *
+     * @param slowCallRateThreshold The rate of slow statements at which the breaker opens.
+     * @return The CircuitBreaker.
+     */
+    public synchronized CircuitBreaker setSlowCallRateThreshold(double slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        return this;
+    }
+
+    /**
+     * Sets how long a statement may take before it counts as slow. Defaults to 5 seconds.
+     *
+     * @param slowCallDuration How long a statement may take before it counts as slow.
+     * @param unit The unit of the duration.
+     * @return The CircuitBreaker.
+     */
+    public synchronized CircuitBreaker setSlowCallDuration(long slowCallDuration, TimeUnit unit) {
+        this.slowCallDuration = unit.toNanos(slowCallDuration);
+        return this;
+    }
+
+    /**
+     * Sets the amount of recent statements the rates are calculated from. Defaults to 100.
+     *
+     * @param windowSize The amount of recent statements the rates are calculated from.
+     * @return The CircuitBreaker.
+     * @throws IllegalArgumentException Thrown if the size is less than 1.
+     */
+    public synchronized CircuitBreaker setWindowSize(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("The window must contain at least one statement!");
+        }
+        this.window = new byte[windowSize];
+        this.resetWindow();
+        return this;
+    }
+
+    /**
+     * Sets the amount of statements that must have run before the breaker can open. Defaults to 10.
+     *
+     * @param minimumCalls The amount of statements that must have run before the breaker can open.
+     * @return The CircuitBreaker.
+     */
+    public synchronized CircuitBreaker setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+        return this;
+    }
+
+    /**
+     * Sets how long the breaker stays open before probing the database. Defaults to 10 seconds.
+     *
+     * @param openDuration How long the breaker stays open.
+     * @param unit The unit of the duration.
+     * @return The CircuitBreaker.
+     */
+    public synchronized CircuitBreaker setOpenDuration(long openDuration, TimeUnit unit) {
+        this.openDuration = unit.toNanos(openDuration);
+        return this;
+    }
+
+    /**
+     * Sets the amount of probes let through while half-open, which must all succeed to close the breaker. Defaults to 3.
+     *
+     * @param halfOpenCalls The amount of probes let through while half-open.
+     * @return The CircuitBreaker.
+     * @throws IllegalArgumentException Thrown if the amount is less than 1.
+     */
+    public synchronized CircuitBreaker setHalfOpenCalls(int halfOpenCalls) {
+        if (halfOpenCalls < 1) {
+            throw new IllegalArgumentException("At least one probe must be let through!");
+        }
+        this.halfOpenCalls = halfOpenCalls;
+        return this;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CircuitBreaker{" +
+                "state=" + state +
+                ", calls=" + calls +
+                ", failures=" + failures +
+                ", slowCalls=" + slowCalls +
+                ", rejected=" + rejected +
+                '}';
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Spreads keys evenly across shards using consistent hashing.
+ *
+ * <p>
+ *     Every shard is placed on a ring at many points, called virtual nodes, and a key is stored on the shard of the
+ *     first point after the hash of the key. Adding a shard only moves the keys which now belong to the new shard,
+ *     roughly one in every amount of shards, instead of nearly every key as with a plain modulo. Keys are hashed
+ *     using their string form.
+ * </p>
+ */
+public class ConsistentHashRouter implements ShardRouter {
+
+    // The default amount of points each shard is placed on the ring at
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    // Constructor Arguments
+    private int shards;
+    private int virtualNodes;
+
+    // Ring
+    private TreeMap<Long, Integer> ring;
+
+    /**
+     * Creates a new ConsistentHashRouter placing each shard on the ring {@link ConsistentHashRouter#DEFAULT_VIRTUAL_NODES} times.
+     *
+     * @param shards The amount of shards.
+     */
+    public ConsistentHashRouter(int shards) {
+        this(shards, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Creates a new ConsistentHashRouter.
+     *
+     * @param shards The amount of shards.
+     * @param virtualNodes The amount of points each shard is placed on the ring at. More points spread keys more evenly.
+     * @throws IllegalArgumentException Thrown if the amount of shards or virtual nodes is less than 1.
+     */
+    public ConsistentHashRouter(int shards, int virtualNodes) {
+        if (shards < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("There must be at least one shard and one virtual node!");
+        }
+        this.shards = shards;
+        this.virtualNodes = virtualNodes;
+
+        // Place Every Shard On The Ring
+        this.ring = new TreeMap<>();
+        for (int shard = 0; shard < shards; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(ConsistentHashRouter.hash("shard-" + shard + "-node-" + node), shard);
+            }
+        }
+    }
+
+    @Override
+    public int getShard(@NotNull Object key) {
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(ConsistentHashRouter.hash(String.valueOf(key)));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Hashes a string to a 64-bit position on the ring using FNV-1a, followed by a final mix so that similar strings
+     * end up far apart.
+     *
+     * @param string The string to hash.
+     * @return The position on the ring.
+     */
+    static long hash(String string) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : string.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        // Final Mix (MurmurHash3)
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Returns the amount of shards.
+     * @return The amount of shards.
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns the amount of points each shard is placed on the ring at.
+     * @return The amount of points each shard is placed on the ring at.
+     */
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    @Override
+    public String toString() {
+        return "ConsistentHashRouter{" +
+                "shards=" + shards +
+                ", virtualNodes=" + virtualNodes +
+                '}';
+    }
+
+}
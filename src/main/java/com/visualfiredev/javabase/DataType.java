@@ -224,6 +224,14 @@ public enum DataType {
         return false;
     }
 
+    /**
+     * Determines whether or not this DataType holds character data, and can therefore be used in a full-text index.
+     * @return True if this data type holds character data, false otherwise.
+     */
+    public boolean isText() {
+        return this == CHAR || this == VARCHAR || this == TEXT || this == TINYTEXT || this == MEDIUMTEXT || this == LONGTEXT;
+    }
+
     public static DataType getClosestSupportedDataType(@NotNull DataType type, @NotNull DatabaseType databaseType) throws UnsupportedDatabaseTypeException {
         // If the type is supported, return the type
         if (type.supportsDatabaseType(databaseType)) {
@@ -1,6 +1,14 @@
 package com.visualfiredev.javabase;
 
+import com.visualfiredev.javabase.jfr.DatabaseEvents;
+import com.visualfiredev.javabase.metrics.MetricsListener;
+import com.visualfiredev.javabase.metrics.Operation;
+import com.visualfiredev.javabase.query.Aggregate;
+import com.visualfiredev.javabase.query.Condition;
+import com.visualfiredev.javabase.query.Query;
 import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.IndexSchema;
+import com.visualfiredev.javabase.schema.JoinSchema;
 import com.visualfiredev.javabase.schema.TableSchema;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -9,29 +17,97 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.math.BigInteger;
 import java.sql.*;
-import java.util.ArrayList;
+import java.util.*;
 import java.util.Date;
-import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 /**
  * A generic database that can be used for all database types.
  * TODO: SQLite doesn't cache stuff for us, so we need to add some sort of transaction cache to improve speed.
- * TODO: Specifying the "WHERE" statements like this sucks. There is possibly a way to generalize all types
- *       Of statements, which could allow us to allow the user to pass in any statements they want.
- *       Maybe a statement class with a required 'toString' and then extended by specific types.
+ * TODO: Specifying the "WHERE" statements like this sucks. A typed {@link Query} now covers selects, but
+ *       deletes and updates still take raw "WHERE" strings.
  */
 public class Database {
 
+    // The amount of rows selected at once by each partition of a parallel scan
+    private static final int PARALLEL_SCAN_PAGE_SIZE = 1000;
+
+    // The amount of "IN" chunks after which keys are joined from a temporary table instead
+    static final int TEMPORARY_TABLE_CHUNKS = 10;
+
+    // The longest text key MySQL and MariaDB can index in full, as 3072 bytes of 4-byte characters
+    private static final int MAX_INDEXED_CHARACTERS = 768;
+
+    // The default amount of prepared statements kept for queries
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
+    // The default amount of partitions of a parallel scan which are scanned at once, each on its own connection
+    public static final int DEFAULT_SCAN_PARALLELISM = 8;
+
+    // The driver of each database type, loaded once
+    private static final ConcurrentHashMap<DatabaseType, Driver> DRIVERS = new ConcurrentHashMap<>();
+
+    // Whether or not the Java runtime includes the flight recorder, without which events are never recorded
+    static final boolean FLIGHT_RECORDER = Database.isFlightRecorderAvailable();
+
+    // The values bound to the statement about to run on each thread, only captured while there is a slow query log
+    private static final ThreadLocal<BoundParameters> BOUND_PARAMETERS = new ThreadLocal<>();
+
+    // How long explaining a slow statement may take, in milliseconds
+    private static final long EXPLAIN_TIMEOUT = 1000;
+
+    // Set while a thread runs an operation within Database#retry, which retries the whole operation instead of its statements
+    private static final ThreadLocal<Boolean> RETRYING_OPERATION = new ThreadLocal<>();
+
+    // Interrupts SQLite statements that run past their timeout, as SQLite uses the query timeout as its busy timeout
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Javabase-Timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     // Constructor Arguments
     private String host;
     private String database;
     private DatabaseType type;
 
+    // Credentials (The password is asked for whenever a connection is opened, and forks share the same supplier)
+    private String username;
+    private Supplier<String> password;
+
     // Connection
     private Connection connection;
     private long lastConnectionCheck;
     private boolean isConnected;
+    private StatementCache statementCache = new StatementCache(DEFAULT_STATEMENT_CACHE_SIZE);
+
+    // Options
+    private int queryTimeout = 0;
+    private RetryPolicy retryPolicy = null;
+    private CircuitBreaker circuitBreaker = null;
+    private AdmissionLimiter admissionLimiter = null;
+
+    private SlowQueryLog slowQueryLog = null;
+    private WorkloadRecorder workloadRecorder = null;
+
+    // Metrics (Starting with the listeners found using the ServiceLoader)
+    private volatile MetricsListener[] metricsListeners = ServiceListeners.LISTENERS;
 
     /**
      * Constructs a new database.
@@ -49,6 +125,12 @@ public class Database {
     /**
      * Returns an already existing connection or creates one with the specified username and password.
      *
+     * <p>
+     *     The password is kept for as long as the database is, so that {@link Database#reconnect()} and
+     *     {@link Database#fork()} can connect again. To avoid keeping it, use
+     *     {@link Database#connect(String, Supplier)} instead.
+     * </p>
+     *
      * @param username If a MySQL or MariaDB server, the username to login with. Ignored if the database type is SQLite.
      * @param password If a MySQL or MariaDB server, the password to login with. Ignored if the database type is SQLite.
      * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
@@ -58,25 +140,47 @@ public class Database {
      * @return The existing connection or creates a new one.
      */
     public Database connect(@NotNull String username, @NotNull String password) throws MissingDriverException, ConnectionFailedException, SQLException, IOException {
+        return this.connect(username, () -> password);
+    }
+
+    /**
+     * Returns an already existing connection or creates one with the specified username, asking the supplier for the
+     * password whenever a connection is opened, including by {@link Database#reconnect()} and every
+     * {@link Database#fork()}. Only the supplier is kept, never the password it returns.
+     *
+     * @param username If a MySQL or MariaDB server, the username to login with. Ignored if the database type is SQLite.
+     * @param password If a MySQL or MariaDB server, supplies the password to login with. Never asked if the database type is SQLite.
+     * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
+     * @throws ConnectionFailedException Thrown if the connection to the database has failed.
+     * @throws IOException Thrown if the SQLite file fails to create.
+     * @throws SQLException Thrown if a generic SQL access error occurs.
+     * @return The existing connection or creates a new one.
+     */
+    public Database connect(@NotNull String username, @NotNull Supplier<String> password) throws MissingDriverException, ConnectionFailedException, SQLException, IOException {
         // Check For Existing Connection
         if (connection != null && this.isConnected()) {
             return this;
         }
 
-        // Load Driver
-        ClassLoader classloader = this.getClass().getClassLoader();
-        Driver driver;
-        try {
-            driver = (Driver) classloader.loadClass(type.getDriver()).getDeclaredConstructor().newInstance();
-        } catch (ReflectiveOperationException e) {
-            throw new MissingDriverException(type);
+        // Close The Broken Connection, Along With The Statements Prepared On It
+        if (connection != null) {
+            statementCache.clear();
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // The connection is already broken
+            }
+            connection = null;
         }
 
+        // Load Driver
+        Driver driver = Database.getDriver(type);
+
         // Create Properties for MySQL and MariaDB
         Properties properties = new Properties();
         if (type == DatabaseType.MySQL || type == DatabaseType.MariaDB) {
             properties.put("user", username);
-            properties.put("password", password);
+            properties.put("password", password.get());
         }
 
         // Create Location
@@ -93,25 +197,63 @@ public class Database {
 
         // Add arguments
         if (type == DatabaseType.MySQL || type == DatabaseType.MariaDB) {
-            constr += "?autoReconnect=true"; // TODO: Make autoReconnect optional
-            constr += "&useSSL=false"; // TODO: Add SSL support
+            constr += "?useSSL=false"; // TODO: Add SSL support
         }
 
         // Connect
+        Object event = FLIGHT_RECORDER ? DatabaseEvents.beginConnect() : null;
         try {
             connection = driver.connect(constr, properties);
         } catch (SQLException e) {
+            if (event != null) {
+                DatabaseEvents.endConnect(event, host, database, type.toString(), true);
+            }
             throw new ConnectionFailedException(e);
         }
+        if (event != null) {
+            DatabaseEvents.endConnect(event, host, database, type.toString(), false);
+        }
 
         // Enable Auto Commit
         // TODO: Make this optional
         connection.setAutoCommit(true);
 
+        // Keep Credentials For New Connections
+        this.username = username;
+        this.password = password;
+
+        // Connected Until Checked Again
+        isConnected = true;
+        lastConnectionCheck = new Date().getTime();
+
         // Return This
         return this;
     }
 
+    /**
+     * Fetches the driver of the specified database type, loading it the first time it is required. Every database
+     * of the same type shares one driver.
+     *
+     * @param type The type of database.
+     * @return The driver.
+     * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
+     */
+    static Driver getDriver(DatabaseType type) throws MissingDriverException {
+        Driver driver = DRIVERS.get(type);
+        if (driver == null) {
+            try {
+                driver = (Driver) Database.class.getClassLoader().loadClass(type.getDriver()).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new MissingDriverException(type);
+            }
+            Driver existing = DRIVERS.putIfAbsent(type, driver);
+            if (existing != null) {
+                driver = existing;
+            }
+        }
+        return driver;
+    }
+
     /**
      * Returns an already existing connection or creates one with a blank username and password.
      *
@@ -125,18 +267,130 @@ public class Database {
         return connect("", "");
     }
 
+    /**
+     * Closes the current connection, if any, and connects again using the credentials this database was connected with.
+     *
+     * @throws NotConnectedException Thrown if this database has never been connected.
+     * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
+     * @throws ConnectionFailedException Thrown if the connection to the database has failed.
+     * @throws IOException Thrown if the SQLite file fails to create.
+     * @throws SQLException Thrown if a generic SQL access error occurs.
+     */
+    public void reconnect() throws NotConnectedException, MissingDriverException, ConnectionFailedException, SQLException, IOException {
+        if (username == null) {
+            throw new NotConnectedException();
+        }
+
+        // Close The Old Connection, Which May Already Be Broken
+        try {
+            this.disconnect();
+        } catch (SQLException ignored) {
+            connection = null;
+        }
+
+        this.connect(username, password);
+    }
+
+    /**
+     * Runs an operation, retrying it according to the {@link RetryPolicy} if it fails with a transient failure or
+     * because the connection was lost, in which case the database connects again first.
+     *
+     * <p>
+     *     The operation must be idempotent, meaning running it again after it failed part way must be safe, such as a
+     *     select or an entire transaction. Without a {@link RetryPolicy}, the operation is only run once. The statements
+     *     run by the operation on the calling thread are not retried on their own, so an operation is attempted at most
+     *     {@link RetryPolicy#getMaxAttempts()} times, including when retries are nested.
+     * </p>
+     *
+     * @param operation The idempotent operation to run.
+     * @param <T> The type of value returned by the operation.
+     * @return The value returned by the operation.
+     * @throws Exception Thrown if the operation failed with a failure that is not transient, or ran out of attempts.
+     */
+    public <T> T retry(Callable<T> operation) throws Exception {
+        if (retryPolicy == null || RETRYING_OPERATION.get() != null) {
+            return operation.call();
+        }
+
+        boolean isReconnecting = false;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // Reconnect
+                if (isReconnecting) {
+                    this.reconnect();
+                    retryPolicy.recordReconnect();
+                    isReconnecting = false;
+                }
+
+                RETRYING_OPERATION.set(Boolean.TRUE);
+                try {
+                    return operation.call();
+                } finally {
+                    RETRYING_OPERATION.remove();
+                }
+            } catch (Exception e) {
+                // Classify
+                boolean isConnectionFailure = retryPolicy.isConnectionFailure(e);
+                if (!isConnectionFailure && !retryPolicy.isTransientFailure(e, type)) {
+                    throw e;
+                } else if (attempt >= retryPolicy.getMaxAttempts()) {
+                    retryPolicy.recordExhausted();
+                    throw e;
+                }
+
+                // Wait
+                if (!retryPolicy.backoff(attempt)) {
+                    throw e;
+                }
+                retryPolicy.recordRetry();
+                isReconnecting = isConnectionFailure;
+            }
+        }
+    }
+
     /**
      * Disconnects from the database.
      *
      * @throws SQLException Thrown if closing the connection failed.
      */
     public void disconnect() throws SQLException {
+        statementCache.clear();
+        isConnected = false;
+        lastConnectionCheck = 0;
         if (connection != null) {
             connection.close();
             connection = null;
         }
     }
 
+    /**
+     * Creates a new Database with the same host, database name, type, and options, connecting it with the credentials
+     * this database was connected with. Used whenever an operation requires its own connection. The fork shares the
+     * password supplier of this database, see {@link Database#connect(String, Supplier)}.
+     *
+     * @throws NotConnectedException Thrown if this database has never been connected.
+     * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
+     * @throws ConnectionFailedException Thrown if the connection to the database has failed.
+     * @throws IOException Thrown if the SQLite file fails to create.
+     * @throws SQLException Thrown if a generic SQL access error occurs.
+     * @return The new, connected, Database.
+     */
+    public Database fork() throws NotConnectedException, MissingDriverException, ConnectionFailedException, SQLException, IOException {
+        if (username == null) {
+            throw new NotConnectedException();
+        }
+        Database fork = new Database(host, database, type);
+        fork.queryTimeout = queryTimeout;
+        fork.retryPolicy = retryPolicy;
+        fork.circuitBreaker = circuitBreaker;
+        fork.admissionLimiter = admissionLimiter;
+        fork.slowQueryLog = slowQueryLog;
+        fork.workloadRecorder = workloadRecorder;
+        fork.metricsListeners = metricsListeners;
+        fork.statementCache.setCapacity(statementCache.getCapacity());
+        return fork.connect(username, password);
+    }
+
     /**
      * Checks if the specified table already exists.
      *
@@ -175,18 +429,24 @@ public class Database {
             this.dropTable(tableSchema);
         }
 
-        // Create Statement
-        Statement statement = connection.createStatement();
-
         // Create SQL
         String sql = tableSchema.toString(type);
 
         // Execute
         try {
-            statement.executeUpdate(sql);
+            this.executeUpdate(sql);
         } catch (SQLException e) {
             throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
         }
+
+        // Create Indexes
+        for (String indexSql : tableSchema.getIndexStrings(type)) {
+            try {
+                this.executeUpdate(indexSql);
+            } catch (SQLException e) {
+                throw new SQLException("Invalid IndexSchema or possible library error! SQL Statement Created: " + indexSql, e);
+            }
+        }
     }
 
     /**
@@ -216,22 +476,85 @@ public class Database {
             throw new NotConnectedException();
         }
 
-        // Create Statement
-        Statement statement = connection.createStatement();
-
         // Create SQL
         String sql = "DROP TABLE " + tableSchema.getName();
 
         // Execute
         try {
-            statement.executeUpdate(sql);
+            this.executeUpdate(sql);
         } catch (SQLException e) {
             throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
         }
+
+        // Drop Full-Text Table (The triggers are dropped along with the table)
+        if (type == DatabaseType.SQLite && !tableSchema.getFullTextColumns().isEmpty()) {
+            sql = "DROP TABLE IF EXISTS " + tableSchema.getFullTextTableName();
+            try {
+                this.executeUpdate(sql);
+            } catch (SQLException e) {
+                throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+            }
+        }
+    }
+
+    /**
+     * Creates an index on an existing table using the specified {@link IndexSchema}. The index is not added to the
+     * {@link TableSchema}, so it will not be created again if the table is re-created.
+     *
+     * @param tableSchema The table the index should be created on.
+     * @param indexSchema The {@link IndexSchema} the index should be based on.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if creating the index failed.
+     * @throws UnsupportedFeatureException Thrown if a feature was enabled that this database does not support.
+     */
+    public void createIndex(TableSchema tableSchema, IndexSchema indexSchema) throws NotConnectedException, SQLException, UnsupportedFeatureException {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Create SQL
+        String sql = indexSchema.toString(type, tableSchema);
+
+        // Execute
+        try {
+            this.executeUpdate(sql);
+        } catch (SQLException e) {
+            throw new SQLException("Invalid IndexSchema or possible library error! SQL Statement Created: " + sql, e);
+        }
+    }
+
+    /**
+     * Drops an index from an existing table.
+     *
+     * @param tableSchema The table the index belongs to.
+     * @param indexSchema The index to be dropped.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if dropping the index failed.
+     */
+    public void dropIndex(TableSchema tableSchema, IndexSchema indexSchema) throws NotConnectedException, SQLException {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Create SQL
+        String sql = "DROP INDEX " + indexSchema.getName();
+        if (type != DatabaseType.SQLite) {
+            sql += " ON " + tableSchema.getName();
+        }
+
+        // Execute
+        try {
+            this.executeUpdate(sql);
+        } catch (SQLException e) {
+            throw new SQLException("Invalid IndexSchema or possible library error! SQL Statement Created: " + sql, e);
+        }
     }
 
     /**
      * Inserts data into the specified table using the {@link com.visualfiredev.javabase.schema.TableSchema} and the specified {@link com.visualfiredev.javabase.DatabaseValue}s.
+     * To find out which primary key the database generated, use {@link Database#insertAndGetKey(TableSchema, DatabaseValue...)} instead.
      *
      * @param tableSchema The table that this data should be inserted to.
      * @param values The {@link com.visualfiredev.javabase.DatabaseValue}s that should be inserted.
@@ -239,14 +562,32 @@ public class Database {
      * @throws SQLException Thrown if running the generated SQL statement failed.
      */
     public void insert(TableSchema tableSchema, DatabaseValue... values) throws NotConnectedException, SQLException {
+        this.insertAndGetKey(tableSchema, values);
+    }
+
+    /**
+     * Inserts data into the specified table like {@link Database#insert(TableSchema, DatabaseValue...)}, returning
+     * the primary key generated by the database.
+     *
+     * <p>
+     *     If the table has an auto-increment primary key, the key generated by the database is returned from the
+     *     same statement, without having to select the row again. Keys are not generated when the primary key has
+     *     an {@link IdGenerator}, as the key is then expected to be one of the values.
+     * </p>
+     *
+     * @param tableSchema The table that this data should be inserted to.
+     * @param values The {@link com.visualfiredev.javabase.DatabaseValue}s that should be inserted.
+     * @return The generated primary key, or null if the database did not generate one.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    @Nullable
+    public Object insertAndGetKey(TableSchema tableSchema, DatabaseValue... values) throws NotConnectedException, SQLException {
         // Ensure Connected
         if (!this.isConnected()) {
             throw new NotConnectedException();
         }
 
-        // Create Statement
-        Statement statement = connection.createStatement();
-
         // Create SQL
         StringBuilder sql = new StringBuilder("INSERT INTO " + tableSchema.getName());
 
@@ -291,21 +632,184 @@ public class Database {
         sql.append(");");
 
         // Execute
-        try {
-            statement.executeUpdate(sql.toString());
+        ColumnSchema primaryKey = tableSchema.getPrimaryKey();
+        try (Statement statement = connection.createStatement()) {
+            StatementShape shape = StatementShape.of(Operation.INSERT, tableSchema.getName());
+            if (primaryKey == null || !primaryKey.isAutoIncrement() || primaryKey.getIdGenerator() != null) {
+                this.execute(statement, sql.toString(), shape, () -> statement.executeUpdate(sql.toString()));
+                return null;
+            }
+
+            return this.execute(statement, sql.toString(), shape, () -> {
+                // SQLite always returns the last generated key, and does not implement requesting it
+                if (type == DatabaseType.SQLite) {
+                    statement.executeUpdate(sql.toString());
+                } else {
+                    statement.executeUpdate(sql.toString(), Statement.RETURN_GENERATED_KEYS);
+                }
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    return keys.next() ? Database.normalizeKey(keys.getObject(1)) : null;
+                }
+            });
         } catch (SQLException e) {
             throw new SQLException("Invalid TableSchema, DatabaseValues, or possible library error! SQL Statement Created: " + sql, e);
         }
     }
 
     /**
-     * Inserts data into the specified table using a {@link DatabaseObject}.
+     * Inserts data into the specified table using a {@link DatabaseObject}. If the table has an auto-increment
+     * primary key, the generated key is written back into the corresponding field of the object. If the primary
+     * key has an {@link IdGenerator} instead, the key is generated and written into the object before inserting.
      *
      * @param object The {@link DatabaseObject} that contains the values that should be inserted.
      * @throws Exception Thrown if there is an error while mapping values for the DatabaseObject.
      */
     public void insert(DatabaseObject object) throws Exception {
-        this.insert(object.getTableSchema(), object.toValues());
+        this.assignId(object);
+        Object key = this.insertAndGetKey(object.getTableSchema(), object.toValues());
+        if (key != null) {
+            Database.setGeneratedKey(object, object.getTableSchema().getPrimaryKey(), key);
+        }
+    }
+
+    /**
+     * Inserts every {@link DatabaseObject} into their table as a single batch in one transaction. If the table has
+     * an auto-increment primary key, the generated keys are written back into the corresponding field of each object.
+     * If the primary key has an {@link IdGenerator} instead, every key is generated and written into the objects before
+     * inserting, so they can be referenced by related objects inserted in the next batch.
+     *
+     * <p>
+     *     Every object must share the same {@link TableSchema}. MySQL and MariaDB run the objects as one JDBC batch and
+     *     return every generated key together. SQLite does not return the keys of a batch, so each object is inserted
+     *     using the same prepared statement instead, which is just as fast as SQLite does not have a network round trip.
+     *     If any insert fails, the transaction is rolled back and none of the objects are inserted. If a transaction is
+     *     already open, the objects are inserted as a part of it instead, and it is left to the caller to commit or
+     *     roll back.
+     * </p>
+     *
+     * @param objects The {@link DatabaseObject}s that contain the values that should be inserted.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     * @throws IllegalArgumentException Thrown if the objects do not share the same {@link TableSchema}.
+     * @throws Exception Thrown if there is an error while mapping values for the DatabaseObjects.
+     */
+    public void insert(Collection<? extends DatabaseObject> objects) throws Exception {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Nothing To Insert
+        if (objects.isEmpty()) {
+            return;
+        }
+
+        // Map Values
+        ArrayList<DatabaseObject> batch = new ArrayList<>(objects);
+        TableSchema tableSchema = batch.get(0).getTableSchema();
+        ArrayList<DatabaseValue[]> rows = new ArrayList<>();
+        for (DatabaseObject object : batch) {
+            if (!object.getTableSchema().getName().equals(tableSchema.getName())) {
+                throw new IllegalArgumentException("Every object must share the same TableSchema!");
+            }
+
+            this.assignId(object);
+            DatabaseValue[] values = object.toValues();
+            for (DatabaseValue value : values) {
+                Object data = value.getData();
+                if (data != null && data.getClass().isArray()) {
+                    throw new SQLException("SQL values cannot be an array! If you must store an array, wrap it in a string. (Example: \"[One, Two Three]\")");
+                }
+            }
+            rows.add(values);
+        }
+
+        // Create SQL
+        DatabaseValue[] columns = rows.get(0);
+        StringBuilder sql = new StringBuilder("INSERT INTO " + tableSchema.getName() + "(");
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(columns[i].getColumnName()).append(i != columns.length - 1 ? ", " : "");
+        }
+        sql.append(") VALUES(");
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i != columns.length - 1 ? "?, " : "?");
+        }
+        sql.append(")");
+
+        // Execute In One Transaction
+        ColumnSchema primaryKey = tableSchema.getPrimaryKey();
+        boolean generatesKeys = primaryKey != null && primaryKey.isAutoIncrement() && primaryKey.getIdGenerator() == null;
+        boolean autoCommit = connection.getAutoCommit();
+        if (autoCommit) {
+            connection.setAutoCommit(false);
+        }
+        try (PreparedStatement statement = generatesKeys && type != DatabaseType.SQLite ? this.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS) : this.prepareStatement(sql.toString())) {
+
+            // SQLite: One Row At A Time
+            if (type == DatabaseType.SQLite) {
+                for (int i = 0; i < rows.size(); i++) {
+                    Database.bind(statement, rows.get(i));
+                    this.captureParameters(statement, rows.get(i));
+                    this.executeUpdate(statement, sql.toString());
+                    if (generatesKeys) {
+                        try (ResultSet keys = statement.getGeneratedKeys()) {
+                            if (keys.next()) {
+                                Database.setGeneratedKey(batch.get(i), primaryKey, Database.normalizeKey(keys.getObject(1)));
+                            }
+                        }
+                    }
+                }
+
+            // MySQL & MariaDB: Entire Batch At Once
+            } else {
+                for (DatabaseValue[] values : rows) {
+                    Database.bind(statement, values);
+                    statement.addBatch();
+                }
+                this.execute(statement, sql.toString(), statement::executeBatch);
+                if (generatesKeys) {
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        for (int i = 0; i < batch.size() && keys.next(); i++) {
+                            Database.setGeneratedKey(batch.get(i), primaryKey, Database.normalizeKey(keys.getObject(1)));
+                        }
+                    }
+                }
+            }
+
+            if (autoCommit) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            SQLException failure = new SQLException("Invalid TableSchema, DatabaseValues, or possible library error! SQL Statement Created: " + sql, e);
+            if (autoCommit) {
+                this.rollback(failure);
+            }
+            throw failure;
+        } catch (Exception | Error e) {
+            // Roll Back On Any Failure, Before Restoring Auto-Commit Would Commit The Rows Inserted So Far
+            if (autoCommit) {
+                this.rollback(e);
+            }
+            throw e;
+        } finally {
+            if (autoCommit) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Rolls back the transaction after a failure. A failure to roll back is attached to the original failure, rather
+     * than replacing it.
+     *
+     * @param failure The failure which caused the transaction to be rolled back.
+     */
+    private void rollback(Throwable failure) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            failure.addSuppressed(e);
+        }
     }
 
     /**
@@ -329,8 +833,8 @@ public class Database {
      *     <br><br>
      *     If you wish not to include a "WHERE" expression, use {@link Database#selectAll(TableSchema)} instead.
      *     <br><br>
-     *     Since this is a simple library, at the moment we do not provide functionality to JOIN or select
-     *     from multiple tables without having multiple select statements. This may change in the future.
+     *     To select from multiple tables joined by their foreign keys in one statement, use
+     *     {@link Database#select(JoinSchema, int, String, String...)} instead.
      * </p>
      *
      * @param tableSchema The table and columns to select from.
@@ -372,34 +876,31 @@ public class Database {
             sql.append(" LIMIT ").append(limit);
         }
 
-        // Execute
-        ResultSet set;
+        // Execute & Create DatabaseResult
         try {
             // With Arguments
             if (args != null && args.length > 0) {
                 // Create Statement
-                PreparedStatement statement = connection.prepareStatement(sql.toString());
-
-                // Apply Arguments
-                int count = Database.countOccurrences(sql.toString(), "?");
-                for (int i = 1; i <= count; i++) {
-                    statement.setString(i, args[i - 1]);
+                try (PreparedStatement statement = this.prepareStatement(sql.toString())) {
+                    // Apply Arguments
+                    int count = Database.countOccurrences(sql.toString(), "?");
+                    for (int i = 1; i <= count; i++) {
+                        statement.setString(i, args[i - 1]);
+                    }
+                    this.captureParameters(statement, Arrays.copyOf(args, count, Object[].class));
+
+                    // Execute
+                    return this.executeQuery(statement, sql.toString(), DatabaseResult::new);
                 }
 
-                // Execute
-                set = statement.executeQuery();
-
             // Without Arguments
             } else {
                 // Execute
-                set = connection.createStatement().executeQuery(sql.toString());
+                return this.executeQuery(sql.toString(), DatabaseResult::new);
             }
         } catch (SQLException e) {
             throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
         }
-
-        // Create DatabaseResult & Return
-        return new DatabaseResult(set);
     }
 
     /**
@@ -509,9 +1010,6 @@ public class Database {
             throw new NotConnectedException();
         }
 
-        // Create Statement
-        Statement statement = connection.createStatement();
-
         // Create SQL
         StringBuilder sql = new StringBuilder("SELECT ");
 
@@ -534,16 +1032,12 @@ public class Database {
             sql.append(" LIMIT ").append(limit);
         }
 
-        // Execute
-        ResultSet set;
+        // Execute & Create DatabaseResult
         try {
-            set = statement.executeQuery(sql.toString());
+            return this.executeQuery(sql.toString(), DatabaseResult::new);
         } catch (SQLException e) {
             throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
         }
-
-        // Create DatabaseResult & Return
-        return new DatabaseResult(set);
     }
 
     /**
@@ -586,431 +1080,2713 @@ public class Database {
     }
 
     /**
-     * Deletes data from the database using the specified expression and arguments.
+     * Selects data from several tables at once, joined by their foreign keys, using the specified expression with the specified limit.
      *
      * <p>
-     *     Due to the same reasons behind {@link Database#select(TableSchema, int, String, String...)}, the WHERE statement
-     *     is up to the user, making this statement **not cross-comtpaible**. Please ensure you know which database
-     *     you are using, likely using the {@link Database#getType()} method, when using the "WHERE" clause.
+     *     The statement is created using {@link JoinSchema#toSelectString()}, so the "WHERE" expression should refer to
+     *     columns as "table.column". Like {@link Database#select(TableSchema, int, String, String...)}, the expression is
+     *     passed as **RAW SQL** and is **not cross-compatible**. Use the returned {@link DatabaseJoinResult} to map the
+     *     values of each table to its own type of object.
      * </p>
      *
-     * @param tableSchema The table to delete from.
-     * @param where The platform-dependent SQL statement for a "WHERE" clause.
+     * @param joinSchema The tables and columns to select from.
+     * @param limit The limit of the results. Set to -1 to disable.
+     * @param where The platform-dependent SQL statement for a "WHERE" clause. If empty, every row is selected.
      * @param args A list of strings which will not be parsed as SQL. If no arguments pass null.
+     * @return A DatabaseJoinResult.
      * @throws NotConnectedException Thrown if there is no connection to the database.
-     * @throws SQLException Thrown if running the generate SQL statement failed.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
      */
-    public void delete(TableSchema tableSchema, String where, @Nullable String... args) throws NotConnectedException, SQLException {
+    public DatabaseJoinResult select(JoinSchema joinSchema, int limit, String where, @Nullable String... args) throws NotConnectedException, SQLException {
         // Ensure Connected
         if (!this.isConnected()) {
             throw new NotConnectedException();
         }
 
         // Create SQL
-        StringBuilder sql = new StringBuilder("DELETE FROM ").append(tableSchema.getName());
+        StringBuilder sql = new StringBuilder(joinSchema.toSelectString());
 
         // Where...
         if (!where.isEmpty()) {
             sql.append(" WHERE ").append(where);
         }
 
-        // Close
-        sql.append(";");
+        // Limit
+        if (limit > -1) {
+            sql.append(" LIMIT ").append(limit);
+        }
 
-        // Execute
+        // Execute & Create DatabaseJoinResult
         try {
-            // Create Statement
             if (args != null && args.length > 0) {
-                // Create Statement
-                PreparedStatement statement = connection.prepareStatement(sql.toString());
-
-                // Apply Arguments
-                int count = Database.countOccurrences(sql.toString(), "?");
-                for (int i = 1; i <= count; i++) {
-                    statement.setString(i, args[i - 1]);
+                try (PreparedStatement statement = this.prepare(sql.toString(), (Object[]) args)) {
+                    return this.executeQuery(statement, sql.toString(), set -> new DatabaseJoinResult(joinSchema, set));
                 }
-
-                // Execute
-                statement.executeUpdate();
             } else {
-                connection.createStatement().executeUpdate(sql.toString());
+                return this.executeQuery(sql.toString(), set -> new DatabaseJoinResult(joinSchema, set));
             }
         } catch (SQLException e) {
-            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+            throw new SQLException("Invalid JoinSchema or possible library error! SQL Statement Created: " + sql, e);
         }
     }
 
     /**
-     * Deletes data from the database using the specified expression and no arguments.
-     * See {@link Database#delete(TableSchema, String, String...)} for more information.
+     * Selects data from several tables at once using the specified expression and arguments with a limit of 100.
+     * See {@link Database#select(JoinSchema, int, String, String...)} for more information.
      *
-     * @param tableSchema The table to delete every row from.
+     * @param joinSchema The tables and columns to select from.
+     * @param where The platform-dependent SQL statement for a "WHERE" clause. If empty, every row is selected.
+     * @param args A list of strings which will not be parsed as SQL.
+     * @return A DatabaseJoinResult.
      * @throws NotConnectedException Thrown if there is no connection to the database.
-     * @throws SQLException Thrown if running the generate SQL statement failed.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
      */
-    public void delete(TableSchema tableSchema, String where) throws NotConnectedException, SQLException {
-        delete(tableSchema, where, null);
+    public DatabaseJoinResult select(JoinSchema joinSchema, String where, String... args) throws NotConnectedException, SQLException {
+        return select(joinSchema, 100, where, args);
     }
 
     /**
-     * Deletes every row from the specified table.
-     * See {@link Database#delete(TableSchema, String, String...)} for more information.
+     * Selects all the data from several tables at once stopping at the specified limit. Set the limit to -1 to disable.
+     * See {@link Database#select(JoinSchema, int, String, String...)} for more information.
      *
-     * @param tableSchema The table to delete every row from.
+     * @param joinSchema The tables and columns to select from.
+     * @param limit The limit. By default is 100.
+     * @return A DatabaseJoinResult.
      * @throws NotConnectedException Thrown if there is no connection to the database.
-     * @throws SQLException Thrown if running the generate SQL statement failed.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
      */
-    public void delete(TableSchema tableSchema) throws NotConnectedException, SQLException {
-        delete(tableSchema, "");
+    public DatabaseJoinResult selectAll(JoinSchema joinSchema, int limit) throws NotConnectedException, SQLException {
+        return select(joinSchema, limit, "", (String[]) null);
     }
 
     /**
-     * Deletes data from the database using the specified {@link DatabaseObject}, comparing every non-transiend field in the object.
+     * Selects data from the database using a typed {@link Query}.
      *
-     * @param object The {@link DatabaseObject} that contains the values that should be deleted.
-     * @throws Exception Thrown if there is an error while mapping values for the DatabaseObject.
+     * <p>
+     *     Unlike {@link Database#select(TableSchema, int, String, String...)}, the query is cross-compatible and its
+     *     values keep their types. The prepared statement for every shape of query is kept and reused, so running the
+     *     same query with different values only binds the new values. See {@link Database#setStatementCacheSize(int)}.
+     * </p>
+     *
+     * @param query The query to run.
+     * @return A DatabaseResult.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
      */
-    public void delete(DatabaseObject object) throws Exception {
+    public DatabaseResult select(Query query) throws NotConnectedException, SQLException {
         // Ensure Connected
         if (!this.isConnected()) {
             throw new NotConnectedException();
         }
 
-        // Create Statement
-        Statement statement = connection.createStatement();
+        // Execute
+        return this.queryCached(query.toString(type), query.getParameters(), DatabaseResult::new);
+    }
+
+    /**
+     * Selects data from the database using a typed {@link Query}, mapping every row to the specified class.
+     * See {@link Database#select(Query)} for more information.
+     *
+     * @param query The query to run.
+     * @param clazz The class that all instances should be created from.
+     * @param <T> The type of object to be returned.
+     * @return An ArrayList of the objects.
+     * @throws Exception Thrown if there is an error while selecting or mapping values for the DatabaseObject.
+     */
+    public <T extends DatabaseObject> ArrayList<T> select(Query query, Class<T> clazz) throws Exception {
+        return this.select(query).toObjects(query.getTableSchema(), clazz);
+    }
+
+    /**
+     * Counts the rows of the table matching the condition, without selecting them.
+     *
+     * @param tableSchema The table to count the rows of.
+     * @param where The condition rows must match, or null to count every row.
+     * @return The amount of matching rows.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    public long count(TableSchema tableSchema, @Nullable Condition where) throws NotConnectedException, SQLException {
+        Object count = this.aggregate(tableSchema, Aggregate.COUNT, null, where);
+        return count == null ? 0 : ((Number) count).longValue();
+    }
+
+    /**
+     * Counts every row of the table, without selecting them.
+     *
+     * @param tableSchema The table to count the rows of.
+     * @return The amount of rows.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    public long count(TableSchema tableSchema) throws NotConnectedException, SQLException {
+        return this.count(tableSchema, null);
+    }
+
+    /**
+     * Checks whether or not any row of the table matches the condition. The database stops at the first match.
+     *
+     * @param tableSchema The table to check.
+     * @param where The condition a row must match, or null to check whether or not the table has any rows.
+     * @return True if a row matches, otherwise false.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    public boolean exists(TableSchema tableSchema, @Nullable Condition where) throws NotConnectedException, SQLException {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
 
         // Create SQL
-        StringBuilder sql = new StringBuilder("DELETE FROM ").append(object.getTableSchema().getName());
+        StringBuilder sql = new StringBuilder("SELECT 1 FROM ").append(tableSchema.getName());
+        if (where != null) {
+            sql.append(" WHERE ").append(where.toString(type));
+        }
+        sql.append(" LIMIT 1");
 
-        // Where...
-        sql.append(" WHERE ");
+        // Execute
+        return this.queryCached(sql.toString(), where != null ? where.getParameters() : new ArrayList<>(), ResultSet::next);
+    }
 
-        // Attempt to parse
-        ArrayList<Field> fields = getNonTransientFields(object.getClass());
-        for (int i = 0; i < fields.size(); i++) {
-            Field field = fields.get(i);
-            ColumnSchema column = object.getTableSchema().getColumnIgnoreCase(field.getName());
-            if (column != null) {
-                // Column Name
-                sql.append(column.getName().toUpperCase()).append(" = ");
+    /**
+     * Finds the lowest value of the column in the rows matching the condition.
+     *
+     * @param tableSchema The table to search.
+     * @param column The column to find the lowest value of.
+     * @param where The condition rows must match, or null to search every row.
+     * @return The lowest value, or null if there are no matching rows. Whole numbers are returned as a Long.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    @Nullable
+    public Object min(TableSchema tableSchema, ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return this.aggregate(tableSchema, Aggregate.MIN, column, where);
+    }
 
-                // Data Types
-                sql.append(fieldToDatabaseValue(object, field));
+    /**
+     * Finds the highest value of the column in the rows matching the condition.
+     *
+     * @param tableSchema The table to search.
+     * @param column The column to find the highest value of.
+     * @param where The condition rows must match, or null to search every row.
+     * @return The highest value, or null if there are no matching rows. Whole numbers are returned as a Long.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    @Nullable
+    public Object max(TableSchema tableSchema, ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return this.aggregate(tableSchema, Aggregate.MAX, column, where);
+    }
 
-                // "AND"? Are there more?
-                if (i != fields.size() - 1) {
-                    sql.append(" AND ");
-                }
+    /**
+     * Adds together the values of the column in the rows matching the condition.
+     *
+     * @param tableSchema The table to search.
+     * @param column The numeric column to add together.
+     * @param where The condition rows must match, or null to search every row.
+     * @return The sum, or null if there are no matching rows. Whole numbers are returned as a Long, while MySQL and
+     *         MariaDB return a BigDecimal for exact numbers.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    @Nullable
+    public Number sum(TableSchema tableSchema, ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return (Number) this.aggregate(tableSchema, Aggregate.SUM, column, where);
+    }
+
+    /**
+     * Finds the average of the values of the column in the rows matching the condition.
+     *
+     * @param tableSchema The table to search.
+     * @param column The numeric column to average.
+     * @param where The condition rows must match, or null to search every row.
+     * @return The average, or {@link Double#NaN} if there are no matching rows.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    public double avg(TableSchema tableSchema, ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        Object avg = this.aggregate(tableSchema, Aggregate.AVG, column, where);
+        return avg == null ? Double.NaN : ((Number) avg).doubleValue();
+    }
+
+    /**
+     * Calculates an aggregate for every distinct value of a column, in the rows matching the condition.
+     *
+     * <p>
+     *     For example, grouping by a category column with {@link Aggregate#COUNT} and no column counts the rows
+     *     in every category. Rows where the grouped column is null are grouped together under a null key.
+     * </p>
+     *
+     * @param tableSchema The table to search.
+     * @param groupBy The column whose distinct values form the groups.
+     * @param aggregate The aggregate to calculate for every group.
+     * @param column The column to calculate the aggregate of. Can only be null when counting rows.
+     * @param where The condition rows must match, or null to search every row.
+     * @return The aggregate of every group keyed by the value of the grouped column, ordered by that value.
+     *         Whole numbers are returned as a Long.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     * @throws IllegalArgumentException Thrown if the column is null and the aggregate is not {@link Aggregate#COUNT}.
+     */
+    public LinkedHashMap<Object, Object> groupBy(TableSchema tableSchema, ColumnSchema groupBy, Aggregate aggregate, @Nullable ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Create SQL
+        StringBuilder sql = new StringBuilder("SELECT ").append(groupBy.getName()).append(", ");
+        Database.appendAggregate(sql, aggregate, column);
+        sql.append(" FROM ").append(tableSchema.getName());
+        if (where != null) {
+            sql.append(" WHERE ").append(where.toString(type));
+        }
+        sql.append(" GROUP BY ").append(groupBy.getName()).append(" ORDER BY ").append(groupBy.getName());
+
+        // Execute
+        return this.queryCached(sql.toString(), where != null ? where.getParameters() : new ArrayList<>(), set -> {
+            LinkedHashMap<Object, Object> groups = new LinkedHashMap<>();
+            while (set.next()) {
+                groups.put(Database.normalizeKey(set.getObject(1)), Database.normalizeKey(set.getObject(2)));
             }
+            return groups;
+        });
+    }
+
+    /**
+     * Calculates a single aggregate of the column in the rows matching the condition.
+     *
+     * @param tableSchema The table to search.
+     * @param aggregate The aggregate to calculate.
+     * @param column The column to calculate the aggregate of, or null to count rows.
+     * @param where The condition rows must match, or null to search every row.
+     * @return The aggregate, or null if there are no matching rows. Whole numbers are returned as a Long.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    @Nullable
+    private Object aggregate(TableSchema tableSchema, Aggregate aggregate, @Nullable ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
         }
 
-        // Close
-        sql.append(";");
+        // Create SQL
+        StringBuilder sql = new StringBuilder("SELECT ");
+        Database.appendAggregate(sql, aggregate, column);
+        sql.append(" FROM ").append(tableSchema.getName());
+        if (where != null) {
+            sql.append(" WHERE ").append(where.toString(type));
+        }
 
         // Execute
-        try {
-            statement.executeUpdate(sql.toString());
-        } catch (SQLException e) {
-            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+        return this.queryCached(sql.toString(), where != null ? where.getParameters() : new ArrayList<>(), set -> set.next() ? Database.normalizeKey(set.getObject(1)) : null);
+    }
+
+    /**
+     * Appends an aggregate function of the column to the SQL, counting every row if the column is null.
+     *
+     * @param sql The SQL to append to.
+     * @param aggregate The aggregate function.
+     * @param column The column to calculate the aggregate of, or null to count rows.
+     * @throws IllegalArgumentException Thrown if the column is null and the aggregate is not {@link Aggregate#COUNT}.
+     */
+    private static void appendAggregate(StringBuilder sql, Aggregate aggregate, @Nullable ColumnSchema column) {
+        if (column == null && aggregate != Aggregate.COUNT) {
+            throw new IllegalArgumentException("Only " + Aggregate.COUNT + " can be calculated without a column!");
         }
+        sql.append(aggregate.getFunction()).append("(").append(column == null ? "*" : column.getName()).append(")");
     }
 
     /**
-     * Updates data in the database using the specified {@link DatabaseValue}'s and the specified expression and arguments.
+     * Searches the full-text index of the table, returning the best matches first.
      *
      * <p>
-     *     For the same reasons as {@link Database#select(TableSchema, int, String, String...)}, this method is
-     *     **not cross-compatible**. It is up to the user to know the type of database they are working
-     *     with, likely using the {@link Database#getType()} method, when using the "WHERE" clause.
+     *     The table must have a full-text index, created by marking its columns using {@link ColumnSchema#setFullText(boolean)},
+     *     and every full-text column must be included in the {@link TableSchema}. The query is treated as plain words,
+     *     matching rows that contain any of them. On MySQL and MariaDB this uses "MATCH ... AGAINST" in natural
+     *     language mode, while on SQLite each word is quoted and searched for in the FTS5 table, ordered by rank.
      * </p>
      *
-     * @param tableSchema The table to update.
-     * @param where The platform-dependent SQL statement for a "WHERE" clause.
-     * @param args A list of strings which will not be parsed as SQL. If no arguments pass null.
-     * @param set An array of {@link DatabaseValue}'s to be set.
+     * @param tableSchema The table and columns to select from.
+     * @param query The words to search for.
+     * @param limit The limit of the results. Set to -1 to disable.
+     * @return A DatabaseResult ordered by relevance.
+     * @throws IllegalArgumentException Thrown if the query does not contain any words.
      * @throws NotConnectedException Thrown if there is no connection to the database.
      * @throws SQLException Thrown if running the generated SQL statement failed.
+     * @throws UnsupportedFeatureException Thrown if the {@link TableSchema} does not have a full-text index.
      */
-    public void update(TableSchema tableSchema, String where, @Nullable String[] args, DatabaseValue... set) throws NotConnectedException, SQLException {
+    public DatabaseResult search(TableSchema tableSchema, String query, int limit) throws NotConnectedException, SQLException, UnsupportedFeatureException {
+        // Ensure Words
+        if (query.trim().isEmpty()) {
+            throw new IllegalArgumentException("The search query must contain at least one word!");
+        }
+
         // Ensure Connected
         if (!this.isConnected()) {
             throw new NotConnectedException();
         }
 
+        // Ensure Full-Text Index
+        ArrayList<ColumnSchema> fullTextColumns = tableSchema.getFullTextColumns();
+        if (fullTextColumns.isEmpty()) {
+            throw new UnsupportedFeatureException("Searching requires the TableSchema to contain full-text columns!");
+        }
+
         // Create SQL
-        StringBuilder sql = new StringBuilder("UPDATE ").append(tableSchema.getName());
+        StringBuilder sql = new StringBuilder("SELECT ");
+        Object[] args;
+        if (type == DatabaseType.SQLite) {
+            String fts = tableSchema.getFullTextTableName();
+            Database.appendColumns(sql, tableSchema, tableSchema.getName() + ".");
+            sql.append(" FROM ").append(tableSchema.getName());
+            sql.append(" JOIN ").append(fts).append(" ON ").append(tableSchema.getName()).append(".rowid = ").append(fts).append(".rowid");
+            sql.append(" WHERE ").append(fts).append(" MATCH ? ORDER BY ").append(fts).append(".rank");
+            args = new Object[] { Database.toFullTextQuery(query) };
+        } else {
+            StringBuilder match = new StringBuilder("MATCH (");
+            for (int i = 0; i < fullTextColumns.size(); i++) {
+                match.append(i == 0 ? "" : ", ").append(fullTextColumns.get(i).getName());
+            }
+            match.append(") AGAINST (? IN NATURAL LANGUAGE MODE)");
 
-        // Set...
-        sql.append(" SET ");
-        for (int i = 0; i < set.length; i++) {
-            DatabaseValue value = set[i];
-            sql.append(value.getColumnName().toUpperCase()).append(" = ").append(value.getData());
+            Database.appendColumns(sql, tableSchema, "");
+            sql.append(" FROM ").append(tableSchema.getName());
+            sql.append(" WHERE ").append(match).append(" ORDER BY ").append(match).append(" DESC");
+            args = new Object[] { query, query };
+        }
 
-            // Comma? Are there more?
-            if (i != set.length - 1) {
-                sql.append(", ");
-            }
+        // Limit
+        if (limit > -1) {
+            sql.append(" LIMIT ").append(limit);
         }
 
-        // Where...
-        if (!where.isEmpty()) {
-            sql.append(" WHERE ").append(where);
+        // Execute & Create DatabaseResult
+        try (PreparedStatement statement = this.prepare(sql.toString(), args)) {
+            return this.executeQuery(statement, sql.toString(), DatabaseResult::new);
+        } catch (SQLException e) {
+            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
         }
+    }
 
-        // Close
-        sql.append(";");
+    /**
+     * Searches the full-text index of the table, mapping the best matches first to the specified class.
+     * See {@link Database#search(TableSchema, String, int)} for more information.
+     *
+     * @param tableSchema The table and columns to select from.
+     * @param clazz The class that all instances should be created from.
+     * @param query The words to search for.
+     * @param limit The limit of the results. Set to -1 to disable.
+     * @param <T> The type of object to be returned.
+     * @return An ArrayList of the objects ordered by relevance.
+     * @throws Exception Thrown if there is an error while searching or mapping values for the DatabaseObject.
+     */
+    public <T extends DatabaseObject> ArrayList<T> search(TableSchema tableSchema, Class<T> clazz, String query, int limit) throws Exception {
+        return search(tableSchema, query, limit).toObjects(tableSchema, clazz);
+    }
 
-        // Execute
-        try {
-            // Create Statement
-            if (args != null && args.length > 0) {
-                // Create Statement
-                PreparedStatement statement = connection.prepareStatement(sql.toString());
+    /**
+     * Creates a {@link DatabasePaginator} that walks the entire table page by page, using the primary key of the
+     * {@link TableSchema} as a seek cursor.
+     *
+     * <p>
+     *     Unlike an OFFSET, each page is selected with "WHERE pk &gt; ? ORDER BY pk LIMIT n", so fetching a page deep
+     *     into the table costs the same as fetching the first one. The primary key must be included in the columns
+     *     of the {@link TableSchema}, since the last key of each page is used to select the next.
+     *     <br><br>
+     *     If prefetching is enabled, the next page is selected on a background thread while the current page is
+     *     being processed. The background thread shares this database's connection, so avoid using this database
+     *     from other threads while iterating. Always {@link DatabasePaginator#close()} the paginator when finished.
+     * </p>
+     *
+     * @param tableSchema The table and columns to select from. Must contain a primary key.
+     * @param pageSize The maximum amount of rows in each page.
+     * @param clazz The class that all instances should be created from.
+     * @param prefetch Whether or not to select the next page on a background thread.
+     * @param <T> The type of object to be returned.
+     * @return A new {@link DatabasePaginator}.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws UnsupportedFeatureException Thrown if the {@link TableSchema} does not contain a primary key.
+     */
+    public <T extends DatabaseObject> DatabasePaginator<T> paginate(TableSchema tableSchema, int pageSize, Class<T> clazz, boolean prefetch) throws NotConnectedException, UnsupportedFeatureException {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
 
-                // Apply Arguments
-                int count = Database.countOccurrences(sql.toString(), "?");
-                for (int i = 1; i <= count; i++) {
-                    statement.setString(i, args[i - 1]);
-                }
+        // Ensure Primary Key
+        ColumnSchema primaryKey = tableSchema.getPrimaryKey();
+        if (primaryKey == null) {
+            throw new UnsupportedFeatureException("Keyset pagination requires the TableSchema to contain a primary key!");
+        }
 
-                // Execute
-                statement.executeUpdate();
-            } else {
-                connection.createStatement().executeUpdate(sql.toString());
-            }
+        // Validate Page Size
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero!");
+        }
+
+        return new DatabasePaginator<>(this, tableSchema, primaryKey, pageSize, clazz, prefetch);
+    }
+
+    /**
+     * Creates a {@link DatabasePaginator} without prefetching.
+     * See {@link Database#paginate(TableSchema, int, Class, boolean)} for more information.
+     *
+     * @param tableSchema The table and columns to select from. Must contain a primary key.
+     * @param pageSize The maximum amount of rows in each page.
+     * @param clazz The class that all instances should be created from.
+     * @param <T> The type of object to be returned.
+     * @return A new {@link DatabasePaginator}.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws UnsupportedFeatureException Thrown if the {@link TableSchema} does not contain a primary key.
+     */
+    public <T extends DatabaseObject> DatabasePaginator<T> paginate(TableSchema tableSchema, int pageSize, Class<T> clazz) throws NotConnectedException, UnsupportedFeatureException {
+        return paginate(tableSchema, pageSize, clazz, false);
+    }
+
+    /**
+     * Selects a single page of rows ordered by the specified key, starting after the specified cursor.
+     *
+     * @param tableSchema The table and columns to select from.
+     * @param key The column to order and seek by.
+     * @param cursor The last key of the previous page, or null to select the first page.
+     * @param upperBound The largest key (inclusive) that may be selected, or null for no bound.
+     * @param limit The maximum amount of rows to select.
+     * @return A DatabaseResult.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    DatabaseResult selectPage(TableSchema tableSchema, ColumnSchema key, @Nullable Object cursor, @Nullable Object upperBound, int limit) throws NotConnectedException, SQLException {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Create SQL
+        StringBuilder sql = new StringBuilder("SELECT ");
+        Database.appendColumns(sql, tableSchema, "");
+        sql.append(" FROM ").append(tableSchema.getName());
+
+        // Seek Past The Cursor & Stop At The Upper Bound
+        ArrayList<Object> args = new ArrayList<>();
+        if (cursor != null) {
+            sql.append(" WHERE ").append(key.getName()).append(" > ?");
+            args.add(cursor);
+        }
+        if (upperBound != null) {
+            sql.append(args.isEmpty() ? " WHERE " : " AND ").append(key.getName()).append(" <= ?");
+            args.add(upperBound);
+        }
+
+        // Order & Limit
+        sql.append(" ORDER BY ").append(key.getName()).append(" LIMIT ").append(limit);
+
+        // Execute & Create DatabaseResult
+        try (PreparedStatement statement = this.prepare(sql.toString(), args.toArray())) {
+            return this.executeQuery(statement, sql.toString(), DatabaseResult::new);
         } catch (SQLException e) {
             throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
         }
     }
 
     /**
-     * Updates data in the database using the specified {@link DatabaseValue}'s with the specified expression and no arguments.
-     * See {@link Database#update(TableSchema, String, String[], DatabaseValue...)} for more information.
+     * Scans the entire table in parallel, splitting the range of the primary key into the specified amount of
+     * partitions and scanning each partition on its own connection.
+     *
+     * <p>
+     *     The range is determined using the MIN and MAX of the primary key, so the primary key must be an integer
+     *     column and must be included in the columns of the {@link TableSchema}. Every partition is selected in
+     *     pages using the primary key as a seek cursor. At most {@link Database#DEFAULT_SCAN_PARALLELISM} partitions
+     *     are scanned at once, each worker opening one connection using {@link Database#fork()}.
+     *     <br><br>
+     *     The consumer is called from several threads at once, so it must be thread-safe. Objects are delivered in
+     *     primary key order within a partition, but partitions are delivered in no particular order. If the order
+     *     matters, use {@link Database#parallelSelectAll(TableSchema, Class, int)} instead.
+     * </p>
+     *
+     * @param tableSchema The table and columns to select from. Must contain an integer primary key.
+     * @param clazz The class that all instances should be created from.
+     * @param partitions The amount of partitions to split the table into.
+     * @param consumer The thread-safe consumer that every object should be delivered to.
+     * @param <T> The type of object to be delivered.
+     * @throws Exception Thrown if there is an error while selecting or mapping any partition.
+     */
+    public <T extends DatabaseObject> void parallelScan(TableSchema tableSchema, Class<T> clazz, int partitions, Consumer<T> consumer) throws Exception {
+        this.parallelScan(tableSchema, clazz, partitions, DEFAULT_SCAN_PARALLELISM, consumer);
+    }
+
+    /**
+     * Scans the entire table in parallel, scanning at most the specified amount of partitions at once.
+     * See {@link Database#parallelScan(TableSchema, Class, int, Consumer)} for more information.
+     *
+     * @param tableSchema The table and columns to select from. Must contain an integer primary key.
+     * @param clazz The class that all instances should be created from.
+     * @param partitions The amount of partitions to split the table into.
+     * @param parallelism The maximum amount of partitions scanned at once, and of connections opened.
+     * @param consumer The thread-safe consumer that every object should be delivered to.
+     * @param <T> The type of object to be delivered.
+     * @throws Exception Thrown if there is an error while selecting or mapping any partition.
+     */
+    public <T extends DatabaseObject> void parallelScan(TableSchema tableSchema, Class<T> clazz, int partitions, int parallelism, Consumer<T> consumer) throws Exception {
+        ColumnSchema primaryKey = this.getScanKey(tableSchema, parallelism);
+        long[][] ranges = this.partitionKeyRange(tableSchema, primaryKey, partitions);
+        this.scanPartitions(tableSchema, primaryKey, clazz, ranges, parallelism, partition -> consumer);
+    }
+
+    /**
+     * Selects all the data from the table in parallel, mapping it to the specified class in primary key order.
+     * See {@link Database#parallelScan(TableSchema, Class, int, Consumer)} for more information.
+     *
+     * @param tableSchema The table and columns to select from. Must contain an integer primary key.
+     * @param clazz The class that all instances should be created from.
+     * @param partitions The amount of partitions to split the table into.
+     * @param <T> The type of object to be returned.
+     * @return An ArrayList of every object in the table, ordered by the primary key.
+     * @throws Exception Thrown if there is an error while selecting or mapping any partition.
+     */
+    public <T extends DatabaseObject> ArrayList<T> parallelSelectAll(TableSchema tableSchema, Class<T> clazz, int partitions) throws Exception {
+        return this.parallelSelectAll(tableSchema, clazz, partitions, DEFAULT_SCAN_PARALLELISM);
+    }
+
+    /**
+     * Selects all the data from the table in parallel, scanning at most the specified amount of partitions at once.
+     * See {@link Database#parallelScan(TableSchema, Class, int, Consumer)} for more information.
+     *
+     * @param tableSchema The table and columns to select from. Must contain an integer primary key.
+     * @param clazz The class that all instances should be created from.
+     * @param partitions The amount of partitions to split the table into.
+     * @param parallelism The maximum amount of partitions scanned at once, and of connections opened.
+     * @param <T> The type of object to be returned.
+     * @return An ArrayList of every object in the table, ordered by the primary key.
+     * @throws Exception Thrown if there is an error while selecting or mapping any partition.
+     */
+    public <T extends DatabaseObject> ArrayList<T> parallelSelectAll(TableSchema tableSchema, Class<T> clazz, int partitions, int parallelism) throws Exception {
+        ColumnSchema primaryKey = this.getScanKey(tableSchema, parallelism);
+        long[][] ranges = this.partitionKeyRange(tableSchema, primaryKey, partitions);
+
+        // Collect Each Partition Separately
+        ArrayList<ArrayList<T>> results = new ArrayList<>();
+        for (int i = 0; i < ranges.length; i++) {
+            results.add(new ArrayList<>());
+        }
+        this.scanPartitions(tableSchema, primaryKey, clazz, ranges, parallelism, partition -> results.get(partition)::add);
+
+        // Merge In Partition Order
+        ArrayList<T> objects = new ArrayList<>();
+        for (ArrayList<T> result : results) {
+            objects.addAll(result);
+        }
+        return objects;
+    }
+
+    /**
+     * Ensures the database is connected and fetches the primary key used to partition a parallel scan.
+     *
+     * @param tableSchema The table to be scanned.
+     * @param parallelism The maximum amount of partitions scanned at once.
+     * @return The primary key of the table.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws UnsupportedFeatureException Thrown if the {@link TableSchema} does not contain a primary key.
+     */
+    private ColumnSchema getScanKey(TableSchema tableSchema, int parallelism) throws NotConnectedException, UnsupportedFeatureException {
+        // Validate Parallelism
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be greater than zero!");
+        }
+
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Ensure Primary Key
+        ColumnSchema primaryKey = tableSchema.getPrimaryKey();
+        if (primaryKey == null) {
+            throw new UnsupportedFeatureException("Parallel scans require the TableSchema to contain a primary key!");
+        }
+        return primaryKey;
+    }
+
+    /**
+     * Splits the range between the MIN and MAX of the specified key into inclusive ranges of roughly equal size.
+     *
+     * @param tableSchema The table to be split.
+     * @param key The integer column to split by.
+     * @param partitions The maximum amount of ranges to create.
+     * @return An array of inclusive [lower, upper] ranges, or an empty array if the table is empty.
+     * @throws SQLException Thrown if selecting the MIN and MAX failed.
+     * @throws UnsupportedFeatureException Thrown if the key is not an integer column.
+     */
+    private long[][] partitionKeyRange(TableSchema tableSchema, ColumnSchema key, int partitions) throws SQLException, UnsupportedFeatureException {
+        // Validate Partitions
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("The amount of partitions must be greater than zero!");
+        }
+
+        // Create SQL
+        String sql = "SELECT MIN(" + key.getName() + "), MAX(" + key.getName() + ") FROM " + tableSchema.getName();
+
+        // Execute
+        Object[] bounds;
+        try {
+            bounds = this.executeQuery(sql, set -> {
+                set.next();
+                return new Object[] { set.getObject(1), set.getObject(2) };
+            });
+        } catch (SQLException e) {
+            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+        }
+        Object minimum = bounds[0];
+        Object maximum = bounds[1];
+
+        // Empty Table
+        if (minimum == null || maximum == null) {
+            return new long[0][];
+        }
+
+        // Ensure Integer Key
+        if (!(minimum instanceof Number) || minimum instanceof Double || minimum instanceof Float) {
+            throw new UnsupportedFeatureException("Parallel scans require the primary key to be an integer column!");
+        }
+        long min = ((Number) minimum).longValue();
+        long max = ((Number) maximum).longValue();
+
+        // Split Range (If the span overflows, scan it as one partition)
+        long span = max - min + 1;
+        if (span <= 0) {
+            return new long[][] { { min, max } };
+        }
+        int count = (int) Math.min(partitions, span);
+        long size = span / count + (span % count == 0 ? 0 : 1);
+        ArrayList<long[]> ranges = new ArrayList<>();
+        for (long lower = min; lower <= max && lower >= min; lower += size) {
+            ranges.add(new long[] { lower, Math.min(max, lower + size - 1) });
+        }
+        return ranges.toArray(new long[0][]);
+    }
+
+    /**
+     * Scans every range using a fixed amount of workers, each with its own thread and connection, which take the next
+     * range to scan until none are left, delivering the objects to the consumer for each partition.
+     *
+     * @param tableSchema The table and columns to select from.
+     * @param key The integer column the ranges were split by.
+     * @param clazz The class that all instances should be created from.
+     * @param ranges The inclusive [lower, upper] ranges to scan.
+     * @param parallelism The maximum amount of workers.
+     * @param consumers Provides the consumer for the partition at each index.
+     * @param <T> The type of object to be delivered.
+     * @throws Exception Thrown if there is an error while selecting or mapping any partition.
+     */
+    private <T extends DatabaseObject> void scanPartitions(TableSchema tableSchema, ColumnSchema key, Class<T> clazz, long[][] ranges, int parallelism, IntFunction<Consumer<T>> consumers) throws Exception {
+        // Empty Table
+        if (ranges.length == 0) {
+            return;
+        }
+
+        // Create Executor
+        int workers = Math.min(parallelism, ranges.length);
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "Javabase-Scan-" + tableSchema.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            // Submit Workers
+            AtomicInteger next = new AtomicInteger();
+            ArrayList<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(Deadline.propagate(() -> {
+                    Database worker = this.fork();
+                    try {
+                        for (int partition = next.getAndIncrement(); partition < ranges.length; partition = next.getAndIncrement()) {
+                            if (Thread.currentThread().isInterrupted()) {
+                                throw new InterruptedException();
+                            }
+                            worker.scanPartition(tableSchema, key, clazz, ranges[partition], consumers.apply(partition));
+                        }
+                    } finally {
+                        worker.disconnect();
+                    }
+                    return null;
+                })));
+            }
+
+            // Wait For Every Worker
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Scans one range of a parallel scan on this connection, in pages using the key as a seek cursor.
+     *
+     * @param tableSchema The table and columns to select from.
+     * @param key The integer column the range was split by.
+     * @param clazz The class that all instances should be created from.
+     * @param range The inclusive [lower, upper] range to scan.
+     * @param consumer The consumer that every object should be delivered to.
+     * @param <T> The type of object to be delivered.
+     * @throws Exception Thrown if there is an error while selecting or mapping the range.
+     */
+    private <T extends DatabaseObject> void scanPartition(TableSchema tableSchema, ColumnSchema key, Class<T> clazz, long[] range, Consumer<T> consumer) throws Exception {
+        // Start Before The Lower Bound (Or from the first row, if nothing can be lower)
+        Object cursor = range[0] == Long.MIN_VALUE ? null : range[0] - 1;
+        while (true) {
+            DatabaseResult page = this.selectPage(tableSchema, key, cursor, range[1], PARALLEL_SCAN_PAGE_SIZE);
+            if (page.getRowCount() == 0) {
+                break;
+            }
+            for (T object : page.toObjects(tableSchema, clazz)) {
+                consumer.accept(object);
+            }
+            if (page.getRowCount() < PARALLEL_SCAN_PAGE_SIZE) {
+                break;
+            }
+            cursor = Database.getLastValue(page, key);
+        }
+    }
+
+    /**
+     * Fetches the value of the specified column in the last row of the result.
+     *
+     * @param result The result to fetch the value from. Must contain at least one row.
+     * @param column The column to fetch the value of.
+     * @return The value, or null if the column is not a part of the result.
+     * @throws Exception Thrown if the result does not contain any rows.
+     */
+    static Object getLastValue(DatabaseResult result, ColumnSchema column) throws Exception {
+        return Database.getValue(result, result.getRowCount(), column);
+    }
+
+    /**
+     * Fetches the value of the specified column in the specified row of the result.
+     *
+     * @param result The result to fetch the value from.
+     * @param row The row (1-based) to fetch the value from.
+     * @param column The column to fetch the value of.
+     * @return The value, or null if the column is not a part of the result.
+     * @throws Exception Thrown if the row is less than one or greater than the row count.
+     */
+    static Object getValue(DatabaseResult result, int row, ColumnSchema column) throws Exception {
+        for (DatabaseValue value : result.getValuesForRow(row)) {
+            if (value.getColumnName().equalsIgnoreCase(column.getName())) {
+                return value.getData();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Utility method to append the comma-separated names of every column in the table to the SQL.
+     *
+     * @param sql The SQL to append to.
+     * @param tableSchema The table whose columns should be appended.
+     * @param prefix The prefix to put before each column name, such as the table name and a period.
+     */
+    private static void appendColumns(StringBuilder sql, TableSchema tableSchema, String prefix) {
+        ArrayList<ColumnSchema> columns = tableSchema.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            sql.append(prefix).append(columns.get(i).getName());
+
+            // Comma? Are there more?
+            if (i != columns.size() - 1) {
+                sql.append(", ");
+            }
+        }
+    }
+
+    /**
+     * Selects the objects with the specified primary keys, mapping them to the specified class.
+     *
+     * <p>
+     *     Instead of selecting each object on its own, the ids are selected using "WHERE pk IN (?, ?, ...)" in
+     *     chunks as large as the database allows (see {@link DatabaseType#getMaxParameters()}). For very large
+     *     sets of ids, the ids are instead inserted into a temporary table which is joined against.
+     *     <br><br>
+     *     Duplicate ids are only selected once. Integer ids are compared by value, so an {@link Integer} id will
+     *     match a {@link Long} key returned by the database.
+     * </p>
+     *
+     * @param tableSchema The table and columns to select from. Must contain a primary key.
+     * @param clazz The class that all instances should be created from.
+     * @param ids The primary keys of the objects to select.
+     * @param <T> The type of object to be returned.
+     * @return A {@link DatabaseIdResult} containing the objects in the order of the ids, and the ids that were not found.
+     * @throws Exception Thrown if there is an error while selecting or mapping the objects.
+     */
+    public <T extends DatabaseObject> DatabaseIdResult<T> selectByIds(TableSchema tableSchema, Class<T> clazz, Collection<?> ids) throws Exception {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Ensure Primary Key
+        ColumnSchema primaryKey = tableSchema.getPrimaryKey();
+        if (primaryKey == null) {
+            throw new UnsupportedFeatureException("Selecting by ids requires the TableSchema to contain a primary key!");
+        }
+
+        // Remove Duplicates
+        LinkedHashSet<Object> keys = new LinkedHashSet<>();
+        for (Object id : ids) {
+            keys.add(Database.normalizeKey(id));
+        }
+
+        // Select & Map By Key
+        HashMap<Object, T> found = new HashMap<>();
+        for (DatabaseResult result : this.selectIn(tableSchema, primaryKey, new ArrayList<>(keys))) {
+            ArrayList<T> objects = result.toObjects(tableSchema, clazz);
+            for (int i = 0; i < objects.size(); i++) {
+                found.put(Database.normalizeKey(Database.getValue(result, i + 1, primaryKey)), objects.get(i));
+            }
+        }
+
+        // Order By Id & Report Misses
+        LinkedHashMap<Object, T> objects = new LinkedHashMap<>();
+        ArrayList<Object> missing = new ArrayList<>();
+        for (Object key : keys) {
+            T object = found.get(key);
+            if (object != null) {
+                objects.put(key, object);
+            } else {
+                missing.add(key);
+            }
+        }
+        return new DatabaseIdResult<>(objects, missing);
+    }
+
+    /**
+     * Selects the children of every parent object using a foreign key, grouping them by the key of their parent.
+     *
+     * <p>
+     *     The foreign key column must have been created using {@link ColumnSchema#setForeignKey(TableSchema, ColumnSchema)},
+     *     and must be included in the columns of the child {@link TableSchema}. Rather than selecting the children of
+     *     each parent on its own, the keys of every parent are selected at once in the same chunks as
+     *     {@link Database#selectByIds(TableSchema, Class, Collection)}.
+     * </p>
+     *
+     * @param parents The parent objects, which must contain a field for the column the foreign key references.
+     * @param childSchema The table and columns of the children to select.
+     * @param foreignKey The column in the child table that references the parent table.
+     * @param clazz The class that all children should be created from.
+     * @param <P> The type of the parent objects.
+     * @param <C> The type of the child objects.
+     * @return A HashMap of the children keyed by the referenced key. Parents without children are not included.
+     * @throws Exception Thrown if there is an error while selecting or mapping the children.
+     */
+    public <P extends DatabaseObject, C extends DatabaseObject> HashMap<Object, ArrayList<C>> selectRelated(Collection<P> parents, TableSchema childSchema, ColumnSchema foreignKey, Class<C> clazz) throws Exception {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Ensure Foreign Key
+        ColumnSchema referencedColumn = foreignKey.getForeignKey();
+        if (referencedColumn == null) {
+            throw new UnsupportedFeatureException("Selecting related objects requires the column " + foreignKey.getName() + " to be a foreign key!");
+        }
+
+        // Collect Parent Keys
+        LinkedHashSet<Object> keys = new LinkedHashSet<>();
+        for (P parent : parents) {
+            Object key = Database.getFieldValue(parent, referencedColumn);
+            if (key != null) {
+                keys.add(Database.normalizeKey(key));
+            }
+        }
+
+        // Select & Group By Parent Key
+        HashMap<Object, ArrayList<C>> related = new HashMap<>();
+        for (DatabaseResult result : this.selectIn(childSchema, foreignKey, new ArrayList<>(keys))) {
+            ArrayList<C> children = result.toObjects(childSchema, clazz);
+            for (int i = 0; i < children.size(); i++) {
+                Object key = Database.normalizeKey(Database.getValue(result, i + 1, foreignKey));
+                related.computeIfAbsent(key, k -> new ArrayList<>()).add(children.get(i));
+            }
+        }
+        return related;
+    }
+
+    /**
+     * Selects the children of every parent object using a foreign key and attaches them to their parent.
+     * Parents without any children are given an empty list.
+     * See {@link Database#selectRelated(Collection, TableSchema, ColumnSchema, Class)} for more information.
+     *
+     * @param parents The parent objects, which must contain a field for the column the foreign key references.
+     * @param childSchema The table and columns of the children to select.
+     * @param foreignKey The column in the child table that references the parent table.
+     * @param clazz The class that all children should be created from.
+     * @param attach Called with every parent and its children, usually to set a transient field.
+     * @param <P> The type of the parent objects.
+     * @param <C> The type of the child objects.
+     * @throws Exception Thrown if there is an error while selecting or mapping the children.
+     */
+    public <P extends DatabaseObject, C extends DatabaseObject> void loadRelated(Collection<P> parents, TableSchema childSchema, ColumnSchema foreignKey, Class<C> clazz, BiConsumer<P, ArrayList<C>> attach) throws Exception {
+        HashMap<Object, ArrayList<C>> related = this.selectRelated(parents, childSchema, foreignKey, clazz);
+        for (P parent : parents) {
+            Object key = Database.normalizeKey(Database.getFieldValue(parent, foreignKey.getForeignKey()));
+            ArrayList<C> children = related.get(key);
+            attach.accept(parent, children != null ? children : new ArrayList<>());
+        }
+    }
+
+    /**
+     * Attaches a {@link LazyRelation} to every parent object. Nothing is selected until any of the relations is
+     * first accessed, at which point the children of every parent are selected at once.
+     * See {@link Database#selectRelated(Collection, TableSchema, ColumnSchema, Class)} for more information.
+     *
+     * @param parents The parent objects, which must contain a field for the column the foreign key references.
+     * @param childSchema The table and columns of the children to select.
+     * @param foreignKey The column in the child table that references the parent table.
+     * @param clazz The class that all children should be created from.
+     * @param attach Called with every parent and its relation, usually to set a transient field.
+     * @param <P> The type of the parent objects.
+     * @param <C> The type of the child objects.
+     * @throws Exception Thrown if there is an error while reading the key of a parent.
+     */
+    public <P extends DatabaseObject, C extends DatabaseObject> void lazyLoadRelated(Collection<P> parents, TableSchema childSchema, ColumnSchema foreignKey, Class<C> clazz, BiConsumer<P, LazyRelation<C>> attach) throws Exception {
+        // Ensure Foreign Key
+        if (foreignKey.getForeignKey() == null) {
+            throw new UnsupportedFeatureException("Selecting related objects requires the column " + foreignKey.getName() + " to be a foreign key!");
+        }
+
+        // Share One Batch Between Every Relation
+        final ArrayList<P> batch = new ArrayList<>(parents);
+        LazyRelation.Loader<C> loader = new LazyRelation.Loader<>(() -> this.selectRelated(batch, childSchema, foreignKey, clazz));
+        for (P parent : batch) {
+            Object key = Database.normalizeKey(Database.getFieldValue(parent, foreignKey.getForeignKey()));
+            attach.accept(parent, new LazyRelation<>(loader, key));
+        }
+    }
+
+    /**
+     * Selects every row where the specified column matches any of the specified keys.
+     *
+     * <p>
+     *     The keys are split into chunks no larger than {@link DatabaseType#getMaxParameters()}, each selected
+     *     using an "IN" list. If there would be more than {@link Database#TEMPORARY_TABLE_CHUNKS} chunks, the keys
+     *     are instead inserted into a temporary table and joined against, resulting in a single result.
+     * </p>
+     *
+     * @param tableSchema The table and columns to select from.
+     * @param column The column to match the keys against.
+     * @param keys The distinct keys to select.
+     * @return A DatabaseResult for each chunk that was selected.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     * @throws UnsupportedDatabaseTypeException Thrown if a temporary table is required but the column does not support this type of database.
+     */
+    ArrayList<DatabaseResult> selectIn(TableSchema tableSchema, ColumnSchema column, List<Object> keys) throws SQLException, UnsupportedDatabaseTypeException {
+        ArrayList<DatabaseResult> results = new ArrayList<>();
+        int chunkSize = type.getMaxParameters();
+
+        // Nothing To Select
+        if (keys.isEmpty()) {
+            return results;
+
+        // Very Large Sets Join A Temporary Table
+        } else if (keys.size() > chunkSize * TEMPORARY_TABLE_CHUNKS) {
+            results.add(this.selectInTemporaryTable(tableSchema, column, keys));
+            return results;
+        }
+
+        // Select Each Chunk
+        for (int start = 0; start < keys.size(); start += chunkSize) {
+            List<Object> chunk = keys.subList(start, Math.min(keys.size(), start + chunkSize));
+
+            // Create SQL
+            StringBuilder sql = new StringBuilder("SELECT ");
+            Database.appendColumns(sql, tableSchema, "");
+            sql.append(" FROM ").append(tableSchema.getName());
+            sql.append(" WHERE ").append(column.getName()).append(" IN (");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(")");
+
+            // Execute
+            try (PreparedStatement statement = this.prepare(sql.toString(), chunk.toArray())) {
+                results.add(this.executeQuery(statement, sql.toString(), DatabaseResult::new));
+            } catch (SQLException e) {
+                throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Selects every row where the specified column matches any of the specified keys by inserting the keys into a
+     * temporary table and joining against it. The temporary table is dropped afterwards. The keys are inserted in one
+     * transaction, unless a transaction is already open, in which case they are inserted as a part of it.
+     *
+     * @param tableSchema The table and columns to select from.
+     * @param column The column to match the keys against.
+     * @param keys The distinct keys to select.
+     * @return The DatabaseResult.
+     * @throws SQLException Thrown if running any of the generated SQL statements failed.
+     * @throws UnsupportedDatabaseTypeException Thrown if the column does not support this type of database.
+     */
+    private DatabaseResult selectInTemporaryTable(TableSchema tableSchema, ColumnSchema column, List<Object> keys) throws SQLException, UnsupportedDatabaseTypeException {
+        // Create Temporary Table
+        String keyTable = "javabase_keys_" + Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+        StringBuilder sql = new StringBuilder("CREATE TEMPORARY TABLE ").append(keyTable);
+        sql.append(" (Id ").append(this.toKeyType(column)).append(" PRIMARY KEY)");
+        try {
+            this.executeUpdate(sql.toString());
+        } catch (SQLException e) {
+            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+        }
+
+        Throwable failure = null;
+        try {
+            // Insert Keys In One Transaction (Or in the transaction of the caller)
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                String insertSql = "INSERT INTO " + keyTable + " (Id) VALUES (?)";
+                try (PreparedStatement insert = this.prepareStatement(insertSql)) {
+                    for (Object key : keys) {
+                        insert.setObject(1, key);
+                        insert.addBatch();
+                    }
+                    this.execute(insert, insertSql, insert::executeBatch);
+                }
+                if (autoCommit) {
+                    connection.commit();
+                }
+            } catch (SQLException | RuntimeException | Error e) {
+                if (autoCommit) {
+                    this.rollback(e);
+                }
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+
+            // Create SQL
+            sql = new StringBuilder("SELECT ");
+            Database.appendColumns(sql, tableSchema, tableSchema.getName() + ".");
+            sql.append(" FROM ").append(tableSchema.getName());
+            sql.append(" JOIN ").append(keyTable).append(" ON ").append(tableSchema.getName()).append(".").append(column.getName()).append(" = ").append(keyTable).append(".Id");
+
+            // Execute
+            try {
+                return this.executeQuery(sql.toString(), DatabaseResult::new);
+            } catch (SQLException e) {
+                throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+            }
+        } catch (SQLException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            // Drop Temporary Table (A failure to drop it is attached to the original failure, rather than replacing it)
+            try {
+                this.executeUpdate((type == DatabaseType.SQLite ? "DROP TABLE " : "DROP TEMPORARY TABLE ") + keyTable);
+            } catch (SQLException e) {
+                if (failure == null) {
+                    throw e;
+                }
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Finds the type of the key column of a temporary table holding keys of the specified column. MySQL and MariaDB
+     * can only index TEXT and BLOB columns by a prefix of a set length, so they are stored as the longest VARCHAR and
+     * VARBINARY that can be indexed in full instead.
+     *
+     * @param column The column the keys belong to.
+     * @return The type of the key column, including its length.
+     * @throws UnsupportedDatabaseTypeException Thrown if the column does not support this type of database, or is a
+     *                                          JSON column, which MySQL and MariaDB cannot index.
+     */
+    private String toKeyType(ColumnSchema column) throws UnsupportedDatabaseTypeException {
+        DataType dataType = DataType.getClosestSupportedDataType(column.getDataType(), type);
+        if (type != DatabaseType.SQLite) {
+            switch (dataType) {
+                case TINYTEXT:
+                case TEXT:
+                case MEDIUMTEXT:
+                case LONGTEXT:
+                    return DataType.VARCHAR + "(" + MAX_INDEXED_CHARACTERS + ")";
+                case TINYBLOB:
+                case BLOB:
+                case MEDIUMBLOB:
+                case LONGBLOB:
+                    return DataType.VARBINARY + "(" + MAX_INDEXED_CHARACTERS * 4 + ")";
+                case JSON:
+                    throw new UnsupportedDatabaseTypeException(dataType, type);
+                default:
+                    break;
+            }
+        }
+        return column.getValue() != null ? dataType + "(" + column.getValue() + ")" : dataType.toString();
+    }
+
+    /**
+     * Converts plain words into an FTS5 query matching any of them, quoting each word so that FTS5 syntax in the
+     * words is not interpreted.
+     *
+     * @param query The plain words.
+     * @return The FTS5 query.
+     */
+    private static String toFullTextQuery(String query) {
+        StringBuilder match = new StringBuilder();
+        for (String word : query.trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (match.length() > 0) {
+                match.append(" OR ");
+            }
+            match.append('"').append(word.replace("\"", "\"\"")).append('"');
+        }
+        return match.toString();
+    }
+
+    /**
+     * Normalizes a key so that keys of different integer types can be compared. Every integer type is converted
+     * to a {@link Long}, while any other type is returned as-is.
+     *
+     * @param key The key to normalize.
+     * @return The normalized key.
+     */
+    static Object normalizeKey(Object key) {
+        if (key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte) {
+            return ((Number) key).longValue();
+        } else if (key instanceof BigInteger && ((BigInteger) key).bitLength() < 64) {
+            return ((BigInteger) key).longValue();
+        }
+        return key;
+    }
+
+    /**
+     * Deletes data from the database using the specified expression and arguments.
+     *
+     * <p>
+     *     Due to the same reasons behind {@link Database#select(TableSchema, int, String, String...)}, the WHERE statement
+     *     is up to the user, making this statement **not cross-comtpaible**. Please ensure you know which database
+     *     you are using, likely using the {@link Database#getType()} method, when using the "WHERE" clause.
+     * </p>
+     *
+     * @param tableSchema The table to delete from.
+     * @param where The platform-dependent SQL statement for a "WHERE" clause.
+     * @param args A list of strings which will not be parsed as SQL. If no arguments pass null.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generate SQL statement failed.
+     */
+    public void delete(TableSchema tableSchema, String where, @Nullable String... args) throws NotConnectedException, SQLException {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Create SQL
+        StringBuilder sql = new StringBuilder("DELETE FROM ").append(tableSchema.getName());
+
+        // Where...
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(where);
+        }
+
+        // Close
+        sql.append(";");
+
+        // Execute
+        try {
+            // Create Statement
+            if (args != null && args.length > 0) {
+                // Create Statement
+                try (PreparedStatement statement = this.prepareStatement(sql.toString())) {
+                    // Apply Arguments
+                    int count = Database.countOccurrences(sql.toString(), "?");
+                    for (int i = 1; i <= count; i++) {
+                        statement.setString(i, args[i - 1]);
+                    }
+                    this.captureParameters(statement, Arrays.copyOf(args, count, Object[].class));
+
+                    // Execute
+                    this.executeUpdate(statement, sql.toString(), Operation.DELETE, tableSchema);
+                }
+            } else {
+                this.executeUpdate(sql.toString(), Operation.DELETE, tableSchema);
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+        }
+    }
+
+    /**
+     * Deletes data from the database using the specified expression and no arguments.
+     * See {@link Database#delete(TableSchema, String, String...)} for more information.
+     *
+     * @param tableSchema The table to delete every row from.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generate SQL statement failed.
+     */
+    public void delete(TableSchema tableSchema, String where) throws NotConnectedException, SQLException {
+        delete(tableSchema, where, null);
+    }
+
+    /**
+     * Deletes every row from the specified table.
+     * See {@link Database#delete(TableSchema, String, String...)} for more information.
+     *
+     * @param tableSchema The table to delete every row from.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generate SQL statement failed.
+     */
+    public void delete(TableSchema tableSchema) throws NotConnectedException, SQLException {
+        delete(tableSchema, "");
+    }
+
+    /**
+     * Deletes data from the database using the specified {@link DatabaseObject}, comparing every non-transiend field in the object.
+     *
+     * @param object The {@link DatabaseObject} that contains the values that should be deleted.
+     * @throws Exception Thrown if there is an error while mapping values for the DatabaseObject.
+     */
+    public void delete(DatabaseObject object) throws Exception {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Create SQL
+        StringBuilder sql = new StringBuilder("DELETE FROM ").append(object.getTableSchema().getName());
+
+        // Where...
+        sql.append(" WHERE ");
+
+        // Attempt to parse
+        ArrayList<Field> fields = getNonTransientFields(object.getClass());
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            ColumnSchema column = object.getTableSchema().getColumnIgnoreCase(field.getName());
+            if (column != null) {
+                // Column Name
+                sql.append(column.getName().toUpperCase()).append(" = ");
+
+                // Data Types
+                sql.append(fieldToDatabaseValue(object, field));
+
+                // "AND"? Are there more?
+                if (i != fields.size() - 1) {
+                    sql.append(" AND ");
+                }
+            }
+        }
+
+        // Close
+        sql.append(";");
+
+        // Execute
+        try {
+            this.executeUpdate(sql.toString(), Operation.DELETE, object.getTableSchema());
+        } catch (SQLException e) {
+            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+        }
+    }
+
+    /**
+     * Updates data in the database using the specified {@link DatabaseValue}'s and the specified expression and arguments.
+     *
+     * <p>
+     *     For the same reasons as {@link Database#select(TableSchema, int, String, String...)}, this method is
+     *     **not cross-compatible**. It is up to the user to know the type of database they are working
+     *     with, likely using the {@link Database#getType()} method, when using the "WHERE" clause.
+     * </p>
+     *
+     * @param tableSchema The table to update.
+     * @param where The platform-dependent SQL statement for a "WHERE" clause.
+     * @param args A list of strings which will not be parsed as SQL. If no arguments pass null.
+     * @param set An array of {@link DatabaseValue}'s to be set.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    public void update(TableSchema tableSchema, String where, @Nullable String[] args, DatabaseValue... set) throws NotConnectedException, SQLException {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Create SQL
+        StringBuilder sql = new StringBuilder("UPDATE ").append(tableSchema.getName());
+
+        // Set...
+        sql.append(" SET ");
+        for (int i = 0; i < set.length; i++) {
+            DatabaseValue value = set[i];
+            sql.append(value.getColumnName().toUpperCase()).append(" = ").append(value.getData());
+
+            // Comma? Are there more?
+            if (i != set.length - 1) {
+                sql.append(", ");
+            }
+        }
+
+        // Where...
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(where);
+        }
+
+        // Close
+        sql.append(";");
+
+        // Execute
+        try {
+            // Create Statement
+            if (args != null && args.length > 0) {
+                // Create Statement
+                try (PreparedStatement statement = this.prepareStatement(sql.toString())) {
+                    // Apply Arguments
+                    int count = Database.countOccurrences(sql.toString(), "?");
+                    for (int i = 1; i <= count; i++) {
+                        statement.setString(i, args[i - 1]);
+                    }
+                    this.captureParameters(statement, Arrays.copyOf(args, count, Object[].class));
+
+                    // Execute
+                    this.executeUpdate(statement, sql.toString(), Operation.UPDATE, tableSchema);
+                }
+            } else {
+                this.executeUpdate(sql.toString(), Operation.UPDATE, tableSchema);
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+        }
+    }
+
+    /**
+     * Updates data in the database using the specified {@link DatabaseValue}'s with the specified expression and no arguments.
+     * See {@link Database#update(TableSchema, String, String[], DatabaseValue...)} for more information.
+     *
+     * @param tableSchema The table to update.
+     * @param set An array of {@link DatabaseValue}'s to be set.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    public void update(TableSchema tableSchema, String where, DatabaseValue... set) throws NotConnectedException, SQLException {
+        update(tableSchema, where, null, set);
+    }
+
+    /**
+     * Updates data in the database using the specified {@link DatabaseValue}'s with no "WHERE" string.
+     * See {@link Database#update(TableSchema, String, String[], DatabaseValue...)} for more information.
+     *
+     * @param tableSchema The table to update.
+     * @param set An array of {@link DatabaseValue}'s to be set.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statement failed.
+     */
+    public void update(TableSchema tableSchema, DatabaseValue... set) throws NotConnectedException, SQLException {
+        update(tableSchema, "", null, set);
+    }
+
+    /**
+     * Updates data in the database associated with the {@link DatabaseObject}'s non-transient fields. This method will
+     * update ALL fields in the database associated with the object, not just the changed ones.
+     *
+     * @param object The {@link DatabaseObject} to use for updating data.
+     * @throws Exception Thrown if there is an error while mapping values for the DatabaseObject.
+     */
+    public void update(DatabaseObject object) throws Exception {
+        // Ensure Connected
+        if (!this.isConnected()) {
+            throw new NotConnectedException();
+        }
+
+        // Create SQL
+        StringBuilder sql = new StringBuilder("UPDATE ").append(object.getTableSchema().getName());
+
+        // Fields
+        ArrayList<Field> fields = getNonTransientFields(object.getClass());
+
+        // Set...
+        sql.append(" SET ");
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            ColumnSchema column = object.getTableSchema().getColumnIgnoreCase(field.getName());
+            if (column != null && !column.isPrimaryKey()) {
+                // Column Name
+                sql.append(column.getName().toUpperCase()).append(" = ");
+
+                // Data Types
+                sql.append(fieldToDatabaseValue(object, field));
+
+                // Comma? Are there more?
+                if (i != fields.size() - 1) {
+                    sql.append(", ");
+                }
+            }
+        }
+
+        // Where...
+        sql.append(" WHERE ");
+
+        // Find primary key and append to field, otherwise error if there is no primary or unique key
+        // TODO: I do this many times, maybe there is a way to optimize this connection between columns and fields?
+        for (Field field : fields) {
+            ColumnSchema column = object.getTableSchema().getColumnIgnoreCase(field.getName());
+            if (column != null && column.isPrimaryKey()) {
+                // Column Name
+                sql.append(column.getName().toUpperCase()).append(" = ");
+
+                // Data Types
+                sql.append(fieldToDatabaseValue(object, field));
+
+                // No need to continue, there should only be one primary key.
+                break;
+            }
+        }
+
+        // Close
+        sql.append(";");
+
+        // Execute
+        try {
+            this.executeUpdate(sql.toString(), Operation.UPDATE, object.getTableSchema());
+        } catch (SQLException e) {
+            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+        }
+    }
+
+    /**
+     * Executes an SQL update directly on the connection. See {@link Statement#executeUpdate(String)}
+     * 
+     * @param sql The SQL update to be executed.
+     * @throws SQLException Thrown if something goes wrong.
+     */
+    public void rawUpdate(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            this.execute(statement, sql, Database.rawShape(sql), () -> statement.executeUpdate(sql));
+        }
+    }
+
+    /**
+     * Executes an SQL query directly on the connection. See {@link Statement#executeQuery(String)}
+     *
+     * <p>
+     *     Please note that you can easily convert a ResultSet into a {@link DatabaseResult} by passing
+     *     the ResultSet in the constructor as so: {@link DatabaseResult#DatabaseResult(ResultSet)}.
+     *     <br><br>
+     *     The ResultSet must be closed once it has been read, which also closes its statement.
+     * </p>
+     * 
+     * @param sql The SQL query to be executed.
+     * @return The Java ResultSet in response.
+     * @throws SQLException Thrown if something goes wrong.
+     */
+    public ResultSet rawQuery(String sql) throws SQLException {
+        Statement statement = connection.createStatement();
+        try {
+            statement.closeOnCompletion();
+            return this.execute(statement, sql, Database.rawShape(sql), () -> statement.executeQuery(sql));
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Executes an SQL statement directly on the connection. See {@link Statement#execute(String)}
+     * 
+     * @param sql The SQL statement to be executed.
+     * @return Whether or not the statement succeeded.
+     * @throws SQLException Thrown if something goes wrong.
+     */
+    public boolean raw(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return this.execute(statement, sql, Database.rawShape(sql), () -> statement.execute(sql));
+        }
+    }
+
+    /**
+     * Fetches a prepared SQL statement from the connection directly. See {@link Connection#prepareStatement(String)}
+     *
+     * @param sql The SQL statement to be prepared.
+     * @return The prepared statement.
+     * @throws SQLException Thrown if something goes wrong.
+     */
+    public PreparedStatement rawPrepare(String sql) throws SQLException {
+        return this.prepareStatement(sql);
+    }
+
+    /**
+     * Sets the default amount of time any statement may take before it is cancelled. A shorter limit can be set for
+     * some statements using a {@link Deadline}. Defaults to 0, meaning statements may take as long as they need.
+     *
+     * @param seconds The default amount of seconds any statement may take, or 0 for no limit.
+     * @return The Database.
+     * @throws IllegalArgumentException Thrown if the amount of seconds is negative.
+     */
+    public Database setQueryTimeout(int seconds) {
+        if (seconds < 0) {
+            throw new IllegalArgumentException("The query timeout cannot be negative!");
+        }
+        this.queryTimeout = seconds;
+        return this;
+    }
+
+    /**
+     * Returns the default amount of seconds any statement may take, or 0 if there is no limit.
+     * @return The default amount of seconds any statement may take.
+     */
+    public int getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    /**
+     * Sets the {@link RetryPolicy} used to recover from transient failures. Statements failing with a transient
+     * failure outside of a transaction are retried automatically, as long as retrying them is safe, see
+     * {@link RetryPolicy#isRetryable(Throwable, DatabaseType, boolean)}. Recovering from a lost connection requires
+     * wrapping the operation in {@link Database#retry(Callable)}. Defaults to null, meaning nothing is retried.
+     *
+     * @param retryPolicy The {@link RetryPolicy}, or null to disable retries.
+     * @return The Database.
+     */
+    public Database setRetryPolicy(@Nullable RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * Returns the {@link RetryPolicy} used to recover from transient failures, or null if nothing is retried.
+     * @return The {@link RetryPolicy}, or null if nothing is retried.
+     */
+    @Nullable
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Sets the {@link CircuitBreaker} which rejects statements while the database is failing or slow. Shared with
+     * any {@link Database#fork()} of this database. Defaults to null, meaning every statement is run.
+     *
+     * @param circuitBreaker The {@link CircuitBreaker}, or null to run every statement.
+     * @return The Database.
+     */
+    public Database setCircuitBreaker(@Nullable CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    /**
+     * Returns the {@link CircuitBreaker} which rejects statements while the database is failing or slow, or null if
+     * every statement is run.
+     * @return The {@link CircuitBreaker}, or null if every statement is run.
+     */
+    @Nullable
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Sets the {@link AdmissionLimiter} which limits how many statements run at once. Shared with any
+     * {@link Database#fork()} of this database, so that the limit applies to every connection together.
+     * Defaults to null, meaning there is no limit.
+     *
+     * @param admissionLimiter The {@link AdmissionLimiter}, or null for no limit.
+     * @return The Database.
+     */
+    public Database setAdmissionLimiter(@Nullable AdmissionLimiter admissionLimiter) {
+        this.admissionLimiter = admissionLimiter;
+        return this;
+    }
+
+    /**
+     * Returns the {@link AdmissionLimiter} which limits how many statements run at once, or null if there is no limit.
+     * @return The {@link AdmissionLimiter}, or null if there is no limit.
+     */
+    @Nullable
+    public AdmissionLimiter getAdmissionLimiter() {
+        return admissionLimiter;
+    }
+
+    /**
+     * Adds a {@link MetricsListener} which is told about every statement run by this database. Shared with any
+     * {@link Database#fork()} made afterwards. Listeners found using the {@link ServiceLoader} are added to every
+     * database from the start.
+     *
+     * @param listener The {@link MetricsListener} to add.
+     * @return The Database.
+     */
+    public synchronized Database addMetricsListener(@NotNull MetricsListener listener) {
+        MetricsListener[] listeners = Arrays.copyOf(metricsListeners, metricsListeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        this.metricsListeners = listeners;
+        return this;
+    }
+
+    /**
+     * Removes a {@link MetricsListener}, including one found using the {@link ServiceLoader}.
+     *
+     * @param listener The {@link MetricsListener} to remove.
+     * @return The Database.
+     */
+    public synchronized Database removeMetricsListener(@NotNull MetricsListener listener) {
+        ArrayList<MetricsListener> listeners = new ArrayList<>(Arrays.asList(metricsListeners));
+        listeners.remove(listener);
+        this.metricsListeners = listeners.toArray(new MetricsListener[0]);
+        return this;
+    }
+
+    /**
+     * Returns an array of the {@link MetricsListener}'s told about every statement run by this database.
+     * @return An array of the {@link MetricsListener}'s.
+     */
+    public MetricsListener[] getMetricsListeners() {
+        return metricsListeners.clone();
+    }
+
+    /**
+     * Sets the {@link SlowQueryLog} which records statements taking longer than its threshold. Shared with any
+     * {@link Database#fork()} of this database. Defaults to null, meaning nothing is logged.
+     *
+     * @param slowQueryLog The {@link SlowQueryLog}, or null to log nothing.
+     * @return The Database.
+     */
+    public Database setSlowQueryLog(@Nullable SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+        return this;
+    }
+
+    /**
+     * Returns the {@link SlowQueryLog} which records statements taking longer than its threshold, or null if
+     * nothing is logged.
+     * @return The {@link SlowQueryLog}, or null if nothing is logged.
+     */
+    @Nullable
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    /**
+     * Sets the {@link WorkloadRecorder} which records every statement run by this database, so that they can be
+     * replayed later using a {@link WorkloadReplayer}. Shared with any {@link Database#fork()} of this database.
+     * Defaults to null, meaning nothing is recorded.
+     *
+     * @param workloadRecorder The {@link WorkloadRecorder}, or null to record nothing.
+     * @return The Database.
+     */
+    public Database setWorkloadRecorder(@Nullable WorkloadRecorder workloadRecorder) {
+        this.workloadRecorder = workloadRecorder;
+        return this;
+    }
+
+    /**
+     * Returns the {@link WorkloadRecorder} which records every statement run by this database, or null if nothing
+     * is recorded.
+     * @return The {@link WorkloadRecorder}, or null if nothing is recorded.
+     */
+    @Nullable
+    public WorkloadRecorder getWorkloadRecorder() {
+        return workloadRecorder;
+    }
+
+    /**
+     * Sets the maximum amount of prepared statements kept for {@link Query}s, closing the least recently used
+     * statements if there are too many. Defaults to {@link Database#DEFAULT_STATEMENT_CACHE_SIZE}.
+     *
+     * @param size The maximum amount of statements kept. Set to 0 to disable caching.
+     * @return The Database.
+     */
+    public Database setStatementCacheSize(int size) {
+        statementCache.setCapacity(size);
+        return this;
+    }
+
+    /**
+     * Returns the maximum amount of prepared statements kept for {@link Query}s.
+     * @return The maximum amount of prepared statements kept.
+     */
+    public int getStatementCacheSize() {
+        return statementCache.getCapacity();
+    }
+
+    /**
+     * Returns true if the database is connected, otherwise returns false. The result is cached for a short while,
+     * and the connection is not checked at all while the {@link CircuitBreaker} is open.
+     *
+     * @return True if the database is connected, otherwise returns false.
+     */
+    public boolean isConnected() {
+        // Don't Wait On A Database Known To Be Failing
+        if (circuitBreaker != null && circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            return isConnected && connection != null;
+        }
+
+        // Connection Cache
+        long now = new Date().getTime();
+        if (lastConnectionCheck == 0 || now - lastConnectionCheck >= 2500) { // TODO: HARD-CODED 2500 MILLISECONDS CACHE
+            lastConnectionCheck = now;
+
+            // Check Connection
+            Object event = FLIGHT_RECORDER ? DatabaseEvents.beginValidate() : null;
+            try {
+                isConnected = connection != null && connection.isValid(5); // TODO: HARD-CODED 5 SECOND TIMEOUT
+            } catch (SQLException e) {
+                isConnected = false;
+            }
+            if (event != null) {
+                DatabaseEvents.endValidate(event, host, database, isConnected);
+            }
+        }
+
+        // Return IsConnected
+        return isConnected;
+    }
+
+    /**
+     * Reflexively fetches an array of the non-transient fields of a class.
+     *
+     * @param clazz The class to extract fields from.
+     * @return An ArrayList of fields.
+     */
+    protected static ArrayList<Field> getNonTransientFields(Class<?> clazz) {
+        ArrayList<Field> fields = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (Modifier.isTransient(field.getModifiers())) {
+                continue;
+            }
+
+            field.setAccessible(true);
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    /**
+     * Reflexively fetches the value of the non-transient field that corresponds to the specified column.
+     *
+     * @param object The instance of the object to fetch data from.
+     * @param column The column whose field should be read. The field name is matched ignoring the case.
+     * @return The value of the field.
+     * @throws Exception Thrown if the object does not have a field for the column or the field cannot be read.
+     */
+    static Object getFieldValue(Object object, ColumnSchema column) throws Exception {
+        for (Field field : getNonTransientFields(object.getClass())) {
+            if (field.getName().equalsIgnoreCase(column.getName())) {
+                return field.get(object);
+            }
+        }
+        throw new Exception("Class " + object.getClass().getSimpleName() + " does not have a field for the column " + column.getName() + "!");
+    }
+
+    /**
+     * Generates a key for the object using the {@link IdGenerator} of its primary key, unless the object already has
+     * a key. A key that is null or not greater than zero is treated as not set.
+     *
+     * @param object The object to generate a key for.
+     * @throws Exception Thrown if there is an error while generating or writing the key.
+     */
+    private void assignId(DatabaseObject object) throws Exception {
+        ColumnSchema primaryKey = object.getTableSchema().getPrimaryKey();
+        if (primaryKey == null || primaryKey.getIdGenerator() == null) {
+            return;
+        }
+
+        Object key = Database.getFieldValue(object, primaryKey);
+        if (key == null || (key instanceof Number && ((Number) key).longValue() <= 0)) {
+            Database.setGeneratedKey(object, primaryKey, primaryKey.getIdGenerator().nextId(this));
+        }
+    }
+
+    /**
+     * Reflexively writes a generated key into the non-transient field that corresponds to the primary key column,
+     * converting it to the type of the field. Nothing is written if the object does not have a field for the column.
+     *
+     * @param object The instance of the object to write the key to.
+     * @param column The primary key column. The field name is matched ignoring the case.
+     * @param key The normalized generated key.
+     * @throws Exception Thrown if the key cannot be converted to the type of the field or the field cannot be written.
+     */
+    static void setGeneratedKey(Object object, ColumnSchema column, Object key) throws Exception {
+        for (Field field : getNonTransientFields(object.getClass())) {
+            if (!field.getName().equalsIgnoreCase(column.getName())) {
+                continue;
+            }
+
+            // Convert To The Field Type
+            Class<?> fieldType = field.getType();
+            if (key instanceof Number) {
+                Number number = (Number) key;
+                if (fieldType == int.class || fieldType == Integer.class) {
+                    if (number.longValue() > Integer.MAX_VALUE) {
+                        throw new Exception("The generated key " + key + " is too large for the int field " + field.getName() + " of " + object.getClass().getSimpleName() + "! Use a long instead.");
+                    }
+                    key = number.intValue();
+                } else if (fieldType == long.class || fieldType == Long.class) {
+                    key = number.longValue();
+                } else if (fieldType == short.class || fieldType == Short.class) {
+                    key = number.shortValue();
+                } else if (fieldType == BigInteger.class) {
+                    key = new BigInteger(number.toString());
+                }
+            }
+            if (fieldType == String.class) {
+                key = String.valueOf(key);
+            }
+
+            try {
+                field.set(object, key);
+            } catch (IllegalArgumentException e) {
+                throw new Exception("The generated key " + key + " cannot be written to the field " + field.getName() + " of " + object.getClass().getSimpleName() + "! Do the types line up?", e);
+            }
+            return;
+        }
+    }
+
+    /**
+     * Utility method to bind the data of every {@link DatabaseValue} to a prepared statement in order.
+     *
+     * @param statement The prepared statement.
+     * @param values The values corresponding to each '?' in the statement.
+     * @throws SQLException Thrown if binding a value failed.
+     */
+    private static void bind(PreparedStatement statement, DatabaseValue[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i].getData());
+        }
+    }
+
+    /**
+     * Remembers the values bound to the statement about to run on this thread, so that they can be logged if it is
+     * slow or recorded. Does nothing unless there is a {@link SlowQueryLog} or a {@link WorkloadRecorder}. The values
+     * are only used if the same statement is the next one to run, and are copied, so changing the array afterwards
+     * has no effect.
+     *
+     * @param statement The statement the values are bound to.
+     * @param values The values bound to the statement, in order.
+     */
+    private void captureParameters(PreparedStatement statement, Object[] values) {
+        if (this.isCapturingParameters()) {
+            BOUND_PARAMETERS.set(new BoundParameters(statement, values.clone()));
+        }
+    }
+
+    /**
+     * Remembers the data of the values bound to the statement about to run on this thread. See
+     * {@link Database#captureParameters(PreparedStatement, Object[])}.
+     *
+     * @param statement The statement the values are bound to.
+     * @param values The values bound to the statement, in order.
+     */
+    private void captureParameters(PreparedStatement statement, DatabaseValue[] values) {
+        if (this.isCapturingParameters()) {
+            Object[] data = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                data[i] = values[i].getData();
+            }
+            BOUND_PARAMETERS.set(new BoundParameters(statement, data));
+        }
+    }
+
+    /**
+     * Takes the values captured for a statement as it starts running, forgetting any values captured on this thread.
+     *
+     * @param statement The statement about to run.
+     * @return The values bound to the statement, or null if none were captured for this statement.
+     */
+    @Nullable
+    private static Object[] takeParameters(Statement statement) {
+        BoundParameters bound = BOUND_PARAMETERS.get();
+        if (bound == null) {
+            return null;
+        }
+        BOUND_PARAMETERS.remove();
+        return bound.statement == statement ? bound.values : null;
+    }
+
+    /**
+     * Checks whether or not the values bound to statements are needed by a {@link SlowQueryLog} or a
+     * {@link WorkloadRecorder}.
+     * @return True if the values bound to statements are needed, otherwise false.
+     */
+    private boolean isCapturingParameters() {
+        return slowQueryLog != null || workloadRecorder != null;
+    }
+
+    /**
+     * Utility method to convert a field to a database value. Mostly used to handle edge-cases like
+     * booleans.
+     *
+     * @param object The instance of the object to fetch data from.
+     * @param field The field of the object.
+     * @return A {@link StringBuilder} containing the database value as a string.
+     * @throws IllegalAccessException Thrown if there is an issue accessing the field.
+     */
+    protected static StringBuilder fieldToDatabaseValue(Object object, Field field) throws IllegalAccessException {
+        StringBuilder string = new StringBuilder();
+
+        // Handle Data Types
+        Object data = field.get(object);
+
+        // Handle Integer Booleans
+        if (field.getType().isAssignableFrom(boolean.class)) {
+            Boolean bool = (Boolean) data;
+            if (bool) {
+                string.append('1');
+            } else {
+                string.append('0');
+            }
+
+        // Handle Numbers
+        } else if (data instanceof Number) {
+            string.append(field.get(object));
+
+        // Everything Else Surround in Quotes
+        } else {
+            string.append("'").append(field.get(object)).append("'");
+        }
+
+        return string;
+    }
+
+    /**
+     * Runs a statement, applying the query timeout and the {@link Deadline} of the current thread. Every statement
+     * run by the library goes through this method.
+     *
+     * <p>
+     *     If there is a {@link RetryPolicy}, statements failing with a transient failure are run again, as long as
+     *     the connection is not in the middle of a transaction.
+     * </p>
+     *
+     * <p>
+     *     The statement is given the shorter of the default query timeout and the time remaining until the deadline.
+     *     MySQL and MariaDB enforce it using {@link Statement#setQueryTimeout(int)}, while SQLite statements are
+     *     interrupted by a timer, because the SQLite connector uses the query timeout as its busy timeout instead.
+     *     The call should read any results, so that reading them is also covered by the timeout.
+     * </p>
+     *
+     * @param statement The statement to run.
+     * @param sql The SQL of the statement.
+     * @param call Runs the statement and reads its results.
+     * @param <T> The type of value returned by the call.
+     * @return The value returned by the call.
+     * @throws SQLTimeoutException Thrown if the statement timed out or was cancelled.
+     * @throws SQLException Thrown if running the statement failed.
+     */
+    <T> T execute(Statement statement, String sql, StatementCall<T> call) throws SQLException {
+        return this.execute(statement, sql, null, call);
+    }
+
+    /**
+     * Runs a statement, reporting it to any {@link MetricsListener} as the specified kind of statement on the specified
+     * table. See {@link Database#execute(Statement, String, StatementCall)}.
+     *
+     * @param statement The statement to run.
+     * @param sql The SQL of the statement.
+     * @param shape The kind of statement and its table, or null to find them from the SQL.
+     * @param call Runs the statement and reads its results.
+     * @param <T> The type of value returned by the call.
+     * @return The value returned by the call.
+     * @throws SQLTimeoutException Thrown if the statement timed out or was cancelled.
+     * @throws SQLException Thrown if running the statement failed.
+     */
+    <T> T execute(Statement statement, String sql, @Nullable StatementShape shape, StatementCall<T> call) throws SQLException {
+        return this.executeWithRetries(statement, sql, shape, Database.takeParameters(statement), call);
+    }
+
+    /**
+     * Runs a statement, running it again on transient failures if there is a {@link RetryPolicy}.
+     * See {@link Database#execute(Statement, String, StatementCall)}.
+     *
+     * @param statement The statement to run.
+     * @param sql The SQL of the statement.
+     * @param shape The kind of statement and its table, or null to find them from the SQL.
+     * @param parameters The values bound to the statement, or null if they are not known.
+     * @param call Runs the statement and reads its results.
+     * @param <T> The type of value returned by the call.
+     * @return The value returned by the call.
+     * @throws SQLTimeoutException Thrown if the statement timed out or was cancelled.
+     * @throws SQLException Thrown if running the statement failed.
+     */
+    private <T> T executeWithRetries(Statement statement, String sql, @Nullable StatementShape shape, @Nullable Object[] parameters, StatementCall<T> call) throws SQLException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return this.executeOnce(statement, sql, shape, parameters, call);
+            } catch (SQLException e) {
+                // Only Retry Failures Which Left No Effect, Outside Of Transactions & Operations Retried As A Whole
+                if (retryPolicy == null || RETRYING_OPERATION.get() != null) {
+                    throw e;
+                }
+                Operation kind = (shape != null ? shape : StatementShape.of(sql)).getOperation();
+                if (!retryPolicy.isRetryable(e, type, kind == Operation.SELECT) || !this.isAutoCommit()) {
+                    throw e;
+                } else if (attempt >= retryPolicy.getMaxAttempts()) {
+                    retryPolicy.recordExhausted();
+                    throw e;
+                }
+
+                // Wait
+                try {
+                    if (!retryPolicy.backoff(attempt)) {
+                        throw e;
+                    }
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                retryPolicy.recordRetry();
+            }
+        }
+    }
+
+    /**
+     * Checks whether or not the connection is in auto-commit mode, meaning it is not in the middle of a transaction.
+     * @return True if the connection is in auto-commit mode, or false if it is not or the connection is broken.
+     */
+    boolean isAutoCommit() {
+        try {
+            return connection != null && connection.getAutoCommit();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs a statement once, as long as the {@link AdmissionLimiter} and {@link CircuitBreaker} let it through, and
+     * reports it to every {@link MetricsListener}. See {@link Database#execute(Statement, String, StatementCall)}.
+     *
+     * @param statement The statement to run.
+     * @param sql The SQL of the statement.
+     * @param shape The kind of statement and its table, or null to find them from the SQL.
+     * @param parameters The values bound to the statement, or null if they are not known.
+     * @param call Runs the statement and reads its results.
+     * @param <T> The type of value returned by the call.
+     * @return The value returned by the call.
+     * @throws CallRejectedException Thrown if the statement was rejected without being run.
+     * @throws SQLTimeoutException Thrown if the statement timed out or was cancelled.
+     * @throws SQLException Thrown if running the statement failed.
+     */
+    private <T> T executeOnce(Statement statement, String sql, @Nullable StatementShape shape, @Nullable Object[] parameters, StatementCall<T> call) throws SQLException {
+        // Shed Load
+        AdmissionLimiter limiter = admissionLimiter;
+        CircuitBreaker breaker = circuitBreaker;
+        if (limiter != null) {
+            limiter.acquire(sql);
+        }
+        long permit = breaker != null ? breaker.tryAcquire() : CircuitBreaker.REJECTED;
+        if (breaker != null && permit == CircuitBreaker.REJECTED) {
+            if (limiter != null) {
+                limiter.release();
+            }
+            throw new CallRejectedException("The circuit breaker is open!", sql);
+        }
+
+        // Execute & Record The Outcome
+        Object event = FLIGHT_RECORDER ? DatabaseEvents.beginExecute() : null;
+        long start = System.nanoTime();
+        Throwable failure = null;
+        T result = null;
+        boolean isSuccess = false;
+        try {
+            result = this.executeTimed(statement, sql, call);
+            isSuccess = true;
+            return result;
+        } catch (SQLException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            long duration = System.nanoTime() - start;
+            if (breaker != null) {
+                Deadline deadline = Deadline.current();
+                if (!isSuccess && deadline != null && deadline.isCancelled()) {
+                    breaker.release(permit);
+                } else {
+                    breaker.record(permit, duration, isSuccess, failure);
+                }
+            }
+            if (limiter != null) {
+                limiter.release();
+            }
+            // Classify The Statement Once, Unless The Caller Already Knows Its Shape
+            MetricsListener[] listeners = metricsListeners;
+            StatementShape known = shape;
+            if (known == null && (listeners.length > 0 || event != null)) {
+                known = StatementShape.of(sql);
+            }
+            if (listeners.length > 0) {
+                Database.reportMetrics(listeners, known, duration, result, !isSuccess);
+            }
+            if (event != null) {
+                DatabaseEvents.endExecute(event, known.getTable(), known.getOperation().name(), sql.hashCode(), Database.countRows(result), !isSuccess);
+            }
+            SlowQueryLog slowLog = slowQueryLog;
+            if (slowLog != null && slowLog.isSlow(duration)) {
+                this.logSlowQuery(slowLog, statement, sql, parameters, duration, result, !isSuccess);
+            }
+            WorkloadRecorder recorder = workloadRecorder;
+            if (recorder != null) {
+                this.recordWorkload(recorder, statement, sql, parameters, start, duration, result, !isSuccess);
+            }
+        }
+    }
+
+    /**
+     * Records a statement to a {@link WorkloadRecorder}. The parameters of prepared statements are those captured
+     * when they started running, while the parameters of batches and statements bound elsewhere are not known.
      *
-     * @param tableSchema The table to update.
-     * @param set An array of {@link DatabaseValue}'s to be set.
-     * @throws NotConnectedException Thrown if there is no connection to the database.
-     * @throws SQLException Thrown if running the generated SQL statement failed.
+     * @param recorder The recorder to record the statement to.
+     * @param statement The statement which ran.
+     * @param sql The SQL of the statement.
+     * @param bound The values bound to the statement, or null if they are not known.
+     * @param start When the statement started, from {@link System#nanoTime()}.
+     * @param duration How long the statement took, in nanoseconds.
+     * @param result The value returned by the statement, or null if it failed.
+     * @param failed True if the statement failed, otherwise false.
      */
-    public void update(TableSchema tableSchema, String where, DatabaseValue... set) throws NotConnectedException, SQLException {
-        update(tableSchema, where, null, set);
+    private void recordWorkload(WorkloadRecorder recorder, Statement statement, String sql, @Nullable Object[] bound, long start, long duration, @Nullable Object result, boolean failed) {
+        Object[] parameters;
+        if (!(statement instanceof PreparedStatement)) {
+            parameters = new Object[0];
+        } else if (result instanceof int[]) {
+            parameters = null;
+        } else {
+            parameters = bound;
+            if (parameters == null && sql.indexOf('?') == -1) {
+                parameters = new Object[0];
+            }
+        }
+        recorder.record(sql, parameters, start, duration, Database.countRows(result), failed);
     }
 
     /**
-     * Updates data in the database using the specified {@link DatabaseValue}'s with no "WHERE" string.
-     * See {@link Database#update(TableSchema, String, String[], DatabaseValue...)} for more information.
+     * Runs a statement read from a workload log, binding the specified values and reading every row it returns.
+     * Used by {@link WorkloadReplayer}.
      *
-     * @param tableSchema The table to update.
-     * @param set An array of {@link DatabaseValue}'s to be set.
-     * @throws NotConnectedException Thrown if there is no connection to the database.
-     * @throws SQLException Thrown if running the generated SQL statement failed.
+     * @param sql The SQL of the statement.
+     * @param parameters The values bound to the statement, in order.
+     * @return How long the statement took to run and read, in nanoseconds.
+     * @throws SQLException Thrown if running the statement failed.
      */
-    public void update(TableSchema tableSchema, DatabaseValue... set) throws NotConnectedException, SQLException {
-        update(tableSchema, "", null, set);
+    long replay(String sql, List<Object> parameters) throws SQLException {
+        try (PreparedStatement statement = this.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            this.captureParameters(statement, parameters.toArray());
+
+            // Execute & Read
+            long start = System.nanoTime();
+            this.execute(statement, sql, () -> {
+                if (statement.execute()) {
+                    try (ResultSet set = statement.getResultSet()) {
+                        while (set.next()) {
+                            // Every row is read, as the original statement read its results
+                        }
+                    }
+                }
+                return null;
+            });
+            return System.nanoTime() - start;
+        }
     }
 
     /**
-     * Updates data in the database associated with the {@link DatabaseObject}'s non-transient fields. This method will
-     * update ALL fields in the database associated with the object, not just the changed ones.
+     * Logs a slow statement, explaining it if the {@link SlowQueryLog} samples it. Failed statements are never
+     * explained, as the connection may be left in a failed transaction, and a statement failing to be explained is
+     * logged without a plan. If the log neither keeps nor passes on its entries, the statement is only counted.
      *
-     * @param object The {@link DatabaseObject} to use for updating data.
-     * @throws Exception Thrown if there is an error while mapping values for the DatabaseObject.
+     * @param slowLog The log to log the statement to.
+     * @param statement The statement which ran.
+     * @param sql The SQL of the statement.
+     * @param bound The values bound to the statement, or null if they are not known.
+     * @param duration How long the statement took, in nanoseconds.
+     * @param result The value returned by the statement, or null if it failed.
+     * @param failed True if the statement failed, otherwise false.
      */
-    public void update(DatabaseObject object) throws Exception {
-        // Ensure Connected
-        if (!this.isConnected()) {
-            throw new NotConnectedException();
+    private void logSlowQuery(SlowQueryLog slowLog, Statement statement, String sql, @Nullable Object[] bound, long duration, @Nullable Object result, boolean failed) {
+        // Nothing To Record
+        if (!slowLog.isKept()) {
+            slowLog.count();
+            return;
         }
 
-        // Create Statement
-        Statement statement = connection.createStatement();
+        // Parameters (Only known for prepared statements)
+        List<Object> parameters = statement instanceof PreparedStatement && bound != null ? Arrays.asList(bound.clone()) : Collections.emptyList();
 
-        // Create SQL
-        StringBuilder sql = new StringBuilder("UPDATE ").append(object.getTableSchema().getName());
+        // Plan
+        String plan = null;
+        if (!failed) {
+            Operation operation = StatementShape.of(sql).getOperation();
+            if (operation != Operation.SCHEMA && operation != Operation.OTHER && slowLog.shouldExplain()) {
+                plan = this.explain(sql, parameters);
+            }
+        }
 
-        // Fields
-        ArrayList<Field> fields = getNonTransientFields(object.getClass());
+        // Caller
+        StackTraceElement caller = null;
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            String className = element.getClassName();
+            if (!className.startsWith("com.visualfiredev.javabase.") && !className.startsWith("java.") && !className.startsWith("jdk.") && !className.startsWith("sun.")) {
+                caller = element;
+                break;
+            }
+        }
 
-        // Set...
-        sql.append(" SET ");
-        for (int i = 0; i < fields.size(); i++) {
-            Field field = fields.get(i);
-            ColumnSchema column = object.getTableSchema().getColumnIgnoreCase(field.getName());
-            if (column != null && !column.isPrimaryKey()) {
-                // Column Name
-                sql.append(column.getName().toUpperCase()).append(" = ");
+        slowLog.log(new SlowQuery(sql, parameters, duration, Database.countRows(result), failed, plan, System.currentTimeMillis(), Thread.currentThread().getName(), caller));
+    }
 
-                // Data Types
-                sql.append(fieldToDatabaseValue(object, field));
+    /**
+     * Fetches the query plan of a statement, using "EXPLAIN" on MySQL and MariaDB or "EXPLAIN QUERY PLAN" on SQLite.
+     * The statement itself is not run again, and explaining it is given up on after {@link Database#EXPLAIN_TIMEOUT}
+     * milliseconds, regardless of the query timeout or the {@link Deadline} of the statement.
+     *
+     * @param sql The SQL of the statement.
+     * @param parameters The values bound to the statement, in order.
+     * @return The query plan, one line per step, or null if the statement could not be explained.
+     */
+    @Nullable
+    private String explain(String sql, List<Object> parameters) {
+        String explainSql = (type == DatabaseType.SQLite ? "EXPLAIN QUERY PLAN " : "EXPLAIN ") + sql;
+        ScheduledFuture<?> timer = null;
+        try (PreparedStatement statement = connection.prepareStatement(explainSql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
 
-                // Comma? Are there more?
-                if (i != fields.size() - 1) {
-                    sql.append(", ");
+            // Apply Timeout (See Database#executeTimed)
+            if (type == DatabaseType.SQLite) {
+                timer = TIMEOUT_SCHEDULER.schedule(() -> {
+                    try {
+                        statement.cancel();
+                    } catch (SQLException ignored) {
+                        // The statement has already finished
+                    }
+                }, EXPLAIN_TIMEOUT, TimeUnit.MILLISECONDS);
+            } else {
+                statement.setQueryTimeout((int) ((EXPLAIN_TIMEOUT + 999) / 1000));
+            }
+
+            try (ResultSet set = statement.executeQuery()) {
+                ResultSetMetaData meta = set.getMetaData();
+                StringBuilder plan = new StringBuilder();
+                while (set.next()) {
+                    if (plan.length() > 0) {
+                        plan.append(System.lineSeparator());
+                    }
+
+                    // SQLite: The Detail Of Each Step
+                    if (type == DatabaseType.SQLite) {
+                        plan.append(set.getString("detail"));
+                        continue;
+                    }
+
+                    // MySQL & MariaDB: Every Column Of Each Step
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        plan.append(meta.getColumnLabel(i)).append("=").append(set.getObject(i));
+                        if (i != meta.getColumnCount()) {
+                            plan.append(", ");
+                        }
+                    }
                 }
+                return plan.toString();
+            }
+        } catch (SQLException e) {
+            return null;
+        } finally {
+            if (timer != null) {
+                timer.cancel(false);
             }
         }
+    }
 
-        // Where...
-        sql.append(" WHERE ");
+    /**
+     * Reports a statement to every {@link MetricsListener}, counting the rows and estimating the size of its result.
+     * A listener throwing an exception does not stop the others from being called.
+     *
+     * @param listeners The listeners to report to.
+     * @param shape The kind of statement and its table.
+     * @param duration How long the statement took, in nanoseconds.
+     * @param result The value returned by the statement, or null if it failed.
+     * @param failed True if the statement failed, otherwise false.
+     */
+    private static void reportMetrics(MetricsListener[] listeners, StatementShape shape, long duration, @Nullable Object result, boolean failed) {
+        // Count Rows & Bytes
+        long rows = Database.countRows(result);
+        long bytes = 0;
+        if (result instanceof DatabaseResult) {
+            bytes = Database.estimateBytes((DatabaseResult) result);
+        } else if (result instanceof DatabaseJoinResult) {
+            DatabaseJoinResult joinResult = (DatabaseJoinResult) result;
+            for (TableSchema table : joinResult.getJoinSchema().getTables()) {
+                bytes += Database.estimateBytes(joinResult.getResult(table));
+            }
+        }
 
-        // Find primary key and append to field, otherwise error if there is no primary or unique key
-        // TODO: I do this many times, maybe there is a way to optimize this connection between columns and fields?
-        for (Field field : fields) {
-            ColumnSchema column = object.getTableSchema().getColumnIgnoreCase(field.getName());
-            if (column != null && column.isPrimaryKey()) {
-                // Column Name
-                sql.append(column.getName().toUpperCase()).append(" = ");
+        // Report
+        for (MetricsListener listener : listeners) {
+            try {
+                listener.onStatement(shape.getOperation(), shape.getTable(), duration, rows, bytes, failed);
+            } catch (RuntimeException ignored) {
+                // A broken listener must not break the statement
+            }
+        }
+    }
 
-                // Data Types
-                sql.append(fieldToDatabaseValue(object, field));
+    /**
+     * Counts the rows returned or changed by a statement from the value it returned.
+     *
+     * @param result The value returned by the statement, or null if it failed.
+     * @return The amount of rows, or -1 if unknown.
+     */
+    private static long countRows(@Nullable Object result) {
+        if (result instanceof Integer) {
+            return (Integer) result;
+        } else if (result instanceof int[]) {
+            long rows = 0;
+            for (int count : (int[]) result) {
+                rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+            return rows;
+        } else if (result instanceof DatabaseResult) {
+            return ((DatabaseResult) result).getRowCount();
+        } else if (result instanceof DatabaseJoinResult) {
+            return ((DatabaseJoinResult) result).getRowCount();
+        }
+        return -1;
+    }
 
-                // No need to continue, there should only be one primary key.
-                break;
+    /**
+     * Estimates the size of the values in a result, counting text by its length and numbers by their width.
+     *
+     * @param result The result.
+     * @return The estimated size of the values, in bytes.
+     */
+    private static long estimateBytes(DatabaseResult result) {
+        long bytes = 0;
+        for (DatabaseValue value : result.values()) {
+            Object data = value.getData();
+            if (data == null) {
+                continue;
+            } else if (data instanceof CharSequence) {
+                bytes += ((CharSequence) data).length();
+            } else if (data instanceof byte[]) {
+                bytes += ((byte[]) data).length;
+            } else if (data instanceof Byte || data instanceof Boolean) {
+                bytes += 1;
+            } else if (data instanceof Short) {
+                bytes += 2;
+            } else if (data instanceof Integer || data instanceof Float) {
+                bytes += 4;
+            } else {
+                bytes += 8;
             }
         }
+        return bytes;
+    }
 
-        // Close
-        sql.append(";");
+    /**
+     * Runs a statement once, applying the query timeout and the {@link Deadline} of the current thread.
+     * See {@link Database#execute(Statement, String, StatementCall)}.
+     *
+     * @param statement The statement to run.
+     * @param sql The SQL of the statement.
+     * @param call Runs the statement and reads its results.
+     * @param <T> The type of value returned by the call.
+     * @return The value returned by the call.
+     * @throws SQLTimeoutException Thrown if the statement timed out or was cancelled.
+     * @throws SQLException Thrown if running the statement failed.
+     */
+    private <T> T executeTimed(Statement statement, String sql, StatementCall<T> call) throws SQLException {
+        // Find Timeout
+        Deadline deadline = Deadline.current();
+        long timeout = queryTimeout * 1000L;
+        if (deadline != null) {
+            deadline.register(statement, sql);
+            long remaining = deadline.getRemainingMillis();
+            if (remaining != Long.MAX_VALUE) {
+                timeout = timeout > 0 ? Math.min(timeout, remaining) : Math.max(remaining, 1);
+            }
+        }
 
-        // Execute
+        ScheduledFuture<?> timer = null;
         try {
-            statement.executeUpdate(sql.toString());
+            // Apply Timeout
+            if (type == DatabaseType.SQLite) {
+                if (timeout > 0) {
+                    timer = TIMEOUT_SCHEDULER.schedule(() -> {
+                        try {
+                            statement.cancel();
+                        } catch (SQLException ignored) {
+                            // The statement has already finished
+                        }
+                    }, timeout, TimeUnit.MILLISECONDS);
+                }
+            } else {
+                statement.setQueryTimeout((int) ((timeout + 999) / 1000));
+            }
+
+            // Execute
+            return call.call();
         } catch (SQLException e) {
-            throw new SQLException("Invalid TableSchema or possible library error! SQL Statement Created: " + sql, e);
+            if (deadline != null && (deadline.isCancelled() || deadline.isExpired())) {
+                throw deadline.toException(sql, e);
+            } else if (timer != null && timer.isDone() && !(e instanceof SQLTimeoutException)) {
+                throw new SQLTimeoutException("The statement took longer than the query timeout! SQL Statement: " + sql, e);
+            }
+            throw e;
+        } finally {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            if (deadline != null) {
+                deadline.unregister(statement);
+            }
         }
     }
 
     /**
-     * Executes an SQL update directly on the connection. See {@link Statement#executeUpdate(String)}
-     * 
-     * @param sql The SQL update to be executed.
-     * @throws SQLException Thrown if something goes wrong.
+     * Runs an update using a statement. See {@link Database#execute(Statement, String, StatementCall)}.
+     *
+     * @param statement The statement to run the update with.
+     * @param sql The SQL update.
+     * @return The amount of rows changed.
+     * @throws SQLException Thrown if running the update failed.
      */
-    public void rawUpdate(String sql) throws SQLException {
-        Statement statement = connection.createStatement();
-        statement.executeUpdate(sql);
+    int executeUpdate(Statement statement, String sql) throws SQLException {
+        return this.execute(statement, sql, () -> statement.executeUpdate(sql));
     }
 
     /**
-     * Executes an SQL query directly on the connection. See {@link Statement#executeQuery(String)}
+     * Runs an update using a new statement, which is closed afterwards. See {@link Database#execute(Statement, String, StatementCall)}.
      *
-     * <p>
-     *     Please note that you can easily convert a ResultSet into a {@link DatabaseResult} by passing
-     *     the ResultSet in the constructor as so: {@link DatabaseResult#DatabaseResult(ResultSet)}.
-     * </p>
-     * 
-     * @param sql The SQL query to be executed.
-     * @return The Java ResultSet in response.
-     * @throws SQLException Thrown if something goes wrong.
+     * @param sql The SQL update.
+     * @return The amount of rows changed.
+     * @throws SQLException Thrown if running the update failed.
      */
-    public ResultSet rawQuery(String sql) throws SQLException {
-        Statement statement = connection.createStatement();
-        return statement.executeQuery(sql);
+    int executeUpdate(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return this.executeUpdate(statement, sql);
+        }
     }
 
     /**
-     * Executes an SQL statement directly on the connection. See {@link Statement#execute(String)}
-     * 
-     * @param sql The SQL statement to be executed.
-     * @return Whether or not the statement succeeded.
-     * @throws SQLException Thrown if something goes wrong.
+     * Runs an update whose kind and table are already known using a new statement, which is closed afterwards, so
+     * that SQL with inlined values does not need to be parsed. See {@link Database#execute(Statement, String, StatementCall)}.
+     *
+     * @param sql The SQL update.
+     * @param operation The kind of update.
+     * @param tableSchema The table the update changes.
+     * @return The amount of rows changed.
+     * @throws SQLException Thrown if running the update failed.
      */
-    public boolean raw(String sql) throws SQLException {
-        Statement statement = connection.createStatement();
-        return statement.execute(sql);
+    private int executeUpdate(String sql, Operation operation, TableSchema tableSchema) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return this.execute(statement, sql, StatementShape.of(operation, tableSchema.getName()), () -> statement.executeUpdate(sql));
+        }
     }
 
     /**
-     * Fetches a prepared SQL statement from the connection directly. See {@link Connection#prepareStatement(String)}
+     * Runs a prepared update. See {@link Database#execute(Statement, String, StatementCall)}.
      *
-     * @param sql The SQL statement to be prepared.
-     * @return The prepared statement.
-     * @throws SQLException Thrown if something goes wrong.
+     * @param statement The prepared statement with every argument bound.
+     * @param sql The SQL of the statement.
+     * @return The amount of rows changed.
+     * @throws SQLException Thrown if running the update failed.
      */
-    public PreparedStatement rawPrepare(String sql) throws SQLException {
-        return connection.prepareStatement(sql);
+    int executeUpdate(PreparedStatement statement, String sql) throws SQLException {
+        return this.execute(statement, sql, statement::executeUpdate);
     }
 
     /**
-     * Returns true if the database is connected, otherwise returns false.
+     * Runs a prepared update whose kind and table are already known. See {@link Database#execute(Statement, String, StatementCall)}.
      *
-     * @return True if the database is connected, otherwise returns false.
+     * @param statement The prepared statement with every argument bound.
+     * @param sql The SQL of the statement.
+     * @param operation The kind of update.
+     * @param tableSchema The table the update changes.
+     * @return The amount of rows changed.
+     * @throws SQLException Thrown if running the update failed.
      */
-    public boolean isConnected() {
+    private int executeUpdate(PreparedStatement statement, String sql, Operation operation, TableSchema tableSchema) throws SQLException {
+        return this.execute(statement, sql, StatementShape.of(operation, tableSchema.getName()), statement::executeUpdate);
+    }
 
-        // Connection Cache
-        long now = new Date().getTime();
-        if (lastConnectionCheck != 0 || now - lastConnectionCheck >= 2500) { // TODO: HARD-CODED 2500 MILLISECONDS CACHE
-            lastConnectionCheck = now;
+    /**
+     * Finds the shape of a raw statement, which is reported as {@link Operation#RAW} on the table named in its SQL.
+     *
+     * @param sql The SQL of the statement.
+     * @return The shape of the statement.
+     */
+    private static StatementShape rawShape(String sql) {
+        return StatementShape.of(Operation.RAW, StatementShape.of(sql).getTable());
+    }
 
-            // Check Connection
-            try {
-                if (connection != null) {
-                    connection.setAutoCommit(true);
-                }
-                isConnected = connection != null && connection.isValid(5); // TODO: HARD-CODED 5 SECOND TIMEOUT
-            } catch (SQLException e) {
-                isConnected = false;
+    /**
+     * Runs a query using a statement and reads its results. See {@link Database#execute(Statement, String, StatementCall)}.
+     *
+     * @param statement The statement to run the query with.
+     * @param sql The SQL query.
+     * @param handler Reads the results of the query.
+     * @param <T> The type of value read from the results.
+     * @return The value read from the results.
+     * @throws SQLException Thrown if running the query or reading its results failed.
+     */
+    <T> T executeQuery(Statement statement, String sql, ResultSetHandler<T> handler) throws SQLException {
+        return this.execute(statement, sql, () -> {
+            try (ResultSet set = statement.executeQuery(sql)) {
+                return handler.handle(set);
             }
-        }
+        });
+    }
 
-        // Return IsConnected
-        return isConnected;
+    /**
+     * Runs a query using a new statement, which is closed once its results have been read.
+     * See {@link Database#execute(Statement, String, StatementCall)}.
+     *
+     * @param sql The SQL query.
+     * @param handler Reads the results of the query.
+     * @param <T> The type of value read from the results.
+     * @return The value read from the results.
+     * @throws SQLException Thrown if running the query or reading its results failed.
+     */
+    <T> T executeQuery(String sql, ResultSetHandler<T> handler) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return this.executeQuery(statement, sql, handler);
+        }
     }
 
     /**
-     * Reflexively fetches an array of the non-transient fields of a class.
+     * Runs a prepared query and reads its results. See {@link Database#execute(Statement, String, StatementCall)}.
      *
-     * @param clazz The class to extract fields from.
-     * @return An ArrayList of fields.
+     * @param statement The prepared statement with every argument bound.
+     * @param sql The SQL of the statement.
+     * @param handler Reads the results of the query.
+     * @param <T> The type of value read from the results.
+     * @return The value read from the results.
+     * @throws SQLException Thrown if running the query or reading its results failed.
      */
-    protected static ArrayList<Field> getNonTransientFields(Class<?> clazz) {
-        ArrayList<Field> fields = new ArrayList<>();
-        for (Field field : clazz.getDeclaredFields()) {
-            if (Modifier.isTransient(field.getModifiers())) {
-                continue;
+    <T> T executeQuery(PreparedStatement statement, String sql, ResultSetHandler<T> handler) throws SQLException {
+        return this.execute(statement, sql, () -> {
+            try (ResultSet set = statement.executeQuery()) {
+                return handler.handle(set);
             }
-
-            field.setAccessible(true);
-            fields.add(field);
-        }
-        return fields;
+        });
     }
 
     /**
-     * Utility method to convert a field to a database value. Mostly used to handle edge-cases like
-     * booleans.
+     * Runs a query using a cached prepared statement, preparing and caching it if this SQL has not been run before.
+     * The statement is only put back into the cache once its results have been read by the handler, and is closed
+     * instead if anything fails.
      *
-     * @param object The instance of the object to fetch data from.
-     * @param field The field of the object.
-     * @return A {@link StringBuilder} containing the database value as a string.
-     * @throws IllegalAccessException Thrown if there is an issue accessing the field.
+     * @param sql The SQL statement to be run.
+     * @param parameters The arguments corresponding to each '?' in the statement.
+     * @param handler Reads the results of the statement.
+     * @param <T> The type of value read from the results.
+     * @return The value read from the results.
+     * @throws SQLException Thrown if running the statement or reading its results failed.
      */
-    protected static StringBuilder fieldToDatabaseValue(Object object, Field field) throws IllegalAccessException {
-        StringBuilder string = new StringBuilder();
+    <T> T queryCached(String sql, List<Object> parameters, ResultSetHandler<T> handler) throws SQLException {
+        PreparedStatement statement = statementCache.take(sql);
+        boolean isReleased = false;
+        try {
+            // Prepare Statement
+            if (statement == null) {
+                statement = this.prepareStatement(sql);
+            } else {
+                statement.clearParameters();
+            }
 
-        // Handle Data Types
-        Object data = field.get(object);
+            // Apply Arguments
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            this.captureParameters(statement, parameters.toArray());
 
-        // Handle Integer Booleans
-        if (field.getType().isAssignableFrom(boolean.class)) {
-            Boolean bool = (Boolean) data;
-            if (bool) {
-                string.append('1');
-            } else {
-                string.append('0');
+            // Execute & Read
+            T value = this.executeQuery(statement, sql, handler);
+            statementCache.release(sql, statement);
+            isReleased = true;
+            return value;
+        } catch (SQLException e) {
+            throw new SQLException("Invalid Query or possible library error! SQL Statement Created: " + sql, e);
+        } finally {
+            // The statement may no longer be usable, so it is closed instead of being put back
+            if (!isReleased && statement != null) {
+                try {
+                    statement.close();
+                } catch (SQLException ignored) {
+                    // Already broken
+                }
             }
+        }
+    }
 
-        // Handle Numbers
-        } else if (data instanceof Number) {
-            string.append(field.get(object));
+    /**
+     * Utility method to prepare a statement and bind the specified arguments to it in order, keeping their types.
+     *
+     * @param sql The SQL statement to be prepared.
+     * @param args The arguments corresponding to each '?' in the statement.
+     * @return The prepared statement with every argument bound.
+     * @throws SQLException Thrown if preparing the statement or binding an argument failed.
+     */
+    private PreparedStatement prepare(String sql, Object... args) throws SQLException {
+        PreparedStatement statement = this.prepareStatement(sql);
+        for (int i = 0; i < args.length; i++) {
+            statement.setObject(i + 1, args[i]);
+        }
+        this.captureParameters(statement, args);
+        return statement;
+    }
 
-        // Everything Else Surround in Quotes
-        } else {
-            string.append("'").append(field.get(object)).append("'");
+    /**
+     * Prepares a statement on the connection, recording a flight recorder event if enabled.
+     *
+     * @param sql The SQL statement to be prepared.
+     * @return The prepared statement.
+     * @throws SQLException Thrown if preparing the statement failed.
+     */
+    private PreparedStatement prepareStatement(String sql) throws SQLException {
+        return this.prepareStatement(sql, Statement.NO_GENERATED_KEYS);
+    }
+
+    /**
+     * Prepares a statement on the connection, recording a flight recorder event if enabled.
+     *
+     * @param sql The SQL statement to be prepared.
+     * @param autoGeneratedKeys Either {@link Statement#RETURN_GENERATED_KEYS} or {@link Statement#NO_GENERATED_KEYS}.
+     * @return The prepared statement.
+     * @throws SQLException Thrown if preparing the statement failed.
+     */
+    private PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        Object event = FLIGHT_RECORDER ? DatabaseEvents.beginPrepare() : null;
+        PreparedStatement statement = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? connection.prepareStatement(sql, autoGeneratedKeys) : connection.prepareStatement(sql);
+        if (event != null) {
+            StatementShape shape = StatementShape.of(sql);
+            DatabaseEvents.endPrepare(event, shape.getTable(), shape.getOperation().name(), sql.hashCode());
         }
+        return statement;
+    }
 
-        return string;
+    /**
+     * Checks whether or not the Java runtime includes the flight recorder, without loading any of its classes.
+     * @return True if the flight recorder is available, otherwise false.
+     */
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, Database.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
     }
 
     /**
@@ -1065,4 +3841,56 @@ public class Database {
         return connection;
     }
 
+    /**
+     * The values bound to a prepared statement, captured for the {@link SlowQueryLog} and {@link WorkloadRecorder}.
+     */
+    private static class BoundParameters {
+
+        // The Statement & Its Values
+        private final Statement statement;
+        private final Object[] values;
+
+        /**
+         * Creates a new BoundParameters.
+         *
+         * @param statement The statement the values are bound to.
+         * @param values The values bound to the statement, in order.
+         */
+        private BoundParameters(Statement statement, Object[] values) {
+            this.statement = statement;
+            this.values = values;
+        }
+
+    }
+
+    /**
+     * Holds the {@link MetricsListener}'s found using the {@link ServiceLoader}, which are only looked for once.
+     */
+    private static class ServiceListeners {
+
+        // The Listeners Found
+        private static final MetricsListener[] LISTENERS = ServiceListeners.load();
+
+        /**
+         * Finds every listener listed in a "META-INF/services" file, skipping any that fail to load.
+         * @return An array of the listeners found.
+         */
+        private static MetricsListener[] load() {
+            ArrayList<MetricsListener> listeners = new ArrayList<>();
+            Iterator<MetricsListener> iterator = ServiceLoader.load(MetricsListener.class).iterator();
+            while (true) {
+                try {
+                    if (!iterator.hasNext()) {
+                        break;
+                    }
+                    listeners.add(iterator.next());
+                } catch (ServiceConfigurationError ignored) {
+                    // A broken listener must not stop the database from being used
+                }
+            }
+            return listeners.toArray(new MetricsListener[0]);
+        }
+
+    }
+
 }
@@ -0,0 +1,73 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.TableSchema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+/**
+ * Represents the result of selecting objects by their primary keys. Created using
+ * {@link Database#selectByIds(TableSchema, Class, java.util.Collection)}.
+ *
+ * @param <T> The type of object each row is mapped to.
+ */
+public class DatabaseIdResult<T> {
+
+    // Constructor Arguments
+    private LinkedHashMap<Object, T> objects;
+    private ArrayList<Object> missingIds;
+
+    /**
+     * Creates a new DatabaseIdResult.
+     *
+     * @param objects The objects that were found, keyed by their normalized id in the order the ids were requested.
+     * @param missingIds The ids that were requested but not found, in the order they were requested.
+     */
+    DatabaseIdResult(LinkedHashMap<Object, T> objects, ArrayList<Object> missingIds) {
+        this.objects = objects;
+        this.missingIds = missingIds;
+    }
+
+    /**
+     * Fetches the object with the specified id.
+     *
+     * @param id The id of the object.
+     * @return The object with the specified id, or null if it was not found or not requested.
+     */
+    public T get(Object id) {
+        return objects.get(Database.normalizeKey(id));
+    }
+
+    /**
+     * Returns the objects that were found, in the order their ids were requested.
+     * @return The objects that were found, in the order their ids were requested.
+     */
+    public ArrayList<T> getObjects() {
+        return new ArrayList<>(objects.values());
+    }
+
+    /**
+     * Returns the ids that were requested but not found, in the order they were requested.
+     * @return The ids that were requested but not found.
+     */
+    public ArrayList<Object> getMissingIds() {
+        return missingIds;
+    }
+
+    /**
+     * Returns whether or not any of the requested ids were not found.
+     * @return True if any of the requested ids were not found, otherwise false.
+     */
+    public boolean hasMissingIds() {
+        return !missingIds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseIdResult{" +
+                "objects=" + objects +
+                ", missingIds=" + missingIds +
+                '}';
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.JoinSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+/**
+ * Represents the result of selecting from a {@link JoinSchema}, split into the values of each table.
+ *
+ * <p>
+ *     Every table has the same amount of rows, so the objects returned by {@link DatabaseJoinResult#toObjects(TableSchema, Class)}
+ *     for different tables line up by index. When a "LEFT" join has no match, the object for that table is null.
+ * </p>
+ */
+public class DatabaseJoinResult {
+
+    // Constructor Arguments
+    private JoinSchema joinSchema;
+    private ArrayList<DatabaseResult> results;
+
+    /**
+     * Creates a new DatabaseJoinResult using the ResultSet from a SELECT statement created by {@link JoinSchema#toSelectString()}.
+     *
+     * @param joinSchema The JoinSchema that the statement was created from.
+     * @param set The ResultSet to use.
+     * @throws SQLException Thrown if a generic SQLException happens.
+     */
+    public DatabaseJoinResult(JoinSchema joinSchema, ResultSet set) throws SQLException {
+        this.joinSchema = joinSchema;
+
+        // Read Every Row, Splitting The Columns By Table
+        ArrayList<TableSchema> tables = joinSchema.getTables();
+        ArrayList<ArrayList<DatabaseValue>> values = new ArrayList<>();
+        for (int i = 0; i < tables.size(); i++) {
+            values.add(new ArrayList<>());
+        }
+        while (set.next()) {
+            int index = 1;
+            for (int i = 0; i < tables.size(); i++) {
+                for (ColumnSchema column : tables.get(i).getColumns()) {
+                    values.get(i).add(new DatabaseValue(column.getName(), set.getObject(index++)));
+                }
+            }
+        }
+
+        // Create Results
+        this.results = new ArrayList<>();
+        for (int i = 0; i < tables.size(); i++) {
+            results.add(new DatabaseResult(tables.get(i).getColumns().size(), values.get(i).toArray(new DatabaseValue[0])));
+        }
+    }
+
+    /**
+     * Fetches the values selected from the specified table.
+     *
+     * @param tableSchema The table to fetch the values of.
+     * @return A DatabaseResult containing only the columns of the specified table.
+     * @throws IllegalArgumentException Thrown if the table is not a part of the {@link JoinSchema}.
+     */
+    public DatabaseResult getResult(TableSchema tableSchema) {
+        int index = joinSchema.getTableIndex(tableSchema);
+        if (index == -1) {
+            throw new IllegalArgumentException("The table " + tableSchema.getName() + " is not a part of this JoinSchema!");
+        }
+        return results.get(index);
+    }
+
+    /**
+     * Maps the values selected from the specified table to new instances of the specified class, one for every row.
+     * If a row has no match for the table because of a "LEFT" join, the instance for that row is null.
+     * See {@link DatabaseResult#toObjects(TableSchema, Class)} for more information.
+     *
+     * @param tableSchema The table to map the values of.
+     * @param clazz The class in which new instances should be created from for mapping.
+     * @param <T> The class that the object is an instance of.
+     * @return An ArrayList of new instances of the specified object, or null where a row has no match.
+     * @throws Exception Generically thrown if something goes wrong.
+     */
+    public <T> ArrayList<T> toObjects(TableSchema tableSchema, Class<T> clazz) throws Exception {
+        return this.getResult(tableSchema).toObjects(tableSchema, clazz, true);
+    }
+
+    /**
+     * Returns the JoinSchema this result was selected from.
+     * @return The JoinSchema this result was selected from.
+     */
+    public JoinSchema getJoinSchema() {
+        return joinSchema;
+    }
+
+    /**
+     * Returns the amount of rows in this result.
+     * @return The amount of rows in this result.
+     */
+    public int getRowCount() {
+        return results.get(0).getRowCount();
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Walks a table page by page using its primary key as a seek cursor. Created using
+ * {@link Database#paginate(TableSchema, int, Class, boolean)}.
+ *
+ * @param <T> The type of object each row is mapped to.
+ */
+public class DatabasePaginator<T extends DatabaseObject> implements AutoCloseable {
+
+    // Constructor Arguments
+    private Database database;
+    private TableSchema tableSchema;
+    private ColumnSchema primaryKey;
+    private int pageSize;
+    private Class<T> clazz;
+
+    // Prefetching
+    private ExecutorService prefetcher;
+    private Future<DatabaseResult> prefetched;
+
+    // State
+    private Object cursor = null;
+    private DatabaseResult page = null;
+    private boolean isExhausted = false;
+
+    /**
+     * Constructs a new DatabasePaginator.
+     *
+     * @param database The database to select pages from.
+     * @param tableSchema The table and columns to select from.
+     * @param primaryKey The primary key of the table, used as the seek cursor.
+     * @param pageSize The maximum amount of rows in each page.
+     * @param clazz The class that all instances should be created from.
+     * @param prefetch Whether or not to select the next page on a background thread.
+     */
+    DatabasePaginator(Database database, TableSchema tableSchema, ColumnSchema primaryKey, int pageSize, Class<T> clazz, boolean prefetch) {
+        this.database = database;
+        this.tableSchema = tableSchema;
+        this.primaryKey = primaryKey;
+        this.pageSize = pageSize;
+        this.clazz = clazz;
+
+        // Create Prefetcher & Fetch First Page
+        if (prefetch) {
+            this.prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Javabase-Paginator-" + tableSchema.getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.prefetch();
+        }
+    }
+
+    /**
+     * Returns true if there is another page with at least one row, selecting it if required.
+     *
+     * @return True if there is another page, otherwise false.
+     * @throws Exception Thrown if selecting the next page failed.
+     */
+    public boolean hasNext() throws Exception {
+        if (page == null && !isExhausted) {
+            page = this.fetch();
+            if (page.getRowCount() == 0) {
+                page = null;
+                isExhausted = true;
+            }
+        }
+        return page != null;
+    }
+
+    /**
+     * Returns the next page of objects, ordered by the primary key.
+     *
+     * @return An ArrayList of the objects in the next page.
+     * @throws NoSuchElementException Thrown if there are no more pages.
+     * @throws Exception Thrown if selecting or mapping the next page failed.
+     */
+    public ArrayList<T> next() throws Exception {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("There are no more pages in " + tableSchema.getName() + "!");
+        }
+
+        // Take Page
+        DatabaseResult current = page;
+        page = null;
+
+        // Move Cursor To The Last Key
+        cursor = Database.getLastValue(current, primaryKey);
+
+        // A Short Page Is The Last Page
+        if (current.getRowCount() < pageSize) {
+            isExhausted = true;
+        } else if (prefetcher != null) {
+            this.prefetch();
+        }
+
+        return current.toObjects(tableSchema, clazz);
+    }
+
+    /**
+     * Stops the prefetching thread, if there is one. The paginator cannot be used after closing.
+     */
+    @Override
+    public void close() {
+        isExhausted = true;
+        page = null;
+        if (prefetcher != null) {
+            prefetcher.shutdownNow();
+            prefetcher = null;
+        }
+    }
+
+    /**
+     * Submits the page after the current cursor to the prefetching thread.
+     */
+    private void prefetch() {
+        final Object after = cursor;
+        prefetched = prefetcher.submit(Deadline.propagate(() -> database.selectPage(tableSchema, primaryKey, after, null, pageSize)));
+    }
+
+    /**
+     * Takes the prefetched page if there is one, otherwise selects the page after the current cursor.
+     *
+     * @return The next page.
+     * @throws Exception Thrown if selecting the page failed.
+     */
+    private DatabaseResult fetch() throws Exception {
+        if (prefetched == null) {
+            return database.selectPage(tableSchema, primaryKey, cursor, null, pageSize);
+        }
+
+        try {
+            return prefetched.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } finally {
+            prefetched = null;
+        }
+    }
+
+    /**
+     * Returns the maximum amount of rows in each page.
+     * @return The maximum amount of rows in each page.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the primary key of the last row returned, or null if no page has been returned yet.
+     * @return The primary key of the last row returned.
+     */
+    public Object getCursor() {
+        return cursor;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.visualfiredev.javabase;
 
+import com.visualfiredev.javabase.jfr.DatabaseEvents;
 import com.visualfiredev.javabase.schema.TableSchema;
 
 import java.lang.reflect.Constructor;
@@ -8,6 +9,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Represents the result of an operation that returns data in a database.
@@ -65,6 +67,21 @@ public class DatabaseResult {
      * @throws Exception Generically thrown if something goes wrong.
      */
     public <T> ArrayList<T> toObjects(TableSchema tableSchema, Class<T> clazz) throws Exception {
+        return this.toObjects(tableSchema, clazz, false);
+    }
+
+    /**
+     * Maps every row to a new instance of the specified class. See {@link DatabaseResult#toObjects(TableSchema, Class)}.
+     *
+     * @param tableSchema The {@link TableSchema} that should be used to determine the columns from the object.
+     * @param clazz The class in which new instances should be created from for mapping.
+     * @param isNullWhenEmpty True if a row where every value is null maps to null instead of an instance, as happens
+     *                        for a table without a match in a "LEFT" join, otherwise false.
+     * @param <T> The class that the object is an instance of.
+     * @return An ArrayList of new instances of the specified object.
+     * @throws Exception Generically thrown if something goes wrong.
+     */
+    <T> ArrayList<T> toObjects(TableSchema tableSchema, Class<T> clazz, boolean isNullWhenEmpty) throws Exception {
         // Fetch Constructor
         Constructor<T> constructor;
         try {
@@ -75,10 +92,17 @@ public class DatabaseResult {
         }
 
         // Map Fields & Objects
+        Object event = Database.FLIGHT_RECORDER ? DatabaseEvents.beginMap() : null;
         ArrayList<T> objects = new ArrayList<>();
         for (int i = 1; i <= this.getRowCount(); i++) {
             DatabaseValue[] row = this.getValuesForRow(i);
 
+            // No Match
+            if (isNullWhenEmpty && DatabaseResult.isEmpty(row)) {
+                objects.add(null);
+                continue;
+            }
+
             // Create Instance
             T instance;
             try {
@@ -91,10 +115,28 @@ public class DatabaseResult {
             T object = DatabaseValue.toObject(tableSchema, row, instance);
             objects.add(object);
         }
+        if (event != null) {
+            DatabaseEvents.endMap(event, tableSchema.getName(), clazz, objects.size());
+        }
 
         return objects;
     }
 
+    /**
+     * Checks whether or not every value of a row is null.
+     *
+     * @param row The values of the row.
+     * @return True if every value is null, otherwise false.
+     */
+    private static boolean isEmpty(DatabaseValue[] row) {
+        for (DatabaseValue value : row) {
+            if (value.getData() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Filters the values and fetches all values for the specified column name.
      * @param columnName The column to fetch values for.
@@ -138,6 +180,16 @@ public class DatabaseResult {
         return values.parallelStream().toArray(DatabaseValue[]::new);
     }
 
+    /**
+     * Returns all values in the same order as {@link DatabaseResult#getValues()}, without copying them.
+     * The returned list must not be modified.
+     *
+     * @return The list backing this result.
+     */
+    List<DatabaseValue> values() {
+        return values;
+    }
+
     /**
      * Returns the column count for this DatabaseResult.
      * @return The column count for this DatabaseResult.
@@ -9,26 +9,28 @@ public enum DatabaseType {
      * Adds support for MySQL and the corresponding driver. Requires the MySQL connector.<br>
      * The recommended connector is <a href="https://github.com/mysql/mysql-connector-j" target="_blank">MySQL Connector J</a>.
      */
-    MySQL("com.mysql.cj.jdbc.Driver"),
+    MySQL("com.mysql.cj.jdbc.Driver", 65535),
 
     /**
      * Adds support for MariaDB and the corresponding driver. Requires the MariaDB connector.<br>
      * The recommended connector is <a href="https://github.com/mariadb-corporation/mariadb-connector-j" target="_blank">MariaDB Connector J</a>.
      */
-    MariaDB("org.mariadb.jdbc.Driver"),
+    MariaDB("org.mariadb.jdbc.Driver", 65535),
 
     /**
      * Adds support for SQLite and the corresponding driver. Requires the SQLite connector.<br>
      * The recommended connector is <a href="https://github.com/xerial/sqlite-jdbc" target="_blank">SQlite JDBC</a>.
      */
-    SQLite("org.sqlite.JDBC");
+    SQLite("org.sqlite.JDBC", 999);
 
     // Instance Variables
     private String driver;
+    private int maxParameters;
 
     // Constructor
-    DatabaseType(String driver) {
+    DatabaseType(String driver, int maxParameters) {
         this.driver = driver;
+        this.maxParameters = maxParameters;
     }
 
     // Getters
@@ -41,4 +43,13 @@ public enum DatabaseType {
         return driver;
     }
 
+    /**
+     * Returns the maximum amount of '?' parameters this database allows in a single statement. For SQLite,
+     * this is the default limit of versions before 3.32.0, which is the lowest any connector may be compiled with.
+     * @return The maximum amount of parameters in a single statement.
+     */
+    public int getMaxParameters() {
+        return maxParameters;
+    }
+
 }
@@ -37,7 +37,8 @@ public class DatabaseValue {
      *     alignment between the TableSchema and the T object.
      *
      *     If a field in the class has the name `id` in any case and the corresponding ColumnSchema states that it
-     *     is auto-increment, it will not be included in the final array of DatabaseValue's.
+     *     is auto-increment, it will not be included in the final array of DatabaseValue's, unless the ColumnSchema
+     *     also has an {@link IdGenerator}.
      *
      *     **This is a case-insensitive operation, so column `EXAMPLE` will be mapped to a field named `example`.**
      * </p>
@@ -56,7 +57,7 @@ public class DatabaseValue {
         ArrayList<DatabaseValue> values = new ArrayList<>();
         for (Field field : fields) {
             ColumnSchema column = tableSchema.getColumnIgnoreCase(field.getName());
-            if (column != null && !(column.isPrimaryKey() && column.isAutoIncrement())) {
+            if (column != null && !(column.isPrimaryKey() && column.isAutoIncrement() && column.getIdGenerator() == null)) {
                 try {
                     values.add(new DatabaseValue(column.getName(), field.get(instance)));
                 } catch (ReflectiveOperationException e) {
@@ -0,0 +1,196 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how long the statements run within a scope may take, and allows them to be cancelled from another thread.
+ *
+ * <p>
+ *     A deadline applies to every statement run by the current thread within {@link Deadline#call(Callable)}, no
+ *     matter which method of {@link Database} runs it. Each statement is given the time remaining until the deadline,
+ *     and statements are not started at all once the deadline has passed or it has been cancelled. The deadline is
+ *     carried over to the threads used by {@link DatabasePaginator} and {@link Database#parallelScan(com.visualfiredev.javabase.schema.TableSchema, Class, int, java.util.function.Consumer)}.
+ *     <br><br>
+ *     Calling {@link Deadline#cancel()} cancels the statements currently running within the scope using
+ *     {@link Statement#cancel()}. When a statement times out or is cancelled, a {@link SQLTimeoutException} is thrown,
+ *     which may be wrapped as the cause of the exception thrown by the {@link Database} method.
+ *     <br><br>
+ *     Scopes can be nested, in which case the innermost deadline applies.
+ * </p>
+ */
+public class Deadline {
+
+    // The Deadline Of The Current Scope
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    // Constructor Arguments
+    private long expiresAt;
+
+    // Cancellation
+    private volatile boolean isCancelled = false;
+    private Set<Statement> running = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new Deadline.
+     * @param expiresAt The {@link System#nanoTime()} at which the deadline passes, or {@link Long#MAX_VALUE} for never.
+     */
+    private Deadline(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Creates a deadline that passes after the specified amount of time, starting now.
+     *
+     * @param timeout The amount of time statements may take.
+     * @param unit The unit of the timeout.
+     * @return The Deadline.
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * Creates a deadline that never passes, which is only used to cancel statements.
+     * @return The Deadline.
+     */
+    public static Deadline never() {
+        return new Deadline(Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the deadline of the scope the current thread is running in.
+     * @return The current deadline, or null if there is not one.
+     */
+    @Nullable
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the action with this deadline applying to every statement it runs on the current thread.
+     *
+     * @param action The action to run.
+     * @param <T> The type of value returned by the action.
+     * @return The value returned by the action.
+     * @throws Exception Thrown if the action throws an exception.
+     */
+    public <T> T call(Callable<T> action) throws Exception {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.call();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Wraps an action so that it runs with the deadline of the current thread, for running on another thread.
+     *
+     * @param action The action to wrap.
+     * @param <T> The type of value returned by the action.
+     * @return The wrapped action, or the action itself if the current thread does not have a deadline.
+     */
+    static <T> Callable<T> propagate(Callable<T> action) {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? action : () -> deadline.call(action);
+    }
+
+    /**
+     * Returns the amount of milliseconds until this deadline passes.
+     * @return The amount of milliseconds until this deadline passes, which is negative once it has passed, or {@link Long#MAX_VALUE} if it never passes.
+     */
+    public long getRemainingMillis() {
+        if (expiresAt == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(expiresAt - System.nanoTime());
+    }
+
+    /**
+     * Returns whether or not this deadline has passed.
+     * @return Whether or not this deadline has passed.
+     */
+    public boolean isExpired() {
+        return expiresAt != Long.MAX_VALUE && expiresAt - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Returns whether or not this deadline has been cancelled.
+     * @return Whether or not this deadline has been cancelled.
+     */
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Cancels every statement currently running within this deadline and prevents any more from starting.
+     * Can be called from any thread.
+     */
+    public void cancel() {
+        isCancelled = true;
+        for (Statement statement : running) {
+            try {
+                statement.cancel();
+            } catch (SQLException ignored) {
+                // The statement has already finished or its connection is closed
+            }
+        }
+    }
+
+    /**
+     * Registers a statement that is about to run, so that it can be cancelled.
+     *
+     * @param statement The statement.
+     * @param sql The SQL of the statement.
+     * @throws SQLTimeoutException Thrown if this deadline has already passed or been cancelled.
+     */
+    void register(Statement statement, String sql) throws SQLTimeoutException {
+        running.add(statement);
+        if (isCancelled || this.isExpired()) {
+            running.remove(statement);
+            throw this.toException(sql, null);
+        }
+    }
+
+    /**
+     * Unregisters a statement once it has finished running.
+     * @param statement The statement.
+     */
+    void unregister(Statement statement) {
+        running.remove(statement);
+    }
+
+    /**
+     * Creates the exception thrown when a statement is stopped by this deadline.
+     *
+     * @param sql The SQL of the statement.
+     * @param cause The exception thrown by the statement, if any.
+     * @return The exception.
+     */
+    SQLTimeoutException toException(String sql, @Nullable SQLException cause) {
+        String reason = isCancelled ? "The statement was cancelled! SQL Statement: " : "The deadline of the statement has passed! SQL Statement: ";
+        return new SQLTimeoutException(reason + sql, cause);
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{" +
+                "remainingMillis=" + this.getRemainingMillis() +
+                ", isCancelled=" + isCancelled +
+                '}';
+    }
+
+}
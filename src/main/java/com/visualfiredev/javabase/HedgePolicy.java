@@ -0,0 +1,225 @@
+package com.visualfiredev.javabase;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Defines when a {@link ReplicatedDatabase} hedges a read, set using {@link ReplicatedDatabase#setHedgePolicy(HedgePolicy)}.
+ *
+ * <p>
+ *     A hedged read is first sent to one replica. If that replica has not answered within the delay, the same read
+ *     is also sent to a second replica, and whichever answers first wins while the other is cancelled using
+ *     {@link java.sql.Statement#cancel()}. This keeps a single slow replica from slowing down the slowest reads.
+ *     <br><br>
+ *     The delay is a percentile of how long recent reads took, so by default only the slowest 5% of reads are
+ *     hedged, costing roughly 5% more reads. Until enough reads have been timed, the maximum delay is used.
+ *     <br><br>
+ *     A policy can be shared between databases, in which case its latencies and counters include the reads of
+ *     every database.
+ * </p>
+ */
+public class HedgePolicy {
+
+    // The amount of reads the delay is calculated from
+    private static final int WINDOW_SIZE = 512;
+
+    // The amount of reads timed between recalculating the delay
+    private static final int RECALCULATE_EVERY = 32;
+
+    // Policy Options
+    private double percentile = 0.95;
+    private long minDelay = 1;
+    private long maxDelay = 1000;
+    private int minSamples = 50;
+
+    // Recent Latencies (Nanoseconds)
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int position = 0;
+    private int samples = 0;
+    private int sinceRecalculated = 0;
+    private long delay = -1;
+
+    // Counters
+    private AtomicLong hedges = new AtomicLong();
+    private AtomicLong hedgeWins = new AtomicLong();
+    private AtomicLong cancelled = new AtomicLong();
+
+    /**
+     * Returns the percentile, from 0 to 1, of recent read latencies used as the delay.
+     * @return The percentile used as the delay.
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Returns the amount of milliseconds a read waits at least before it is hedged.
+     * @return The amount of milliseconds a read waits at least before it is hedged.
+     */
+    public long getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * Returns the amount of milliseconds a read waits at most before it is hedged.
+     * @return The amount of milliseconds a read waits at most before it is hedged.
+     */
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Returns the amount of reads which must have been timed before the percentile is used.
+     * @return The amount of reads which must have been timed before the percentile is used.
+     */
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * Sets the percentile, from 0 to 1, of recent read latencies used as the delay. Defaults to 0.95.
+     *
+     * @param percentile The percentile used as the delay.
+     * @return The HedgePolicy.
+     * @throws IllegalArgumentException Thrown if the percentile is not between 0 and 1.
+     */
+    public synchronized HedgePolicy setPercentile(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 1!");
+        }
+        this.percentile = percentile;
+        this.delay = -1;
+        return this;
+    }
+
+    /**
+     * Sets the amount of milliseconds a read waits at least before it is hedged. Defaults to 1.
+     *
+     * @param minDelay The amount of milliseconds a read waits at least.
+     * @return The HedgePolicy.
+     */
+    public synchronized HedgePolicy setMinDelay(long minDelay) {
+        this.minDelay = minDelay;
+        this.delay = -1;
+        return this;
+    }
+
+    /**
+     * Sets the amount of milliseconds a read waits at most before it is hedged, which is also the delay until enough
+     * reads have been timed. Defaults to 1000.
+     *
+     * @param maxDelay The amount of milliseconds a read waits at most.
+     * @return The HedgePolicy.
+     */
+    public synchronized HedgePolicy setMaxDelay(long maxDelay) {
+        this.maxDelay = maxDelay;
+        this.delay = -1;
+        return this;
+    }
+
+    /**
+     * Sets the amount of reads which must have been timed before the percentile is used. Defaults to 50.
+     *
+     * @param minSamples The amount of reads which must have been timed.
+     * @return The HedgePolicy.
+     */
+    public synchronized HedgePolicy setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+        this.delay = -1;
+        return this;
+    }
+
+    /**
+     * Returns how long a read waits before it is hedged, being the percentile of recent read latencies within the
+     * minimum and maximum delay.
+     *
+     * @return How long a read waits before it is hedged, in nanoseconds.
+     */
+    synchronized long getDelayNanos() {
+        if (delay == -1) {
+            long calculated = TimeUnit.MILLISECONDS.toNanos(maxDelay);
+            if (samples >= minSamples && samples > 0) {
+                long[] sorted = Arrays.copyOf(latencies, samples);
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(percentile * samples) - 1;
+                calculated = sorted[Math.max(0, Math.min(samples - 1, index))];
+            }
+            delay = Math.max(TimeUnit.MILLISECONDS.toNanos(minDelay), Math.min(calculated, TimeUnit.MILLISECONDS.toNanos(maxDelay)));
+        }
+        return delay;
+    }
+
+    /**
+     * Records how long a read took to answer.
+     * @param nanos How long the read took, in nanoseconds.
+     */
+    synchronized void recordLatency(long nanos) {
+        latencies[position] = nanos;
+        position = (position + 1) % WINDOW_SIZE;
+        if (samples < WINDOW_SIZE) {
+            samples++;
+        }
+        if (++sinceRecalculated >= RECALCULATE_EVERY || samples == minSamples) {
+            sinceRecalculated = 0;
+            delay = -1;
+        }
+    }
+
+    /**
+     * Records a read being sent to a second replica.
+     */
+    void recordHedge() {
+        hedges.incrementAndGet();
+    }
+
+    /**
+     * Records a second replica answering before the first.
+     */
+    void recordHedgeWin() {
+        hedgeWins.incrementAndGet();
+    }
+
+    /**
+     * Records a read being cancelled because the other replica answered first.
+     */
+    void recordCancelled() {
+        cancelled.incrementAndGet();
+    }
+
+    /**
+     * Returns the amount of reads sent to a second replica.
+     * @return The amount of reads sent to a second replica.
+     */
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * Returns the amount of hedged reads where the second replica answered first.
+     * @return The amount of hedged reads where the second replica answered first.
+     */
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    /**
+     * Returns the amount of reads cancelled because the other replica answered first.
+     * @return The amount of reads cancelled.
+     */
+    public long getCancelled() {
+        return cancelled.get();
+    }
+
+    @Override
+    public String toString() {
+        return "HedgePolicy{" +
+                "percentile=" + percentile +
+                ", delayMillis=" + TimeUnit.NANOSECONDS.toMillis(this.getDelayNanos()) +
+                ", hedges=" + hedges +
+                ", hedgeWins=" + hedgeWins +
+                ", cancelled=" + cancelled +
+                '}';
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.visualfiredev.javabase;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Generates keys from blocks reserved in a sequence table, so that the database is only contacted once per block.
+ *
+ * <p>
+ *     The sequence table is created automatically and contains one row for every sequence name, holding the next
+ *     value that has not been reserved yet. Reserving a block increases that value by the block size in a single
+ *     transaction, so every process sharing the sequence receives different blocks. Keys left over in a block when
+ *     the process stops are never used, leaving gaps in the keys.
+ *     <br><br>
+ *     Blocks should be reserved outside of a transaction. If the connection is already inside one, the reservation
+ *     becomes a part of it and is not committed, so rolling that transaction back can reuse keys that were generated.
+ * </p>
+ */
+public class HiLoIdGenerator implements IdGenerator {
+
+    // Default Sequence Table
+    public static final String DEFAULT_TABLE_NAME = "javabase_sequences";
+
+    // Constructor Arguments
+    private String sequenceName;
+    private int blockSize;
+
+    // Generator Options
+    private String tableName = DEFAULT_TABLE_NAME;
+    private long initialValue = 1;
+
+    // Current Block
+    private long next = 0;
+    private long limit = 0;
+    private boolean isTableCreated = false;
+
+    /**
+     * Creates a new HiLoIdGenerator for the specified sequence. Other arguments can be set after construction.
+     *
+     * @param sequenceName The name of the sequence, usually the name of the table. Up to 64 characters.
+     * @param blockSize The amount of keys reserved at once.
+     * @throws IllegalArgumentException Thrown if the block size is not greater than zero.
+     */
+    public HiLoIdGenerator(String sequenceName, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("The block size must be greater than zero!");
+        }
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public synchronized long nextId(Database database) throws NotConnectedException, SQLException {
+        if (next >= limit) {
+            next = this.reserveBlock(database);
+            limit = next + blockSize;
+        }
+        return next++;
+    }
+
+    /**
+     * Reserves the next block of keys from the sequence table, creating the table and the sequence if they do not exist.
+     *
+     * @param database The database containing the sequence table.
+     * @return The first key of the reserved block.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if running the generated SQL statements failed.
+     */
+    private long reserveBlock(Database database) throws NotConnectedException, SQLException {
+        // Ensure Connected
+        if (!database.isConnected()) {
+            throw new NotConnectedException();
+        }
+        Connection connection = database.getConnection();
+        boolean isSQLite = database.getType() == DatabaseType.SQLite;
+
+        // Create Table
+        String sql = "CREATE TABLE IF NOT EXISTS " + tableName + " (Name VARCHAR(64) PRIMARY KEY, NextValue " + (isSQLite ? "INTEGER" : "BIGINT") + " NOT NULL)";
+        if (!isTableCreated) {
+            try {
+                database.executeUpdate(sql);
+            } catch (SQLException e) {
+                throw new SQLException("Invalid sequence table or possible library error! SQL Statement Created: " + sql, e);
+            }
+            isTableCreated = true;
+        }
+
+        // Reserve In One Transaction
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            // Create Sequence
+            sql = (isSQLite ? "INSERT OR IGNORE INTO " : "INSERT IGNORE INTO ") + tableName + " (Name, NextValue) VALUES (?, ?)";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, sequenceName);
+                statement.setLong(2, initialValue);
+                database.executeUpdate(statement, sql);
+            }
+
+            // Reserve Block (Locks the row until the transaction ends)
+            sql = "UPDATE " + tableName + " SET NextValue = NextValue + ? WHERE Name = ?";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, blockSize);
+                statement.setString(2, sequenceName);
+                database.executeUpdate(statement, sql);
+            }
+
+            // Read Block
+            sql = "SELECT NextValue FROM " + tableName + " WHERE Name = ?";
+            Long nextValue;
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, sequenceName);
+                nextValue = database.executeQuery(statement, sql, set -> set.next() ? set.getLong(1) : null);
+            }
+            if (nextValue == null) {
+                throw new SQLException("The sequence " + sequenceName + " could not be found!");
+            }
+            long start = nextValue - blockSize;
+
+            if (autoCommit) {
+                connection.commit();
+            }
+            return start;
+        } catch (SQLException e) {
+            if (autoCommit) {
+                connection.rollback();
+            }
+            throw new SQLException("Invalid sequence table or possible library error! SQL Statement Created: " + sql, e);
+        } finally {
+            if (autoCommit) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the sequence.
+     * @return The name of the sequence.
+     */
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    /**
+     * Returns the amount of keys reserved at once.
+     * @return The amount of keys reserved at once.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Returns the name of the sequence table.
+     * @return The name of the sequence table.
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Returns the first key of the sequence when it is created.
+     * @return The first key of the sequence.
+     */
+    public long getInitialValue() {
+        return initialValue;
+    }
+
+    /**
+     * Sets the name of the sequence table. Defaults to {@link HiLoIdGenerator#DEFAULT_TABLE_NAME}.
+     *
+     * @param tableName The name of the sequence table.
+     * @return The HiLoIdGenerator.
+     */
+    public synchronized HiLoIdGenerator setTableName(String tableName) {
+        this.tableName = tableName;
+        this.isTableCreated = false;
+        return this;
+    }
+
+    /**
+     * Sets the first key of the sequence when it is created, which is useful when the table already contains rows.
+     * Has no effect once the sequence exists. Defaults to 1.
+     *
+     * @param initialValue The first key of the sequence.
+     * @return The HiLoIdGenerator.
+     */
+    public synchronized HiLoIdGenerator setInitialValue(long initialValue) {
+        this.initialValue = initialValue;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "HiLoIdGenerator{" +
+                "sequenceName='" + sequenceName + '\'' +
+                ", blockSize=" + blockSize +
+                ", tableName='" + tableName + '\'' +
+                ", initialValue=" + initialValue +
+                '}';
+    }
+
+}
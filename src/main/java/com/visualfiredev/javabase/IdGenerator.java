@@ -0,0 +1,27 @@
+package com.visualfiredev.javabase;
+
+/**
+ * Generates primary keys on the client, before a row is inserted. Attached to a primary key using
+ * {@link com.visualfiredev.javabase.schema.ColumnSchema#setIdGenerator(IdGenerator)}.
+ *
+ * <p>
+ *     Since the key of an object is known before it is inserted, related objects can reference it right away and
+ *     every object can be inserted in a single batch, without waiting for the database to generate each key.
+ *     Implementations must be thread-safe and must never return the same key twice.
+ * </p>
+ *
+ * @see HiLoIdGenerator
+ * @see SnowflakeIdGenerator
+ */
+public interface IdGenerator {
+
+    /**
+     * Generates the next key.
+     *
+     * @param database The database the object is being inserted into.
+     * @return The next key, which is always greater than zero.
+     * @throws Exception Thrown if there is an error while generating the key.
+     */
+    long nextId(Database database) throws Exception;
+
+}
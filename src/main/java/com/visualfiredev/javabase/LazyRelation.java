@@ -0,0 +1,100 @@
+package com.visualfiredev.javabase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+
+/**
+ * Represents the children of a parent object which are not selected until they are first accessed. Created using
+ * {@link Database#lazyLoadRelated(java.util.Collection, com.visualfiredev.javabase.schema.TableSchema, com.visualfiredev.javabase.schema.ColumnSchema, Class, java.util.function.BiConsumer)}.
+ *
+ * <p>
+ *     Every relation created by the same call shares one batch, so accessing the children of any parent selects
+ *     the children of every parent at once. When stored on a {@link DatabaseObject}, the field must be transient.
+ * </p>
+ *
+ * @param <C> The type of the child objects.
+ */
+public class LazyRelation<C> {
+
+    // Constructor Arguments
+    private Loader<C> loader;
+    private Object key;
+
+    /**
+     * Creates a new LazyRelation.
+     *
+     * @param loader The batch shared between every relation created at the same time.
+     * @param key The normalized key of the parent.
+     */
+    LazyRelation(Loader<C> loader, Object key) {
+        this.loader = loader;
+        this.key = key;
+    }
+
+    /**
+     * Returns the children of the parent, selecting the children of every parent in the batch if they have not
+     * been selected yet.
+     *
+     * @return An ArrayList of the children, which is empty if the parent has none.
+     * @throws Exception Thrown if there is an error while selecting or mapping the children.
+     */
+    public ArrayList<C> get() throws Exception {
+        ArrayList<C> children = loader.load().get(key);
+        return children != null ? children : new ArrayList<>();
+    }
+
+    /**
+     * Returns whether or not the batch this relation belongs to has already been selected.
+     * @return True if the children have already been selected, otherwise false.
+     */
+    public boolean isLoaded() {
+        return loader.isLoaded();
+    }
+
+    /**
+     * Selects the children of every parent in a batch the first time it is required.
+     *
+     * @param <C> The type of the child objects.
+     */
+    static class Loader<C> {
+
+        // Constructor Arguments
+        private Callable<HashMap<Object, ArrayList<C>>> select;
+
+        // Loaded Children
+        private volatile HashMap<Object, ArrayList<C>> related;
+
+        /**
+         * Creates a new Loader.
+         * @param select Selects the children of every parent, keyed by the normalized key of the parent.
+         */
+        Loader(Callable<HashMap<Object, ArrayList<C>>> select) {
+            this.select = select;
+        }
+
+        /**
+         * Returns the children of every parent, selecting them if they have not been selected yet.
+         *
+         * @return The children keyed by the normalized key of their parent.
+         * @throws Exception Thrown if there is an error while selecting or mapping the children.
+         */
+        synchronized HashMap<Object, ArrayList<C>> load() throws Exception {
+            if (related == null) {
+                related = select.call();
+                select = null;
+            }
+            return related;
+        }
+
+        /**
+         * Returns whether or not the children have already been selected.
+         * @return True if the children have already been selected, otherwise false.
+         */
+        boolean isLoaded() {
+            return related != null;
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stores ranges of keys on specific shards, such as every key from 0 up to one million on the first shard.
+ *
+ * <p>
+ *     Each range starts at its lower bound and continues up to the lower bound of the next range, so a key is stored
+ *     on the shard of the range with the highest lower bound not above the key. Unlike hashing, rows with nearby
+ *     keys stay on the same shard and ranges can be moved one at a time, but sequential keys all land on the last
+ *     shard.
+ * </p>
+ */
+public class RangeRouter implements ShardRouter {
+
+    // Ranges, By Lower Bound
+    private TreeMap<Object, Integer> ranges = new TreeMap<>(ShardedDatabase::compareValues);
+
+    /**
+     * Adds a range starting at the specified lower bound, stored on the specified shard.
+     *
+     * @param lowerBound The lowest key of the range, included in the range.
+     * @param shard The index of the shard the range is stored on.
+     * @return The RangeRouter.
+     */
+    public synchronized RangeRouter addRange(@NotNull Object lowerBound, int shard) {
+        ranges.put(Database.normalizeKey(lowerBound), shard);
+        return this;
+    }
+
+    @Override
+    public synchronized int getShard(@NotNull Object key) {
+        Map.Entry<Object, Integer> range = ranges.floorEntry(key);
+        if (range == null) {
+            throw new IllegalArgumentException("The key " + key + " is lower than every range!");
+        }
+        return range.getValue();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RangeRouter{" +
+                "ranges=" + ranges +
+                '}';
+    }
+
+}
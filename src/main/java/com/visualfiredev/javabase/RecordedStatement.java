@@ -0,0 +1,164 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a statement recorded by a {@link WorkloadRecorder}, as read back by a {@link WorkloadReader}.
+ */
+public class RecordedStatement {
+
+    // Statement
+    private final String sql;
+    private final List<Object> parameters;
+    private final boolean parametersKnown;
+
+    // Origin
+    private final long threadId;
+    private final String threadName;
+
+    // Outcome
+    private final long offsetNanos;
+    private final long durationNanos;
+    private final long rows;
+    private final boolean failed;
+
+    /**
+     * Creates a new RecordedStatement.
+     *
+     * @param sql The SQL of the statement.
+     * @param parameters The values bound to the statement, in order.
+     * @param parametersKnown True if the parameters were captured, otherwise false.
+     * @param threadId The id of the thread which ran the statement.
+     * @param threadName The name of the thread which ran the statement.
+     * @param offsetNanos When the statement started, in nanoseconds since recording started.
+     * @param durationNanos How long the statement took, in nanoseconds.
+     * @param rows The amount of rows returned or changed, or -1 if unknown.
+     * @param failed True if the statement failed, otherwise false.
+     */
+    RecordedStatement(String sql, List<Object> parameters, boolean parametersKnown, long threadId, String threadName, long offsetNanos, long durationNanos, long rows, boolean failed) {
+        this.sql = sql;
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.parametersKnown = parametersKnown;
+        this.threadId = threadId;
+        this.threadName = threadName;
+        this.offsetNanos = offsetNanos;
+        this.durationNanos = durationNanos;
+        this.rows = rows;
+        this.failed = failed;
+    }
+
+    /**
+     * Returns the SQL of the statement.
+     * @return The SQL of the statement.
+     */
+    @NotNull
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Returns the values bound to the statement, in order. Empty if the statement had no parameters or they were not
+     * captured.
+     * @return The values bound to the statement.
+     */
+    @NotNull
+    public List<Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns whether or not the parameters were captured. The parameters of batches are not captured, as a batch
+     * binds many rows to the same statement.
+     * @return True if the parameters were captured, otherwise false.
+     */
+    public boolean isParametersKnown() {
+        return parametersKnown;
+    }
+
+    /**
+     * Returns the id of the thread which ran the statement.
+     * @return The id of the thread which ran the statement.
+     */
+    public long getThreadId() {
+        return threadId;
+    }
+
+    /**
+     * Returns the name of the thread which ran the statement.
+     * @return The name of the thread which ran the statement.
+     */
+    @NotNull
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Returns when the statement started, relative to when recording started.
+     *
+     * @param unit The unit to return the offset in.
+     * @return When the statement started, relative to when recording started.
+     */
+    public long getOffset(TimeUnit unit) {
+        return unit.convert(offsetNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns when the statement started, in nanoseconds since recording started.
+     * @return When the statement started, in nanoseconds since recording started.
+     */
+    public long getOffsetNanos() {
+        return offsetNanos;
+    }
+
+    /**
+     * Returns how long the statement took.
+     *
+     * @param unit The unit to return the duration in.
+     * @return How long the statement took.
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns how long the statement took, in nanoseconds.
+     * @return How long the statement took, in nanoseconds.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Returns the amount of rows returned or changed, or -1 if unknown.
+     * @return The amount of rows returned or changed, or -1 if unknown.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns whether or not the statement failed.
+     * @return True if the statement failed, otherwise false.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordedStatement{" +
+                "sql='" + sql + '\'' +
+                ", parameters=" + (parametersKnown ? parameters : "unknown") +
+                ", thread='" + threadName + '\'' +
+                ", offsetNanos=" + offsetNanos +
+                ", durationNanos=" + durationNanos +
+                ", rows=" + rows +
+                ", failed=" + failed +
+                '}';
+    }
+
+}
@@ -0,0 +1,321 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.metrics.LatencyHistogram;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares how long the statements of a workload took when they were recorded and when they were replayed by a
+ * {@link WorkloadReplayer}, grouped by their SQL.
+ *
+ * <p>
+ *     Only statements which were replayed without failing are included in the latencies, so that both histograms
+ *     cover the same statements. Statements which failed or were skipped are only counted.
+ *     <br><br>
+ *     Every entry keeps two histograms, so only the first {@link ReplayReport#MAX_ENTRIES} distinct SQL strings get
+ *     an entry of their own. Any other statement, such as one which inlines its values into the SQL, is grouped with
+ *     the statements of the same kind on the same table, under SQL such as "INSERT INTO flavors ...".
+ * </p>
+ */
+public class ReplayReport {
+
+    // The amount of distinct SQL strings with an entry of their own
+    static final int MAX_ENTRIES = 128;
+
+    // Entries By SQL
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger ownEntries = new AtomicInteger();
+
+    // Totals
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final AtomicLong recordedElapsedNanos = new AtomicLong();
+    private volatile long replayedElapsedNanos = 0;
+
+    /**
+     * Records a statement which was replayed successfully.
+     *
+     * @param statement The recorded statement.
+     * @param durationNanos How long the statement took when replayed, in nanoseconds.
+     */
+    void recordReplayed(RecordedStatement statement, long durationNanos) {
+        Entry entry = this.getOrCreate(statement.getSql());
+        entry.recorded.record(statement.getDurationNanos());
+        entry.replayed.record(durationNanos);
+        replayed.increment();
+    }
+
+    /**
+     * Records a statement which failed when replayed.
+     * @param statement The recorded statement.
+     */
+    void recordError(RecordedStatement statement) {
+        this.getOrCreate(statement.getSql()).errors.increment();
+        errors.increment();
+    }
+
+    /**
+     * Records a statement which was not replayed.
+     * @param statement The recorded statement.
+     */
+    void recordSkipped(RecordedStatement statement) {
+        this.getOrCreate(statement.getSql()).skipped.increment();
+        skipped.increment();
+    }
+
+    /**
+     * Records how long the workload took when it was recorded, from the end of the specified statement.
+     * @param statement A recorded statement.
+     */
+    void recordEnd(RecordedStatement statement) {
+        long end = statement.getOffsetNanos() + statement.getDurationNanos();
+        long highest = recordedElapsedNanos.get();
+        while (end > highest && !recordedElapsedNanos.compareAndSet(highest, end)) {
+            highest = recordedElapsedNanos.get();
+        }
+    }
+
+    /**
+     * Sets how long replaying the workload took.
+     * @param nanos How long replaying the workload took, in nanoseconds.
+     */
+    void setReplayedElapsed(long nanos) {
+        this.replayedElapsedNanos = nanos;
+    }
+
+    /**
+     * Fetches the entry of the specified SQL, creating it if needed. Once there are too many entries, the entry
+     * grouping every statement of the same kind on the same table is used instead.
+     *
+     * @param sql The SQL of a statement.
+     * @return The entry of the SQL.
+     */
+    private Entry getOrCreate(String sql) {
+        Entry entry = entries.get(sql);
+        if (entry != null) {
+            return entry;
+        } else if (ownEntries.get() < MAX_ENTRIES) {
+            return entries.computeIfAbsent(sql, key -> {
+                ownEntries.incrementAndGet();
+                return new Entry(key);
+            });
+        }
+        return entries.computeIfAbsent(ReplayReport.group(sql), Entry::new);
+    }
+
+    /**
+     * Returns the entry of the specified SQL, or the entry grouping it with the statements of the same kind on the
+     * same table. Returns null if no statement with the SQL was recorded.
+     *
+     * @param sql The SQL of a statement.
+     * @return The entry of the SQL, or null.
+     */
+    @Nullable
+    public Entry getEntry(String sql) {
+        Entry entry = entries.get(sql);
+        return entry != null ? entry : entries.get(ReplayReport.group(sql));
+    }
+
+    /**
+     * Creates the SQL of the entry grouping every statement of the same kind on the same table.
+     *
+     * @param sql The SQL of a statement.
+     * @return The SQL of the group, such as "INSERT INTO flavors ...".
+     */
+    private static String group(String sql) {
+        StatementShape shape = StatementShape.of(sql);
+        switch (shape.getOperation()) {
+            case SELECT:
+            case DELETE:
+                return shape.getOperation() + " FROM " + shape.getTable() + " ...";
+            case INSERT:
+                return "INSERT INTO " + shape.getTable() + " ...";
+            case UPDATE:
+                return "UPDATE " + shape.getTable() + " ...";
+            default:
+                return shape.getTable().isEmpty() ? shape.getOperation() + " ..." : shape.getOperation() + " " + shape.getTable() + " ...";
+        }
+    }
+
+    /**
+     * Returns an ArrayList of every entry, ordered by how much time their statements took in total when replayed,
+     * starting with the most.
+     * @return An ArrayList of every entry.
+     */
+    public ArrayList<Entry> getEntries() {
+        ArrayList<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparingDouble((Entry entry) -> entry.replayed.getMean() * entry.replayed.getCount()).reversed());
+        return sorted;
+    }
+
+    /**
+     * Returns the amount of statements replayed without failing.
+     * @return The amount of statements replayed without failing.
+     */
+    public long getReplayed() {
+        return replayed.sum();
+    }
+
+    /**
+     * Returns the amount of statements which failed when replayed.
+     * @return The amount of statements which failed when replayed.
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the amount of statements which were not replayed.
+     * @return The amount of statements which were not replayed.
+     */
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * Returns how long the workload took when it was recorded, until the end of its last statement.
+     *
+     * @param unit The unit to return the duration in.
+     * @return How long the workload took when it was recorded.
+     */
+    public long getRecordedElapsed(TimeUnit unit) {
+        return unit.convert(recordedElapsedNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns how long replaying the workload took.
+     *
+     * @param unit The unit to return the duration in.
+     * @return How long replaying the workload took.
+     */
+    public long getReplayedElapsed(TimeUnit unit) {
+        return unit.convert(replayedElapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        string.append("Replayed ").append(this.getReplayed()).append(" statements (")
+                .append(this.getErrors()).append(" errors, ").append(this.getSkipped()).append(" skipped) in ")
+                .append(this.getReplayedElapsed(TimeUnit.MILLISECONDS)).append(" ms, recorded in ")
+                .append(this.getRecordedElapsed(TimeUnit.MILLISECONDS)).append(" ms");
+        string.append(System.lineSeparator()).append(String.format("%8s %6s %6s %12s %12s %8s %12s %12s %8s  %s",
+                "count", "errors", "skip", "rec p50 us", "rep p50 us", "p50", "rec p99 us", "rep p99 us", "p99", "sql"));
+        for (Entry entry : this.getEntries()) {
+            String sql = entry.sql.length() > 80 ? entry.sql.substring(0, 77) + "..." : entry.sql;
+            string.append(System.lineSeparator()).append(String.format("%8d %6d %6d %12d %12d %7.0f%% %12d %12d %7.0f%%  %s",
+                    entry.getCount(), entry.getErrors(), entry.getSkipped(),
+                    TimeUnit.NANOSECONDS.toMicros(entry.recorded.getPercentile(0.5)), TimeUnit.NANOSECONDS.toMicros(entry.replayed.getPercentile(0.5)), entry.getChange(0.5) * 100,
+                    TimeUnit.NANOSECONDS.toMicros(entry.recorded.getPercentile(0.99)), TimeUnit.NANOSECONDS.toMicros(entry.replayed.getPercentile(0.99)), entry.getChange(0.99) * 100,
+                    sql));
+        }
+        return string.toString();
+    }
+
+    /**
+     * Represents the statements of a {@link ReplayReport} with the same SQL.
+     */
+    public static class Entry {
+
+        // Constructor Arguments
+        private final String sql;
+
+        // Counters & Latencies
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LatencyHistogram recorded = new LatencyHistogram();
+        private final LatencyHistogram replayed = new LatencyHistogram();
+
+        /**
+         * Creates a new Entry.
+         * @param sql The SQL of the statements.
+         */
+        private Entry(String sql) {
+            this.sql = sql;
+        }
+
+        /**
+         * Returns the SQL of the statements.
+         * @return The SQL of the statements.
+         */
+        @NotNull
+        public String getSql() {
+            return sql;
+        }
+
+        /**
+         * Returns the amount of statements replayed without failing.
+         * @return The amount of statements replayed without failing.
+         */
+        public long getCount() {
+            return replayed.getCount();
+        }
+
+        /**
+         * Returns the amount of statements which failed when replayed.
+         * @return The amount of statements which failed when replayed.
+         */
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        /**
+         * Returns the amount of statements which were not replayed.
+         * @return The amount of statements which were not replayed.
+         */
+        public long getSkipped() {
+            return skipped.sum();
+        }
+
+        /**
+         * Returns the histogram of how long the statements took when they were recorded.
+         * @return The histogram of how long the statements took when they were recorded.
+         */
+        public LatencyHistogram getRecorded() {
+            return recorded;
+        }
+
+        /**
+         * Returns the histogram of how long the statements took when they were replayed.
+         * @return The histogram of how long the statements took when they were replayed.
+         */
+        public LatencyHistogram getReplayed() {
+            return replayed;
+        }
+
+        /**
+         * Returns the relative change in latency at the specified percentile, such as 0.25 if replaying took 25%
+         * longer and -0.5 if it took half as long.
+         *
+         * @param percentile The percentile, from 0 to 1.
+         * @return The relative change in latency, or 0 if nothing was replayed.
+         */
+        public double getChange(double percentile) {
+            long before = recorded.getPercentile(percentile);
+            long after = replayed.getPercentile(percentile);
+            return before == 0 ? 0 : (double) (after - before) / before;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" +
+                    "sql='" + sql + '\'' +
+                    ", errors=" + errors +
+                    ", skipped=" + skipped +
+                    ", recorded=" + recorded +
+                    ", replayed=" + replayed +
+                    '}';
+        }
+
+    }
+
+}
@@ -0,0 +1,787 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.metrics.MetricsListener;
+import com.visualfiredev.javabase.query.Aggregate;
+import com.visualfiredev.javabase.query.Condition;
+import com.visualfiredev.javabase.query.Query;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.JoinSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A database made of a primary server and any amount of read replicas, such as a replicated MySQL or MariaDB setup.
+ *
+ * <p>
+ *     Everything which changes the database, along with any raw statement that is not a plain "SELECT", runs on the
+ *     primary, which this object itself connects to. Selects, counts, aggregates, searches, paginators, parallel
+ *     scans, and read-only raw queries run on one of the replicas instead, picked according to the {@link Routing}.
+ *     <br><br>
+ *     Replicas lag behind the primary, so reads still go to the primary while the connection is in a transaction,
+ *     and for a short while after the same thread changed the database, so that a thread always reads its own
+ *     writes. If no replica is connected, reads fall back to the primary.
+ *     <br><br>
+ *     Every replica is an ordinary {@link Database}, connected with the same credentials as the primary. Options
+ *     such as the query timeout or a {@link CircuitBreaker} are set on each replica separately, see
+ *     {@link ReplicatedDatabase#getReplicas()}.
+ *     <br><br>
+ *     With a {@link HedgePolicy}, selects, counts, and aggregates which a replica is slow to answer are also sent to
+ *     a second replica, and the first answer wins. Each side of a hedged read runs on a connection of its own,
+ *     kept by the replica for hedged reads only.
+ * </p>
+ */
+public class ReplicatedDatabase extends Database {
+
+    /**
+     * Defines how a {@link ReplicatedDatabase} picks the replica that runs a read.
+     */
+    public enum Routing {
+
+        /**
+         * Every replica takes a turn.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * The replica which has recently been the fastest to answer. The average of a replica which has not been
+         * picked for a while counts for less and less, halving every {@link Replica#LATENCY_HALF_LIFE}, so that
+         * slower replicas are still tried now and then to find out whether they have become faster.
+         */
+        LEAST_LATENCY
+
+    }
+
+    // Runs both sides of hedged reads
+    private static final ExecutorService HEDGE_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Javabase-Hedge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Replicas
+    private ArrayList<Replica> replicas;
+    private AtomicInteger nextReplica = new AtomicInteger();
+
+    // Read Your Writes
+    private ThreadLocal<Long> lastWrite = new ThreadLocal<>();
+
+    // Options
+    private Routing routing = Routing.ROUND_ROBIN;
+    private long stickiness = TimeUnit.SECONDS.toNanos(1);
+    private HedgePolicy hedgePolicy = null;
+
+    /**
+     * Constructs a new replicated database.
+     *
+     * @param host The IP address of the primary server.
+     * @param database The name of the database, which is the same on every server.
+     * @param type The type of database being used.
+     * @param replicaHosts The IP addresses of the replica servers.
+     */
+    public ReplicatedDatabase(@NotNull String host, @NotNull String database, @NotNull DatabaseType type, @NotNull String... replicaHosts) {
+        super(host, database, type);
+        this.replicas = new ArrayList<>();
+        for (String replicaHost : replicaHosts) {
+            replicas.add(new Replica(replicaHost, database, type));
+        }
+    }
+
+    /**
+     * Connects to the primary and every replica with the specified username and password. A replica which fails to
+     * connect is skipped until the database connects again, see {@link Database#reconnect()}.
+     *
+     * @param username If a MySQL or MariaDB server, the username to login with. Ignored if the database type is SQLite.
+     * @param password If a MySQL or MariaDB server, the password to login with. Ignored if the database type is SQLite.
+     * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
+     * @throws ConnectionFailedException Thrown if the connection to the primary has failed.
+     * @throws IOException Thrown if the SQLite file fails to create.
+     * @throws SQLException Thrown if a generic SQL access error occurs.
+     * @return The ReplicatedDatabase.
+     */
+    @Override
+    public ReplicatedDatabase connect(@NotNull String username, @NotNull String password) throws MissingDriverException, ConnectionFailedException, SQLException, IOException {
+        return this.connect(username, () -> password);
+    }
+
+    /**
+     * Connects to the primary and every replica with the specified username, asking the supplier for the password
+     * whenever a connection is opened. See {@link Database#connect(String, Supplier)}.
+     *
+     * @param username If a MySQL or MariaDB server, the username to login with. Ignored if the database type is SQLite.
+     * @param password If a MySQL or MariaDB server, supplies the password to login with. Never asked if the database type is SQLite.
+     * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
+     * @throws ConnectionFailedException Thrown if the connection to the primary has failed.
+     * @throws IOException Thrown if the SQLite file fails to create.
+     * @throws SQLException Thrown if a generic SQL access error occurs.
+     * @return The ReplicatedDatabase.
+     */
+    @Override
+    public ReplicatedDatabase connect(@NotNull String username, @NotNull Supplier<String> password) throws MissingDriverException, ConnectionFailedException, SQLException, IOException {
+        super.connect(username, password);
+        for (Replica replica : replicas) {
+            try {
+                replica.connect(username, password);
+            } catch (ConnectionFailedException ignored) {
+                // Reads go to the other replicas
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Disconnects from the primary and every replica.
+     *
+     * @throws SQLException Thrown if closing any connection failed.
+     */
+    @Override
+    public void disconnect() throws SQLException {
+        SQLException failure = null;
+        for (Replica replica : replicas) {
+            try {
+                replica.disconnect();
+            } catch (SQLException e) {
+                failure = e;
+            }
+        }
+        super.disconnect();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Picks the database which should run a read, being the primary if the thread must read its own writes or no
+     * replica is connected.
+     *
+     * @return The replica which should run the read, or this database if the primary should run it.
+     */
+    Database route() {
+        // Primary In Transactions & Right After Writes
+        if (!this.isAutoCommit()) {
+            return this;
+        }
+        Long written = lastWrite.get();
+        if (written != null) {
+            if (System.nanoTime() - written < stickiness) {
+                return this;
+            }
+            lastWrite.remove();
+        }
+
+        // Pick A Connected Replica
+        ArrayList<Replica> connected = this.getConnectedReplicas();
+        if (connected.isEmpty()) {
+            return this;
+        } else if (routing == Routing.LEAST_LATENCY) {
+            long now = System.nanoTime();
+            Replica fastest = connected.get(0);
+            long fastestScore = fastest.getScore(now);
+            for (Replica replica : connected) {
+                long score = replica.getScore(now);
+                if (score < fastestScore) {
+                    fastest = replica;
+                    fastestScore = score;
+                }
+            }
+            fastest.markRouted(now);
+            return fastest;
+        }
+        return connected.get(Math.floorMod(nextReplica.getAndIncrement(), connected.size()));
+    }
+
+    /**
+     * Runs a read on the replica picked by {@link ReplicatedDatabase#route()}, hedging it on a second replica
+     * according to the {@link HedgePolicy}.
+     *
+     * @param read Runs the read on the specified database, which is this database if the primary should run it.
+     * @param <T> The type of value returned by the read.
+     * @return The value returned by whichever replica answered first.
+     * @throws NotConnectedException Thrown if there is no connection to the database.
+     * @throws SQLException Thrown if the read failed on every replica it was sent to.
+     */
+    private <T> T read(Read<T> read) throws NotConnectedException, SQLException {
+        Database first = this.route();
+        HedgePolicy policy = hedgePolicy;
+        if (policy == null || first == this) {
+            return read.read(first);
+        }
+
+        // Find A Second Replica
+        ArrayList<Replica> connected = this.getConnectedReplicas();
+        if (connected.size() < 2) {
+            long start = System.nanoTime();
+            T result = read.read(first);
+            policy.recordLatency(System.nanoTime() - start);
+            return result;
+        }
+        Replica firstReplica = (Replica) first;
+        Replica secondReplica = connected.get((connected.indexOf(firstReplica) + 1) % connected.size());
+
+        // Send To The First Replica
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(HEDGE_EXECUTOR);
+        Deadline parent = Deadline.current();
+        Deadline firstDeadline = ReplicatedDatabase.childDeadline(parent);
+        Deadline secondDeadline = ReplicatedDatabase.childDeadline(parent);
+        Future<T> firstFuture = completion.submit(() -> ReplicatedDatabase.timedRead(read, firstReplica, firstDeadline, policy));
+        Future<T> secondFuture = null;
+
+        try {
+            // Send To The Second Replica If The First Is Slow
+            Future<T> done = completion.poll(policy.getDelayNanos(), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                policy.recordHedge();
+                secondFuture = completion.submit(() -> ReplicatedDatabase.timedRead(read, secondReplica, secondDeadline, policy));
+                done = completion.take();
+            }
+
+            // First Answer Wins, Unless It Is A Failure And The Other Is Still Running
+            int pending = secondFuture == null ? 0 : 1;
+            ExecutionException failure = null;
+            while (true) {
+                try {
+                    T result = done.get();
+                    if (pending > 0) {
+                        (done == firstFuture ? secondDeadline : firstDeadline).cancel();
+                        policy.recordCancelled();
+                    }
+                    if (done == secondFuture) {
+                        policy.recordHedgeWin();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                    if (pending-- == 0) {
+                        break;
+                    }
+                    done = completion.take();
+                }
+            }
+
+            // Every Replica Failed
+            Throwable cause = failure.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            } else if (cause instanceof NotConnectedException) {
+                throw (NotConnectedException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SQLException("The read failed on every replica!", cause);
+        } catch (InterruptedException e) {
+            firstDeadline.cancel();
+            secondDeadline.cancel();
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a replica to answer!", e);
+        }
+    }
+
+    /**
+     * Creates a deadline for one side of a hedged read, which can be cancelled on its own but passes at the same
+     * time as the deadline of the caller.
+     *
+     * @param parent The deadline of the caller, if any.
+     * @return The Deadline.
+     */
+    private static Deadline childDeadline(@Nullable Deadline parent) {
+        if (parent == null || parent.getRemainingMillis() == Long.MAX_VALUE) {
+            return Deadline.never();
+        }
+        return Deadline.after(parent.getRemainingMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs one side of a hedged read within its own deadline, on a connection of its own to the replica, so that a
+     * side which is cancelled or still running never shares a connection with another read.
+     *
+     * <p>
+     *     How long the read took is recorded if it succeeded or was cancelled because the other side answered first,
+     *     so that the slow reads which lost still count towards the delay. Otherwise only the fast winners would be
+     *     recorded, and the delay would keep shrinking until every read is hedged.
+     * </p>
+     *
+     * @param read Runs the read.
+     * @param replica The replica to run the read on.
+     * @param deadline The deadline used to cancel the read.
+     * @param policy The policy to record the latency with.
+     * @param <T> The type of value returned by the read.
+     * @return The value returned by the read.
+     * @throws Exception Thrown if the read failed or was cancelled.
+     */
+    private static <T> T timedRead(Read<T> read, Replica replica, Deadline deadline, HedgePolicy policy) throws Exception {
+        Database connection = replica.borrowConnection();
+        long start = System.nanoTime();
+        boolean isSuccess = false;
+        try {
+            T result = deadline.call(() -> read.read(connection));
+            isSuccess = true;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (isSuccess || deadline.isCancelled()) {
+                policy.recordLatency(elapsed);
+                replica.recordLatency(elapsed);
+            }
+            replica.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Returns the replicas which are currently connected, in order.
+     * @return An ArrayList of the connected replicas.
+     */
+    ArrayList<Replica> getConnectedReplicas() {
+        ArrayList<Replica> connected = new ArrayList<>();
+        for (Replica replica : replicas) {
+            if (replica.getConnection() != null && replica.isConnected()) {
+                connected.add(replica);
+            }
+        }
+        return connected;
+    }
+
+    /**
+     * Checks whether or not the SQL only reads from the database, meaning it can run on a replica. Only plain
+     * "SELECT", "SHOW", and "EXPLAIN" statements count, and never a locking read such as "SELECT ... FOR UPDATE".
+     *
+     * @param sql The SQL to check.
+     * @return True if the SQL only reads from the database, otherwise false.
+     */
+    static boolean isReadOnly(String sql) {
+        String statement = sql.trim().toUpperCase(Locale.ROOT);
+        while (statement.startsWith("(")) {
+            statement = statement.substring(1).trim();
+        }
+        if (!statement.startsWith("SELECT") && !statement.startsWith("SHOW") && !statement.startsWith("EXPLAIN")) {
+            return false;
+        }
+        return !statement.contains("FOR UPDATE") && !statement.contains("FOR SHARE") && !statement.contains("LOCK IN SHARE MODE") && !statement.contains(" INTO ");
+    }
+
+    @Override
+    <T> T execute(Statement statement, String sql, @Nullable StatementShape shape, StatementCall<T> call) throws SQLException {
+        // Anything Run On The Primary Which Is Not A Read Counts As A Write
+        if (!ReplicatedDatabase.isReadOnly(sql)) {
+            lastWrite.set(System.nanoTime());
+        }
+        return super.execute(statement, sql, shape, call);
+    }
+
+    @Override
+    public DatabaseResult select(TableSchema tableSchema, int limit, String where, @Nullable String... args) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.select(tableSchema, limit, where, args) : database.select(tableSchema, limit, where, args));
+    }
+
+    @Override
+    public DatabaseResult selectAll(TableSchema tableSchema, int limit) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.selectAll(tableSchema, limit) : database.selectAll(tableSchema, limit));
+    }
+
+    @Override
+    public DatabaseJoinResult select(JoinSchema joinSchema, int limit, String where, @Nullable String... args) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.select(joinSchema, limit, where, args) : database.select(joinSchema, limit, where, args));
+    }
+
+    @Override
+    public DatabaseResult select(Query query) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.select(query) : database.select(query));
+    }
+
+    @Override
+    public long count(TableSchema tableSchema, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.count(tableSchema, where) : database.count(tableSchema, where));
+    }
+
+    @Override
+    public boolean exists(TableSchema tableSchema, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.exists(tableSchema, where) : database.exists(tableSchema, where));
+    }
+
+    @Override
+    public Object min(TableSchema tableSchema, ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.min(tableSchema, column, where) : database.min(tableSchema, column, where));
+    }
+
+    @Override
+    public Object max(TableSchema tableSchema, ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.max(tableSchema, column, where) : database.max(tableSchema, column, where));
+    }
+
+    @Override
+    public Number sum(TableSchema tableSchema, ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.sum(tableSchema, column, where) : database.sum(tableSchema, column, where));
+    }
+
+    @Override
+    public double avg(TableSchema tableSchema, ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.avg(tableSchema, column, where) : database.avg(tableSchema, column, where));
+    }
+
+    @Override
+    public LinkedHashMap<Object, Object> groupBy(TableSchema tableSchema, ColumnSchema groupBy, Aggregate aggregate, @Nullable ColumnSchema column, @Nullable Condition where) throws NotConnectedException, SQLException {
+        return this.read(database -> database == this ? super.groupBy(tableSchema, groupBy, aggregate, column, where) : database.groupBy(tableSchema, groupBy, aggregate, column, where));
+    }
+
+    @Override
+    public DatabaseResult search(TableSchema tableSchema, String query, int limit) throws NotConnectedException, SQLException, UnsupportedFeatureException {
+        Database database = this.route();
+        return database == this ? super.search(tableSchema, query, limit) : database.search(tableSchema, query, limit);
+    }
+
+    @Override
+    public <T extends DatabaseObject> DatabasePaginator<T> paginate(TableSchema tableSchema, int pageSize, Class<T> clazz, boolean prefetch) throws NotConnectedException, UnsupportedFeatureException {
+        Database database = this.route();
+        return database == this ? super.paginate(tableSchema, pageSize, clazz, prefetch) : database.paginate(tableSchema, pageSize, clazz, prefetch);
+    }
+
+    @Override
+    public <T extends DatabaseObject> void parallelScan(TableSchema tableSchema, Class<T> clazz, int partitions, int parallelism, Consumer<T> consumer) throws Exception {
+        Database database = this.route();
+        if (database == this) {
+            super.parallelScan(tableSchema, clazz, partitions, parallelism, consumer);
+        } else {
+            database.parallelScan(tableSchema, clazz, partitions, parallelism, consumer);
+        }
+    }
+
+    @Override
+    public <T extends DatabaseObject> ArrayList<T> parallelSelectAll(TableSchema tableSchema, Class<T> clazz, int partitions, int parallelism) throws Exception {
+        Database database = this.route();
+        return database == this ? super.parallelSelectAll(tableSchema, clazz, partitions, parallelism) : database.parallelSelectAll(tableSchema, clazz, partitions, parallelism);
+    }
+
+    @Override
+    public <T extends DatabaseObject> DatabaseIdResult<T> selectByIds(TableSchema tableSchema, Class<T> clazz, Collection<?> ids) throws Exception {
+        Database database = this.route();
+        return database == this ? super.selectByIds(tableSchema, clazz, ids) : database.selectByIds(tableSchema, clazz, ids);
+    }
+
+    @Override
+    public <P extends DatabaseObject, C extends DatabaseObject> HashMap<Object, ArrayList<C>> selectRelated(Collection<P> parents, TableSchema childSchema, ColumnSchema foreignKey, Class<C> clazz) throws Exception {
+        Database database = this.route();
+        return database == this ? super.selectRelated(parents, childSchema, foreignKey, clazz) : database.selectRelated(parents, childSchema, foreignKey, clazz);
+    }
+
+    /**
+     * Executes an SQL query directly on a connection, which is a replica if the query only reads from the database.
+     * See {@link Database#rawQuery(String)}.
+     *
+     * @param sql The SQL query to be executed.
+     * @return The Java ResultSet in response.
+     * @throws SQLException Thrown if something goes wrong.
+     */
+    @Override
+    public ResultSet rawQuery(String sql) throws SQLException {
+        Database database = ReplicatedDatabase.isReadOnly(sql) ? this.route() : this;
+        return database == this ? super.rawQuery(sql) : database.rawQuery(sql);
+    }
+
+    /**
+     * Returns the replicas, in the order they were specified. Each replica is a {@link Database} of its own,
+     * which can be used to set its options.
+     *
+     * @return An unmodifiable List of the replicas.
+     */
+    public List<Database> getReplicas() {
+        return Collections.unmodifiableList(replicas);
+    }
+
+    /**
+     * Sets how the replica that runs a read is picked. Defaults to {@link Routing#ROUND_ROBIN}.
+     *
+     * @param routing How the replica that runs a read is picked.
+     * @return The ReplicatedDatabase.
+     */
+    public ReplicatedDatabase setRouting(@NotNull Routing routing) {
+        this.routing = routing;
+        return this;
+    }
+
+    /**
+     * Returns how the replica that runs a read is picked.
+     * @return How the replica that runs a read is picked.
+     */
+    public Routing getRouting() {
+        return routing;
+    }
+
+    /**
+     * Sets how long the reads of a thread keep going to the primary after it changed the database, which should be
+     * longer than the replicas usually lag behind. Defaults to 1 second.
+     *
+     * @param stickiness How long reads keep going to the primary. Set to 0 to always read from a replica.
+     * @param unit The unit of the duration.
+     * @return The ReplicatedDatabase.
+     */
+    public ReplicatedDatabase setStickiness(long stickiness, TimeUnit unit) {
+        this.stickiness = unit.toNanos(stickiness);
+        return this;
+    }
+
+    /**
+     * Returns how long, in milliseconds, the reads of a thread keep going to the primary after it changed the database.
+     * @return How long reads keep going to the primary, in milliseconds.
+     */
+    public long getStickiness() {
+        return TimeUnit.NANOSECONDS.toMillis(stickiness);
+    }
+
+    /**
+     * Sets the {@link HedgePolicy} used to send slow reads to a second replica. Only applies while at least two
+     * replicas are connected. Defaults to null, meaning reads are never hedged.
+     *
+     * @param hedgePolicy The {@link HedgePolicy}, or null to never hedge reads.
+     * @return The ReplicatedDatabase.
+     */
+    public ReplicatedDatabase setHedgePolicy(@Nullable HedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+        return this;
+    }
+
+    /**
+     * Returns the {@link HedgePolicy} used to send slow reads to a second replica, or null if reads are never hedged.
+     * @return The {@link HedgePolicy}, or null if reads are never hedged.
+     */
+    @Nullable
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    /**
+     * Sets the {@link SlowQueryLog} which records slow statements run by the primary and every replica.
+     *
+     * @param slowQueryLog The {@link SlowQueryLog}, or null to log nothing.
+     * @return The ReplicatedDatabase.
+     */
+    @Override
+    public ReplicatedDatabase setSlowQueryLog(@Nullable SlowQueryLog slowQueryLog) {
+        super.setSlowQueryLog(slowQueryLog);
+        for (Replica replica : replicas) {
+            replica.setSlowQueryLog(slowQueryLog);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the {@link WorkloadRecorder} which records every statement run by the primary and every replica.
+     *
+     * @param workloadRecorder The {@link WorkloadRecorder}, or null to record nothing.
+     * @return The ReplicatedDatabase.
+     */
+    @Override
+    public ReplicatedDatabase setWorkloadRecorder(@Nullable WorkloadRecorder workloadRecorder) {
+        super.setWorkloadRecorder(workloadRecorder);
+        for (Replica replica : replicas) {
+            replica.setWorkloadRecorder(workloadRecorder);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a {@link MetricsListener} which is told about every statement run by the primary and every replica.
+     *
+     * @param listener The {@link MetricsListener} to add.
+     * @return The ReplicatedDatabase.
+     */
+    @Override
+    public synchronized ReplicatedDatabase addMetricsListener(@NotNull MetricsListener listener) {
+        super.addMetricsListener(listener);
+        for (Replica replica : replicas) {
+            replica.addMetricsListener(listener);
+        }
+        return this;
+    }
+
+    /**
+     * Removes a {@link MetricsListener} from the primary and every replica.
+     *
+     * @param listener The {@link MetricsListener} to remove.
+     * @return The ReplicatedDatabase.
+     */
+    @Override
+    public synchronized ReplicatedDatabase removeMetricsListener(@NotNull MetricsListener listener) {
+        super.removeMetricsListener(listener);
+        for (Replica replica : replicas) {
+            replica.removeMetricsListener(listener);
+        }
+        return this;
+    }
+
+    /**
+     * Runs a read on a database.
+     *
+     * @param <T> The type of value returned by the read.
+     */
+    @FunctionalInterface
+    private interface Read<T> {
+
+        /**
+         * Runs the read.
+         *
+         * @param database The database to run the read on, which is the primary if it is the ReplicatedDatabase itself.
+         * @return The value returned by the read.
+         * @throws NotConnectedException Thrown if there is no connection to the database.
+         * @throws SQLException Thrown if the read failed.
+         */
+        T read(Database database) throws NotConnectedException, SQLException;
+
+    }
+
+    /**
+     * A replica, which keeps track of how long its statements recently took.
+     */
+    static class Replica extends Database {
+
+        // How much each statement moves the average
+        private static final double LATENCY_WEIGHT = 0.2;
+
+        // How long a replica may go without being picked before its average counts for half as much
+        static final long LATENCY_HALF_LIFE = TimeUnit.SECONDS.toNanos(1);
+
+        // The amount of idle connections kept for hedged reads
+        private static final int MAX_IDLE_CONNECTIONS = 4;
+
+        // Exponentially weighted average of how long statements take, or 0 if none has run yet
+        private volatile long latency = 0;
+
+        // When a read was last routed to this replica, from System#nanoTime
+        private volatile long lastRouted = System.nanoTime();
+
+        // Idle connections used by hedged reads, each a fork of this replica
+        private final ConcurrentLinkedQueue<Database> idleConnections = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Constructs a new replica.
+         *
+         * @param host The IP address of the replica server.
+         * @param database The name of the database.
+         * @param type The type of database being used.
+         */
+        Replica(String host, String database, DatabaseType type) {
+            super(host, database, type);
+        }
+
+        @Override
+        <T> T execute(Statement statement, String sql, @Nullable StatementShape shape, StatementCall<T> call) throws SQLException {
+            long start = System.nanoTime();
+            try {
+                return super.execute(statement, sql, shape, call);
+            } finally {
+                this.recordLatency(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Takes an idle connection to this replica for a hedged read, or forks a new one if none is idle.
+         *
+         * @return A connection used by no other read.
+         * @throws NotConnectedException Thrown if this replica has never been connected.
+         * @throws MissingDriverException Thrown if the connector for the database type is not installed.
+         * @throws ConnectionFailedException Thrown if connecting to the replica failed.
+         * @throws SQLException Thrown if a generic SQL access error occurs.
+         * @throws IOException Thrown if the SQLite file fails to create.
+         */
+        Database borrowConnection() throws NotConnectedException, MissingDriverException, ConnectionFailedException, SQLException, IOException {
+            Database connection = idleConnections.poll();
+            return connection != null ? connection : this.fork();
+        }
+
+        /**
+         * Returns a connection taken by {@link Replica#borrowConnection()} once its read is done, disconnecting it if
+         * enough connections are already idle or this replica has been disconnected.
+         *
+         * @param connection The connection.
+         */
+        void releaseConnection(Database connection) {
+            if (idleConnections.size() < MAX_IDLE_CONNECTIONS && this.getConnection() != null) {
+                idleConnections.offer(connection);
+                return;
+            }
+            try {
+                connection.disconnect();
+            } catch (SQLException ignored) {
+                // Already broken
+            }
+        }
+
+        @Override
+        public void disconnect() throws SQLException {
+            Database connection;
+            while ((connection = idleConnections.poll()) != null) {
+                try {
+                    connection.disconnect();
+                } catch (SQLException ignored) {
+                    // Already broken
+                }
+            }
+            super.disconnect();
+        }
+
+        /**
+         * Adds how long a statement took to the average.
+         * @param nanos How long the statement took, in nanoseconds.
+         */
+        void recordLatency(long nanos) {
+            long average = latency;
+            latency = average == 0 ? Math.max(nanos, 1) : (long) (average + LATENCY_WEIGHT * (nanos - average));
+        }
+
+        /**
+         * Returns the average of how long statements recently took, in nanoseconds, or 0 if none has run yet.
+         * @return The average of how long statements recently took.
+         */
+        long getLatency() {
+            return latency;
+        }
+
+        /**
+         * Returns the average of how long statements recently took, halved for every {@link Replica#LATENCY_HALF_LIFE}
+         * since a read was last routed to this replica, which {@link Routing#LEAST_LATENCY} picks the lowest of.
+         *
+         * @param now The current time, from {@link System#nanoTime()}.
+         * @return The decayed average, in nanoseconds.
+         */
+        long getScore(long now) {
+            long idle = Math.max(now - lastRouted, 0);
+            return (long) (latency * Math.pow(0.5, (double) idle / LATENCY_HALF_LIFE));
+        }
+
+        /**
+         * Records that a read was routed to this replica, so that its average counts in full again and no other read
+         * is routed to it only because it was idle.
+         *
+         * @param now The current time, from {@link System#nanoTime()}.
+         */
+        void markRouted(long now) {
+            lastRouted = now;
+        }
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.visualfiredev.javabase;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the results of a statement before the statement is reused or closed.
+ *
+ * @param <T> The type of value read from the results.
+ */
+@FunctionalInterface
+interface ResultSetHandler<T> {
+
+    /**
+     * Reads the results of a statement.
+     *
+     * @param set The results, which are only valid until this method returns.
+     * @return The value read from the results.
+     * @throws SQLException Thrown if reading the results failed.
+     */
+    T handle(ResultSet set) throws SQLException;
+
+}
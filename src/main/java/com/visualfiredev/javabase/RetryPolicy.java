@@ -0,0 +1,291 @@
+package com.visualfiredev.javabase;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Defines how a {@link Database} recovers from transient failures, set using {@link Database#setRetryPolicy(RetryPolicy)}.
+ *
+ * <p>
+ *     Failures are classified by their SQLState and error code. Deadlocks (SQLState 40001, MySQL error 1213), lock
+ *     wait timeouts (MySQL error 1205), and locked SQLite databases (SQLITE_BUSY and SQLITE_LOCKED) are transient:
+ *     running the same statement again is likely to succeed. Lost connections (SQLState class 08) require connecting
+ *     again first. Statements that timed out are never retried.
+ *     <br><br>
+ *     Statements retried on their own are only retried when running them again is safe. Selects are retried on any
+ *     transient failure. Any other statement may not be idempotent, such as an insert, so it is only retried when the
+ *     failure means it had no effect: it was rolled back as the victim of a deadlock, or SQLite was too busy to run it.
+ *     <br><br>
+ *     Each retry waits a random amount of time between zero and an exponentially growing backoff, so that callers
+ *     that failed together do not retry together. Waiting never continues past the current {@link Deadline}.
+ *     <br><br>
+ *     A policy can be shared between databases, in which case its counters include the retries of every database.
+ * </p>
+ */
+public class RetryPolicy {
+
+    // MySQL & MariaDB Error Codes
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MYSQL_DEADLOCK = 1213;
+
+    // SQLite Result Codes (The lowest byte of any extended result code)
+    private static final int SQLITE_BUSY = 5;
+    private static final int SQLITE_LOCKED = 6;
+
+    // Policy Options
+    private int maxAttempts = 3;
+    private long initialBackoff = 50;
+    private long maxBackoff = 2000;
+
+    // Counters
+    private AtomicLong retries = new AtomicLong();
+    private AtomicLong reconnects = new AtomicLong();
+    private AtomicLong exhausted = new AtomicLong();
+
+    /**
+     * Returns the maximum amount of times an operation is attempted, including the first attempt.
+     * @return The maximum amount of times an operation is attempted.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the amount of milliseconds the first retry waits at most.
+     * @return The amount of milliseconds the first retry waits at most.
+     */
+    public long getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * Returns the amount of milliseconds any retry waits at most.
+     * @return The amount of milliseconds any retry waits at most.
+     */
+    public long getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Sets the maximum amount of times an operation is attempted, including the first attempt. Defaults to 3.
+     *
+     * @param maxAttempts The maximum amount of times an operation is attempted. Set to 1 to disable retries.
+     * @return The RetryPolicy.
+     * @throws IllegalArgumentException Thrown if the amount is less than 1.
+     */
+    public RetryPolicy setMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("An operation must be attempted at least once!");
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Sets the amount of milliseconds the first retry waits at most, which doubles for every retry after. Defaults to 50.
+     *
+     * @param initialBackoff The amount of milliseconds the first retry waits at most.
+     * @return The RetryPolicy.
+     * @throws IllegalArgumentException Thrown if the amount is negative.
+     */
+    public RetryPolicy setInitialBackoff(long initialBackoff) {
+        if (initialBackoff < 0) {
+            throw new IllegalArgumentException("The backoff cannot be negative!");
+        }
+        this.initialBackoff = initialBackoff;
+        return this;
+    }
+
+    /**
+     * Sets the amount of milliseconds any retry waits at most. Defaults to 2000.
+     *
+     * @param maxBackoff The amount of milliseconds any retry waits at most.
+     * @return The RetryPolicy.
+     * @throws IllegalArgumentException Thrown if the amount is negative.
+     */
+    public RetryPolicy setMaxBackoff(long maxBackoff) {
+        if (maxBackoff < 0) {
+            throw new IllegalArgumentException("The backoff cannot be negative!");
+        }
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+
+    /**
+     * Checks whether or not the failure was caused by a lost connection, searching every cause of the exception.
+     *
+     * @param exception The failure.
+     * @return True if the connection must be opened again before retrying, otherwise false.
+     */
+    public boolean isConnectionFailure(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NotConnectedException || cause instanceof ConnectionFailedException
+                    || cause instanceof SQLNonTransientConnectionException || cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String state = ((SQLException) cause).getSQLState();
+                if (state != null && state.startsWith("08")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether or not the failure is transient, meaning running the same statement again is likely to succeed,
+     * searching every cause of the exception.
+     *
+     * @param exception The failure.
+     * @param databaseType The {@link DatabaseType} the failure came from, as error codes differ between databases.
+     * @return True if the failure is transient, otherwise false.
+     */
+    public boolean isTransientFailure(Throwable exception, DatabaseType databaseType) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTimeoutException) {
+                return false;
+            }
+            if (!(cause instanceof SQLException)) {
+                continue;
+            }
+
+            SQLException sqlException = (SQLException) cause;
+            int code = sqlException.getErrorCode();
+            if ("40001".equals(sqlException.getSQLState())) {
+                return true;
+            } else if (databaseType == DatabaseType.SQLite) {
+                if ((code & 0xFF) == SQLITE_BUSY || (code & 0xFF) == SQLITE_LOCKED) {
+                    return true;
+                }
+            } else if (code == MYSQL_DEADLOCK || code == MYSQL_LOCK_WAIT_TIMEOUT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether or not a statement which failed may be run again on its own. Idempotent statements, such as
+     * selects, may be run again on any transient failure, see {@link RetryPolicy#isTransientFailure(Throwable, DatabaseType)}.
+     * Other statements may only be run again if the failure means they had no effect: they were rolled back as the
+     * victim of a deadlock, or SQLite was too busy to run them. A MySQL lock wait timeout is not enough, as the
+     * statement already waited as long as the server allows and may roll back more than the statement itself,
+     * depending on the configuration of the server.
+     *
+     * @param exception The failure.
+     * @param databaseType The {@link DatabaseType} the failure came from, as error codes differ between databases.
+     * @param isIdempotent Whether or not running the statement twice has the same effect as running it once.
+     * @return True if the statement may be run again, otherwise false.
+     */
+    public boolean isRetryable(Throwable exception, DatabaseType databaseType, boolean isIdempotent) {
+        if (!this.isTransientFailure(exception, databaseType)) {
+            return false;
+        } else if (isIdempotent) {
+            return true;
+        }
+
+        // Only Failures Which Left No Effect
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (!(cause instanceof SQLException)) {
+                continue;
+            }
+
+            SQLException sqlException = (SQLException) cause;
+            int code = sqlException.getErrorCode();
+            if ("40001".equals(sqlException.getSQLState())) {
+                return true;
+            } else if (databaseType == DatabaseType.SQLite) {
+                if ((code & 0xFF) == SQLITE_BUSY || (code & 0xFF) == SQLITE_LOCKED) {
+                    return true;
+                }
+            } else if (code == MYSQL_DEADLOCK) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits before the specified retry, for a random amount of time up to the exponential backoff of that retry.
+     *
+     * @param retry The retry about to be attempted, starting at 1.
+     * @return True if the wait finished, or false if the current {@link Deadline} would pass first and the retry should not be attempted.
+     * @throws InterruptedException Thrown if the thread is interrupted while waiting.
+     */
+    boolean backoff(int retry) throws InterruptedException {
+        // Double For Every Retry, Saturating At The Maximum Rather Than Overflowing
+        int doublings = Math.min(Math.max(retry - 1, 0), 62);
+        long backoff = initialBackoff > (maxBackoff >> doublings) ? maxBackoff : initialBackoff << doublings;
+        long wait = backoff > 0 ? ThreadLocalRandom.current().nextLong(backoff == Long.MAX_VALUE ? backoff : backoff + 1) : 0;
+
+        Deadline deadline = Deadline.current();
+        if (deadline != null && (deadline.isCancelled() || deadline.getRemainingMillis() <= wait)) {
+            return false;
+        }
+        Thread.sleep(wait);
+        return true;
+    }
+
+    /**
+     * Returns the amount of times any operation has been retried.
+     * @return The amount of retries.
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * Returns the amount of times a connection was opened again after it was lost.
+     * @return The amount of reconnects.
+     */
+    public long getReconnects() {
+        return reconnects.get();
+    }
+
+    /**
+     * Returns the amount of times an operation still failed after being retried as many times as allowed.
+     * @return The amount of operations that ran out of attempts.
+     */
+    public long getExhausted() {
+        return exhausted.get();
+    }
+
+    /**
+     * Counts a retry.
+     */
+    void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    /**
+     * Counts a reconnect.
+     */
+    void recordReconnect() {
+        reconnects.incrementAndGet();
+    }
+
+    /**
+     * Counts an operation that ran out of attempts.
+     */
+    void recordExhausted() {
+        exhausted.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", initialBackoff=" + initialBackoff +
+                ", maxBackoff=" + maxBackoff +
+                ", retries=" + retries +
+                ", reconnects=" + reconnects +
+                ", exhausted=" + exhausted +
+                '}';
+    }
+
+}
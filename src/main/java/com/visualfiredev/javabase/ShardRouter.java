@@ -0,0 +1,29 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Picks the shard a row is stored on by a {@link ShardedDatabase}, using the value of its shard key. Set the shard
+ * key of a table using {@link com.visualfiredev.javabase.schema.TableSchema#setShardKey(com.visualfiredev.javabase.schema.ColumnSchema)}.
+ *
+ * <p>
+ *     Keys of every integer type are passed as a {@link Long}, so that the same key is always stored on the same
+ *     shard no matter which type it was given as. Implementations must be thread-safe and must always pick the same
+ *     shard for the same key.
+ * </p>
+ *
+ * @see ConsistentHashRouter
+ * @see RangeRouter
+ */
+public interface ShardRouter {
+
+    /**
+     * Picks the shard of a key.
+     *
+     * @param key The value of the shard key, which is never null.
+     * @return The index of the shard, from 0 to one less than the amount of shards.
+     * @throws IllegalArgumentException Thrown if the key does not belong to any shard.
+     */
+    int getShard(@NotNull Object key);
+
+}
@@ -0,0 +1,666 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.query.Condition;
+import com.visualfiredev.javabase.query.Query;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Spreads the rows of tables across several databases, called shards, using the shard key of each table.
+ *
+ * <p>
+ *     The shard key is set using {@link TableSchema#setShardKey(ColumnSchema)} and the {@link ShardRouter} picks the
+ *     shard of each row from its value, so inserting, updating, or deleting an object only touches its own shard.
+ *     Queries whose condition limits the shard key to specific values, such as {@link Condition#eq(ColumnSchema, Object)}
+ *     or {@link Condition#in(ColumnSchema, Collection)}, only run on the shards of those values. Any other query is
+ *     scattered to every shard in parallel, and the results are gathered into one, keeping the ordering of the query.
+ *     The limit of the query is applied on every shard and once more to the gathered result, so no shard returns
+ *     more rows than needed.
+ *     <br><br>
+ *     Tables without a shard key are treated as being copied to every shard: they are created and changed on
+ *     every shard, while reads only use the first shard, as every shard holds the same rows.
+ *     <br><br>
+ *     Auto-increment keys are generated by each shard on its own and will collide between shards, so sharded tables
+ *     should generate their keys using an {@link IdGenerator} such as {@link SnowflakeIdGenerator} instead.
+ *     Ordered results are merged using the natural ordering of the values, which may differ from the collation of
+ *     the database for text.
+ * </p>
+ */
+public class ShardedDatabase {
+
+    // Runs the statements scattered to several shards
+    private static final ExecutorService SHARD_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Javabase-Shard");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Constructor Arguments
+    private ShardRouter router;
+    private ArrayList<Database> shards;
+
+    /**
+     * Creates a new ShardedDatabase.
+     *
+     * @param router The {@link ShardRouter} which picks the shard of each row.
+     * @param shards The databases the rows are spread across, in the order the router refers to them.
+     * @throws IllegalArgumentException Thrown if no shards are specified.
+     */
+    public ShardedDatabase(@NotNull ShardRouter router, @NotNull Database... shards) {
+        if (shards.length == 0) {
+            throw new IllegalArgumentException("There must be at least one shard!");
+        }
+        this.router = router;
+        this.shards = new ArrayList<>(Arrays.asList(shards));
+    }
+
+    /**
+     * Connects every shard with the specified username and password. See {@link Database#connect(String, String)}.
+     *
+     * @param username If a MySQL or MariaDB server, the username to login with. Ignored if the database type is SQLite.
+     * @param password If a MySQL or MariaDB server, the password to login with. Ignored if the database type is SQLite.
+     * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
+     * @throws ConnectionFailedException Thrown if the connection to any shard has failed.
+     * @throws IOException Thrown if an SQLite file fails to create.
+     * @throws SQLException Thrown if a generic SQL access error occurs.
+     * @return The ShardedDatabase.
+     */
+    public ShardedDatabase connect(@NotNull String username, @NotNull String password) throws MissingDriverException, ConnectionFailedException, SQLException, IOException {
+        return this.connect(username, () -> password);
+    }
+
+    /**
+     * Connects every shard with the specified username, asking the supplier for the password whenever a connection
+     * is opened. See {@link Database#connect(String, Supplier)}.
+     *
+     * @param username If a MySQL or MariaDB server, the username to login with. Ignored if the database type is SQLite.
+     * @param password If a MySQL or MariaDB server, supplies the password to login with. Never asked if the database type is SQLite.
+     * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
+     * @throws ConnectionFailedException Thrown if the connection to any shard has failed.
+     * @throws IOException Thrown if an SQLite file fails to create.
+     * @throws SQLException Thrown if a generic SQL access error occurs.
+     * @return The ShardedDatabase.
+     */
+    public ShardedDatabase connect(@NotNull String username, @NotNull Supplier<String> password) throws MissingDriverException, ConnectionFailedException, SQLException, IOException {
+        for (Database shard : shards) {
+            shard.connect(username, password);
+        }
+        return this;
+    }
+
+    /**
+     * Connects every shard with a blank username and password.
+     *
+     * @throws MissingDriverException Thrown if the connector for the specified database type is not installed.
+     * @throws ConnectionFailedException Thrown if the connection to any shard has failed.
+     * @throws IOException Thrown if an SQLite file fails to create.
+     * @throws SQLException Thrown if a generic SQL access error occurs.
+     * @return The ShardedDatabase.
+     */
+    public ShardedDatabase connect() throws MissingDriverException, ConnectionFailedException, SQLException, IOException {
+        return this.connect("", "");
+    }
+
+    /**
+     * Disconnects from every shard.
+     *
+     * @throws SQLException Thrown if closing any connection failed.
+     */
+    public void disconnect() throws SQLException {
+        SQLException failure = null;
+        for (Database shard : shards) {
+            try {
+                shard.disconnect();
+            } catch (SQLException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Creates the table on every shard. See {@link Database#createTable(TableSchema)}.
+     *
+     * @param tableSchema The TableSchema to create a table from.
+     * @throws Exception Thrown if creating the table failed on any shard.
+     */
+    public void createTable(TableSchema tableSchema) throws Exception {
+        this.scatter(this.getAllShards(), (shard, index) -> {
+            shard.createTable(tableSchema);
+            return null;
+        });
+    }
+
+    /**
+     * Drops the table on every shard. See {@link Database#dropTable(TableSchema)}.
+     *
+     * @param tableSchema The table to be dropped.
+     * @throws Exception Thrown if dropping the table failed on any shard.
+     */
+    public void dropTable(TableSchema tableSchema) throws Exception {
+        this.scatter(this.getAllShards(), (shard, index) -> {
+            shard.dropTable(tableSchema);
+            return null;
+        });
+    }
+
+    /**
+     * Inserts the object into its shard, or into every shard if its table does not have a shard key.
+     * See {@link Database#insert(DatabaseObject)}.
+     *
+     * <p>
+     *     A table without a shard key is inserted into the first shard on its own, which writes the key back into the
+     *     object, and then copied to the other shards with the same key.
+     * </p>
+     *
+     * @param object The {@link DatabaseObject} that contains the values that should be inserted.
+     * @throws Exception Thrown if the shard key of the object is null or inserting failed.
+     */
+    public void insert(DatabaseObject object) throws Exception {
+        List<Integer> indexes = this.getShardsOf(object);
+        shards.get(indexes.get(0)).insert(object);
+        if (indexes.size() > 1) {
+            this.copyToOtherShards(indexes, Collections.singletonList(object));
+        }
+    }
+
+    /**
+     * Inserts every object into its shard, running one batch for each shard in parallel.
+     * See {@link Database#insert(Collection)}.
+     *
+     * @param objects The {@link DatabaseObject}s to insert.
+     * @throws Exception Thrown if the shard key of any object is null or inserting failed on any shard.
+     */
+    public void insert(Collection<? extends DatabaseObject> objects) throws Exception {
+        // Nothing To Insert
+        if (objects.isEmpty()) {
+            return;
+        }
+
+        // Without A Shard Key: Into The First Shard, Then Copied
+        if (objects.iterator().next().getTableSchema().getShardKey() == null) {
+            List<Integer> indexes = this.getAllShards();
+            shards.get(indexes.get(0)).insert(objects);
+            if (indexes.size() > 1) {
+                this.copyToOtherShards(indexes, objects);
+            }
+            return;
+        }
+
+        // Group By Shard
+        TreeMap<Integer, ArrayList<DatabaseObject>> batches = new TreeMap<>();
+        for (DatabaseObject object : objects) {
+            for (int shard : this.getShardsOf(object)) {
+                batches.computeIfAbsent(shard, key -> new ArrayList<>()).add(object);
+            }
+        }
+
+        // Insert Each Batch
+        ArrayList<Integer> indexes = new ArrayList<>(batches.keySet());
+        this.scatter(indexes, (shard, index) -> {
+            shard.insert(batches.get(index));
+            return null;
+        });
+    }
+
+    /**
+     * Copies objects which were inserted into the first of the specified shards to the rest of them, including the key
+     * the first shard generated, so that every shard has the same rows and no shard writes a key back into the objects.
+     *
+     * @param indexes The index of every shard, starting with the shard the objects were inserted into.
+     * @param objects The inserted {@link DatabaseObject}s, which must share the same {@link TableSchema}.
+     * @throws Exception Thrown if mapping an object or inserting failed on any shard.
+     */
+    private void copyToOtherShards(List<Integer> indexes, Collection<? extends DatabaseObject> objects) throws Exception {
+        // Map Values (Including an auto-increment key, which is otherwise left for the database to generate)
+        TableSchema tableSchema = objects.iterator().next().getTableSchema();
+        ColumnSchema primaryKey = tableSchema.getPrimaryKey();
+        boolean isGenerated = primaryKey != null && primaryKey.isAutoIncrement() && primaryKey.getIdGenerator() == null;
+        ArrayList<DatabaseValue[]> rows = new ArrayList<>();
+        for (DatabaseObject object : objects) {
+            DatabaseValue[] values = object.toValues();
+            if (isGenerated) {
+                values = Arrays.copyOf(values, values.length + 1);
+                values[values.length - 1] = new DatabaseValue(primaryKey.getName(), Database.getFieldValue(object, primaryKey));
+            }
+            rows.add(values);
+        }
+
+        // Insert Into Every Other Shard
+        this.scatter(indexes.subList(1, indexes.size()), (shard, index) -> {
+            for (DatabaseValue[] values : rows) {
+                shard.insert(tableSchema, values);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Updates the object on its shard, or on every shard if its table does not have a shard key.
+     * See {@link Database#update(DatabaseObject)}.
+     *
+     * @param object The {@link DatabaseObject} to update.
+     * @throws Exception Thrown if the shard key of the object is null or updating failed.
+     */
+    public void update(DatabaseObject object) throws Exception {
+        this.scatter(this.getShardsOf(object), (shard, index) -> {
+            shard.update(object);
+            return null;
+        });
+    }
+
+    /**
+     * Updates every row matching the "WHERE" expression on every shard. See {@link Database#update(TableSchema, String, String[], DatabaseValue...)}.
+     *
+     * @param tableSchema The table to update.
+     * @param where The platform-dependent SQL statement for a "WHERE" clause.
+     * @param args A list of strings which will not be parsed as SQL. If no arguments pass null.
+     * @param set The values to set.
+     * @throws Exception Thrown if updating failed on any shard.
+     */
+    public void update(TableSchema tableSchema, String where, @Nullable String[] args, DatabaseValue... set) throws Exception {
+        this.scatter(this.getAllShards(), (shard, index) -> {
+            shard.update(tableSchema, where, args, set);
+            return null;
+        });
+    }
+
+    /**
+     * Deletes the object from its shard, or from every shard if its table does not have a shard key.
+     * See {@link Database#delete(DatabaseObject)}.
+     *
+     * @param object The {@link DatabaseObject} to delete.
+     * @throws Exception Thrown if the shard key of the object is null or deleting failed.
+     */
+    public void delete(DatabaseObject object) throws Exception {
+        this.scatter(this.getShardsOf(object), (shard, index) -> {
+            shard.delete(object);
+            return null;
+        });
+    }
+
+    /**
+     * Deletes every row matching the "WHERE" expression from every shard. See {@link Database#delete(TableSchema, String, String...)}.
+     *
+     * @param tableSchema The table to delete from.
+     * @param where The platform-dependent SQL statement for a "WHERE" clause.
+     * @param args A list of strings which will not be parsed as SQL. If no arguments pass null.
+     * @throws Exception Thrown if deleting failed on any shard.
+     */
+    public void delete(TableSchema tableSchema, String where, @Nullable String... args) throws Exception {
+        this.scatter(this.getAllShards(), (shard, index) -> {
+            shard.delete(tableSchema, where, args);
+            return null;
+        });
+    }
+
+    /**
+     * Selects the rows matching the query from every shard which can contain them, gathering the results in the
+     * ordering of the query and up to its limit. See {@link Database#select(Query)}.
+     *
+     * @param query The query to run.
+     * @return A DatabaseResult containing the rows of every shard.
+     * @throws Exception Thrown if selecting failed on any shard.
+     */
+    public DatabaseResult select(Query query) throws Exception {
+        List<Integer> indexes = this.getShardsOf(query.getTableSchema(), query.getWhere());
+        ArrayList<DatabaseResult> results = this.scatter(indexes, (shard, index) -> shard.select(query));
+        if (results.size() == 1) {
+            return results.get(0);
+        }
+        return ShardedDatabase.merge(query, results);
+    }
+
+    /**
+     * Selects the rows matching the query from every shard which can contain them, mapping them to the specified class.
+     * See {@link ShardedDatabase#select(Query)}.
+     *
+     * @param query The query to run.
+     * @param clazz The class that all instances should be created from.
+     * @param <T> The type of object to be returned.
+     * @return An ArrayList of new instances of the specified object.
+     * @throws Exception Thrown if selecting or mapping failed on any shard.
+     */
+    public <T extends DatabaseObject> ArrayList<T> select(Query query, Class<T> clazz) throws Exception {
+        return this.select(query).toObjects(query.getTableSchema(), clazz);
+    }
+
+    /**
+     * Counts the rows matching the condition on every shard which can contain them. See {@link Database#count(TableSchema, Condition)}.
+     *
+     * @param tableSchema The table to count the rows of.
+     * @param where The condition rows must match, or null to count every row.
+     * @return The amount of matching rows across every shard.
+     * @throws Exception Thrown if counting failed on any shard.
+     */
+    public long count(TableSchema tableSchema, @Nullable Condition where) throws Exception {
+        long count = 0;
+        for (long shardCount : this.scatter(this.getShardsOf(tableSchema, where), (shard, index) -> shard.count(tableSchema, where))) {
+            count += shardCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the shard which stores the rows with the specified shard key.
+     *
+     * @param key The value of the shard key.
+     * @return The shard storing the rows with the key.
+     * @throws IllegalArgumentException Thrown if the key does not belong to any shard.
+     */
+    public Database getShard(@NotNull Object key) {
+        return shards.get(this.getShardIndex(key));
+    }
+
+    /**
+     * Returns every shard, in the order the {@link ShardRouter} refers to them.
+     * @return An unmodifiable List of every shard.
+     */
+    public List<Database> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    /**
+     * Returns the {@link ShardRouter} which picks the shard of each row.
+     * @return The {@link ShardRouter}.
+     */
+    public ShardRouter getRouter() {
+        return router;
+    }
+
+    /**
+     * Picks the index of the shard storing the rows with the specified shard key.
+     *
+     * @param key The value of the shard key.
+     * @return The index of the shard.
+     * @throws IllegalArgumentException Thrown if the key does not belong to any shard.
+     */
+    private int getShardIndex(Object key) {
+        int shard = router.getShard(Database.normalizeKey(key));
+        if (shard < 0 || shard >= shards.size()) {
+            throw new IllegalArgumentException("The ShardRouter picked the shard " + shard + " for the key " + key + ", but there are only " + shards.size() + " shards!");
+        }
+        return shard;
+    }
+
+    /**
+     * Returns the index of every shard.
+     * @return A List of the index of every shard.
+     */
+    private List<Integer> getAllShards() {
+        ArrayList<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the index of the shard storing the object, or every shard if its table does not have a shard key.
+     *
+     * @param object The object.
+     * @return A List of the index of every shard storing the object.
+     * @throws Exception Thrown if the shard key of the object is null or cannot be read.
+     */
+    private List<Integer> getShardsOf(DatabaseObject object) throws Exception {
+        ColumnSchema shardKey = object.getTableSchema().getShardKey();
+        if (shardKey == null) {
+            return this.getAllShards();
+        }
+
+        Object key = Database.getFieldValue(object, shardKey);
+        if (key == null) {
+            throw new IllegalArgumentException("The shard key " + shardKey.getName() + " of " + object.getClass().getSimpleName() + " must not be null!");
+        }
+        return Collections.singletonList(this.getShardIndex(key));
+    }
+
+    /**
+     * Returns the index of every shard which can contain rows matching the condition, being only the shards of the
+     * values the condition limits the shard key to, or every shard otherwise. Tables without a shard key are only
+     * read from the first shard, as they are copied to every shard.
+     *
+     * @param tableSchema The table being read.
+     * @param where The condition rows must match, if any.
+     * @return A List of the index of every shard which can contain matching rows.
+     */
+    private List<Integer> getShardsOf(TableSchema tableSchema, @Nullable Condition where) {
+        ColumnSchema shardKey = tableSchema.getShardKey();
+        if (shardKey == null) {
+            return Collections.singletonList(0);
+        }
+        List<Object> keys = where != null ? where.getPossibleValues(shardKey) : null;
+        if (keys == null) {
+            return this.getAllShards();
+        }
+
+        // Only The Shards Of The Keys (A null key is never stored)
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Object key : keys) {
+            if (key != null) {
+                indexes.add(this.getShardIndex(key));
+            }
+        }
+        if (indexes.isEmpty()) {
+            indexes.add(0);
+        }
+        return new ArrayList<>(indexes);
+    }
+
+    /**
+     * Runs a call on each of the specified shards, in parallel if there are several, and waits for every call to finish.
+     * The {@link Deadline} of the current thread applies to every call.
+     *
+     * @param indexes The index of each shard to run the call on.
+     * @param call The call to run on each shard.
+     * @param <T> The type of value returned by the call.
+     * @return An ArrayList of the values returned by each shard, in the same order as the indexes.
+     * @throws Exception Thrown if the call failed on any shard, in which case the other calls are interrupted.
+     */
+    private <T> ArrayList<T> scatter(List<Integer> indexes, ShardCall<T> call) throws Exception {
+        ArrayList<T> results = new ArrayList<>();
+
+        // Single Shard: Run On This Thread
+        if (indexes.size() == 1) {
+            results.add(call.call(shards.get(indexes.get(0)), indexes.get(0)));
+            return results;
+        }
+
+        // Submit Every Shard
+        ArrayList<Future<T>> futures = new ArrayList<>();
+        for (int index : indexes) {
+            Database shard = shards.get(index);
+            futures.add(SHARD_EXECUTOR.submit(Deadline.propagate(() -> call.call(shard, index))));
+        }
+
+        // Gather Every Shard
+        try {
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Merges the results of several shards into one, in the ordering of the query and up to its limit. Each result
+     * must already be in the ordering of the query.
+     *
+     * @param query The query the results were selected with.
+     * @param results The result of each shard.
+     * @return The merged DatabaseResult.
+     */
+    private static DatabaseResult merge(Query query, ArrayList<DatabaseResult> results) {
+        int columnCount = results.get(0).getColumnCount();
+        int limit = query.getLimit() > -1 ? query.getLimit() : Integer.MAX_VALUE;
+        ArrayList<DatabaseValue> merged = new ArrayList<>();
+
+        // Find The Columns Ordered By
+        ArrayList<ColumnSchema> columns = query.getTableSchema().getColumns();
+        ArrayList<ColumnSchema> orderBy = query.getOrderBy();
+        int[] orderColumns = new int[orderBy.size()];
+        for (int i = 0; i < orderBy.size(); i++) {
+            for (int j = 0; j < columns.size(); j++) {
+                if (columns.get(j).getName().equalsIgnoreCase(orderBy.get(i).getName())) {
+                    orderColumns[i] = j;
+                }
+            }
+        }
+
+        // Unordered: One Shard After Another
+        if (orderBy.isEmpty()) {
+            for (DatabaseResult result : results) {
+                List<DatabaseValue> values = result.values();
+                for (int row = 0; row < result.getRowCount() && merged.size() / columnCount < limit; row++) {
+                    merged.addAll(values.subList(row * columnCount, (row + 1) * columnCount));
+                }
+            }
+            return new DatabaseResult(columnCount, merged.toArray(new DatabaseValue[0]));
+        }
+
+        // Ordered: Repeatedly Take The First Row Of Any Shard
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>((a, b) -> {
+            for (int i = 0; i < orderColumns.length; i++) {
+                int comparison = ShardedDatabase.compareValues(a.get(orderColumns[i]).getData(), b.get(orderColumns[i]).getData());
+                if (comparison != 0) {
+                    return query.isDescending(i) ? -comparison : comparison;
+                }
+            }
+            return 0;
+        });
+        for (DatabaseResult result : results) {
+            if (result.getRowCount() > 0) {
+                cursors.add(new Cursor(result.values(), columnCount));
+            }
+        }
+        while (!cursors.isEmpty() && merged.size() / columnCount < limit) {
+            Cursor cursor = cursors.poll();
+            merged.addAll(cursor.values.subList(cursor.row * columnCount, (cursor.row + 1) * columnCount));
+            if (cursor.next()) {
+                cursors.add(cursor);
+            }
+        }
+        return new DatabaseResult(columnCount, merged.toArray(new DatabaseValue[0]));
+    }
+
+    /**
+     * Compares two values the way the database orders them, with null before anything else and numbers of
+     * different types compared by their value.
+     *
+     * @param a The first value.
+     * @param b The second value.
+     * @return A negative number, zero, or a positive number if the first value is less than, equal to, or greater than the second.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compareValues(Object a, Object b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+
+        // Numbers
+        a = Database.normalizeKey(a);
+        b = Database.normalizeKey(b);
+        if (a instanceof Long && b instanceof Long) {
+            return Long.compare((Long) a, (Long) b);
+        } else if (a instanceof Number && b instanceof Number) {
+            return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString()));
+        }
+
+        // Anything Else Comparable
+        if (a instanceof Comparable && a.getClass() == b.getClass()) {
+            return ((Comparable) a).compareTo(b);
+        }
+        return a.toString().compareTo(b.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ShardedDatabase{" +
+                "router=" + router +
+                ", shards=" + shards.size() +
+                '}';
+    }
+
+    /**
+     * Reads the rows of a shard's result one at a time while merging.
+     */
+    private static class Cursor {
+
+        private List<DatabaseValue> values;
+        private int columnCount;
+        private int rows;
+        private int row = 0;
+
+        Cursor(List<DatabaseValue> values, int columnCount) {
+            this.values = values;
+            this.columnCount = columnCount;
+            this.rows = values.size() / columnCount;
+        }
+
+        /**
+         * Returns the value of the specified column in the current row.
+         */
+        DatabaseValue get(int column) {
+            return values.get(row * columnCount + column);
+        }
+
+        /**
+         * Moves to the next row.
+         * @return True if there is another row, otherwise false.
+         */
+        boolean next() {
+            return ++row < rows;
+        }
+
+    }
+
+    /**
+     * Runs a call on a shard.
+     *
+     * @param <T> The type of value returned by the call.
+     */
+    @FunctionalInterface
+    private interface ShardCall<T> {
+
+        /**
+         * Runs the call.
+         *
+         * @param shard The shard to run the call on.
+         * @param index The index of the shard, in the order the {@link ShardRouter} refers to them.
+         * @return The value returned by the call.
+         * @throws Exception Thrown if the call failed.
+         */
+        T call(Database shard, int index) throws Exception;
+
+    }
+
+}
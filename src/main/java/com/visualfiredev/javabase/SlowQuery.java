@@ -0,0 +1,161 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a statement which took longer than the threshold of a {@link SlowQueryLog}.
+ */
+public class SlowQuery {
+
+    // Statement
+    private final String sql;
+    private final List<Object> parameters;
+
+    // Outcome
+    private final long durationNanos;
+    private final long rows;
+    private final boolean failed;
+    private final String plan;
+
+    // Origin
+    private final long timestamp;
+    private final String thread;
+    private final StackTraceElement caller;
+
+    /**
+     * Creates a new SlowQuery.
+     *
+     * @param sql The SQL of the statement.
+     * @param parameters The values bound to the statement, in order.
+     * @param durationNanos How long the statement took, in nanoseconds.
+     * @param rows The amount of rows returned or changed, or -1 if unknown.
+     * @param failed True if the statement failed, otherwise false.
+     * @param plan The query plan of the statement, or null if it was not explained.
+     * @param timestamp When the statement finished, in milliseconds since the epoch.
+     * @param thread The name of the thread which ran the statement.
+     * @param caller The method outside of Javabase which ran the statement, or null if unknown.
+     */
+    SlowQuery(String sql, List<Object> parameters, long durationNanos, long rows, boolean failed, @Nullable String plan, long timestamp, String thread, @Nullable StackTraceElement caller) {
+        this.sql = sql;
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.durationNanos = durationNanos;
+        this.rows = rows;
+        this.failed = failed;
+        this.plan = plan;
+        this.timestamp = timestamp;
+        this.thread = thread;
+        this.caller = caller;
+    }
+
+    /**
+     * Returns the SQL of the statement.
+     * @return The SQL of the statement.
+     */
+    @NotNull
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Returns the values bound to the statement, in order. Empty if the statement had no parameters, or was run as
+     * a batch.
+     * @return The values bound to the statement.
+     */
+    @NotNull
+    public List<Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns how long the statement took, including reading its results.
+     *
+     * @param unit The unit to return the duration in.
+     * @return How long the statement took.
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the amount of rows returned or changed, or -1 if unknown.
+     * @return The amount of rows returned or changed.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns whether or not the statement failed, such as by timing out.
+     * @return True if the statement failed, otherwise false.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns the query plan of the statement, from "EXPLAIN" on MySQL and MariaDB or "EXPLAIN QUERY PLAN" on
+     * SQLite, or null if the statement was not explained.
+     * @return The query plan of the statement, or null if it was not explained.
+     */
+    @Nullable
+    public String getPlan() {
+        return plan;
+    }
+
+    /**
+     * Returns when the statement finished, in milliseconds since the epoch.
+     * @return When the statement finished.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the name of the thread which ran the statement.
+     * @return The name of the thread which ran the statement.
+     */
+    @NotNull
+    public String getThread() {
+        return thread;
+    }
+
+    /**
+     * Returns the method outside of Javabase which ran the statement, or null if unknown.
+     * @return The method which ran the statement, or null if unknown.
+     */
+    @Nullable
+    public StackTraceElement getCaller() {
+        return caller;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder("Slow query took ")
+                .append(TimeUnit.NANOSECONDS.toMillis(durationNanos)).append("ms")
+                .append(failed ? " and failed" : "")
+                .append(rows >= 0 ? " (" + rows + " rows)" : "")
+                .append(" at ").append(new Date(timestamp))
+                .append(" on ").append(thread)
+                .append(caller != null ? " from " + caller : "")
+                .append(": ").append(sql);
+
+        // Parameters
+        if (!parameters.isEmpty()) {
+            string.append(" ").append(parameters);
+        }
+
+        // Plan
+        if (plan != null) {
+            string.append(System.lineSeparator()).append(plan);
+        }
+
+        return string.toString();
+    }
+
+}
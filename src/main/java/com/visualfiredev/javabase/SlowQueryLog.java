@@ -0,0 +1,214 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Records statements which take longer than a threshold, set using {@link Database#setSlowQueryLog(SlowQueryLog)}.
+ *
+ * <p>
+ *     Every slow statement is recorded as a {@link SlowQuery}, including its parameters, duration, rows, and the
+ *     method which ran it. The most recent are kept in memory, and each is also passed to the listener, which can
+ *     write them to any logging library. Timing every statement costs next to nothing, while capturing the
+ *     parameters of every statement while a log is set costs a little.
+ *     <br><br>
+ *     A sample of slow statements can also be explained, attaching the query plan from "EXPLAIN" on MySQL and
+ *     MariaDB or "EXPLAIN QUERY PLAN" on SQLite. The plan is fetched on the same connection right after the
+ *     statement, so it adds to the time of an already slow statement and is disabled by default.
+ * </p>
+ */
+public class SlowQueryLog {
+
+    // Log Options
+    private long threshold = TimeUnit.SECONDS.toNanos(1);
+    private double explainRate = 0;
+    private int capacity = 100;
+    private Consumer<SlowQuery> listener = null;
+
+    // Recent Slow Queries
+    private final ArrayDeque<SlowQuery> entries = new ArrayDeque<>();
+    private final AtomicLong logged = new AtomicLong();
+
+    /**
+     * Sets how long a statement may take before it is logged. Defaults to 1 second.
+     *
+     * @param threshold How long a statement may take before it is logged.
+     * @param unit The unit of the threshold.
+     * @return The SlowQueryLog.
+     */
+    public SlowQueryLog setThreshold(long threshold, TimeUnit unit) {
+        this.threshold = unit.toNanos(threshold);
+        return this;
+    }
+
+    /**
+     * Sets the share of slow statements which are explained, from 0 for none to 1 for every one. Defaults to 0.
+     *
+     * @param explainRate The share of slow statements which are explained.
+     * @return The SlowQueryLog.
+     * @throws IllegalArgumentException Thrown if the rate is not between 0 and 1.
+     */
+    public SlowQueryLog setExplainRate(double explainRate) {
+        if (explainRate < 0 || explainRate > 1) {
+            throw new IllegalArgumentException("The explain rate must be between 0 and 1!");
+        }
+        this.explainRate = explainRate;
+        return this;
+    }
+
+    /**
+     * Sets the amount of recent slow statements kept in memory. Defaults to 100.
+     *
+     * @param capacity The amount of recent slow statements kept in memory.
+     * @return The SlowQueryLog.
+     */
+    public synchronized SlowQueryLog setCapacity(int capacity) {
+        this.capacity = capacity;
+        while (entries.size() > Math.max(capacity, 0)) {
+            entries.pollFirst();
+        }
+        return this;
+    }
+
+    /**
+     * Sets the listener which is passed every slow statement, on the thread which ran it. Defaults to null.
+     *
+     * @param listener The listener, or null to only keep slow statements in memory.
+     * @return The SlowQueryLog.
+     */
+    public SlowQueryLog setListener(@Nullable Consumer<SlowQuery> listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Returns how long a statement may take before it is logged.
+     *
+     * @param unit The unit to return the threshold in.
+     * @return How long a statement may take before it is logged.
+     */
+    public long getThreshold(TimeUnit unit) {
+        return unit.convert(threshold, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the share of slow statements which are explained, from 0 to 1.
+     * @return The share of slow statements which are explained.
+     */
+    public double getExplainRate() {
+        return explainRate;
+    }
+
+    /**
+     * Returns the amount of recent slow statements kept in memory.
+     * @return The amount of recent slow statements kept in memory.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the listener which is passed every slow statement, or null if there is none.
+     * @return The listener, or null if there is none.
+     */
+    @Nullable
+    public Consumer<SlowQuery> getListener() {
+        return listener;
+    }
+
+    /**
+     * Returns an ArrayList of the recent slow statements kept in memory, from oldest to newest.
+     * @return An ArrayList of the recent slow statements.
+     */
+    public synchronized ArrayList<SlowQuery> getEntries() {
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * Returns the amount of slow statements logged.
+     * @return The amount of slow statements logged.
+     */
+    public long getLogged() {
+        return logged.get();
+    }
+
+    /**
+     * Forgets the recent slow statements kept in memory.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Checks whether or not a statement took long enough to be logged.
+     *
+     * @param durationNanos How long the statement took, in nanoseconds.
+     * @return True if the statement should be logged, otherwise false.
+     */
+    boolean isSlow(long durationNanos) {
+        return durationNanos >= threshold;
+    }
+
+    /**
+     * Checks whether or not a slow statement is kept in memory or passed to the listener, which is the only time its
+     * plan and caller are worth finding.
+     *
+     * @return True if slow statements are kept or passed on, otherwise false.
+     */
+    boolean isKept() {
+        return capacity > 0 || listener != null;
+    }
+
+    /**
+     * Counts a slow statement which is neither kept in memory nor passed to the listener.
+     */
+    void count() {
+        logged.incrementAndGet();
+    }
+
+    /**
+     * Decides whether or not the next slow statement is explained.
+     * @return True if the statement should be explained, otherwise false.
+     */
+    boolean shouldExplain() {
+        double rate = explainRate;
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * Logs a slow statement, keeping it in memory and passing it to the listener.
+     * @param query The slow statement.
+     */
+    void log(SlowQuery query) {
+        logged.incrementAndGet();
+        synchronized (this) {
+            if (capacity > 0) {
+                if (entries.size() >= capacity) {
+                    entries.pollFirst();
+                }
+                entries.addLast(query);
+            }
+        }
+        Consumer<SlowQuery> listener = this.listener;
+        if (listener != null) {
+            listener.accept(query);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQueryLog{" +
+                "thresholdMillis=" + TimeUnit.NANOSECONDS.toMillis(threshold) +
+                ", explainRate=" + explainRate +
+                ", capacity=" + capacity +
+                ", logged=" + logged +
+                '}';
+    }
+
+}
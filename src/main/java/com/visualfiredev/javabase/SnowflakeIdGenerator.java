@@ -0,0 +1,118 @@
+package com.visualfiredev.javabase;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generates time-based 64-bit keys without contacting the database.
+ *
+ * <p>
+ *     Every key contains 41 bits for the milliseconds since the epoch, 10 bits for the worker id, and 12 bits for a
+ *     sequence within the same millisecond. Every process inserting into the same table must use a different
+ *     worker id, and at most 4096 keys are generated per millisecond. Keys increase over time, so they keep new rows
+ *     at the end of the primary key index. The column must be a BIGINT, or an INTEGER on SQLite. Milliseconds are
+ *     counted from one millisecond before the epoch, so a key is never 0, which marks an object without a key.
+ *     <br><br>
+ *     If the clock moves backwards, keys continue from the last millisecond used instead so they stay unique. Once
+ *     the sequence of a millisecond is exhausted, the generator sleeps until the clock reaches the next millisecond.
+ * </p>
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    // Default Epoch (2020-01-01T00:00:00Z)
+    public static final long DEFAULT_EPOCH = 1577836800000L;
+
+    // Bit Layout
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // How long to sleep at a time while waiting for the next millisecond
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    // Constructor Arguments
+    private long epoch;
+    private long workerId;
+
+    // Generator State
+    private long lastTimestamp = -1;
+    private long sequence = 0;
+
+    /**
+     * Creates a new SnowflakeIdGenerator using the specified worker id and the {@link SnowflakeIdGenerator#DEFAULT_EPOCH}.
+     *
+     * @param workerId The id of this process, from 0 to 1023.
+     * @throws IllegalArgumentException Thrown if the worker id is out of range.
+     */
+    public SnowflakeIdGenerator(int workerId) {
+        this(workerId, DEFAULT_EPOCH);
+    }
+
+    /**
+     * Creates a new SnowflakeIdGenerator using the specified worker id and epoch.
+     *
+     * @param workerId The id of this process, from 0 to 1023.
+     * @param epoch The milliseconds since the unix epoch that timestamps are counted from. Must not be in the future.
+     * @throws IllegalArgumentException Thrown if the worker id is out of range or the epoch is in the future.
+     */
+    public SnowflakeIdGenerator(int workerId, long epoch) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("The worker id must be between 0 and " + MAX_WORKER_ID + "!");
+        } else if (epoch > System.currentTimeMillis()) {
+            throw new IllegalArgumentException("The epoch cannot be in the future!");
+        }
+        this.workerId = workerId;
+        this.epoch = epoch;
+    }
+
+    @Override
+    public synchronized long nextId(Database database) {
+        // Never Go Backwards
+        long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+
+        // Same Millisecond, Next Sequence
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+
+            // Sequence Exhausted, Sleep Until The Next Millisecond (Which may take a while if the clock moved backwards)
+            if (sequence == 0) {
+                while (timestamp <= lastTimestamp) {
+                    long behind = lastTimestamp - timestamp;
+                    LockSupport.parkNanos(behind > 0 ? TimeUnit.MILLISECONDS.toNanos(behind) : PARK_NANOS);
+                    timestamp = System.currentTimeMillis();
+                }
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return ((timestamp - epoch + 1) << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * Returns the id of this process.
+     * @return The id of this process.
+     */
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * Returns the milliseconds since the unix epoch that timestamps are counted from.
+     * @return The milliseconds since the unix epoch that timestamps are counted from.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public String toString() {
+        return "SnowflakeIdGenerator{" +
+                "workerId=" + workerId +
+                ", epoch=" + epoch +
+                '}';
+    }
+
+}
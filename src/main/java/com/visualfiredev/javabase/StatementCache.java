@@ -0,0 +1,129 @@
+package com.visualfiredev.javabase;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the most recently used prepared statements of a connection, so that statements with the same SQL are only
+ * prepared once. When full, the least recently used statement is closed.
+ *
+ * <p>
+ *     A statement is removed from the cache while it is in use and put back once its results have been read, so
+ *     the same statement is never used by two threads at once. If another thread needs the same SQL in the meantime,
+ *     it prepares its own statement, and whichever statement is put back second is closed.
+ * </p>
+ */
+class StatementCache {
+
+    // Constructor Arguments
+    private int capacity;
+
+    // Statements By SQL, Least Recently Used First
+    private LinkedHashMap<String, PreparedStatement> statements;
+
+    /**
+     * Creates a new, empty, StatementCache.
+     * @param capacity The maximum amount of statements kept.
+     */
+    StatementCache(int capacity) {
+        this.capacity = capacity;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Removes the statement for the specified SQL from the cache so that it can be used.
+     *
+     * @param sql The SQL of the statement.
+     * @return The statement, or null if it is not in the cache.
+     */
+    synchronized PreparedStatement take(String sql) {
+        return statements.remove(sql);
+    }
+
+    /**
+     * Puts a statement back into the cache once its results have been read, closing the least recently used statement
+     * if the cache is full. The statement is closed instead if the cache already has one for the same SQL.
+     *
+     * @param sql The SQL of the statement.
+     * @param statement The statement.
+     */
+    void release(String sql, PreparedStatement statement) {
+        ArrayList<PreparedStatement> closing = new ArrayList<>();
+        synchronized (this) {
+            if (capacity <= 0 || statements.containsKey(sql)) {
+                closing.add(statement);
+            } else {
+                statements.put(sql, statement);
+                Iterator<Map.Entry<String, PreparedStatement>> iterator = statements.entrySet().iterator();
+                while (statements.size() > capacity) {
+                    closing.add(iterator.next().getValue());
+                    iterator.remove();
+                }
+            }
+        }
+        StatementCache.close(closing);
+    }
+
+    /**
+     * Changes the maximum amount of statements kept, closing the least recently used statements if there are too many.
+     * @param capacity The maximum amount of statements kept. Set to 0 to disable caching.
+     */
+    void setCapacity(int capacity) {
+        ArrayList<PreparedStatement> closing = new ArrayList<>();
+        synchronized (this) {
+            this.capacity = capacity;
+            Iterator<Map.Entry<String, PreparedStatement>> iterator = statements.entrySet().iterator();
+            while (statements.size() > Math.max(capacity, 0)) {
+                closing.add(iterator.next().getValue());
+                iterator.remove();
+            }
+        }
+        StatementCache.close(closing);
+    }
+
+    /**
+     * Returns the maximum amount of statements kept.
+     * @return The maximum amount of statements kept.
+     */
+    synchronized int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the amount of statements currently kept.
+     * @return The amount of statements currently kept.
+     */
+    synchronized int size() {
+        return statements.size();
+    }
+
+    /**
+     * Closes and removes every statement, usually because the connection is closing.
+     */
+    void clear() {
+        ArrayList<PreparedStatement> closing;
+        synchronized (this) {
+            closing = new ArrayList<>(statements.values());
+            statements.clear();
+        }
+        StatementCache.close(closing);
+    }
+
+    /**
+     * Closes every statement, ignoring any errors as the statements are no longer needed.
+     * @param statements The statements to close.
+     */
+    private static void close(ArrayList<PreparedStatement> statements) {
+        for (PreparedStatement statement : statements) {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.visualfiredev.javabase;
+
+import java.sql.SQLException;
+
+/**
+ * Runs a statement and reads its results, within the timeout applied by {@link Database#execute(java.sql.Statement, String, StatementCall)}.
+ *
+ * @param <T> The type of value returned.
+ */
+@FunctionalInterface
+interface StatementCall<T> {
+
+    /**
+     * Runs the statement and reads its results.
+     *
+     * @return The value read from the results.
+     * @throws SQLException Thrown if running the statement or reading its results failed.
+     */
+    T call() throws SQLException;
+
+}
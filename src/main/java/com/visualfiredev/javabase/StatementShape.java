@@ -0,0 +1,253 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.metrics.Operation;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the kind of statement and the table it uses, found from its SQL. Used to report metrics, which only
+ * need the first table a statement uses, so joins and subqueries are reported under the first table named.
+ *
+ * <p>
+ *     Statements built by Javabase already know their shape, which is shared per table without parsing the SQL. Any
+ *     other SQL is parsed once and remembered, until {@link StatementShape#CACHE_SIZE} SQL strings are remembered,
+ *     after which the cache starts over, so SQL with inlined values never fills up the memory or holds a lock.
+ * </p>
+ */
+final class StatementShape {
+
+    // The amount of distinct SQL strings remembered before starting over, as statements with inlined values never repeat
+    static final int CACHE_SIZE = 1024;
+
+    // Shapes By SQL
+    private static final ConcurrentHashMap<String, StatementShape> CACHE = new ConcurrentHashMap<>();
+
+    // Shapes Of Every Operation, By Table
+    private static final ConcurrentHashMap<String, StatementShape[]> TABLES = new ConcurrentHashMap<>();
+
+    // Words which may come between a keyword and the name of a table
+    private static final String[] MODIFIERS = { "IF", "NOT", "EXISTS", "OR", "REPLACE", "IGNORE", "ROLLBACK", "ABORT", "FAIL", "LOW_PRIORITY", "DELAYED", "HIGH_PRIORITY", "QUICK", "ONLY" };
+
+    // Shape
+    private final Operation operation;
+    private final String table;
+
+    /**
+     * Creates a new StatementShape.
+     *
+     * @param operation The kind of statement.
+     * @param table The name of the table, or an empty string if the statement does not use a table.
+     */
+    private StatementShape(Operation operation, String table) {
+        this.operation = operation;
+        this.table = table;
+    }
+
+    /**
+     * Finds the shape of a statement, remembering it for the next time the same SQL is run. Once
+     * {@link StatementShape#CACHE_SIZE} shapes are remembered, every shape is forgotten, so the SQL which keeps being
+     * run is remembered again right away while statements with inlined values come and go.
+     *
+     * @param sql The SQL of the statement.
+     * @return The shape of the statement.
+     */
+    static StatementShape of(String sql) {
+        StatementShape shape = CACHE.get(sql);
+        if (shape == null) {
+            shape = StatementShape.parse(sql);
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(sql, shape);
+        }
+        return shape;
+    }
+
+    /**
+     * Finds the shape of a statement whose kind and table are already known, without parsing its SQL. The shape is
+     * shared by every statement of the same kind on the same table.
+     *
+     * @param operation The kind of statement.
+     * @param table The name of the table.
+     * @return The shape of the statement.
+     */
+    static StatementShape of(Operation operation, String table) {
+        StatementShape[] shapes = TABLES.get(table);
+        if (shapes == null) {
+            shapes = TABLES.computeIfAbsent(table, StatementShape::createShapes);
+        }
+        StatementShape shape = shapes[operation.ordinal()];
+        if (shape == null) {
+            // Two threads may both create the shape, which is harmless
+            shape = new StatementShape(operation, table);
+            shapes[operation.ordinal()] = shape;
+        }
+        return shape;
+    }
+
+    /**
+     * Creates the empty array holding the shape of every operation on a table.
+     *
+     * @param table The name of the table.
+     * @return The array, indexed by the ordinal of each operation.
+     */
+    private static StatementShape[] createShapes(String table) {
+        return new StatementShape[Operation.values().length];
+    }
+
+    /**
+     * Returns the amount of SQL strings currently remembered.
+     * @return The amount of SQL strings currently remembered.
+     */
+    static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * Finds the shape of a statement.
+     *
+     * @param sql The SQL of the statement.
+     * @return The shape of the statement.
+     */
+    private static StatementShape parse(String sql) {
+        Operation operation = Operation.of(sql);
+
+        // Find Where The Table Is Named
+        int position = -1;
+        switch (operation) {
+            case SELECT:
+            case DELETE:
+                position = StatementShape.indexAfter(sql, "FROM", 0);
+                break;
+            case INSERT:
+                position = StatementShape.indexAfter(sql, "INTO", 0);
+                break;
+            case UPDATE:
+                position = StatementShape.indexAfter(sql, "UPDATE", 0);
+                break;
+            case SCHEMA:
+                position = StatementShape.indexAfter(sql, "INDEX", 0);
+                if (position != -1) {
+                    position = StatementShape.indexAfter(sql, "ON", position);
+                } else {
+                    position = StatementShape.indexAfter(sql, "TABLE", 0);
+                }
+                break;
+            default:
+                break;
+        }
+
+        return new StatementShape(operation, position == -1 ? "" : StatementShape.readTable(sql, position));
+    }
+
+    /**
+     * Finds the position right after the first occurrence of a keyword, as a whole word, ignoring the case.
+     *
+     * @param sql The SQL.
+     * @param keyword The uppercase keyword.
+     * @param from The position to start searching from.
+     * @return The position right after the keyword, or -1 if it was not found.
+     */
+    private static int indexAfter(String sql, String keyword, int from) {
+        for (int index = from; index <= sql.length() - keyword.length(); index++) {
+            if (!sql.regionMatches(true, index, keyword, 0, keyword.length())) {
+                continue;
+            }
+            int end = index + keyword.length();
+            boolean isStart = index == 0 || !StatementShape.isIdentifierPart(sql.charAt(index - 1));
+            boolean isEnd = end == sql.length() || !StatementShape.isIdentifierPart(sql.charAt(end));
+            if (isStart && isEnd) {
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the name of a table, skipping modifiers such as "IF NOT EXISTS", quotes, and the name of the database.
+     *
+     * @param sql The SQL.
+     * @param position The position to start reading from.
+     * @return The name of the table, or an empty string if there is no name, such as for a subquery.
+     */
+    private static String readTable(String sql, int position) {
+        while (true) {
+            // Skip Whitespace
+            while (position < sql.length() && Character.isWhitespace(sql.charAt(position))) {
+                position++;
+            }
+
+            // Read Word
+            int start = position;
+            while (position < sql.length() && (StatementShape.isIdentifierPart(sql.charAt(position)) || StatementShape.isQuote(sql.charAt(position)) || sql.charAt(position) == '.')) {
+                position++;
+            }
+            if (start == position) {
+                return "";
+            }
+
+            // Skip Modifiers
+            boolean isModifier = false;
+            for (String modifier : MODIFIERS) {
+                if (modifier.length() == position - start && sql.regionMatches(true, start, modifier, 0, modifier.length())) {
+                    isModifier = true;
+                    break;
+                }
+            }
+            if (isModifier) {
+                continue;
+            }
+
+            // Remove The Database & Quotes
+            String name = sql.substring(start, position);
+            int dot = name.lastIndexOf('.');
+            if (dot != -1) {
+                name = name.substring(dot + 1);
+            }
+            StringBuilder table = new StringBuilder(name.length());
+            for (int i = 0; i < name.length(); i++) {
+                if (!StatementShape.isQuote(name.charAt(i))) {
+                    table.append(name.charAt(i));
+                }
+            }
+            return table.toString();
+        }
+    }
+
+    /**
+     * Checks whether or not a character can be a part of an unquoted identifier.
+     *
+     * @param character The character.
+     * @return True if the character can be a part of an identifier, otherwise false.
+     */
+    private static boolean isIdentifierPart(char character) {
+        return Character.isLetterOrDigit(character) || character == '_' || character == '$';
+    }
+
+    /**
+     * Checks whether or not a character quotes an identifier.
+     *
+     * @param character The character.
+     * @return True if the character quotes an identifier, otherwise false.
+     */
+    private static boolean isQuote(char character) {
+        return character == '`' || character == '"' || character == '[' || character == ']';
+    }
+
+    /**
+     * Returns the kind of statement.
+     * @return The kind of statement.
+     */
+    Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the name of the table the statement uses, or an empty string if it does not use a table.
+     * @return The name of the table.
+     */
+    String getTable() {
+        return table;
+    }
+
+}
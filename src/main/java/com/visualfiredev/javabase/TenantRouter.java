@@ -0,0 +1,690 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Hands out connections to the database of each tenant, for services hosting many tenants which each have their own
+ * database or schema on the same server.
+ *
+ * <p>
+ *     Connections are opened the first time a tenant needs one and kept once released, so the next request of the
+ *     same tenant reuses it. The amount of connections is limited both for each tenant and for every tenant
+ *     together. When the limit of every tenant together is reached, the connection left unused the longest by any
+ *     other tenant is closed to make room, and otherwise the request waits until a connection is released.
+ *     Connections left unused for longer than the idle timeout are closed in the background, so quiet tenants
+ *     hold no connections at all. Connections are always closed outside of the lock of the router, so closing a
+ *     slow connection never holds up the other tenants.
+ *     <br><br>
+ *     Every connection shares the same driver, host, credentials, and options, which are applied to each new
+ *     {@link Database} by the configurer.
+ * </p>
+ */
+public class TenantRouter implements AutoCloseable {
+
+    // Closes idle connections of every router, forgetting a router as soon as it is closed
+    private static final ScheduledThreadPoolExecutor EVICTION_SCHEDULER = TenantRouter.createScheduler();
+
+    // Constructor Arguments
+    private String host;
+    private DatabaseType type;
+    private Function<String, String> databaseName;
+
+    // Credentials
+    private String username = "";
+    private Supplier<String> password = () -> "";
+
+    // Router Options
+    private int maxConnections = 100;
+    private int maxConnectionsPerTenant = 4;
+    private long maxWait = 5000;
+    private long idleTimeout = TimeUnit.MINUTES.toMillis(5);
+    private Consumer<Database> configurer = database -> { };
+
+    // Connections
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private HashMap<String, Tenant> tenants = new HashMap<>();
+    private int open = 0;
+    private long evictions = 0;
+    private boolean isClosed = false;
+    private ScheduledFuture<?> eviction;
+
+    /**
+     * Creates a new TenantRouter.
+     *
+     * @param host The IP address of the server hosting every tenant.
+     * @param type The type of database being used.
+     * @param databaseName Returns the name of the database of a tenant, or the file path of an SQLite file.
+     */
+    public TenantRouter(@NotNull String host, @NotNull DatabaseType type, @NotNull Function<String, String> databaseName) {
+        this.host = host;
+        this.type = type;
+        this.databaseName = databaseName;
+        this.scheduleEviction();
+    }
+
+    /**
+     * Hands out a connection to the database of the specified tenant, which must be released by closing the lease.
+     * Waits for a connection to be released if the tenant or every tenant together has reached its limit.
+     *
+     * @param tenant The key of the tenant.
+     * @return The lease of the connection.
+     * @throws SQLTransientConnectionException Thrown if no connection was released in time.
+     * @throws MissingDriverException Thrown if the connector for the database type is not installed.
+     * @throws ConnectionFailedException Thrown if opening a new connection failed.
+     * @throws IOException Thrown if the SQLite file fails to create.
+     * @throws SQLException Thrown if a generic SQL access error occurs, or the router has been closed.
+     */
+    public Lease acquire(@NotNull String tenant) throws MissingDriverException, ConnectionFailedException, SQLException, IOException {
+        // Wait No Longer Than The Deadline
+        long wait = TimeUnit.MILLISECONDS.toNanos(maxWait);
+        Deadline deadline = Deadline.current();
+        if (deadline != null) {
+            wait = Math.min(wait, TimeUnit.MILLISECONDS.toNanos(Math.max(deadline.getRemainingMillis(), 0)));
+        }
+        long waitUntil = System.nanoTime() + wait;
+
+        // Reuse An Idle Connection If It Still Works, Sharing The Wait Between Attempts
+        Database idle;
+        while ((idle = this.reserve(tenant, waitUntil)) != null) {
+            if (idle.isConnected()) {
+                return new Lease(tenant, idle);
+            }
+            this.discard(tenant, idle);
+        }
+
+        // Open A New Connection (Outside the lock, since it may be slow)
+        Database database = new Database(host, databaseName.apply(tenant), type);
+        try {
+            configurer.accept(database);
+            database.connect(username, password);
+        } catch (MissingDriverException | ConnectionFailedException | SQLException | IOException | RuntimeException e) {
+            this.discard(tenant, database);
+            throw e;
+        }
+        return new Lease(tenant, database);
+    }
+
+    /**
+     * Takes an idle connection of the specified tenant, or reserves room for a new one, waiting for a connection to
+     * be released if there is no room.
+     *
+     * @param tenant The key of the tenant.
+     * @param waitUntil When to stop waiting, from {@link System#nanoTime()}.
+     * @return The idle connection, or null if room was reserved for a new connection.
+     * @throws SQLTransientConnectionException Thrown if no connection was released in time.
+     * @throws SQLException Thrown if the router has been closed.
+     */
+    @Nullable
+    private Database reserve(String tenant, long waitUntil) throws SQLException {
+        ArrayList<Database> closing = new ArrayList<>();
+        lock.lock();
+        try {
+            while (true) {
+                if (isClosed) {
+                    throw new SQLException("The TenantRouter has been closed!");
+                }
+                Tenant state = tenants.computeIfAbsent(tenant, key -> new Tenant());
+                if (!state.idle.isEmpty()) {
+                    return state.idle.pollLast().database;
+                }
+
+                // Make Room By Closing The Longest Idle Connection Of Another Tenant
+                if (state.open < maxConnectionsPerTenant && open >= maxConnections) {
+                    this.evictLongestIdle(closing);
+                }
+
+                // Reserve Room
+                if (state.open < maxConnectionsPerTenant && open < maxConnections) {
+                    state.open++;
+                    open++;
+                    return null;
+                }
+
+                // Wait For A Release
+                long wait = waitUntil - System.nanoTime();
+                if (wait <= 0) {
+                    if (state.open == 0) {
+                        tenants.remove(tenant);
+                    }
+                    throw new SQLTransientConnectionException("No connection to the tenant " + tenant + " was released in time! " + this);
+                }
+                try {
+                    released.awaitNanos(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLTransientConnectionException("Interrupted while waiting for a connection to the tenant " + tenant + "!", e);
+                }
+            }
+        } finally {
+            lock.unlock();
+            TenantRouter.closeQuietly(closing);
+        }
+    }
+
+    /**
+     * Runs an action with a connection to the database of the specified tenant, releasing it afterwards.
+     *
+     * @param tenant The key of the tenant.
+     * @param action The action to run.
+     * @param <T> The type of value returned by the action.
+     * @return The value returned by the action.
+     * @throws Exception Thrown if no connection could be handed out or the action failed.
+     */
+    public <T> T call(@NotNull String tenant, @NotNull TenantCall<T> action) throws Exception {
+        try (Lease lease = this.acquire(tenant)) {
+            return action.call(lease.getDatabase());
+        }
+    }
+
+    /**
+     * Keeps a released connection for the next request of the tenant, or closes it if it is broken.
+     *
+     * @param tenant The key of the tenant.
+     * @param database The released connection.
+     */
+    private void release(String tenant, Database database) {
+        if (database.getConnection() == null || !database.isAutoCommit()) {
+            // Broken, or released in the middle of a transaction
+            this.discard(tenant, database);
+            return;
+        }
+
+        // Keep Unless Closed
+        boolean isKept = false;
+        lock.lock();
+        try {
+            Tenant state = tenants.get(tenant);
+            if (!isClosed && state != null) {
+                state.idle.addLast(new Idle(database, System.nanoTime()));
+                released.signalAll();
+                isKept = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!isKept) {
+            this.discard(tenant, database);
+        }
+    }
+
+    /**
+     * Closes a connection and frees its room.
+     *
+     * @param tenant The key of the tenant.
+     * @param database The connection to close.
+     */
+    private void discard(String tenant, Database database) {
+        TenantRouter.closeQuietly(database);
+        lock.lock();
+        try {
+            Tenant state = tenants.get(tenant);
+            if (state != null) {
+                state.open--;
+                open--;
+                if (state.open == 0) {
+                    tenants.remove(tenant);
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the connection which has been idle the longest, of any tenant. Must be called while holding the lock.
+     * @param closing The connections to close once the lock is released, which the connection is added to.
+     */
+    private void evictLongestIdle(List<Database> closing) {
+        String longestTenant = null;
+        Idle longest = null;
+        for (Map.Entry<String, Tenant> entry : tenants.entrySet()) {
+            Idle idle = entry.getValue().idle.peekFirst();
+            if (idle != null && (longest == null || idle.since - longest.since < 0)) {
+                longestTenant = entry.getKey();
+                longest = idle;
+            }
+        }
+        if (longestTenant != null) {
+            this.evict(longestTenant, tenants.get(longestTenant).idle.pollFirst(), closing);
+        }
+    }
+
+    /**
+     * Frees the room of an idle connection. Must be called while holding the lock.
+     *
+     * @param tenant The key of the tenant.
+     * @param idle The idle connection, which has already been removed.
+     * @param closing The connections to close once the lock is released, which the connection is added to.
+     */
+    private void evict(String tenant, Idle idle, List<Database> closing) {
+        closing.add(idle.database);
+        Tenant state = tenants.get(tenant);
+        state.open--;
+        open--;
+        evictions++;
+        if (state.open == 0) {
+            tenants.remove(tenant);
+        }
+    }
+
+    /**
+     * Closes every connection which has been idle for longer than the idle timeout. Runs in the background
+     * regularly, but can also be called at any time.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        ArrayList<Database> closing = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Map.Entry<String, Tenant> entry : new ArrayList<>(tenants.entrySet())) {
+                ArrayDeque<Idle> idle = entry.getValue().idle;
+                while (!idle.isEmpty() && now - idle.peekFirst().since >= TimeUnit.MILLISECONDS.toNanos(idleTimeout)) {
+                    this.evict(entry.getKey(), idle.pollFirst(), closing);
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        TenantRouter.closeQuietly(closing);
+    }
+
+    /**
+     * Schedules closing idle connections at a regular interval of half the idle timeout.
+     */
+    private void scheduleEviction() {
+        if (eviction != null) {
+            eviction.cancel(false);
+        }
+        long interval = Math.max(idleTimeout / 2, 1);
+        Eviction task = new Eviction(this);
+        eviction = EVICTION_SCHEDULER.scheduleWithFixedDelay(task, interval, interval, TimeUnit.MILLISECONDS);
+        task.future = eviction;
+    }
+
+    /**
+     * Closes every idle connection and stops handing out connections. Connections still leased are closed once released.
+     */
+    @Override
+    public void close() {
+        eviction.cancel(false);
+        ArrayList<Database> closing = new ArrayList<>();
+        lock.lock();
+        try {
+            isClosed = true;
+            for (Map.Entry<String, Tenant> entry : new ArrayList<>(tenants.entrySet())) {
+                ArrayDeque<Idle> idle = entry.getValue().idle;
+                while (!idle.isEmpty()) {
+                    this.evict(entry.getKey(), idle.pollFirst(), closing);
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        TenantRouter.closeQuietly(closing);
+    }
+
+    /**
+     * Creates the scheduler closing idle connections, which removes the task of a router as soon as it is cancelled.
+     * @return The scheduler.
+     */
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "Javabase-Tenant-Eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Closes a database, ignoring any failure.
+     * @param database The database to close.
+     */
+    private static void closeQuietly(Database database) {
+        try {
+            database.disconnect();
+        } catch (SQLException ignored) {
+            // The connection is already broken
+        }
+    }
+
+    /**
+     * Closes every database, ignoring any failure.
+     * @param databases The databases to close.
+     */
+    private static void closeQuietly(List<Database> databases) {
+        for (Database database : databases) {
+            TenantRouter.closeQuietly(database);
+        }
+    }
+
+    /**
+     * Sets the credentials every connection logs in with. Ignored if the database type is SQLite.
+     *
+     * @param username The username to login with.
+     * @param password The password to login with.
+     * @return The TenantRouter.
+     */
+    public TenantRouter setCredentials(@NotNull String username, @NotNull String password) {
+        return this.setCredentials(username, () -> password);
+    }
+
+    /**
+     * Sets the credentials every connection logs in with, asking the supplier for the password whenever a connection
+     * is opened instead of keeping it. Ignored if the database type is SQLite.
+     *
+     * @param username The username to login with.
+     * @param password Supplies the password to login with.
+     * @return The TenantRouter.
+     */
+    public TenantRouter setCredentials(@NotNull String username, @NotNull Supplier<String> password) {
+        this.username = username;
+        this.password = password;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of connections open to every tenant together. Defaults to 100.
+     *
+     * @param maxConnections The maximum amount of connections open to every tenant together.
+     * @return The TenantRouter.
+     */
+    public TenantRouter setMaxConnections(int maxConnections) {
+        lock.lock();
+        try {
+            this.maxConnections = maxConnections;
+        } finally {
+            lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of connections open to a single tenant. Defaults to 4.
+     *
+     * @param maxConnectionsPerTenant The maximum amount of connections open to a single tenant.
+     * @return The TenantRouter.
+     */
+    public TenantRouter setMaxConnectionsPerTenant(int maxConnectionsPerTenant) {
+        lock.lock();
+        try {
+            this.maxConnectionsPerTenant = maxConnectionsPerTenant;
+        } finally {
+            lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Sets the amount of milliseconds a request waits at most for a connection to be released. Waiting never
+     * continues past the current {@link Deadline}. Defaults to 5000.
+     *
+     * @param maxWait The amount of milliseconds a request waits at most.
+     * @return The TenantRouter.
+     */
+    public TenantRouter setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+        return this;
+    }
+
+    /**
+     * Sets the amount of milliseconds a connection may be left unused before it is closed. Defaults to 5 minutes.
+     *
+     * @param idleTimeout The amount of milliseconds a connection may be left unused.
+     * @return The TenantRouter.
+     */
+    public TenantRouter setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        this.scheduleEviction();
+        return this;
+    }
+
+    /**
+     * Sets the configurer applied to every new {@link Database} before it connects, used to set options such as the
+     * query timeout or a {@link CircuitBreaker}.
+     *
+     * @param configurer The configurer applied to every new {@link Database}.
+     * @return The TenantRouter.
+     */
+    public TenantRouter setConfigurer(@NotNull Consumer<Database> configurer) {
+        this.configurer = configurer;
+        return this;
+    }
+
+    /**
+     * Returns the amount of connections open to every tenant together, including the idle ones.
+     * @return The amount of connections open to every tenant together.
+     */
+    public int getOpenConnections() {
+        lock.lock();
+        try {
+            return open;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the amount of connections open to the specified tenant, including the idle ones.
+     *
+     * @param tenant The key of the tenant.
+     * @return The amount of connections open to the tenant.
+     */
+    public int getOpenConnections(@NotNull String tenant) {
+        lock.lock();
+        try {
+            Tenant state = tenants.get(tenant);
+            return state != null ? state.open : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the amount of connections which are open but not currently handed out.
+     * @return The amount of idle connections.
+     */
+    public int getIdleConnections() {
+        lock.lock();
+        try {
+            int idle = 0;
+            for (Tenant state : tenants.values()) {
+                idle += state.idle.size();
+            }
+            return idle;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the amount of idle connections which have been closed to free their room or because of the idle timeout.
+     * @return The amount of idle connections closed.
+     */
+    public long getEvictions() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TenantRouter{" +
+                "host='" + host + '\'' +
+                ", type=" + type +
+                ", tenants=" + this.tenantCount() +
+                ", open=" + this.getOpenConnections() +
+                ", idle=" + this.getIdleConnections() +
+                ", evictions=" + this.getEvictions() +
+                '}';
+    }
+
+    /**
+     * Returns the amount of tenants with an open connection.
+     * @return The amount of tenants with an open connection.
+     */
+    private int tenantCount() {
+        lock.lock();
+        try {
+            return tenants.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A connection handed out to a tenant, released by closing it.
+     */
+    public class Lease implements AutoCloseable {
+
+        // Constructor Arguments
+        private String tenant;
+        private Database database;
+
+        // Released
+        private boolean isReleased = false;
+
+        /**
+         * Creates a new Lease.
+         *
+         * @param tenant The key of the tenant.
+         * @param database The connection handed out.
+         */
+        private Lease(String tenant, Database database) {
+            this.tenant = tenant;
+            this.database = database;
+        }
+
+        /**
+         * Returns the connection to the database of the tenant.
+         * @return The connection to the database of the tenant.
+         * @throws IllegalStateException Thrown if the lease has already been released.
+         */
+        public Database getDatabase() {
+            if (isReleased) {
+                throw new IllegalStateException("The connection to the tenant " + tenant + " has already been released!");
+            }
+            return database;
+        }
+
+        /**
+         * Returns the key of the tenant.
+         * @return The key of the tenant.
+         */
+        public String getTenant() {
+            return tenant;
+        }
+
+        /**
+         * Releases the connection, so that it can be handed out again. Releasing more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (!isReleased) {
+                isReleased = true;
+                TenantRouter.this.release(tenant, database);
+            }
+        }
+
+    }
+
+    /**
+     * Runs an action with a connection to the database of a tenant.
+     *
+     * @param <T> The type of value returned by the action.
+     */
+    @FunctionalInterface
+    public interface TenantCall<T> {
+
+        /**
+         * Runs the action.
+         *
+         * @param database The connection to the database of the tenant.
+         * @return The value returned by the action.
+         * @throws Exception Thrown if the action failed.
+         */
+        T call(Database database) throws Exception;
+
+    }
+
+    /**
+     * The connections open to a single tenant.
+     */
+    private static class Tenant {
+
+        // Open connections, including the idle ones
+        private int open = 0;
+
+        // Idle connections, the longest idle first
+        private ArrayDeque<Idle> idle = new ArrayDeque<>();
+
+    }
+
+    /**
+     * Closes the idle connections of a router at a regular interval. Only refers to the router weakly, so a router
+     * which is never closed can still be garbage collected, after which the task cancels itself.
+     */
+    private static class Eviction implements Runnable {
+
+        private final WeakReference<TenantRouter> router;
+        private volatile ScheduledFuture<?> future;
+
+        Eviction(TenantRouter router) {
+            this.router = new WeakReference<>(router);
+        }
+
+        @Override
+        public void run() {
+            TenantRouter router = this.router.get();
+            if (router != null) {
+                router.evictIdle();
+            } else if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+    }
+
+    /**
+     * A connection which is not currently handed out.
+     */
+    private static class Idle {
+
+        private Database database;
+        private long since;
+
+        Idle(Database database, long since) {
+            this.database = database;
+            this.since = since;
+        }
+
+    }
+
+}
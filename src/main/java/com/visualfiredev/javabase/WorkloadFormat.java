@@ -0,0 +1,282 @@
+package com.visualfiredev.javabase;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Defines the binary format of the logs written by {@link WorkloadRecorder} and read by {@link WorkloadReader}.
+ *
+ * <p>
+ *     A log starts with the magic bytes "JBWL" and a version, followed by records which each start with a tag.
+ *     Every distinct SQL string and thread is written once and then referred to by a number, and every number is
+ *     written as a variable-length integer, so a statement usually takes a few bytes plus its parameters. At most
+ *     {@link WorkloadFormat#MAX_SHAPES} SQL strings are numbered at once: a shape record may reuse the number of an
+ *     earlier one, replacing its SQL for every statement that follows.
+ * </p>
+ */
+final class WorkloadFormat {
+
+    // Header
+    static final int MAGIC = 0x4A42574C; // "JBWL"
+    static final int VERSION = 1;
+
+    // The amount of SQL strings numbered at once, which bounds the memory used by the recorder and the reader
+    static final int MAX_SHAPES = 4096;
+
+    // Record Tags
+    static final int TAG_SHAPE = 1;
+    static final int TAG_THREAD = 2;
+    static final int TAG_STATEMENT = 3;
+
+    // Statement Flags
+    static final int FLAG_FAILED = 1;
+    static final int FLAG_PARAMETERS = 2;
+
+    // Value Types
+    private static final int TYPE_NULL = 0;
+    private static final int TYPE_INTEGER = 1;
+    private static final int TYPE_LONG = 2;
+    private static final int TYPE_DOUBLE = 3;
+    private static final int TYPE_FLOAT = 4;
+    private static final int TYPE_STRING = 5;
+    private static final int TYPE_BYTES = 6;
+    private static final int TYPE_BOOLEAN = 7;
+    private static final int TYPE_BIG_DECIMAL = 8;
+    private static final int TYPE_BIG_INTEGER = 9;
+    private static final int TYPE_TIMESTAMP = 10;
+    private static final int TYPE_DATE = 11;
+    private static final int TYPE_TIME = 12;
+    private static final int TYPE_SHORT = 13;
+    private static final int TYPE_BYTE = 14;
+
+    /**
+     * Utility class.
+     */
+    private WorkloadFormat() {
+    }
+
+    /**
+     * Writes a number which is not negative, using 7 bits per byte.
+     *
+     * @param out The stream to write to.
+     * @param value The number.
+     * @throws IOException Thrown if writing failed.
+     */
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a number written by {@link WorkloadFormat#writeVarLong(DataOutputStream, long)}.
+     *
+     * @param in The stream to read from.
+     * @return The number.
+     * @throws IOException Thrown if reading failed or the number is malformed.
+     */
+    static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed workload log: a number is too long!");
+    }
+
+    /**
+     * Writes a number which may be negative, using zig-zag encoding so that small negative numbers stay short.
+     *
+     * @param out The stream to write to.
+     * @param value The number.
+     * @throws IOException Thrown if writing failed.
+     */
+    static void writeSignedVarLong(DataOutputStream out, long value) throws IOException {
+        WorkloadFormat.writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Reads a number written by {@link WorkloadFormat#writeSignedVarLong(DataOutputStream, long)}.
+     *
+     * @param in The stream to read from.
+     * @return The number.
+     * @throws IOException Thrown if reading failed or the number is malformed.
+     */
+    static long readSignedVarLong(DataInputStream in) throws IOException {
+        long value = WorkloadFormat.readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes a string as its length followed by its UTF-8 bytes.
+     *
+     * @param out The stream to write to.
+     * @param value The string.
+     * @throws IOException Thrown if writing failed.
+     */
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        WorkloadFormat.writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link WorkloadFormat#writeString(DataOutputStream, String)}.
+     *
+     * @param in The stream to read from.
+     * @return The string.
+     * @throws IOException Thrown if reading failed.
+     */
+    static String readString(DataInputStream in) throws IOException {
+        return new String(WorkloadFormat.readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads bytes preceded by their length.
+     *
+     * @param in The stream to read from.
+     * @return The bytes.
+     * @throws IOException Thrown if reading failed or the length is malformed.
+     */
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        long length = WorkloadFormat.readVarLong(in);
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Malformed workload log: a value is too long!");
+        }
+        byte[] bytes = new byte[(int) length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes a bound value with its type. Values of unknown types are written as their string.
+     *
+     * @param out The stream to write to.
+     * @param value The value.
+     * @throws IOException Thrown if writing failed.
+     */
+    static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            WorkloadFormat.writeSignedVarLong(out, (Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            WorkloadFormat.writeSignedVarLong(out, (Long) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            WorkloadFormat.writeSignedVarLong(out, (Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof byte[]) {
+            out.writeByte(TYPE_BYTES);
+            WorkloadFormat.writeVarLong(out, ((byte[]) value).length);
+            out.write((byte[]) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(TYPE_BIG_DECIMAL);
+            WorkloadFormat.writeString(out, value.toString());
+        } else if (value instanceof BigInteger) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            WorkloadFormat.writeString(out, value.toString());
+        } else if (value instanceof java.sql.Timestamp) {
+            out.writeByte(TYPE_TIMESTAMP);
+            WorkloadFormat.writeSignedVarLong(out, ((java.sql.Timestamp) value).getTime());
+            WorkloadFormat.writeVarLong(out, ((java.sql.Timestamp) value).getNanos());
+        } else if (value instanceof java.sql.Time) {
+            out.writeByte(TYPE_TIME);
+            WorkloadFormat.writeSignedVarLong(out, ((java.sql.Time) value).getTime());
+        } else if (value instanceof java.util.Date) {
+            out.writeByte(TYPE_DATE);
+            WorkloadFormat.writeSignedVarLong(out, ((java.util.Date) value).getTime());
+        } else {
+            out.writeByte(TYPE_STRING);
+            WorkloadFormat.writeString(out, value.toString());
+        }
+    }
+
+    /**
+     * Reads a value written by {@link WorkloadFormat#writeValue(DataOutputStream, Object)}. Dates are read as
+     * {@link java.sql.Date}, so that they can be bound again.
+     *
+     * @param in The stream to read from.
+     * @return The value.
+     * @throws IOException Thrown if reading failed or the type is unknown.
+     */
+    static Object readValue(DataInputStream in) throws IOException {
+        int type = in.readUnsignedByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_INTEGER:
+                return (int) WorkloadFormat.readSignedVarLong(in);
+            case TYPE_LONG:
+                return WorkloadFormat.readSignedVarLong(in);
+            case TYPE_SHORT:
+                return (short) WorkloadFormat.readSignedVarLong(in);
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_BYTES:
+                return WorkloadFormat.readBytes(in);
+            case TYPE_STRING:
+                return WorkloadFormat.readString(in);
+            case TYPE_BIG_DECIMAL:
+                return new BigDecimal(WorkloadFormat.readString(in));
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(WorkloadFormat.readString(in));
+            case TYPE_TIMESTAMP: {
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(WorkloadFormat.readSignedVarLong(in));
+                timestamp.setNanos((int) WorkloadFormat.readVarLong(in));
+                return timestamp;
+            }
+            case TYPE_TIME:
+                return new java.sql.Time(WorkloadFormat.readSignedVarLong(in));
+            case TYPE_DATE:
+                return new java.sql.Date(WorkloadFormat.readSignedVarLong(in));
+            default:
+                throw new IOException("Malformed workload log: unknown value type " + type + "!");
+        }
+    }
+
+    /**
+     * Reads the tag of the next record.
+     *
+     * @param in The stream to read from.
+     * @return The tag, or -1 at the end of the log.
+     * @throws IOException Thrown if reading failed.
+     */
+    static int readTag(DataInputStream in) throws IOException {
+        try {
+            return in.readUnsignedByte();
+        } catch (EOFException e) {
+            return -1;
+        }
+    }
+
+}
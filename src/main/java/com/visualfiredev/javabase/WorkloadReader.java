@@ -0,0 +1,153 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Reads the statements in a log written by a {@link WorkloadRecorder}, one at a time and in the order they were
+ * recorded. A log which was not closed properly is read up to its last complete statement.
+ */
+public class WorkloadReader implements Closeable {
+
+    // Log File
+    private final DataInputStream in;
+
+    // Shapes & Threads Read So Far
+    private final ArrayList<String> shapes = new ArrayList<>();
+    private final HashMap<Long, String> threads = new HashMap<>();
+
+    /**
+     * Opens the specified log, reading its header.
+     *
+     * @param file The log to read.
+     * @throws IOException Thrown if the file could not be opened or is not a workload log.
+     */
+    public WorkloadReader(File file) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024));
+
+        // Header
+        try {
+            if (in.readInt() != WorkloadFormat.MAGIC) {
+                throw new IOException("The file " + file + " is not a workload log!");
+            }
+            int version = in.readUnsignedByte();
+            if (version != WorkloadFormat.VERSION) {
+                throw new IOException("The workload log " + file + " has the unsupported version " + version + "!");
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e instanceof EOFException ? new IOException("The file " + file + " is not a workload log!", e) : e;
+        }
+    }
+
+    /**
+     * Reads the next statement.
+     *
+     * @return The next statement, or null if there are no more.
+     * @throws IOException Thrown if reading failed or the log is malformed.
+     */
+    @Nullable
+    public RecordedStatement read() throws IOException {
+        try {
+            while (true) {
+                int tag = WorkloadFormat.readTag(in);
+                switch (tag) {
+                    case -1:
+                        return null;
+                    case WorkloadFormat.TAG_SHAPE:
+                        long shape = WorkloadFormat.readVarLong(in);
+                        if (shape > shapes.size() || shape >= WorkloadFormat.MAX_SHAPES) {
+                            throw new IOException("Malformed workload log: a statement shape is out of order!");
+                        } else if (shape == shapes.size()) {
+                            shapes.add(WorkloadFormat.readString(in));
+                        } else {
+                            shapes.set((int) shape, WorkloadFormat.readString(in));
+                        }
+                        break;
+                    case WorkloadFormat.TAG_THREAD:
+                        threads.put(WorkloadFormat.readVarLong(in), WorkloadFormat.readString(in));
+                        break;
+                    case WorkloadFormat.TAG_STATEMENT:
+                        return this.readStatement();
+                    default:
+                        throw new IOException("Malformed workload log: unknown record " + tag + "!");
+                }
+            }
+        } catch (EOFException e) {
+            // Incomplete Last Statement (The recording was not closed)
+            return null;
+        }
+    }
+
+    /**
+     * Reads every remaining statement. Only suitable for logs which fit in memory.
+     *
+     * @return A List of every remaining statement, in order.
+     * @throws IOException Thrown if reading failed or the log is malformed.
+     */
+    public List<RecordedStatement> readAll() throws IOException {
+        ArrayList<RecordedStatement> statements = new ArrayList<>();
+        RecordedStatement statement;
+        while ((statement = this.read()) != null) {
+            statements.add(statement);
+        }
+        return statements;
+    }
+
+    /**
+     * Reads a statement record, after its tag.
+     *
+     * @return The statement.
+     * @throws IOException Thrown if reading failed or the log is malformed.
+     */
+    private RecordedStatement readStatement() throws IOException {
+        // Shape & Thread
+        long shape = WorkloadFormat.readVarLong(in);
+        if (shape >= shapes.size()) {
+            throw new IOException("Malformed workload log: unknown statement shape " + shape + "!");
+        }
+        long threadId = WorkloadFormat.readVarLong(in);
+        String threadName = threads.get(threadId);
+        if (threadName == null) {
+            throw new IOException("Malformed workload log: unknown thread " + threadId + "!");
+        }
+
+        // Outcome
+        long offset = WorkloadFormat.readVarLong(in);
+        long duration = WorkloadFormat.readVarLong(in);
+        long rows = WorkloadFormat.readSignedVarLong(in);
+        int flags = in.readUnsignedByte();
+
+        // Parameters
+        List<Object> parameters = Collections.emptyList();
+        boolean parametersKnown = (flags & WorkloadFormat.FLAG_PARAMETERS) != 0;
+        if (parametersKnown) {
+            long count = WorkloadFormat.readVarLong(in);
+            if (count > 0) {
+                parameters = new ArrayList<>();
+                for (long i = 0; i < count; i++) {
+                    parameters.add(WorkloadFormat.readValue(in));
+                }
+            }
+        }
+
+        return new RecordedStatement(shapes.get((int) shape), parameters, parametersKnown, threadId, threadName, offset, duration, rows, (flags & WorkloadFormat.FLAG_FAILED) != 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+}
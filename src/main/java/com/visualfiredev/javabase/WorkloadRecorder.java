@@ -0,0 +1,200 @@
+package com.visualfiredev.javabase;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records every statement run by a database to a binary log file, set using
+ * {@link Database#setWorkloadRecorder(WorkloadRecorder)}. The log can be read using a {@link WorkloadReader} and run
+ * again against another database using a {@link WorkloadReplayer}.
+ *
+ * <p>
+ *     Every statement is recorded with its SQL, the values bound to it, when it started, how long it took, how many
+ *     rows it returned or changed, whether it failed, and the thread which ran it. The log is compact: every thread
+ *     and every recently used SQL string is only written once, and numbers take as few bytes as they need. Statements
+ *     which inline their values into the SQL, such as those created from objects, rarely repeat, so only the
+ *     {@link WorkloadFormat#MAX_SHAPES} most recently used SQL strings are remembered. Any other SQL string takes the
+ *     place of the least recently used one, and is written again if it is run again after being replaced.
+ *     <br><br>
+ *     Recording costs capturing the parameters of every statement and a short synchronized write to a buffer. If
+ *     writing to the file fails, recording stops and the failure is available from
+ *     {@link WorkloadRecorder#getError()}, while the statements themselves are unaffected. The recorder should be
+ *     closed once recording is done, which flushes the buffer to the file.
+ * </p>
+ */
+public class WorkloadRecorder implements Closeable {
+
+    // Log File
+    private final File file;
+    private final DataOutputStream out;
+    private final long startNanos;
+
+    // Written Shapes (Least recently used first) & Threads
+    private final LinkedHashMap<String, Integer> shapes = new LinkedHashMap<>(16, 0.75f, true);
+    private final HashSet<Long> threads = new HashSet<>();
+
+    // State
+    private long recorded = 0;
+    private boolean isClosed = false;
+    private IOException error = null;
+
+    /**
+     * Creates a new WorkloadRecorder writing to the specified file, replacing it if it already exists. Statements
+     * are timed relative to when the recorder was created.
+     *
+     * @param file The file to write the log to.
+     * @throws IOException Thrown if the file could not be created.
+     */
+    public WorkloadRecorder(File file) throws IOException {
+        this.file = file;
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024));
+        this.startNanos = System.nanoTime();
+
+        // Header
+        out.writeInt(WorkloadFormat.MAGIC);
+        out.writeByte(WorkloadFormat.VERSION);
+    }
+
+    /**
+     * Records a statement.
+     *
+     * @param sql The SQL of the statement.
+     * @param parameters The values bound to the statement, in order, or null if they are not known.
+     * @param startNanos When the statement started, from {@link System#nanoTime()}.
+     * @param durationNanos How long the statement took, in nanoseconds.
+     * @param rows The amount of rows returned or changed, or -1 if unknown.
+     * @param failed True if the statement failed, otherwise false.
+     */
+    synchronized void record(String sql, @Nullable Object[] parameters, long startNanos, long durationNanos, long rows, boolean failed) {
+        if (isClosed) {
+            return;
+        }
+        try {
+            // Shape (Written the first time it is seen, replacing the least recently used once full)
+            Integer shape = shapes.get(sql);
+            if (shape == null) {
+                if (shapes.size() < WorkloadFormat.MAX_SHAPES) {
+                    shape = shapes.size();
+                } else {
+                    Iterator<Map.Entry<String, Integer>> eldest = shapes.entrySet().iterator();
+                    shape = eldest.next().getValue();
+                    eldest.remove();
+                }
+                shapes.put(sql, shape);
+                out.writeByte(WorkloadFormat.TAG_SHAPE);
+                WorkloadFormat.writeVarLong(out, shape);
+                WorkloadFormat.writeString(out, sql);
+            }
+
+            // Thread (Written the first time it is seen)
+            Thread thread = Thread.currentThread();
+            long threadId = thread.getId();
+            if (threads.add(threadId)) {
+                out.writeByte(WorkloadFormat.TAG_THREAD);
+                WorkloadFormat.writeVarLong(out, threadId);
+                WorkloadFormat.writeString(out, thread.getName());
+            }
+
+            // Statement
+            out.writeByte(WorkloadFormat.TAG_STATEMENT);
+            WorkloadFormat.writeVarLong(out, shape);
+            WorkloadFormat.writeVarLong(out, threadId);
+            WorkloadFormat.writeVarLong(out, Math.max(0, startNanos - this.startNanos));
+            WorkloadFormat.writeVarLong(out, durationNanos);
+            WorkloadFormat.writeSignedVarLong(out, rows);
+            out.writeByte((failed ? WorkloadFormat.FLAG_FAILED : 0) | (parameters != null ? WorkloadFormat.FLAG_PARAMETERS : 0));
+            if (parameters != null) {
+                WorkloadFormat.writeVarLong(out, parameters.length);
+                for (Object parameter : parameters) {
+                    WorkloadFormat.writeValue(out, parameter);
+                }
+            }
+            recorded++;
+        } catch (IOException e) {
+            // Stop Recording (The statements themselves are unaffected)
+            error = e;
+            isClosed = true;
+            try {
+                out.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Writes any buffered statements to the file.
+     * @throws IOException Thrown if writing to the file failed.
+     */
+    public synchronized void flush() throws IOException {
+        if (!isClosed) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Stops recording, writing any buffered statements to the file. Statements run afterwards are not recorded.
+     * @throws IOException Thrown if writing to the file failed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!isClosed) {
+            isClosed = true;
+            out.close();
+        }
+    }
+
+    /**
+     * Returns the file the log is written to.
+     * @return The file the log is written to.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the amount of statements recorded.
+     * @return The amount of statements recorded.
+     */
+    public synchronized long getRecorded() {
+        return recorded;
+    }
+
+    /**
+     * Returns whether or not the recorder has been closed, either by {@link WorkloadRecorder#close()} or by writing
+     * to the file failing.
+     * @return True if the recorder has been closed, otherwise false.
+     */
+    public synchronized boolean isClosed() {
+        return isClosed;
+    }
+
+    /**
+     * Returns the failure which stopped recording, or null if writing to the file has not failed.
+     * @return The failure which stopped recording, or null.
+     */
+    @Nullable
+    public synchronized IOException getError() {
+        return error;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "WorkloadRecorder{" +
+                "file=" + file +
+                ", recorded=" + recorded +
+                ", isClosed=" + isClosed +
+                ", error=" + error +
+                '}';
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.metrics.Operation;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the statements in a log written by a {@link WorkloadRecorder} against a database, comparing how long they
+ * take with how long they took when they were recorded.
+ *
+ * <p>
+ *     Every thread which ran statements while recording is replayed by its own thread using its own
+ *     {@link Database#fork()} of the target, so statements from the same thread run in order while statements from
+ *     different threads run concurrently, as they did when recorded. Each statement is started at its original
+ *     offset divided by the speed, so a speed of 2 replays the workload twice as fast, while a speed of 0 runs
+ *     every statement as soon as the previous statement of its thread is done.
+ *     <br><br>
+ *     Every statement runs on its own, in auto-commit mode, as transactions are not recorded. Batches are skipped,
+ *     as their parameters are not recorded, and so are statements other than "SELECT" if only reads are replayed.
+ *     Replaying changes to a copy of the recorded database keeps later statements finding the rows they expect.
+ * </p>
+ */
+public class WorkloadReplayer {
+
+    // The amount of statements waiting for their thread before reading the log pauses
+    private static final int MAX_PENDING = 10_000;
+
+    // Constructor Arguments
+    private final File file;
+
+    // Replay Options
+    private double speed = 1;
+    private boolean readsOnly = false;
+    private boolean skipFailed = false;
+
+    /**
+     * Creates a new WorkloadReplayer for the specified log.
+     * @param file The log written by a {@link WorkloadRecorder}.
+     */
+    public WorkloadReplayer(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Sets how much faster than recorded the workload is replayed, such as 2 for twice as fast, or 0 to run every
+     * statement as soon as possible. Defaults to 1, replaying at the original speed.
+     *
+     * @param speed How much faster than recorded the workload is replayed, or 0 for as fast as possible.
+     * @return The WorkloadReplayer.
+     * @throws IllegalArgumentException Thrown if the speed is negative or not a number.
+     */
+    public WorkloadReplayer setSpeed(double speed) {
+        if (!(speed >= 0)) {
+            throw new IllegalArgumentException("The speed must be 0 or more!");
+        }
+        this.speed = speed;
+        return this;
+    }
+
+    /**
+     * Sets whether or not only "SELECT" statements are replayed, leaving the target unchanged. Defaults to false.
+     *
+     * @param readsOnly Whether or not only "SELECT" statements are replayed.
+     * @return The WorkloadReplayer.
+     */
+    public WorkloadReplayer setReadsOnly(boolean readsOnly) {
+        this.readsOnly = readsOnly;
+        return this;
+    }
+
+    /**
+     * Sets whether or not statements which failed when recorded are skipped. Defaults to false.
+     *
+     * @param skipFailed Whether or not statements which failed when recorded are skipped.
+     * @return The WorkloadReplayer.
+     */
+    public WorkloadReplayer setSkipFailed(boolean skipFailed) {
+        this.skipFailed = skipFailed;
+        return this;
+    }
+
+    /**
+     * Returns how much faster than recorded the workload is replayed, or 0 for as fast as possible.
+     * @return How much faster than recorded the workload is replayed.
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Returns whether or not only "SELECT" statements are replayed.
+     * @return Whether or not only "SELECT" statements are replayed.
+     */
+    public boolean isReadsOnly() {
+        return readsOnly;
+    }
+
+    /**
+     * Returns whether or not statements which failed when recorded are skipped.
+     * @return Whether or not statements which failed when recorded are skipped.
+     */
+    public boolean isSkipFailed() {
+        return skipFailed;
+    }
+
+    /**
+     * Replays the workload against the specified database, waiting until every statement has run. The database
+     * itself is not used, only forks of it, so it must be connected. The forks do not record the replayed statements.
+     *
+     * @param target The database to replay the workload against.
+     * @return The report comparing the recorded and replayed latencies.
+     * @throws NotConnectedException Thrown if the target is not connected.
+     * @throws MissingDriverException Thrown if the driver of the target could not be found.
+     * @throws ConnectionFailedException Thrown if a fork of the target could not connect.
+     * @throws SQLException Thrown if a generic SQL access error occurs.
+     * @throws IOException Thrown if the log could not be read.
+     * @throws InterruptedException Thrown if the thread was interrupted while replaying.
+     */
+    public ReplayReport replay(Database target) throws NotConnectedException, MissingDriverException, ConnectionFailedException, SQLException, IOException, InterruptedException {
+        ReplayReport report = new ReplayReport();
+        HashMap<Long, Worker> workers = new HashMap<>();
+        Semaphore pending = new Semaphore(MAX_PENDING);
+        long start = System.nanoTime();
+        try (WorkloadReader reader = new WorkloadReader(file)) {
+            RecordedStatement statement;
+            while ((statement = reader.read()) != null) {
+                report.recordEnd(statement);
+
+                // Skip
+                if (!statement.isParametersKnown() || (skipFailed && statement.isFailed()) || (readsOnly && Operation.of(statement.getSql()) != Operation.SELECT)) {
+                    report.recordSkipped(statement);
+                    continue;
+                }
+
+                // Wait Until The Statement Is Due
+                if (speed > 0) {
+                    long wait = start + (long) (statement.getOffsetNanos() / speed) - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                }
+
+                // Hand To The Thread Of The Statement
+                Worker worker = workers.get(statement.getThreadId());
+                if (worker == null) {
+                    Database fork = target.fork().setWorkloadRecorder(null);
+                    worker = new Worker(fork, statement.getThreadName());
+                    workers.put(statement.getThreadId(), worker);
+                }
+                pending.acquire();
+                RecordedStatement replayed = statement;
+                Database database = worker.database;
+                worker.executor.execute(() -> {
+                    try {
+                        report.recordReplayed(replayed, database.replay(replayed.getSql(), replayed.getParameters()));
+                    } catch (SQLException e) {
+                        report.recordError(replayed);
+                    } finally {
+                        pending.release();
+                    }
+                });
+            }
+
+            // Wait For Every Thread
+            for (Worker worker : workers.values()) {
+                worker.executor.shutdown();
+            }
+            for (Worker worker : workers.values()) {
+                worker.executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            }
+            report.setReplayedElapsed(System.nanoTime() - start);
+            return report;
+        } finally {
+            for (Worker worker : workers.values()) {
+                worker.executor.shutdownNow();
+                worker.database.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Replays the statements of one recorded thread, in order, using its own connection.
+     */
+    private static class Worker {
+
+        private final Database database;
+        private final ExecutorService executor;
+
+        /**
+         * Creates a new Worker.
+         *
+         * @param database The fork of the target used by the worker.
+         * @param threadName The name of the recorded thread.
+         */
+        private Worker(Database database, String threadName) {
+            this.database = database;
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "javabase-replay-" + threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+    }
+
+}
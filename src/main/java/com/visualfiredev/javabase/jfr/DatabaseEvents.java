@@ -0,0 +1,128 @@
+package com.visualfiredev.javabase.jfr;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Records the Java Flight Recorder events of Javabase, all found under the "Javabase" category of a recording.
+ *
+ * <p>
+ *     This is the Java 8 version, which records nothing, as "jdk.jfr" is not part of the Java 8 platform. The jar
+ *     is a multi-release jar, so Java 11 and newer load the version under "META-INF/versions/11" instead, which is
+ *     built from "src/main/java11" and records every event.
+ *     <br><br>
+ *     Every event is started by a "begin" method, which returns null while the event is not enabled in any
+ *     recording, and finished by the matching "end" method.
+ * </p>
+ */
+public final class DatabaseEvents {
+
+    /**
+     * Utility class.
+     */
+    private DatabaseEvents() {
+    }
+
+    /**
+     * Begins timing a new connection.
+     * @return Always null, as no event is ever enabled.
+     */
+    @Nullable
+    public static Object beginConnect() {
+        return null;
+    }
+
+    /**
+     * Finishes timing a new connection.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginConnect()}.
+     * @param host The host of the database.
+     * @param database The name of the database.
+     * @param type The type of database.
+     * @param failed True if connecting failed, otherwise false.
+     */
+    public static void endConnect(Object handle, String host, String database, String type, boolean failed) {
+    }
+
+    /**
+     * Begins timing a check of whether a connection is still valid.
+     * @return Always null, as no event is ever enabled.
+     */
+    @Nullable
+    public static Object beginValidate() {
+        return null;
+    }
+
+    /**
+     * Finishes timing a check of whether a connection is still valid.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginValidate()}.
+     * @param host The host of the database.
+     * @param database The name of the database.
+     * @param valid True if the connection is valid, otherwise false.
+     */
+    public static void endValidate(Object handle, String host, String database, boolean valid) {
+    }
+
+    /**
+     * Begins timing the preparation of a statement.
+     * @return Always null, as no event is ever enabled.
+     */
+    @Nullable
+    public static Object beginPrepare() {
+        return null;
+    }
+
+    /**
+     * Finishes timing the preparation of a statement.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginPrepare()}.
+     * @param table The name of the table the statement uses, or an empty string.
+     * @param operation The kind of statement.
+     * @param sqlHash The hash code of the SQL.
+     */
+    public static void endPrepare(Object handle, String table, String operation, int sqlHash) {
+    }
+
+    /**
+     * Begins timing a statement.
+     * @return Always null, as no event is ever enabled.
+     */
+    @Nullable
+    public static Object beginExecute() {
+        return null;
+    }
+
+    /**
+     * Finishes timing a statement.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginExecute()}.
+     * @param table The name of the table the statement uses, or an empty string.
+     * @param operation The kind of statement.
+     * @param sqlHash The hash code of the SQL.
+     * @param rows The amount of rows returned or changed, or -1 if unknown.
+     * @param failed True if the statement failed, otherwise false.
+     */
+    public static void endExecute(Object handle, String table, String operation, int sqlHash, long rows, boolean failed) {
+    }
+
+    /**
+     * Begins timing the mapping of rows to objects.
+     * @return Always null, as no event is ever enabled.
+     */
+    @Nullable
+    public static Object beginMap() {
+        return null;
+    }
+
+    /**
+     * Finishes timing the mapping of rows to objects.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginMap()}.
+     * @param table The name of the table the rows were selected from.
+     * @param objectClass The class the rows were mapped to.
+     * @param rows The amount of rows mapped.
+     */
+    public static void endMap(Object handle, String table, Class<?> objectClass, long rows) {
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.visualfiredev.javabase.metrics;
+
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the count, error count, rows, bytes, and latency histogram of every kind of statement on every table in
+ * memory. Added to a database using {@link com.visualfiredev.javabase.Database#addMetricsListener(MetricsListener)},
+ * and can be shared between databases.
+ *
+ * <p>
+ *     Once a kind of statement has been seen on a table, this listener records it again without allocating. The
+ *     database calling it may still allocate while finding the kind and table of the statement.
+ * </p>
+ */
+public class DatabaseMetrics implements MetricsListener {
+
+    // Metrics Of Every Operation, By Table
+    private final ConcurrentHashMap<String, OperationMetrics[]> tables = new ConcurrentHashMap<>();
+
+    @Override
+    public void onStatement(@NotNull Operation operation, @NotNull String table, long durationNanos, long rows, long bytes, boolean failed) {
+        OperationMetrics[] operations = tables.get(table);
+        if (operations == null) {
+            operations = tables.computeIfAbsent(table, DatabaseMetrics::createOperations);
+        }
+        operations[operation.ordinal()].record(durationNanos, rows, bytes, failed);
+    }
+
+    /**
+     * Creates the metrics of every operation on a table.
+     *
+     * @param table The name of the table.
+     * @return The metrics of every operation, indexed by their ordinal.
+     */
+    private static OperationMetrics[] createOperations(String table) {
+        Operation[] values = Operation.values();
+        OperationMetrics[] operations = new OperationMetrics[values.length];
+        for (Operation operation : values) {
+            operations[operation.ordinal()] = new OperationMetrics(operation, table);
+        }
+        return operations;
+    }
+
+    /**
+     * Returns the metrics of a kind of statement on the specified table.
+     *
+     * @param operation The kind of statement.
+     * @param table The name of the table, or an empty string for statements without a table.
+     * @return The metrics, or null if no statement has used the table yet.
+     */
+    @Nullable
+    public OperationMetrics getMetrics(@NotNull Operation operation, @NotNull String table) {
+        OperationMetrics[] operations = tables.get(table);
+        return operations != null ? operations[operation.ordinal()] : null;
+    }
+
+    /**
+     * Returns the metrics of a kind of statement on the specified table.
+     *
+     * @param operation The kind of statement.
+     * @param tableSchema The table.
+     * @return The metrics, or null if no statement has used the table yet.
+     */
+    @Nullable
+    public OperationMetrics getMetrics(@NotNull Operation operation, @NotNull TableSchema tableSchema) {
+        return this.getMetrics(operation, tableSchema.getName());
+    }
+
+    /**
+     * Returns the metrics of every kind of statement on every table, skipping the ones which never ran.
+     * @return An ArrayList of the metrics.
+     */
+    public ArrayList<OperationMetrics> getAllMetrics() {
+        ArrayList<OperationMetrics> metrics = new ArrayList<>();
+        for (OperationMetrics[] operations : tables.values()) {
+            for (OperationMetrics operation : operations) {
+                if (operation.getCount() > 0) {
+                    metrics.add(operation);
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Forgets every metric.
+     */
+    public void reset() {
+        tables.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseMetrics{" +
+                "metrics=" + this.getAllMetrics() +
+                '}';
+    }
+
+}
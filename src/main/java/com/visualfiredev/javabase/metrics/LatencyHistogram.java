@@ -0,0 +1,137 @@
+package com.visualfiredev.javabase.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts durations in logarithmic buckets, in the style of an HDR histogram, to report percentiles of latency.
+ *
+ * <p>
+ *     Every power of two is split into 16 buckets, so any recorded value is reported within 6.25% of its actual
+ *     value, from a nanosecond up to centuries, using a fixed amount of memory. Recording is lock-free and never
+ *     allocates, so it can be done on every statement. Percentiles are calculated when read, and report the highest
+ *     value of the bucket they fall into.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    // Every power of two is split into 2^SUB_BUCKET_BITS buckets
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    // Counts
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration.
+     * @param nanos The duration, in nanoseconds. Negative durations are recorded as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(LatencyHistogram.getBucket(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+
+        // Highest Value
+        long highest = max.get();
+        while (value > highest && !max.compareAndSet(highest, value)) {
+            highest = max.get();
+        }
+    }
+
+    /**
+     * Returns the duration below or at which the specified percentile of durations fall, such as 0.99 for the 99th percentile.
+     *
+     * @param percentile The percentile, from 0 to 1.
+     * @return The duration, in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        // Find The Bucket Containing The Rank
+        long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 1) * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.getHighestValue(bucket), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Returns the amount of durations recorded.
+     * @return The amount of durations recorded.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the average duration, in nanoseconds, or 0 if nothing has been recorded.
+     * @return The average duration, in nanoseconds.
+     */
+    public double getMean() {
+        long total = count.get();
+        return total == 0 ? 0 : (double) sum.get() / total;
+    }
+
+    /**
+     * Returns the longest duration recorded, in nanoseconds.
+     * @return The longest duration recorded, in nanoseconds.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Finds the bucket of a value.
+     *
+     * @param value The value, which is not negative.
+     * @return The index of the bucket.
+     */
+    static int getBucket(long value) {
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude < SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Finds the highest value stored in a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The highest value stored in the bucket.
+     */
+    static long getHighestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (1L << (shift + SUB_BUCKET_BITS)) | ((long) (bucket % SUB_BUCKETS) << shift);
+        return lowest + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + this.getCount() +
+                ", meanMicros=" + TimeUnit.NANOSECONDS.toMicros((long) this.getMean()) +
+                ", p50Micros=" + TimeUnit.NANOSECONDS.toMicros(this.getPercentile(0.5)) +
+                ", p99Micros=" + TimeUnit.NANOSECONDS.toMicros(this.getPercentile(0.99)) +
+                ", maxMicros=" + TimeUnit.NANOSECONDS.toMicros(this.getMax()) +
+                '}';
+    }
+
+}
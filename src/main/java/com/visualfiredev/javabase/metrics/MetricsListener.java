@@ -0,0 +1,34 @@
+package com.visualfiredev.javabase.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the outcome of every statement run by a {@link com.visualfiredev.javabase.Database}, used to bridge
+ * Javabase to a metrics system.
+ *
+ * <p>
+ *     Listeners are added to a single database using {@link com.visualfiredev.javabase.Database#addMetricsListener(MetricsListener)},
+ *     or to every database by listing the implementation in a "META-INF/services/com.visualfiredev.javabase.metrics.MetricsListener"
+ *     file, which is found using {@link java.util.ServiceLoader}. Listeners found this way must have a public blank
+ *     constructor.
+ *     <br><br>
+ *     Listeners are called on the thread which ran the statement, right after it finished, so they must be
+ *     thread-safe and fast. {@link DatabaseMetrics} is a listener keeping counts and latency histograms in memory.
+ * </p>
+ */
+public interface MetricsListener {
+
+    /**
+     * Called once a statement has finished, whether it succeeded or failed. Every attempt of a retried statement is
+     * reported on its own.
+     *
+     * @param operation The kind of statement.
+     * @param table The name of the table the statement used, or an empty string if it did not use a table.
+     * @param durationNanos How long the statement took, including reading its results, in nanoseconds.
+     * @param rows The amount of rows returned or changed, or -1 if unknown.
+     * @param bytes An estimate of the size of the values returned, in bytes, or 0 if nothing was returned.
+     * @param failed True if the statement failed, otherwise false.
+     */
+    void onStatement(@NotNull Operation operation, @NotNull String table, long durationNanos, long rows, long bytes, boolean failed);
+
+}
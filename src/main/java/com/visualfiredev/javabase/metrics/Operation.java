@@ -0,0 +1,81 @@
+package com.visualfiredev.javabase.metrics;
+
+/**
+ * Defines the kinds of statements a {@link com.visualfiredev.javabase.Database} runs, as reported to a {@link MetricsListener}.
+ */
+public enum Operation {
+
+    /**
+     * Reads rows, such as "SELECT".
+     */
+    SELECT,
+
+    /**
+     * Adds rows, such as "INSERT" or "REPLACE".
+     */
+    INSERT,
+
+    /**
+     * Changes rows, such as "UPDATE".
+     */
+    UPDATE,
+
+    /**
+     * Removes rows, such as "DELETE".
+     */
+    DELETE,
+
+    /**
+     * Changes the schema, such as "CREATE TABLE" or "DROP INDEX".
+     */
+    SCHEMA,
+
+    /**
+     * Any statement run using the raw methods of {@link com.visualfiredev.javabase.Database}, such as
+     * {@link com.visualfiredev.javabase.Database#rawQuery(String)}.
+     */
+    RAW,
+
+    /**
+     * Any other statement, such as "PRAGMA".
+     */
+    OTHER;
+
+    /**
+     * Finds the kind of statement from the first keyword of the SQL.
+     *
+     * @param sql The SQL of the statement.
+     * @return The kind of statement.
+     */
+    public static Operation of(String sql) {
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        if (Operation.startsWith(sql, start, "SELECT") || Operation.startsWith(sql, start, "WITH")) {
+            return SELECT;
+        } else if (Operation.startsWith(sql, start, "INSERT") || Operation.startsWith(sql, start, "REPLACE")) {
+            return INSERT;
+        } else if (Operation.startsWith(sql, start, "UPDATE")) {
+            return UPDATE;
+        } else if (Operation.startsWith(sql, start, "DELETE")) {
+            return DELETE;
+        } else if (Operation.startsWith(sql, start, "CREATE") || Operation.startsWith(sql, start, "DROP") || Operation.startsWith(sql, start, "ALTER")) {
+            return SCHEMA;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Checks whether or not the SQL contains the keyword at the specified position, ignoring the case.
+     *
+     * @param sql The SQL.
+     * @param offset The position of the keyword.
+     * @param keyword The uppercase keyword.
+     * @return True if the SQL contains the keyword at the position, otherwise false.
+     */
+    private static boolean startsWith(String sql, int offset, String keyword) {
+        return sql.regionMatches(true, offset, keyword, 0, keyword.length());
+    }
+
+}
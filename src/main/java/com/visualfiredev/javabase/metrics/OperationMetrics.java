@@ -0,0 +1,123 @@
+package com.visualfiredev.javabase.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents the metrics of one kind of statement on one table, kept by {@link DatabaseMetrics}.
+ */
+public class OperationMetrics {
+
+    // Constructor Arguments
+    private Operation operation;
+    private String table;
+
+    // Metrics
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Creates a new OperationMetrics.
+     *
+     * @param operation The kind of statement.
+     * @param table The name of the table, or an empty string for statements without a table.
+     */
+    OperationMetrics(Operation operation, String table) {
+        this.operation = operation;
+        this.table = table;
+    }
+
+    /**
+     * Records the outcome of a statement.
+     *
+     * @param durationNanos How long the statement took, in nanoseconds.
+     * @param rows The amount of rows returned or changed, or -1 if unknown.
+     * @param bytes An estimate of the size of the values returned, in bytes.
+     * @param failed True if the statement failed, otherwise false.
+     */
+    void record(long durationNanos, long rows, long bytes, boolean failed) {
+        count.increment();
+        if (failed) {
+            errors.increment();
+        }
+        if (rows > 0) {
+            this.rows.add(rows);
+        }
+        if (bytes > 0) {
+            this.bytes.add(bytes);
+        }
+        latency.record(durationNanos);
+    }
+
+    /**
+     * Returns the kind of statement.
+     * @return The kind of statement.
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the name of the table, or an empty string for statements without a table.
+     * @return The name of the table.
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the amount of statements run, including the ones that failed.
+     * @return The amount of statements run.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the amount of statements that failed.
+     * @return The amount of statements that failed.
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the total amount of rows returned or changed, where known.
+     * @return The total amount of rows returned or changed.
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * Returns an estimate of the total size of the values returned, in bytes.
+     * @return An estimate of the total size of the values returned.
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Returns the histogram of how long the statements took.
+     * @return The histogram of how long the statements took.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics{" +
+                "operation=" + operation +
+                ", table='" + table + '\'' +
+                ", count=" + this.getCount() +
+                ", errors=" + this.getErrors() +
+                ", rows=" + this.getRows() +
+                ", bytes=" + this.getBytes() +
+                ", latency=" + latency +
+                '}';
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.visualfiredev.javabase.query;
+
+/**
+ * Defines the different aggregate functions that can be calculated by the database.
+ */
+public enum Aggregate {
+
+    /**
+     * Counts the rows, or the non-null values of a column.
+     */
+    COUNT("COUNT"),
+
+    /**
+     * Adds together the non-null values of a column.
+     */
+    SUM("SUM"),
+
+    /**
+     * Finds the lowest value of a column.
+     */
+    MIN("MIN"),
+
+    /**
+     * Finds the highest value of a column.
+     */
+    MAX("MAX"),
+
+    /**
+     * Finds the average of the non-null values of a column.
+     */
+    AVG("AVG");
+
+    // Instance Variables
+    private String function;
+
+    // Constructor
+    Aggregate(String function) {
+        this.function = function;
+    }
+
+    /**
+     * Returns the SQL function for this aggregate.
+     * @return The SQL function for this aggregate.
+     */
+    public String getFunction() {
+        return function;
+    }
+
+}
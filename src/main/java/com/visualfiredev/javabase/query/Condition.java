@@ -0,0 +1,443 @@
+package com.visualfiredev.javabase.query;
+
+import com.visualfiredev.javabase.DatabaseType;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Defines a typed condition for the "WHERE" clause of a {@link Query}, created using the static methods of this class.
+ *
+ * <p>
+ *     Every value is bound to a '?' parameter with its own type instead of being written into the SQL, so there is
+ *     no need to escape values and statements with the same shape can be reused. Conditions cannot be changed once
+ *     created, so they can be shared between queries and threads.
+ * </p>
+ */
+public abstract class Condition {
+
+    /**
+     * Created using the static methods.
+     */
+    Condition() {
+    }
+
+    /**
+     * Matches rows where the column equals the value, or where the column is null if the value is null.
+     *
+     * @param column The column to compare.
+     * @param value The value to compare against.
+     * @return The Condition.
+     */
+    public static Condition eq(@NotNull ColumnSchema column, @Nullable Object value) {
+        return value == null ? new NullCheck(column, true) : new Comparison(column, "=", value);
+    }
+
+    /**
+     * Matches rows where the column does not equal the value, or where the column is not null if the value is null.
+     *
+     * @param column The column to compare.
+     * @param value The value to compare against.
+     * @return The Condition.
+     */
+    public static Condition ne(@NotNull ColumnSchema column, @Nullable Object value) {
+        return value == null ? new NullCheck(column, false) : new Comparison(column, "<>", value);
+    }
+
+    /**
+     * Matches rows where the column is less than the value.
+     *
+     * @param column The column to compare.
+     * @param value The value to compare against.
+     * @return The Condition.
+     */
+    public static Condition lt(@NotNull ColumnSchema column, @NotNull Object value) {
+        return new Comparison(column, "<", value);
+    }
+
+    /**
+     * Matches rows where the column is less than or equal to the value.
+     *
+     * @param column The column to compare.
+     * @param value The value to compare against.
+     * @return The Condition.
+     */
+    public static Condition le(@NotNull ColumnSchema column, @NotNull Object value) {
+        return new Comparison(column, "<=", value);
+    }
+
+    /**
+     * Matches rows where the column is greater than the value.
+     *
+     * @param column The column to compare.
+     * @param value The value to compare against.
+     * @return The Condition.
+     */
+    public static Condition gt(@NotNull ColumnSchema column, @NotNull Object value) {
+        return new Comparison(column, ">", value);
+    }
+
+    /**
+     * Matches rows where the column is greater than or equal to the value.
+     *
+     * @param column The column to compare.
+     * @param value The value to compare against.
+     * @return The Condition.
+     */
+    public static Condition ge(@NotNull ColumnSchema column, @NotNull Object value) {
+        return new Comparison(column, ">=", value);
+    }
+
+    /**
+     * Matches rows where the column is between the two values, including both values.
+     *
+     * @param column The column to compare.
+     * @param from The lowest value to match.
+     * @param to The highest value to match.
+     * @return The Condition.
+     */
+    public static Condition range(@NotNull ColumnSchema column, @NotNull Object from, @NotNull Object to) {
+        return new Range(column, from, to);
+    }
+
+    /**
+     * Matches rows where the column equals any of the values. The amount of values is a part of the shape of the
+     * statement, and must not be more than {@link DatabaseType#getMaxParameters()}. An empty collection matches nothing.
+     *
+     * @param column The column to compare.
+     * @param values The values to compare against, which are copied.
+     * @return The Condition.
+     */
+    public static Condition in(@NotNull ColumnSchema column, @NotNull Collection<?> values) {
+        return new In(column, new ArrayList<>(values));
+    }
+
+    /**
+     * Matches rows where the column equals any of the values. See {@link Condition#in(ColumnSchema, Collection)}.
+     *
+     * @param column The column to compare.
+     * @param values The values to compare against.
+     * @return The Condition.
+     */
+    public static Condition in(@NotNull ColumnSchema column, @NotNull Object... values) {
+        return new In(column, new ArrayList<>(Arrays.asList(values)));
+    }
+
+    /**
+     * Matches rows where every one of the conditions match.
+     *
+     * @param conditions The conditions to combine.
+     * @return The Condition.
+     * @throws IllegalArgumentException Thrown if no conditions are specified.
+     */
+    public static Condition and(@NotNull Condition... conditions) {
+        return new Group(" AND ", conditions);
+    }
+
+    /**
+     * Matches rows where any of the conditions match.
+     *
+     * @param conditions The conditions to combine.
+     * @return The Condition.
+     * @throws IllegalArgumentException Thrown if no conditions are specified.
+     */
+    public static Condition or(@NotNull Condition... conditions) {
+        return new Group(" OR ", conditions);
+    }
+
+    /**
+     * Matches rows where both this condition and the other condition match.
+     *
+     * @param condition The other condition.
+     * @return The Condition.
+     */
+    public Condition and(@NotNull Condition condition) {
+        return Condition.and(this, condition);
+    }
+
+    /**
+     * Matches rows where either this condition or the other condition match.
+     *
+     * @param condition The other condition.
+     * @return The Condition.
+     */
+    public Condition or(@NotNull Condition condition) {
+        return Condition.or(this, condition);
+    }
+
+    /**
+     * Converts this condition to an sql string for a "WHERE" clause, with a '?' in place of every value.
+     *
+     * @param databaseType The {@link DatabaseType} that this string should be made for.
+     * @return The stringified version of this condition.
+     */
+    @NotNull
+    public String toString(@NotNull DatabaseType databaseType) {
+        StringBuilder sql = new StringBuilder();
+        this.appendSql(sql, databaseType);
+        return sql.toString();
+    }
+
+    /**
+     * Returns the values of this condition in the same order as their '?' in {@link Condition#toString(DatabaseType)}.
+     * @return The values of this condition.
+     */
+    @NotNull
+    public List<Object> getParameters() {
+        ArrayList<Object> parameters = new ArrayList<>();
+        this.appendParameters(parameters);
+        return parameters;
+    }
+
+    /**
+     * Returns every value the specified column can have in a row matching this condition, or null if this condition
+     * does not limit the column to a list of values. Used to find the shards which can contain matching rows.
+     *
+     * @param column The column to check.
+     * @return The values the column can have, or null if it can have any value.
+     */
+    @Nullable
+    public List<Object> getPossibleValues(@NotNull ColumnSchema column) {
+        return null;
+    }
+
+    /**
+     * Appends the SQL of this condition, with a '?' in place of every value.
+     *
+     * @param sql The SQL to append to.
+     * @param databaseType The {@link DatabaseType} the SQL is being made for.
+     */
+    abstract void appendSql(StringBuilder sql, DatabaseType databaseType);
+
+    /**
+     * Appends the values of this condition in the same order as their '?' in the SQL.
+     *
+     * @param parameters The list to append to.
+     */
+    abstract void appendParameters(List<Object> parameters);
+
+    /**
+     * Compares a column against a single value.
+     */
+    private static class Comparison extends Condition {
+
+        private ColumnSchema column;
+        private String operator;
+        private Object value;
+
+        Comparison(ColumnSchema column, String operator, Object value) {
+            this.column = column;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        @Override
+        void appendSql(StringBuilder sql, DatabaseType databaseType) {
+            sql.append(column.getName()).append(" ").append(operator).append(" ?");
+        }
+
+        @Override
+        void appendParameters(List<Object> parameters) {
+            parameters.add(value);
+        }
+
+        @Override
+        public List<Object> getPossibleValues(ColumnSchema column) {
+            if (operator.equals("=") && this.column.getName().equalsIgnoreCase(column.getName())) {
+                return Collections.singletonList(value);
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return column.getName() + " " + operator + " " + value;
+        }
+
+    }
+
+    /**
+     * Checks whether or not a column is null.
+     */
+    private static class NullCheck extends Condition {
+
+        private ColumnSchema column;
+        private boolean isNull;
+
+        NullCheck(ColumnSchema column, boolean isNull) {
+            this.column = column;
+            this.isNull = isNull;
+        }
+
+        @Override
+        void appendSql(StringBuilder sql, DatabaseType databaseType) {
+            sql.append(column.getName()).append(isNull ? " IS NULL" : " IS NOT NULL");
+        }
+
+        @Override
+        void appendParameters(List<Object> parameters) {
+        }
+
+        @Override
+        public String toString() {
+            return column.getName() + (isNull ? " IS NULL" : " IS NOT NULL");
+        }
+
+    }
+
+    /**
+     * Compares a column against an inclusive range.
+     */
+    private static class Range extends Condition {
+
+        private ColumnSchema column;
+        private Object from;
+        private Object to;
+
+        Range(ColumnSchema column, Object from, Object to) {
+            this.column = column;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        void appendSql(StringBuilder sql, DatabaseType databaseType) {
+            sql.append(column.getName()).append(" BETWEEN ? AND ?");
+        }
+
+        @Override
+        void appendParameters(List<Object> parameters) {
+            parameters.add(from);
+            parameters.add(to);
+        }
+
+        @Override
+        public String toString() {
+            return column.getName() + " BETWEEN " + from + " AND " + to;
+        }
+
+    }
+
+    /**
+     * Compares a column against a list of values.
+     */
+    private static class In extends Condition {
+
+        private ColumnSchema column;
+        private ArrayList<Object> values;
+
+        In(ColumnSchema column, ArrayList<Object> values) {
+            this.column = column;
+            this.values = values;
+        }
+
+        @Override
+        void appendSql(StringBuilder sql, DatabaseType databaseType) {
+            // Nothing Matches An Empty List ("IN ()" is not valid SQL)
+            if (values.isEmpty()) {
+                sql.append("1 = 0");
+                return;
+            }
+
+            sql.append(column.getName()).append(" IN (");
+            for (int i = 0; i < values.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(")");
+        }
+
+        @Override
+        void appendParameters(List<Object> parameters) {
+            parameters.addAll(values);
+        }
+
+        @Override
+        public List<Object> getPossibleValues(ColumnSchema column) {
+            return this.column.getName().equalsIgnoreCase(column.getName()) ? values : null;
+        }
+
+        @Override
+        public String toString() {
+            return column.getName() + " IN " + values;
+        }
+
+    }
+
+    /**
+     * Combines several conditions using "AND" or "OR".
+     */
+    private static class Group extends Condition {
+
+        private String operator;
+        private Condition[] conditions;
+
+        Group(String operator, Condition[] conditions) {
+            if (conditions.length == 0) {
+                throw new IllegalArgumentException("At least one condition must be combined!");
+            }
+            this.operator = operator;
+            this.conditions = conditions.clone();
+        }
+
+        @Override
+        void appendSql(StringBuilder sql, DatabaseType databaseType) {
+            sql.append("(");
+            for (int i = 0; i < conditions.length; i++) {
+                if (i != 0) {
+                    sql.append(operator);
+                }
+                conditions[i].appendSql(sql, databaseType);
+            }
+            sql.append(")");
+        }
+
+        @Override
+        void appendParameters(List<Object> parameters) {
+            for (Condition condition : conditions) {
+                condition.appendParameters(parameters);
+            }
+        }
+
+        @Override
+        public List<Object> getPossibleValues(ColumnSchema column) {
+            // And: Any Condition Limiting The Column Is Enough
+            if (operator.equals(" AND ")) {
+                for (Condition condition : conditions) {
+                    List<Object> values = condition.getPossibleValues(column);
+                    if (values != null) {
+                        return values;
+                    }
+                }
+                return null;
+            }
+
+            // Or: Every Condition Must Limit The Column
+            ArrayList<Object> values = new ArrayList<>();
+            for (Condition condition : conditions) {
+                List<Object> possible = condition.getPossibleValues(column);
+                if (possible == null) {
+                    return null;
+                }
+                values.addAll(possible);
+            }
+            return values;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder string = new StringBuilder("(");
+            for (int i = 0; i < conditions.length; i++) {
+                string.append(i == 0 ? "" : operator).append(conditions[i]);
+            }
+            return string.append(")").toString();
+        }
+
+    }
+
+}
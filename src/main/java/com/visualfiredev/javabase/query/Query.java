@@ -0,0 +1,222 @@
+package com.visualfiredev.javabase.query;
+
+import com.visualfiredev.javabase.DatabaseType;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Defines a typed "SELECT" statement for a table, built from {@link Condition}s instead of a raw "WHERE" string.
+ *
+ * <p>
+ *     The SQL of a query only depends on its shape, meaning its columns, conditions, ordering, and limit, and never
+ *     on the values being compared. It is created once for each {@link DatabaseType} and reused until the query is
+ *     changed, while the values are bound to the statement with their own types every time it is run. Running queries
+ *     with the same shape through {@link com.visualfiredev.javabase.Database#select(Query)} reuses the same cached
+ *     prepared statement.
+ * </p>
+ */
+public class Query {
+
+    // Constructor Arguments
+    private TableSchema tableSchema;
+
+    // Query Options
+    private Condition where = null;
+    private ArrayList<ColumnSchema> orderBy;
+    private ArrayList<Boolean> descending;
+    private int limit = -1;
+
+    // Cached SQL
+    private DatabaseType cachedType;
+    private String cachedSql;
+
+    /**
+     * Creates a new query selecting every column of the specified table. Other arguments can be set after construction.
+     *
+     * @param tableSchema The table and columns to select from.
+     */
+    public Query(@NotNull TableSchema tableSchema) {
+        this.tableSchema = tableSchema;
+        this.orderBy = new ArrayList<>();
+        this.descending = new ArrayList<>();
+    }
+
+    /**
+     * Returns the table and columns this query selects from.
+     * @return The table and columns this query selects from.
+     */
+    @NotNull
+    public TableSchema getTableSchema() {
+        return tableSchema;
+    }
+
+    /**
+     * Returns the condition rows must match or null if every row is selected.
+     * @return The condition rows must match or null if every row is selected.
+     */
+    @Nullable
+    public Condition getWhere() {
+        return where;
+    }
+
+    /**
+     * Returns an ArrayList of the columns the results are ordered by, in order.
+     * @return An ArrayList of the columns the results are ordered by.
+     */
+    @NotNull
+    public ArrayList<ColumnSchema> getOrderBy() {
+        return orderBy;
+    }
+
+    /**
+     * Returns whether or not the results are ordered from the highest value to the lowest by the specified column.
+     *
+     * @param index The index of the column in {@link Query#getOrderBy()}.
+     * @return True if ordered from the highest value to the lowest, otherwise false.
+     */
+    public boolean isDescending(int index) {
+        return descending.get(index);
+    }
+
+    /**
+     * Returns the limit of the results, or -1 if there is no limit.
+     * @return The limit of the results, or -1 if there is no limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Sets the condition rows must match. Combine several conditions using {@link Condition#and(Condition...)}
+     * and {@link Condition#or(Condition...)}.
+     *
+     * @param where The condition rows must match, or null to select every row.
+     * @return The Query.
+     */
+    public Query where(@Nullable Condition where) {
+        this.where = where;
+        this.cachedSql = null;
+        return this;
+    }
+
+    /**
+     * Orders the results by the specified column in ascending order, after any columns already ordered by.
+     *
+     * @param column The column to order by.
+     * @return The Query.
+     */
+    public Query orderBy(@NotNull ColumnSchema column) {
+        return this.orderBy(column, false);
+    }
+
+    /**
+     * Orders the results by the specified column, after any columns already ordered by.
+     *
+     * @param column The column to order by.
+     * @param descending True to order from the highest value to the lowest, otherwise false.
+     * @return The Query.
+     */
+    public Query orderBy(@NotNull ColumnSchema column, boolean descending) {
+        this.orderBy.add(column);
+        this.descending.add(descending);
+        this.cachedSql = null;
+        return this;
+    }
+
+    /**
+     * Sets the limit of the results.
+     *
+     * @param limit The limit of the results. Set to -1 to disable.
+     * @return The Query.
+     */
+    public Query limit(int limit) {
+        this.limit = limit;
+        this.cachedSql = null;
+        return this;
+    }
+
+    /**
+     * Converts this query to a "SELECT" sql string with a '?' in place of every value. The string is created once
+     * and reused until this query is changed.
+     *
+     * @param databaseType The {@link DatabaseType} that this string should be made for.
+     * @return The stringified version of this query.
+     */
+    @NotNull
+    public synchronized String toString(@NotNull DatabaseType databaseType) {
+        if (cachedSql != null && cachedType == databaseType) {
+            return cachedSql;
+        }
+
+        // Create String
+        StringBuilder sql = new StringBuilder("SELECT ");
+
+        // Columns
+        ArrayList<ColumnSchema> columns = tableSchema.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            sql.append(columns.get(i).getName());
+
+            // Comma? Are there more?
+            if (i != columns.size() - 1) {
+                sql.append(", ");
+            }
+        }
+
+        // From The Table
+        sql.append(" FROM ").append(tableSchema.getName());
+
+        // Where...
+        if (where != null) {
+            sql.append(" WHERE ");
+            where.appendSql(sql, databaseType);
+        }
+
+        // Order By
+        for (int i = 0; i < orderBy.size(); i++) {
+            sql.append(i == 0 ? " ORDER BY " : ", ").append(orderBy.get(i).getName());
+            if (descending.get(i)) {
+                sql.append(" DESC");
+            }
+        }
+
+        // Limit
+        if (limit > -1) {
+            sql.append(" LIMIT ").append(limit);
+        }
+
+        // Cache & Return String
+        cachedType = databaseType;
+        cachedSql = sql.toString();
+        return cachedSql;
+    }
+
+    /**
+     * Returns the values of this query in the same order as their '?' in {@link Query#toString(DatabaseType)}.
+     * @return The values of this query.
+     */
+    @NotNull
+    public List<Object> getParameters() {
+        ArrayList<Object> parameters = new ArrayList<>();
+        if (where != null) {
+            where.appendParameters(parameters);
+        }
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return "Query{" +
+                "tableSchema=" + tableSchema.getName() +
+                ", where=" + where +
+                ", orderBy=" + orderBy +
+                ", descending=" + descending +
+                ", limit=" + limit +
+                '}';
+    }
+
+}
@@ -2,6 +2,7 @@ package com.visualfiredev.javabase.schema;
 
 import com.visualfiredev.javabase.DataType;
 import com.visualfiredev.javabase.DatabaseType;
+import com.visualfiredev.javabase.IdGenerator;
 import com.visualfiredev.javabase.UnsupportedDatabaseTypeException;
 import com.visualfiredev.javabase.UnsupportedFeatureException;
 import org.jetbrains.annotations.NotNull;
@@ -26,6 +27,8 @@ public class ColumnSchema {
     private boolean isUniqueKey = false;
     private boolean isAutoIncrement = false;
     private boolean isNotNull = false;
+    private boolean isFullText = false;
+    private IdGenerator idGenerator = null;
 
     /**
      * Creates a new column schema using the specified name, datatype, and value. Other arguments can set after construction.
@@ -110,6 +113,23 @@ public class ColumnSchema {
         return isNotNull;
     }
 
+    /**
+     * Returns whether or not this column is a part of the full-text index of its table.
+     * @return Whether or not this column is a part of the full-text index of its table.
+     */
+    public boolean isFullText() {
+        return isFullText;
+    }
+
+    /**
+     * Returns the {@link IdGenerator} that generates the keys of this column or null if there is not one.
+     * @return The {@link IdGenerator} that generates the keys of this column or null if there is not one.
+     */
+    @Nullable
+    public IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
     /**
      * Returns the name of this column.
      * @return The name of this column.
@@ -201,6 +221,32 @@ public class ColumnSchema {
         return this;
     }
 
+    /**
+     * Set to true if this column should be a part of the full-text index of its table, otherwise set to false.
+     * Only text columns can be full-text indexed. See {@link TableSchema#getFullTextColumns()} for more information.
+     *
+     * @param fullText Whether or not this column should be a part of the full-text index of its table.
+     * @return The ColumnSchema.
+     */
+    public ColumnSchema setFullText(boolean fullText) {
+        isFullText = fullText;
+        return this;
+    }
+
+    /**
+     * Sets the {@link IdGenerator} that generates the keys of this column before an object is inserted. Only used
+     * for primary keys. When inserting a {@link com.visualfiredev.javabase.DatabaseObject} whose key is null or not
+     * greater than zero, a key is generated and written into the object first. The key is then inserted even if
+     * this column also auto increments.
+     *
+     * @param idGenerator The {@link IdGenerator} for this column, or null to let the database generate keys.
+     * @return The ColumnSchema.
+     */
+    public ColumnSchema setIdGenerator(@Nullable IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        return this;
+    }
+
     /**
      * Sets the name of this column schema.
      *
@@ -314,6 +360,8 @@ public class ColumnSchema {
                 ", isUniqueKey=" + isUniqueKey +
                 ", isAutoIncrement=" + isAutoIncrement +
                 ", isNotNull=" + isNotNull +
+                ", isFullText=" + isFullText +
+                ", idGenerator=" + idGenerator +
                 '}';
     }
 
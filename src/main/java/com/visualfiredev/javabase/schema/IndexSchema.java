@@ -0,0 +1,280 @@
+package com.visualfiredev.javabase.schema;
+
+import com.visualfiredev.javabase.DatabaseType;
+import com.visualfiredev.javabase.UnsupportedFeatureException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Defines a schema for a secondary index of a table.
+ *
+ * <p>
+ *     An index can contain a single column or several columns. A composite index containing every column a query
+ *     selects also acts as a covering index, letting the database answer the query without reading the table.
+ *     <br><br>
+ *     Prefix lengths only index the first characters of a text column and are only supported by MySQL and MariaDB.
+ *     SQLite has no prefix indexes, so the entire column is indexed instead. Partial indexes, which only index
+ *     rows matching a "WHERE" expression, are only supported by SQLite.
+ * </p>
+ */
+public class IndexSchema {
+
+    // Constructor Arguments
+    private String name;
+    private ArrayList<ColumnSchema> columns;
+
+    // Index Options
+    private ArrayList<Integer> prefixLengths;
+    private boolean isUnique = false;
+    private boolean ifNotExists = false;
+    private String where = null;
+
+    /**
+     * Creates a new index schema using the specified name and columns. Other arguments can be set after construction.
+     *
+     * @param name The name of this index. Must be unique within the database for SQLite.
+     * @param columns The {@link ColumnSchema}'s this index contains, in order.
+     */
+    public IndexSchema(@NotNull String name, @NotNull ColumnSchema... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("An index must contain at least one column!");
+        }
+        this.name = name;
+        this.columns = new ArrayList<>(Arrays.asList(columns));
+        this.prefixLengths = new ArrayList<>();
+        for (int i = 0; i < columns.length; i++) {
+            this.prefixLengths.add(null);
+        }
+    }
+
+    /**
+     * Returns the name of this index.
+     * @return The name of this index.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns an ArrayList of the ColumnSchemas this index contains, in order.
+     * @return An ArrayList of the ColumnSchemas this index contains.
+     */
+    public ArrayList<ColumnSchema> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the prefix length of the specified column, or null if the entire column is indexed.
+     *
+     * @param column The column of this index.
+     * @return The prefix length of the column, or null if the entire column is indexed.
+     */
+    @Nullable
+    public Integer getPrefixLength(ColumnSchema column) {
+        int index = columns.indexOf(column);
+        return index == -1 ? null : prefixLengths.get(index);
+    }
+
+    /**
+     * Returns whether or not this index is unique.
+     * @return Whether or not this index is unique.
+     */
+    public boolean isUnique() {
+        return isUnique;
+    }
+
+    /**
+     * Returns whether or not this index includes "IF NOT EXISTS" when created on its own.
+     * @return Whether or not this index includes "IF NOT EXISTS".
+     */
+    public boolean isIfNotExists() {
+        return ifNotExists;
+    }
+
+    /**
+     * Returns the "WHERE" expression of this partial index, or null if every row is indexed.
+     * @return The "WHERE" expression of this partial index, or null if every row is indexed.
+     */
+    @Nullable
+    public String getWhere() {
+        return where;
+    }
+
+    /**
+     * Only indexes the first characters of the specified column. Only supported by MySQL and MariaDB, and ignored by SQLite.
+     *
+     * @param column The column of this index to only index the first characters of.
+     * @param length The amount of characters to index.
+     * @return The IndexSchema.
+     * @throws IllegalArgumentException Thrown if the column is not a part of this index.
+     */
+    public IndexSchema setPrefixLength(@NotNull ColumnSchema column, int length) {
+        int index = columns.indexOf(column);
+        if (index == -1) {
+            throw new IllegalArgumentException("The column " + column.getName() + " is not a part of the index " + name + "!");
+        }
+        prefixLengths.set(index, length);
+        return this;
+    }
+
+    /**
+     * Set to true if every combination of values in this index should be unique, otherwise set to false.
+     * @param unique Whether or not this index should be unique.
+     * @return The IndexSchema.
+     */
+    public IndexSchema setUnique(boolean unique) {
+        isUnique = unique;
+        return this;
+    }
+
+    /**
+     * Sets whether or not this index should include "IF NOT EXISTS" when created on its own. Not supported by MySQL.
+     * @param ifNotExists Whether or not this index should include "IF NOT EXISTS".
+     * @return The IndexSchema.
+     */
+    public IndexSchema setIfNotExists(boolean ifNotExists) {
+        this.ifNotExists = ifNotExists;
+        return this;
+    }
+
+    /**
+     * Only indexes the rows matching the specified expression, creating a partial index. Only supported by SQLite.
+     *
+     * @param where The platform-dependent SQL statement for a "WHERE" clause, or null to index every row.
+     * @return The IndexSchema.
+     */
+    public IndexSchema setWhere(@Nullable String where) {
+        this.where = where;
+        return this;
+    }
+
+    /**
+     * Converts this index to a "CREATE INDEX" sql string for the specified table.
+     *
+     * @param databaseType The {@link DatabaseType} that this string should be made for.
+     * @param tableSchema The table this index belongs to.
+     * @return The stringified version of this index schema.
+     * @throws UnsupportedFeatureException Thrown if a feature was enabled that this database does not support.
+     */
+    @NotNull
+    public String toString(@NotNull DatabaseType databaseType, @NotNull TableSchema tableSchema) throws UnsupportedFeatureException {
+        return this.toString(databaseType, tableSchema, ifNotExists);
+    }
+
+    /**
+     * Converts this index to a "CREATE INDEX" sql string for the specified table.
+     *
+     * @param databaseType The {@link DatabaseType} that this string should be made for.
+     * @param tableSchema The table this index belongs to.
+     * @param ifNotExists Whether or not to include "IF NOT EXISTS".
+     * @return The stringified version of this index schema.
+     * @throws UnsupportedFeatureException Thrown if a feature was enabled that this database does not support.
+     */
+    @NotNull
+    String toString(@NotNull DatabaseType databaseType, @NotNull TableSchema tableSchema, boolean ifNotExists) throws UnsupportedFeatureException {
+        // Create String
+        StringBuilder sql = new StringBuilder("CREATE ");
+
+        // Unique
+        if (isUnique) {
+            sql.append("UNIQUE ");
+        }
+
+        // If Not Exists
+        if (ifNotExists) {
+            if (databaseType == DatabaseType.MySQL) {
+                throw new UnsupportedFeatureException(databaseType, "CREATE INDEX IF NOT EXISTS");
+            }
+            sql.append("INDEX IF NOT EXISTS ");
+        } else {
+            sql.append("INDEX ");
+        }
+
+        // Name & Table
+        sql.append(name).append(" ON ").append(tableSchema.getName());
+
+        // Columns
+        this.appendColumns(sql, databaseType);
+
+        // Partial Index
+        if (where != null) {
+            if (databaseType != DatabaseType.SQLite) {
+                throw new UnsupportedFeatureException(databaseType, "Partial Indexes");
+            }
+            sql.append(" WHERE ").append(where);
+        }
+
+        // Return String
+        return sql.toString();
+    }
+
+    /**
+     * Converts this index to a definition which can be included in a "CREATE TABLE" sql string. Only supported by
+     * MySQL and MariaDB, as SQLite requires every index to be created on its own.
+     *
+     * @param databaseType The {@link DatabaseType} that this string should be made for.
+     * @return The stringified definition of this index schema.
+     * @throws UnsupportedFeatureException Thrown if a feature was enabled that this database does not support.
+     */
+    @NotNull
+    public String toDefinitionString(@NotNull DatabaseType databaseType) throws UnsupportedFeatureException {
+        // Ensure Supported
+        if (databaseType == DatabaseType.SQLite) {
+            throw new UnsupportedFeatureException(databaseType, "Index Definitions in CREATE TABLE");
+        } else if (where != null) {
+            throw new UnsupportedFeatureException(databaseType, "Partial Indexes");
+        }
+
+        // Create String
+        StringBuilder sql = new StringBuilder(isUnique ? "UNIQUE INDEX " : "INDEX ");
+        sql.append(name);
+
+        // Columns
+        this.appendColumns(sql, databaseType);
+
+        // Return String
+        return sql.toString();
+    }
+
+    /**
+     * Appends the parenthesized, comma-separated list of columns with their prefix lengths to the SQL.
+     *
+     * @param sql The SQL to append to.
+     * @param databaseType The {@link DatabaseType} the SQL is being made for.
+     */
+    private void appendColumns(StringBuilder sql, DatabaseType databaseType) {
+        sql.append(" (");
+        for (int i = 0; i < columns.size(); i++) {
+            sql.append(columns.get(i).getName());
+
+            // Prefix Length (SQLite indexes the entire column)
+            Integer prefixLength = prefixLengths.get(i);
+            if (prefixLength != null && databaseType != DatabaseType.SQLite) {
+                sql.append("(").append(prefixLength).append(")");
+            }
+
+            // Comma? Are there more?
+            if (i != columns.size() - 1) {
+                sql.append(", ");
+            }
+        }
+        sql.append(")");
+    }
+
+    @Override
+    public String toString() {
+        return "IndexSchema{" +
+                "name='" + name + '\'' +
+                ", columns=" + columns +
+                ", prefixLengths=" + prefixLengths +
+                ", isUnique=" + isUnique +
+                ", ifNotExists=" + ifNotExists +
+                ", where='" + where + '\'' +
+                '}';
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.visualfiredev.javabase.schema;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+
+/**
+ * Defines a schema for selecting from several tables at once, joined together using their foreign keys.
+ *
+ * <p>
+ *     Every table is joined using a foreign key created with {@link ColumnSchema#setForeignKey(TableSchema, ColumnSchema)}.
+ *     Either the new table contains the foreign key and references a table already in the schema, or a table already
+ *     in the schema contains the foreign key and references the new table. The same table cannot be joined twice.
+ * </p>
+ */
+public class JoinSchema {
+
+    // Constructor Arguments
+    private ArrayList<TableSchema> tables;
+
+    // Joins (One for every table except the first)
+    private ArrayList<JoinType> types;
+    private ArrayList<ColumnSchema> foreignKeys;
+    private ArrayList<TableSchema> owners;
+
+    /**
+     * Creates a new join schema starting from the specified table. Other tables can be joined after construction.
+     *
+     * @param tableSchema The first table to select from.
+     */
+    public JoinSchema(@NotNull TableSchema tableSchema) {
+        this.tables = new ArrayList<>();
+        this.types = new ArrayList<>();
+        this.foreignKeys = new ArrayList<>();
+        this.owners = new ArrayList<>();
+        this.tables.add(tableSchema);
+    }
+
+    /**
+     * Joins the table referenced by the specified foreign key, which must be a column of a table already in this schema.
+     *
+     * @param type The type of join to use.
+     * @param foreignKey The foreign key in a table already in this schema.
+     * @return The JoinSchema.
+     * @throws IllegalArgumentException Thrown if the column is not a foreign key of a table in this schema.
+     */
+    public JoinSchema join(@NotNull JoinType type, @NotNull ColumnSchema foreignKey) {
+        if (foreignKey.getForeignTable() == null) {
+            throw new IllegalArgumentException("The column " + foreignKey.getName() + " is not a foreign key!");
+        }
+        return this.join(type, foreignKey.getForeignTable(), foreignKey);
+    }
+
+    /**
+     * Joins the specified table using the specified foreign key. Either the table contains the foreign key and it
+     * references a table already in this schema, or a table already in this schema contains the foreign key and
+     * it references the table.
+     *
+     * @param type The type of join to use.
+     * @param tableSchema The table to join.
+     * @param foreignKey The foreign key relating the table to a table already in this schema.
+     * @return The JoinSchema.
+     * @throws IllegalArgumentException Thrown if the foreign key does not relate the table to this schema, or the table has already been joined.
+     */
+    public JoinSchema join(@NotNull JoinType type, @NotNull TableSchema tableSchema, @NotNull ColumnSchema foreignKey) {
+        // Ensure Foreign Key
+        if (foreignKey.getForeignKey() == null || foreignKey.getForeignTable() == null) {
+            throw new IllegalArgumentException("The column " + foreignKey.getName() + " is not a foreign key!");
+        }
+
+        // Ensure Not Joined
+        if (this.getTableIndex(tableSchema) != -1) {
+            throw new IllegalArgumentException("The table " + tableSchema.getName() + " has already been joined!");
+        }
+
+        // Find The Table Containing The Foreign Key
+        TableSchema owner = null;
+        if (tableSchema.getColumns().contains(foreignKey) && this.getTableIndex(foreignKey.getForeignTable()) != -1) {
+            owner = tableSchema;
+        } else {
+            for (TableSchema table : tables) {
+                if (table.getColumns().contains(foreignKey) && foreignKey.getForeignTable().getName().equals(tableSchema.getName())) {
+                    owner = table;
+                    break;
+                }
+            }
+        }
+        if (owner == null) {
+            throw new IllegalArgumentException("The foreign key " + foreignKey.getName() + " does not relate " + tableSchema.getName() + " to this JoinSchema!");
+        }
+
+        // Add Join
+        this.tables.add(tableSchema);
+        this.types.add(type);
+        this.foreignKeys.add(foreignKey);
+        this.owners.add(owner);
+        return this;
+    }
+
+    /**
+     * Returns an ArrayList of the tables in this schema, in the order they were joined.
+     * @return An ArrayList of the tables in this schema.
+     */
+    public ArrayList<TableSchema> getTables() {
+        return tables;
+    }
+
+    /**
+     * Returns the index of the specified table in this schema, comparing by name.
+     *
+     * @param tableSchema The table to find.
+     * @return The index of the table, or -1 if it is not a part of this schema.
+     */
+    public int getTableIndex(TableSchema tableSchema) {
+        for (int i = 0; i < tables.size(); i++) {
+            if (tables.get(i).getName().equals(tableSchema.getName())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Converts this join schema to a "SELECT ... FROM ... JOIN" sql string. Every column is aliased as the table name
+     * and column name separated by an underscore, so that columns with the same name in different tables do not
+     * conflict. Any "WHERE" clause should refer to columns as "table.column".
+     *
+     * @return The stringified version of this join schema.
+     */
+    @NotNull
+    public String toSelectString() {
+        // Create String
+        StringBuilder sql = new StringBuilder("SELECT ");
+
+        // Columns
+        for (int i = 0; i < tables.size(); i++) {
+            TableSchema table = tables.get(i);
+            ArrayList<ColumnSchema> columns = table.getColumns();
+            for (int j = 0; j < columns.size(); j++) {
+                String column = columns.get(j).getName();
+                sql.append(table.getName()).append(".").append(column).append(" AS ").append(table.getName()).append("_").append(column);
+
+                // Comma? Are there more?
+                if (i != tables.size() - 1 || j != columns.size() - 1) {
+                    sql.append(", ");
+                }
+            }
+        }
+
+        // From The First Table
+        sql.append(" FROM ").append(tables.get(0).getName());
+
+        // Joins
+        for (int i = 0; i < types.size(); i++) {
+            TableSchema table = tables.get(i + 1);
+            ColumnSchema foreignKey = foreignKeys.get(i);
+            TableSchema owner = owners.get(i);
+
+            sql.append(" ").append(types.get(i).getKeyword()).append(" ").append(table.getName());
+            sql.append(" ON ").append(owner.getName()).append(".").append(foreignKey.getName());
+            sql.append(" = ").append(foreignKey.getForeignTable().getName()).append(".").append(foreignKey.getForeignKey().getName());
+        }
+
+        // Return String
+        return sql.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "JoinSchema{" +
+                "tables=" + tables +
+                ", types=" + types +
+                ", foreignKeys=" + foreignKeys +
+                '}';
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.visualfiredev.javabase.schema;
+
+/**
+ * Defines the different types of joins a {@link JoinSchema} can use.
+ */
+public enum JoinType {
+
+    /**
+     * Only includes rows which have a match in both tables.
+     */
+    INNER("INNER JOIN"),
+
+    /**
+     * Includes every row of the existing tables, with null values for the joined table if there is no match.
+     */
+    LEFT("LEFT JOIN");
+
+    // Instance Variables
+    private String keyword;
+
+    // Constructor
+    JoinType(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the SQL keyword for this type of join.
+     * @return The SQL keyword for this type of join.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+}
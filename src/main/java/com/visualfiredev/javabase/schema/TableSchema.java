@@ -4,6 +4,7 @@ import com.visualfiredev.javabase.DatabaseType;
 import com.visualfiredev.javabase.UnsupportedDatabaseTypeException;
 import com.visualfiredev.javabase.UnsupportedFeatureException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -17,9 +18,11 @@ public class TableSchema implements Cloneable {
     // Constructor Arguments
     private String name;
     private ArrayList<ColumnSchema> columns;
+    private ArrayList<IndexSchema> indexes;
 
     // Table Options
     private boolean ifNotExists = false;
+    private ColumnSchema shardKey = null;
 
     /**
      * Creates a new table schema using the specified name and columns. Other arguments can be set after construction.
@@ -30,6 +33,7 @@ public class TableSchema implements Cloneable {
     public TableSchema(@NotNull String name, @NotNull ColumnSchema... columns) {
         this.name = name;
         this.columns = new ArrayList<>(Arrays.asList(columns));
+        this.indexes = new ArrayList<>();
     }
 
     /**
@@ -84,6 +88,74 @@ public class TableSchema implements Cloneable {
         return null;
     }
 
+    /**
+     * Returns an ArrayList of IndexSchemas added to this TableSchema.
+     * @return An ArrayList of IndexSchemas added to this TableSchema.
+     */
+    public ArrayList<IndexSchema> getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * Fetches an IndexSchema by its name.
+     * @param name The name of the IndexSchema.
+     * @return The corresponding IndexSchema or null if not found.
+     */
+    public IndexSchema getIndex(String name) {
+        for (IndexSchema index : indexes) {
+            if (index.getName().equals(name)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns an ArrayList of the ColumnSchemas that are a part of the full-text index of this table.
+     *
+     * <p>
+     *     Every table has at most one full-text index, containing every column marked using {@link ColumnSchema#setFullText(boolean)}.
+     *     On MySQL and MariaDB this is a "FULLTEXT" index. On SQLite this is an FTS5 table named using
+     *     {@link TableSchema#getFullTextTableName()}, which is kept in sync with this table using triggers.
+     * </p>
+     *
+     * @return An ArrayList of the full-text ColumnSchemas, which is empty if this table has no full-text index.
+     */
+    public ArrayList<ColumnSchema> getFullTextColumns() {
+        return columns.stream().filter(ColumnSchema::isFullText).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Returns the name of the FTS5 table that holds the full-text index of this table on SQLite.
+     * @return The name of the FTS5 table that holds the full-text index of this table.
+     */
+    public String getFullTextTableName() {
+        return name + "_fts";
+    }
+
+    /**
+     * Fetches the first ColumnSchema marked as a primary key.
+     * @return The primary key ColumnSchema or null if this table does not have one.
+     */
+    public ColumnSchema getPrimaryKey() {
+        for (ColumnSchema column : columns) {
+            if (column.isPrimaryKey()) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the column used to pick the shard each row is stored on by a {@link com.visualfiredev.javabase.ShardedDatabase},
+     * or null if this table is not sharded.
+     * @return The shard key ColumnSchema or null if this table is not sharded.
+     */
+    @Nullable
+    public ColumnSchema getShardKey() {
+        return shardKey;
+    }
+
     /**
      * Sets whether or not this table should include "IF NOT EXISTS". Takes priority over "OR REPLACE"
      *
@@ -95,6 +167,22 @@ public class TableSchema implements Cloneable {
         return this;
     }
 
+    /**
+     * Sets the column used to pick the shard each row is stored on by a {@link com.visualfiredev.javabase.ShardedDatabase}.
+     * The value of the column should never change once a row is inserted.
+     *
+     * @param shardKey The column of this table to shard by, or null if this table is not sharded.
+     * @return The TableSchema.
+     * @throws IllegalArgumentException Thrown if the column is not a part of this table.
+     */
+    public TableSchema setShardKey(@Nullable ColumnSchema shardKey) {
+        if (shardKey != null && !columns.contains(shardKey)) {
+            throw new IllegalArgumentException("The column " + shardKey.getName() + " is not a part of the table " + name + "!");
+        }
+        this.shardKey = shardKey;
+        return this;
+    }
+
     /**
      * Sets the name of this table schema.
      *
@@ -142,10 +230,36 @@ public class TableSchema implements Cloneable {
         return this;
     }
 
+    /**
+     * Adds an index to this TableSchema. Indexes are created along with the table.
+     *
+     * @param index The index to be added to this TableSchema.
+     * @return The TableSchema.
+     */
+    public TableSchema addIndex(IndexSchema index) {
+        this.indexes.add(index);
+        return this;
+    }
+
+    /**
+     * Attempts to remove an index from this TableSchema with the specified name.
+     *
+     * @param indexName The name of the index to be removed.
+     * @return The TableSchema.
+     */
+    public TableSchema removeIndex(String indexName) {
+        IndexSchema index = this.getIndex(indexName);
+        if (index != null) {
+            this.indexes.remove(index);
+        }
+        return this;
+    }
+
     @Override
     public TableSchema clone() throws CloneNotSupportedException {
         TableSchema clone = (TableSchema) super.clone();
         clone.columns = new ArrayList<>(columns);
+        clone.indexes = new ArrayList<>(indexes);
         return clone;
     }
 
@@ -209,6 +323,19 @@ public class TableSchema implements Cloneable {
             }
         }
 
+        // Indexes (SQLite creates these separately, see TableSchema#getIndexStrings)
+        if (databaseType != DatabaseType.SQLite) {
+            for (IndexSchema index : indexes) {
+                sql.append(", ").append(index.toDefinitionString(databaseType));
+            }
+
+            // Full-Text Index
+            ArrayList<ColumnSchema> fullTextColumns = this.getFullTextColumns();
+            if (!fullTextColumns.isEmpty()) {
+                sql.append(", FULLTEXT INDEX ft_").append(name).append(" (").append(TableSchema.joinColumns(fullTextColumns, "", databaseType)).append(")");
+            }
+        }
+
         // Close
         sql.append(" );");
 
@@ -216,12 +343,80 @@ public class TableSchema implements Cloneable {
         return sql.toString();
     }
 
+    /**
+     * Converts the indexes of this table schema which cannot be included in the "CREATE TABLE" sql string to
+     * "CREATE INDEX" sql strings, which should be run after the table is created. For SQLite, this is every index,
+     * as well as the FTS5 table and triggers of the full-text index. For MySQL and MariaDB, every index is included
+     * in {@link TableSchema#toString(DatabaseType)} instead.
+     *
+     * @param databaseType The {@link com.visualfiredev.javabase.DatabaseType} that these strings should be made for.
+     * @return An ArrayList of the "CREATE INDEX" sql strings, in order.
+     * @throws UnsupportedFeatureException Thrown if a feature was enabled that this database does not support.
+     */
+    @NotNull
+    public ArrayList<String> getIndexStrings(@NotNull DatabaseType databaseType) throws UnsupportedFeatureException {
+        ArrayList<String> strings = new ArrayList<>();
+        if (databaseType == DatabaseType.SQLite) {
+            for (IndexSchema index : indexes) {
+                strings.add(index.toString(databaseType, this, ifNotExists || index.isIfNotExists()));
+            }
+
+            // Full-Text Table & Triggers
+            ArrayList<ColumnSchema> fullTextColumns = this.getFullTextColumns();
+            if (!fullTextColumns.isEmpty()) {
+                String fts = this.getFullTextTableName();
+                String exists = ifNotExists ? "IF NOT EXISTS " : "";
+                String columns = TableSchema.joinColumns(fullTextColumns, "", databaseType);
+                String newColumns = TableSchema.joinColumns(fullTextColumns, "new.", databaseType);
+                String oldColumns = TableSchema.joinColumns(fullTextColumns, "old.", databaseType);
+
+                strings.add("CREATE VIRTUAL TABLE " + exists + fts + " USING fts5(" + columns + ", content='" + name + "')");
+                strings.add("CREATE TRIGGER " + exists + fts + "_insert AFTER INSERT ON " + name + " BEGIN "
+                        + "INSERT INTO " + fts + "(rowid, " + columns + ") VALUES (new.rowid, " + newColumns + "); END");
+                strings.add("CREATE TRIGGER " + exists + fts + "_delete AFTER DELETE ON " + name + " BEGIN "
+                        + "INSERT INTO " + fts + "(" + fts + ", rowid, " + columns + ") VALUES ('delete', old.rowid, " + oldColumns + "); END");
+                strings.add("CREATE TRIGGER " + exists + fts + "_update AFTER UPDATE ON " + name + " BEGIN "
+                        + "INSERT INTO " + fts + "(" + fts + ", rowid, " + columns + ") VALUES ('delete', old.rowid, " + oldColumns + "); "
+                        + "INSERT INTO " + fts + "(rowid, " + columns + ") VALUES (new.rowid, " + newColumns + "); END");
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * Utility method to join the names of the specified full-text columns with commas, ensuring every column holds text.
+     *
+     * @param columns The full-text columns to join.
+     * @param prefix The prefix to put before each column name.
+     * @param databaseType The {@link com.visualfiredev.javabase.DatabaseType} the string is being made for.
+     * @return The comma-separated column names.
+     * @throws UnsupportedFeatureException Thrown if any of the columns do not hold text.
+     */
+    private static String joinColumns(ArrayList<ColumnSchema> columns, String prefix, DatabaseType databaseType) throws UnsupportedFeatureException {
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnSchema column = columns.get(i);
+            if (!column.getDataType().isText()) {
+                throw new UnsupportedFeatureException(databaseType, "Full-text indexes on " + column.getDataType() + " columns");
+            }
+            sql.append(prefix).append(column.getName());
+
+            // Comma? Are there more?
+            if (i != columns.size() - 1) {
+                sql.append(", ");
+            }
+        }
+        return sql.toString();
+    }
+
     @Override
     public String toString() {
         return "TableSchema{" +
                 "name='" + name + '\'' +
                 ", columns=" + columns +
+                ", indexes=" + indexes +
                 ", ifNotExists=" + ifNotExists +
+                ", shardKey=" + (shardKey != null ? shardKey.getName() : null) +
                 '}';
     }
 
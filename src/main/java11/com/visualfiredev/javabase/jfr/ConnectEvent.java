@@ -0,0 +1,30 @@
+package com.visualfiredev.javabase.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a {@link com.visualfiredev.javabase.Database} opens a connection.
+ */
+@Name("com.visualfiredev.javabase.Connect")
+@Label("Database Connect")
+@Category("Javabase")
+@Description("Opening a connection to a database")
+class ConnectEvent extends Event {
+
+    @Label("Host")
+    String host;
+
+    @Label("Database")
+    String database;
+
+    @Label("Type")
+    String type;
+
+    @Label("Failed")
+    boolean failed;
+
+}
@@ -0,0 +1,205 @@
+package com.visualfiredev.javabase.jfr;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Records the Java Flight Recorder events of Javabase, all found under the "Javabase" category of a recording.
+ *
+ * <p>
+ *     This is the Java 11 version, placed under "META-INF/versions/11" of the multi-release jar, while Java 8
+ *     loads a version from "src/main/java" which records nothing. Every event is started by a "begin" method,
+ *     which returns null while the event is not enabled in any recording, and finished by the matching "end"
+ *     method. Events are passed around as plain objects, so that {@link com.visualfiredev.javabase.Database}
+ *     never loads an event class on a Java runtime without the flight recorder module, only calling this class
+ *     once it has checked that the "jdk.jfr" classes exist.
+ *     <br><br>
+ *     While an event is not enabled, beginning it costs a single check and allocates nothing.
+ * </p>
+ */
+public final class DatabaseEvents {
+
+    // Instances used to check whether each event is enabled, as the check is the same for every instance
+    private static final ConnectEvent CONNECT = new ConnectEvent();
+    private static final ValidateEvent VALIDATE = new ValidateEvent();
+    private static final PrepareEvent PREPARE = new PrepareEvent();
+    private static final ExecuteEvent EXECUTE = new ExecuteEvent();
+    private static final MapEvent MAP = new MapEvent();
+
+    /**
+     * Utility class.
+     */
+    private DatabaseEvents() {
+    }
+
+    /**
+     * Begins timing a new connection.
+     * @return The event, or null if it is not enabled.
+     */
+    @Nullable
+    public static Object beginConnect() {
+        if (!CONNECT.isEnabled()) {
+            return null;
+        }
+        ConnectEvent event = new ConnectEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes timing a new connection.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginConnect()}.
+     * @param host The host of the database.
+     * @param database The name of the database.
+     * @param type The type of database.
+     * @param failed True if connecting failed, otherwise false.
+     */
+    public static void endConnect(Object handle, String host, String database, String type, boolean failed) {
+        ConnectEvent event = (ConnectEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.host = host;
+            event.database = database;
+            event.type = type;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins timing a check of whether a connection is still valid.
+     * @return The event, or null if it is not enabled.
+     */
+    @Nullable
+    public static Object beginValidate() {
+        if (!VALIDATE.isEnabled()) {
+            return null;
+        }
+        ValidateEvent event = new ValidateEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes timing a check of whether a connection is still valid.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginValidate()}.
+     * @param host The host of the database.
+     * @param database The name of the database.
+     * @param valid True if the connection is valid, otherwise false.
+     */
+    public static void endValidate(Object handle, String host, String database, boolean valid) {
+        ValidateEvent event = (ValidateEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.host = host;
+            event.database = database;
+            event.valid = valid;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins timing the preparation of a statement.
+     * @return The event, or null if it is not enabled.
+     */
+    @Nullable
+    public static Object beginPrepare() {
+        if (!PREPARE.isEnabled()) {
+            return null;
+        }
+        PrepareEvent event = new PrepareEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes timing the preparation of a statement.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginPrepare()}.
+     * @param table The name of the table the statement uses, or an empty string.
+     * @param operation The kind of statement.
+     * @param sqlHash The hash code of the SQL.
+     */
+    public static void endPrepare(Object handle, String table, String operation, int sqlHash) {
+        PrepareEvent event = (PrepareEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.table = table;
+            event.operation = operation;
+            event.sqlHash = sqlHash;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins timing a statement.
+     * @return The event, or null if it is not enabled.
+     */
+    @Nullable
+    public static Object beginExecute() {
+        if (!EXECUTE.isEnabled()) {
+            return null;
+        }
+        ExecuteEvent event = new ExecuteEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes timing a statement.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginExecute()}.
+     * @param table The name of the table the statement uses, or an empty string.
+     * @param operation The kind of statement.
+     * @param sqlHash The hash code of the SQL.
+     * @param rows The amount of rows returned or changed, or -1 if unknown.
+     * @param failed True if the statement failed, otherwise false.
+     */
+    public static void endExecute(Object handle, String table, String operation, int sqlHash, long rows, boolean failed) {
+        ExecuteEvent event = (ExecuteEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.table = table;
+            event.operation = operation;
+            event.sqlHash = sqlHash;
+            event.rows = rows;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins timing the mapping of rows to objects.
+     * @return The event, or null if it is not enabled.
+     */
+    @Nullable
+    public static Object beginMap() {
+        if (!MAP.isEnabled()) {
+            return null;
+        }
+        MapEvent event = new MapEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes timing the mapping of rows to objects.
+     *
+     * @param handle The event returned by {@link DatabaseEvents#beginMap()}.
+     * @param table The name of the table the rows were selected from.
+     * @param objectClass The class the rows were mapped to.
+     * @param rows The amount of rows mapped.
+     */
+    public static void endMap(Object handle, String table, Class<?> objectClass, long rows) {
+        MapEvent event = (MapEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.table = table;
+            event.objectClass = objectClass;
+            event.rows = rows;
+            event.commit();
+        }
+    }
+
+}
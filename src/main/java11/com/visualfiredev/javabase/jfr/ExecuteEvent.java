@@ -0,0 +1,35 @@
+package com.visualfiredev.javabase.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a {@link com.visualfiredev.javabase.Database} runs a statement and reads its results.
+ */
+@Name("com.visualfiredev.javabase.Execute")
+@Label("Database Execute")
+@Category("Javabase")
+@Description("Running a statement and reading its results")
+class ExecuteEvent extends Event {
+
+    @Label("Table")
+    String table;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("SQL Hash")
+    @Description("The hash code of the SQL, which is the same for every run of the same statement")
+    int sqlHash;
+
+    @Label("Rows")
+    @Description("The amount of rows returned or changed, or -1 if unknown")
+    long rows;
+
+    @Label("Failed")
+    boolean failed;
+
+}
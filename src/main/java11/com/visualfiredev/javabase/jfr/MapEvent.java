@@ -0,0 +1,27 @@
+package com.visualfiredev.javabase.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when the rows of a result are mapped to objects.
+ */
+@Name("com.visualfiredev.javabase.Map")
+@Label("Database Map To Objects")
+@Category("Javabase")
+@Description("Mapping the rows of a result to objects")
+class MapEvent extends Event {
+
+    @Label("Table")
+    String table;
+
+    @Label("Class")
+    Class<?> objectClass;
+
+    @Label("Rows")
+    long rows;
+
+}
@@ -0,0 +1,28 @@
+package com.visualfiredev.javabase.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a {@link com.visualfiredev.javabase.Database} prepares a statement.
+ */
+@Name("com.visualfiredev.javabase.Prepare")
+@Label("Database Prepare")
+@Category("Javabase")
+@Description("Preparing a statement")
+class PrepareEvent extends Event {
+
+    @Label("Table")
+    String table;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("SQL Hash")
+    @Description("The hash code of the SQL, which is the same for every run of the same statement")
+    int sqlHash;
+
+}
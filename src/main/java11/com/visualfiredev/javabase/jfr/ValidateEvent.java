@@ -0,0 +1,27 @@
+package com.visualfiredev.javabase.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a {@link com.visualfiredev.javabase.Database} checks whether its connection is still valid.
+ */
+@Name("com.visualfiredev.javabase.Validate")
+@Label("Database Validate")
+@Category("Javabase")
+@Description("Checking whether a connection is still valid")
+class ValidateEvent extends Event {
+
+    @Label("Host")
+    String host;
+
+    @Label("Database")
+    String database;
+
+    @Label("Valid")
+    boolean valid;
+
+}
@@ -0,0 +1,252 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.metrics.DatabaseMetrics;
+import com.visualfiredev.javabase.metrics.OperationMetrics;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the CRUD paths against SQLite, checking how many bytes each operation allocates and how many statements it
+ * runs, so that a change allocating more in {@link DatabaseResult} or the mapping code fails the build.
+ *
+ * <p>
+ *     Allocations are counted using {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} over many
+ *     calls, after enough warm up calls for the JIT to settle, and averaged per call. The budgets are roughly twice
+ *     what the operations allocated when they were set, so they only catch real regressions. If a change lowers
+ *     allocations, lower the budget with it. On Java runtimes without allocation counting, the tests are skipped.
+ * </p>
+ */
+public class AllocationBudgetTest {
+
+    // The amount of calls before measuring, and the amount of calls measured
+    private static final int WARM_UP_CALLS = 2_000;
+    private static final int MEASURED_CALLS = 2_000;
+
+    // The amount of rows in the table before every test
+    private static final int ROWS = 100;
+
+    // Budgets (Bytes allocated per call, or per row for results, which includes selecting them)
+    private static final long INSERT_BUDGET = 7_000;
+    private static final long SELECT_BY_KEY_BUDGET = 5_000;
+    private static final long SELECT_ALL_ROW_BUDGET = 1_200;
+    private static final long MAP_ROW_BUDGET = 5_500;
+    private static final long UPDATE_BUDGET = 6_500;
+    private static final long DELETE_BUDGET = 2_000;
+
+    // Connection
+    private File file;
+    private Database database;
+
+    /**
+     * Connects to a new SQLite file with a table of {@link AllocationBudgetTest#ROWS} flavors.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-allocations", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(Flavor.TABLE_SCHEMA, true);
+        ArrayList<Flavor> flavors = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            flavors.add(new Flavor("Flavor " + i, i % 2 == 0, i % 5));
+        }
+        database.insert(flavors);
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void insert() throws Exception {
+        Operation insert = () -> database.insert(new Flavor("Inserted", true, 2));
+
+        this.assertWithinBudget("insert", insert, INSERT_BUDGET);
+        this.assertStatements(insert, 1);
+    }
+
+    @Test
+    public void selectByKey() throws Exception {
+        String key = String.valueOf(database.selectAll(Flavor.TABLE_SCHEMA, 1).getValuesForRow(1)[0].getData());
+        Operation select = () -> assertEquals(1, database.select(Flavor.TABLE_SCHEMA, "Id = ?", key).getRowCount());
+
+        this.assertWithinBudget("select by key", select, SELECT_BY_KEY_BUDGET);
+        this.assertStatements(select, 1);
+    }
+
+    @Test
+    public void selectAll() throws Exception {
+        Operation select = () -> assertEquals(ROWS, database.selectAll(Flavor.TABLE_SCHEMA, ROWS).getRowCount());
+
+        this.assertWithinBudget("select all", select, SELECT_ALL_ROW_BUDGET * ROWS);
+        this.assertStatements(select, 1);
+    }
+
+    @Test
+    public void selectAllObjects() throws Exception {
+        Operation select = () -> assertEquals(ROWS, database.selectAll(Flavor.TABLE_SCHEMA, ROWS, Flavor.class).size());
+
+        this.assertWithinBudget("select all objects", select, MAP_ROW_BUDGET * ROWS);
+        this.assertStatements(select, 1);
+    }
+
+    @Test
+    public void update() throws Exception {
+        Flavor flavor = database.selectAll(Flavor.TABLE_SCHEMA, 1, Flavor.class).get(0);
+        Operation update = () -> {
+            flavor.scoops++;
+            database.update(flavor);
+        };
+
+        this.assertWithinBudget("update", update, UPDATE_BUDGET);
+        this.assertStatements(update, 1);
+    }
+
+    @Test
+    public void delete() throws Exception {
+        // Every call deletes the key of a row which no longer exists, taking the same path as deleting one
+        String[] keys = new String[WARM_UP_CALLS + MEASURED_CALLS + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = String.valueOf(-i);
+        }
+        int[] call = new int[1];
+        Operation delete = () -> database.delete(Flavor.TABLE_SCHEMA, "Id = ?", keys[call[0]++ % keys.length]);
+
+        this.assertWithinBudget("delete", delete, DELETE_BUDGET);
+        this.assertStatements(delete, 1);
+    }
+
+    /**
+     * Asserts that the operation allocates at most the budget on average, after warming it up.
+     *
+     * @param name The name of the operation, used in the failure message.
+     * @param operation The operation.
+     * @param budget The most bytes the operation may allocate per call.
+     * @throws Exception Thrown if the operation failed.
+     */
+    private void assertWithinBudget(String name, Operation operation, long budget) throws Exception {
+        com.sun.management.ThreadMXBean threads = AllocationBudgetTest.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        // Warm Up
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            operation.run();
+        }
+
+        // Measure
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            operation.run();
+        }
+        long allocated = (threads.getThreadAllocatedBytes(thread) - before) / MEASURED_CALLS;
+
+        assertTrue(allocated <= budget, name + " allocated " + allocated + " bytes per call, over its budget of " + budget + " bytes");
+    }
+
+    /**
+     * Asserts that the operation runs the specified amount of statements.
+     *
+     * @param operation The operation.
+     * @param expected The amount of statements the operation should run.
+     * @throws Exception Thrown if the operation failed.
+     */
+    private void assertStatements(Operation operation, long expected) throws Exception {
+        DatabaseMetrics metrics = new DatabaseMetrics();
+        database.addMetricsListener(metrics);
+        try {
+            operation.run();
+        } finally {
+            database.removeMetricsListener(metrics);
+        }
+
+        long statements = 0;
+        for (OperationMetrics operationMetrics : metrics.getAllMetrics()) {
+            statements += operationMetrics.getCount();
+        }
+        assertEquals(expected, statements, "Unexpected amount of statements: " + metrics);
+    }
+
+    /**
+     * Fetches the ThreadMXBean which counts allocations, skipping the test if allocations cannot be counted.
+     * @return The ThreadMXBean which counts allocations.
+     */
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads instanceof com.sun.management.ThreadMXBean, "Allocations cannot be counted on this Java runtime");
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        Assumptions.assumeTrue(allocations.isThreadAllocatedMemorySupported(), "Allocations cannot be counted on this Java runtime");
+        if (!allocations.isThreadAllocatedMemoryEnabled()) {
+            allocations.setThreadAllocatedMemoryEnabled(true);
+        }
+        return allocations;
+    }
+
+    /**
+     * An operation which is measured.
+     */
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    /**
+     * The object every test stores, shaped like the ice cream flavors of the README.
+     */
+    public static class Flavor extends DatabaseObject {
+
+        // Schema
+        public static final TableSchema TABLE_SCHEMA = new TableSchema("allocation_flavors",
+            new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+            new ColumnSchema("Name", DataType.VARCHAR, 32),
+            new ColumnSchema("Sprinkles", DataType.TINYINT, 1),
+            new ColumnSchema("Scoops", DataType.INTEGER)
+        );
+
+        // Values
+        private int id = -1;
+        private String name;
+        private boolean sprinkles;
+        private int scoops;
+
+        /**
+         * Creates a new Flavor to insert.
+         *
+         * @param name The name of the flavor.
+         * @param sprinkles Whether or not the flavor has sprinkles.
+         * @param scoops The amount of scoops.
+         */
+        public Flavor(String name, boolean sprinkles, int scoops) {
+            super(TABLE_SCHEMA);
+            this.name = name;
+            this.sprinkles = sprinkles;
+            this.scoops = scoops;
+        }
+
+        /**
+         * Creates a blank Flavor for Javabase to map into.
+         */
+        public Flavor() {
+            super(TABLE_SCHEMA);
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.visualfiredev.javabase;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the states of a {@link CircuitBreaker}, both on its own and guarding an SQLite database.
+ */
+public class CircuitBreakerTest {
+
+    // A statement which never finishes on its own
+    private static final String ENDLESS_QUERY = "WITH RECURSIVE c(x) AS (SELECT 1 UNION ALL SELECT x + 1 FROM c) SELECT COUNT(*) FROM c";
+
+    // Connection
+    private File file;
+    private Database database;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Connects to a new SQLite file.
+     * @throws Exception Thrown if connecting failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-breaker", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        scheduler.shutdownNow();
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void timeoutsOpenTheBreaker() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker().setMinimumCalls(2).setOpenDuration(1, TimeUnit.HOURS);
+        database.setCircuitBreaker(breaker);
+
+        // Two statements running out of time open the breaker, after which nothing runs
+        for (int i = 0; i < 2; i++) {
+            assertThrows(SQLTimeoutException.class, () -> Deadline.after(20, TimeUnit.MILLISECONDS).call(() -> this.endless()));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CallRejectedException.class, () -> database.rawQuery("SELECT 1").getStatement().close());
+        assertEquals(1, breaker.getRejected());
+    }
+
+    @Test
+    public void runtimeExceptionsAreFailures() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker().setMinimumCalls(2).setOpenDuration(1, TimeUnit.HOURS);
+        database.setCircuitBreaker(breaker);
+
+        // Two statements failing without an SQLException open the breaker
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> database.executeQuery("SELECT 1", set -> {
+                throw new IllegalStateException("Driver failed");
+            }));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void cancelledStatementsAreNotFailures() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker().setMinimumCalls(1);
+        database.setCircuitBreaker(breaker);
+
+        // Statements cancelled by their caller leave the breaker closed
+        for (int i = 0; i < 3; i++) {
+            Deadline deadline = Deadline.never();
+            scheduler.schedule(deadline::cancel, 20, TimeUnit.MILLISECONDS);
+            assertThrows(SQLTimeoutException.class, () -> deadline.call(() -> this.endless()));
+            assertTrue(deadline.isCancelled());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void cancelledProbesFreeTheirPlace() throws Exception {
+        CircuitBreaker breaker = this.openBreaker(1);
+        long probe = breaker.tryAcquire();
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+
+        // Once cancelled, another probe may run and close the breaker
+        breaker.release(probe);
+        probe = breaker.tryAcquire();
+        assertTrue(probe != CircuitBreaker.REJECTED);
+        breaker.record(probe, 0, null);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void onlyAdmittedProbesCloseTheBreaker() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker().setMinimumCalls(1).setOpenDuration(0, TimeUnit.NANOSECONDS).setHalfOpenCalls(1);
+        long early = breaker.tryAcquire();
+        breaker.record(breaker.tryAcquire(), 0, new SQLTimeoutException());
+        long probe = breaker.tryAcquire();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // A statement let through while closed finishing now is not a probe
+        breaker.record(early, 0, null);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.record(probe, 0, null);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void failedProbesOpenTheBreakerAgain() throws Exception {
+        CircuitBreaker breaker = this.openBreaker(2);
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        breaker.record(first, 0, null);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.record(second, 0, new SQLException("Connection lost", "08S01"));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    /**
+     * Creates a breaker which has opened, and is ready to probe.
+     *
+     * @param halfOpenCalls The amount of probes let through.
+     * @return The breaker.
+     */
+    private CircuitBreaker openBreaker(int halfOpenCalls) {
+        CircuitBreaker breaker = new CircuitBreaker().setMinimumCalls(1).setOpenDuration(50, TimeUnit.MILLISECONDS).setHalfOpenCalls(halfOpenCalls);
+        breaker.record(breaker.tryAcquire(), 0, new SQLTimeoutException());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+        long opened = System.nanoTime();
+        while (breaker.getState() == CircuitBreaker.State.OPEN) {
+            assertTrue(System.nanoTime() - opened < TimeUnit.SECONDS.toNanos(5));
+            Thread.yield();
+        }
+        return breaker;
+    }
+
+    /**
+     * Runs the endless statement until it is stopped.
+     *
+     * @return Nothing, as the statement never finishes.
+     * @throws SQLException Thrown once the statement is stopped.
+     */
+    private Void endless() throws SQLException {
+        ResultSet result = database.rawQuery(ENDLESS_QUERY);
+        result.getStatement().close();
+        return null;
+    }
+
+}
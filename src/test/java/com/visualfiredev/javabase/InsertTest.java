@@ -0,0 +1,134 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that inserts return their generated keys, and that a batch is inserted either completely or not at all.
+ */
+public class InsertTest {
+
+    // Connection
+    private File file;
+    private Database database;
+
+    /**
+     * Connects to a new SQLite file with an empty table of notes.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-insert", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(Note.TABLE_SCHEMA);
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void insertAndGetKeyReturnsTheGeneratedKey() throws Exception {
+        assertEquals(1L, database.insertAndGetKey(Note.TABLE_SCHEMA, new DatabaseValue("Text", "First")));
+        database.insert(Note.TABLE_SCHEMA, new DatabaseValue("Text", "Second"));
+        assertEquals(3L, database.insertAndGetKey(Note.TABLE_SCHEMA, new DatabaseValue("Text", "Third")));
+    }
+
+    @Test
+    public void batchesWriteTheirKeysBack() throws Exception {
+        Note first = new Note("First");
+        Note second = new Note("Second");
+        database.insert(Arrays.asList(first, second));
+        assertEquals(1, first.id);
+        assertEquals(2, second.id);
+    }
+
+    @Test
+    public void batchesFailingAfterInsertingAreRolledBack() throws Exception {
+        // The next generated key no longer fits the int field, which fails after the row is inserted
+        database.insert(Note.TABLE_SCHEMA, new DatabaseValue("Id", Integer.MAX_VALUE), new DatabaseValue("Text", "Last"));
+        Exception exception = assertThrows(Exception.class, () -> database.insert(Arrays.asList(new Note("Too Large"), new Note("Larger"))));
+        assertTrue(exception.getMessage().contains("too large"), exception.getMessage());
+
+        // Restoring auto-commit did not commit the row inserted before the failure
+        assertTrue(database.getConnection().getAutoCommit());
+        assertEquals(1, database.count(Note.TABLE_SCHEMA));
+    }
+
+    @Test
+    public void batchesJoinAnOpenTransaction() throws Exception {
+        database.getConnection().setAutoCommit(false);
+        database.insert(Note.TABLE_SCHEMA, new DatabaseValue("Text", "Caller"));
+        database.insert(Arrays.asList(new Note("First"), new Note("Second")));
+
+        // The batch neither committed nor ended the transaction of the caller
+        assertFalse(database.getConnection().getAutoCommit());
+        database.getConnection().rollback();
+        assertEquals(0, database.count(Note.TABLE_SCHEMA));
+    }
+
+    @Test
+    public void failingBatchesLeaveAnOpenTransactionToTheCaller() throws Exception {
+        database.getConnection().setAutoCommit(false);
+        database.insert(Note.TABLE_SCHEMA, new DatabaseValue("Id", Integer.MAX_VALUE), new DatabaseValue("Text", "Caller"));
+        assertThrows(Exception.class, () -> database.insert(Arrays.asList(new Note("Too Large"), new Note("Larger"))));
+
+        // The row inserted by the caller was not rolled back along with the batch
+        database.getConnection().commit();
+        database.getConnection().setAutoCommit(true);
+        assertEquals(1, database.select(Note.TABLE_SCHEMA, "Text = ?", "Caller").getRowCount());
+    }
+
+    /**
+     * A note with a key generated by the database.
+     */
+    public static class Note extends DatabaseObject {
+
+        // Schema
+        public static final TableSchema TABLE_SCHEMA = new TableSchema("notes",
+            new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+            new ColumnSchema("Text", DataType.VARCHAR, 32)
+        );
+
+        // Values
+        private int id;
+        private String text;
+
+        /**
+         * Creates a new Note to insert.
+         * @param text The text of the note.
+         */
+        public Note(String text) {
+            super(TABLE_SCHEMA);
+            this.text = text;
+        }
+
+        /**
+         * Creates a blank Note for Javabase to map into.
+         */
+        public Note() {
+            super(TABLE_SCHEMA);
+        }
+
+    }
+
+}
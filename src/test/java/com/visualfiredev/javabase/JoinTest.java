@@ -0,0 +1,121 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.JoinSchema;
+import com.visualfiredev.javabase.schema.JoinType;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks that the tables of a join are mapped to their own objects, lined up by index.
+ */
+public class JoinTest {
+
+    // Connection
+    private File file;
+    private Database database;
+
+    /**
+     * Connects to a new SQLite file with a flavor and two purchases, one of which has no flavor.
+     * @throws Exception Thrown if connecting or creating the tables failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-join", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(Flavor.TABLE_SCHEMA);
+        database.createTable(Purchase.TABLE_SCHEMA);
+        database.insert(Flavor.TABLE_SCHEMA, new DatabaseValue("Id", 1), new DatabaseValue("Name", "Vanilla"));
+        database.insert(Purchase.TABLE_SCHEMA, new DatabaseValue("Id", 1), new DatabaseValue("Flavor_Id", 1));
+        database.insert(Purchase.TABLE_SCHEMA, new DatabaseValue("Id", 2), new DatabaseValue("Flavor_Id", null));
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void tablesWithoutAMatchMapToNull() throws Exception {
+        JoinSchema join = new JoinSchema(Purchase.TABLE_SCHEMA).join(JoinType.LEFT, Purchase.TABLE_SCHEMA.getColumn("Flavor_Id"));
+        DatabaseJoinResult result = database.select(join, "purchases.Id > ?", "0");
+        ArrayList<Purchase> purchases = result.toObjects(Purchase.TABLE_SCHEMA, Purchase.class);
+        ArrayList<Flavor> flavors = result.toObjects(Flavor.TABLE_SCHEMA, Flavor.class);
+
+        assertEquals(2, purchases.size());
+        assertEquals(2, flavors.size());
+        for (int i = 0; i < purchases.size(); i++) {
+            assertNotNull(purchases.get(i));
+            if (purchases.get(i).id == 1) {
+                assertEquals("Vanilla", flavors.get(i).name);
+            } else {
+                assertNull(flavors.get(i));
+            }
+        }
+    }
+
+    /**
+     * A flavor of ice cream.
+     */
+    public static class Flavor extends DatabaseObject {
+
+        // Schema
+        public static final TableSchema TABLE_SCHEMA = new TableSchema("flavors",
+            new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true),
+            new ColumnSchema("Name", DataType.VARCHAR, 32)
+        );
+
+        // Values
+        private int id;
+        private String name;
+
+        /**
+         * Creates a blank Flavor for Javabase to map into.
+         */
+        public Flavor() {
+            super(TABLE_SCHEMA);
+        }
+
+    }
+
+    /**
+     * A purchase of a flavor, if any.
+     */
+    public static class Purchase extends DatabaseObject {
+
+        // Schema
+        public static final TableSchema TABLE_SCHEMA = new TableSchema("purchases",
+            new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true),
+            new ColumnSchema("Flavor_Id", DataType.INTEGER).setForeignKey(Flavor.TABLE_SCHEMA, Flavor.TABLE_SCHEMA.getColumn("Id"))
+        );
+
+        // Values
+        private int id;
+        private Integer flavor_id;
+
+        /**
+         * Creates a blank Purchase for Javabase to map into.
+         */
+        public Purchase() {
+            super(TABLE_SCHEMA);
+        }
+
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that parallel scans cover every row using a limited amount of connections, and that the connections they
+ * fork share the password supplier instead of keeping the password.
+ */
+public class ParallelScanTest {
+
+    // Connection
+    private File file;
+    private Database database;
+
+    /**
+     * Connects to a new SQLite file with an empty table of entries.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-scan", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(Entry.TABLE_SCHEMA);
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void everyRowIsScanned() throws Exception {
+        for (int i = 1; i <= 50; i++) {
+            database.insert(Entry.TABLE_SCHEMA, new DatabaseValue("Id", i));
+        }
+
+        List<Long> ids = this.scan(4);
+        assertEquals(50, ids.size());
+        assertEquals(1L, (long) ids.get(0));
+        assertEquals(50L, (long) ids.get(49));
+    }
+
+    @Test
+    public void theSmallestKeyIsScanned() throws Exception {
+        database.insert(Entry.TABLE_SCHEMA, new DatabaseValue("Id", Long.MIN_VALUE));
+        database.insert(Entry.TABLE_SCHEMA, new DatabaseValue("Id", Long.MIN_VALUE + 1));
+        database.insert(Entry.TABLE_SCHEMA, new DatabaseValue("Id", 0L));
+
+        List<Long> ids = this.scan(2);
+        assertEquals(3, ids.size());
+        assertEquals(Long.MIN_VALUE, (long) ids.get(0));
+    }
+
+    @Test
+    public void forksShareThePasswordSupplier() throws Exception {
+        Supplier<String> supplier = () -> "";
+        database.disconnect();
+        database.connect("", supplier);
+        Database fork = database.fork();
+        Database forkOfFork = fork.fork();
+        try {
+            Field password = Database.class.getDeclaredField("password");
+            password.setAccessible(true);
+            assertSame(supplier, password.get(database));
+            assertSame(supplier, password.get(fork));
+            assertSame(supplier, password.get(forkOfFork));
+
+            // Reconnecting asks the same supplier again
+            forkOfFork.reconnect();
+            assertTrue(forkOfFork.isConnected());
+            assertSame(supplier, password.get(forkOfFork));
+        } finally {
+            forkOfFork.disconnect();
+            fork.disconnect();
+        }
+    }
+
+    @Test
+    public void partitionsShareAFixedAmountOfWorkers() throws Exception {
+        for (int i = 1; i <= 50; i++) {
+            database.insert(Entry.TABLE_SCHEMA, new DatabaseValue("Id", i));
+        }
+
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+        database.parallelScan(Entry.TABLE_SCHEMA, Entry.class, 10, 2, entry -> {
+            threads.add(Thread.currentThread());
+            ids.add(entry.id);
+        });
+        assertEquals(50, ids.size());
+        assertTrue(threads.size() <= 2, threads.toString());
+        assertThrows(IllegalArgumentException.class, () -> database.parallelScan(Entry.TABLE_SCHEMA, Entry.class, 10, 0, entry -> { }));
+    }
+
+    /**
+     * Scans the table of entries in parallel.
+     *
+     * @param partitions The amount of partitions to scan.
+     * @return The key of every entry scanned, in order.
+     * @throws Exception Thrown if scanning failed.
+     */
+    private List<Long> scan(int partitions) throws Exception {
+        List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+        database.parallelScan(Entry.TABLE_SCHEMA, Entry.class, partitions, entry -> ids.add(entry.id));
+        Collections.sort(ids);
+        return ids;
+    }
+
+    /**
+     * An entry keyed by a 64-bit integer.
+     */
+    public static class Entry extends DatabaseObject {
+
+        // Schema
+        public static final TableSchema TABLE_SCHEMA = new TableSchema("entries",
+            new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true)
+        );
+
+        // Values
+        private long id;
+
+        /**
+         * Creates a blank Entry for Javabase to map into.
+         */
+        public Entry() {
+            super(TABLE_SCHEMA);
+        }
+
+    }
+
+}
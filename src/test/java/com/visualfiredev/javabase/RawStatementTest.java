@@ -0,0 +1,55 @@
+package com.visualfiredev.javabase;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the statement created for a raw query is closed along with its results.
+ */
+public class RawStatementTest {
+
+    // Connection
+    private File file;
+    private Database database;
+
+    /**
+     * Connects to a new SQLite file.
+     * @throws Exception Thrown if connecting failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-raw", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void closingTheResultsClosesTheStatement() throws Exception {
+        ResultSet set = database.rawQuery("SELECT 1");
+        Statement statement = set.getStatement();
+        assertTrue(set.next());
+        assertFalse(statement.isClosed());
+        set.close();
+        assertTrue(statement.isClosed());
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a {@link ReplicatedDatabase} hedges slow reads without the delay shrinking until every read is hedged,
+ * and keeps trying replicas which were slow.
+ */
+public class ReplicatedDatabaseTest {
+
+    // The table every read counts the rows of
+    private static final TableSchema TABLE_SCHEMA = new TableSchema("replicated_items",
+        new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+        new ColumnSchema("Name", DataType.VARCHAR, 32)
+    );
+
+    // Shadows the table on a connection with a view which takes a while to read, but can be cancelled
+    private static final String SLOW_VIEW = "CREATE TEMP VIEW replicated_items AS WITH RECURSIVE c(x) AS (SELECT 1 UNION ALL SELECT x + 1 FROM c WHERE x < 40000) SELECT x AS Id, 'Slow' AS Name FROM c WHERE x > 39997";
+
+    // How long reading the slow view takes at least
+    private static final long SLOW_MILLIS = 10;
+
+    // How long a read waits at most before it is hedged, which is shorter than the slow view
+    private static final long MAX_DELAY_MILLIS = 5;
+
+    // Connection (SQLite replicas share the file of the primary)
+    private File file;
+    private ReplicatedDatabase database;
+
+    /**
+     * Connects to a new SQLite file with two replicas and a table of three rows.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-replicated", ".db");
+        database = new ReplicatedDatabase("", file.getAbsolutePath(), DatabaseType.SQLite, "", "");
+        database.connect("", "");
+        database.setStickiness(0, TimeUnit.MILLISECONDS);
+        database.createTable(TABLE_SCHEMA);
+        for (int i = 0; i < 3; i++) {
+            database.insert(TABLE_SCHEMA, new DatabaseValue("Name", "Item " + i));
+        }
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void slowReadsWhichLostKeepTheDelayUp() throws Exception {
+        // The connections of the first replica used by hedged reads are slow
+        ReplicatedDatabase.Replica replica = (ReplicatedDatabase.Replica) database.getReplicas().get(0);
+        Database[] connections = new Database[4];
+        for (int i = 0; i < connections.length; i++) {
+            connections[i] = replica.borrowConnection();
+            connections[i].rawUpdate(SLOW_VIEW);
+        }
+        for (Database connection : connections) {
+            replica.releaseConnection(connection);
+        }
+        long start = System.nanoTime();
+        assertEquals(3, connections[0].count(TABLE_SCHEMA));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(SLOW_MILLIS), "The view is not slow enough");
+        HedgePolicy policy = new HedgePolicy().setMinSamples(10).setMinDelay(1).setMaxDelay(MAX_DELAY_MILLIS);
+        database.setHedgePolicy(policy);
+
+        // Every other read starts on the slow replica, and is hedged
+        for (int i = 0; i < 120; i++) {
+            assertEquals(3, database.count(TABLE_SCHEMA));
+        }
+        assertTrue(policy.getHedges() >= 50, "The slow reads were not hedged: " + policy);
+
+        // The slow reads which lost are a quarter of the recorded latencies, so the delay does not shrink
+        assertTrue(policy.getDelayNanos() >= TimeUnit.MILLISECONDS.toNanos(MAX_DELAY_MILLIS - 2), "The delay shrank: " + policy);
+    }
+
+    @Test
+    public void hedgedReadsUseTheirOwnConnection() throws Exception {
+        ReplicatedDatabase.Replica replica = (ReplicatedDatabase.Replica) database.getReplicas().get(0);
+
+        Database connection = replica.borrowConnection();
+        assertNotSame(replica.getConnection(), connection.getConnection());
+        replica.releaseConnection(connection);
+
+        // An idle connection is reused
+        Database reused = replica.borrowConnection();
+        assertEquals(connection, reused);
+        replica.releaseConnection(reused);
+    }
+
+    @Test
+    public void idleReplicasAreTriedAgain() {
+        database.setRouting(ReplicatedDatabase.Routing.LEAST_LATENCY);
+        ReplicatedDatabase.Replica fast = (ReplicatedDatabase.Replica) database.getReplicas().get(0);
+        ReplicatedDatabase.Replica slow = (ReplicatedDatabase.Replica) database.getReplicas().get(1);
+        fast.recordLatency(TimeUnit.MILLISECONDS.toNanos(1));
+        slow.recordLatency(TimeUnit.MILLISECONDS.toNanos(3));
+        long now = System.nanoTime();
+        fast.markRouted(now);
+        slow.markRouted(now);
+        assertSame(fast, database.route());
+
+        // Two half-lives later, the slow replica counts for less than the fast one, but is only tried once
+        slow.markRouted(now - 2 * ReplicatedDatabase.Replica.LATENCY_HALF_LIFE);
+        assertSame(slow, database.route());
+        assertSame(fast, database.route());
+    }
+
+}
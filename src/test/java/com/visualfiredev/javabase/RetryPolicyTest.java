@@ -0,0 +1,146 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks which failures a {@link RetryPolicy} retries, and how often statements are retried against a busy SQLite
+ * database.
+ */
+public class RetryPolicyTest {
+
+    // The table every insert goes to
+    private static final TableSchema TABLE_SCHEMA = new TableSchema("retried_items",
+        new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+        new ColumnSchema("Name", DataType.VARCHAR, 32)
+    );
+
+    // Failures
+    private static final SQLException MYSQL_DEADLOCK = new SQLException("Deadlock found", "40001", 1213);
+    private static final SQLException MYSQL_LOCK_WAIT_TIMEOUT = new SQLException("Lock wait timeout exceeded", "HY000", 1205);
+    private static final SQLException SQLITE_BUSY = new SQLException("[SQLITE_BUSY] The database file is locked", null, 5);
+    private static final SQLException SYNTAX_ERROR = new SQLException("You have an error in your SQL syntax", "42000", 1064);
+
+    // Connections (The locker holds the write lock of the file)
+    private File file;
+    private Database database;
+    private Database locker;
+
+    /**
+     * Connects twice to a new SQLite file with an empty table, without waiting for locks.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-retry", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(TABLE_SCHEMA);
+        database.raw("PRAGMA busy_timeout = 0");
+        locker = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        locker.disconnect();
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void writesAreOnlyRetriedIfTheyHadNoEffect() {
+        RetryPolicy policy = new RetryPolicy();
+        for (DatabaseType type : new DatabaseType[] { DatabaseType.MySQL, DatabaseType.MariaDB }) {
+            assertTrue(policy.isRetryable(MYSQL_DEADLOCK, type, false));
+            assertTrue(policy.isRetryable(MYSQL_LOCK_WAIT_TIMEOUT, type, true));
+            assertFalse(policy.isRetryable(MYSQL_LOCK_WAIT_TIMEOUT, type, false));
+            assertFalse(policy.isRetryable(SYNTAX_ERROR, type, true));
+        }
+        assertTrue(policy.isRetryable(new SQLException("Wrapped", SQLITE_BUSY), DatabaseType.SQLite, false));
+        assertFalse(policy.isRetryable(new SQLTimeoutException("Timed out", MYSQL_DEADLOCK), DatabaseType.MySQL, true));
+    }
+
+    @Test
+    public void lostConnectionsAreFoundInCauses() {
+        RetryPolicy policy = new RetryPolicy();
+        assertTrue(policy.isConnectionFailure(new Exception("Wrapped", new SQLException("Communications link failure", "08S01"))));
+        assertTrue(policy.isConnectionFailure(new NotConnectedException()));
+        assertFalse(policy.isConnectionFailure(MYSQL_DEADLOCK));
+    }
+
+    @Test
+    public void backoffsMustNotBeNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy().setInitialBackoff(-1));
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy().setMaxBackoff(-1));
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy().setMaxAttempts(0));
+    }
+
+    @Test
+    public void backoffSaturatesAtTheMaximum() throws Exception {
+        // Doubling this many times would overflow, yet the wait stays within the maximum
+        RetryPolicy policy = new RetryPolicy().setInitialBackoff(Long.MAX_VALUE / 3).setMaxBackoff(0);
+        for (int retry = 1; retry < 100; retry++) {
+            assertTrue(policy.backoff(retry));
+        }
+        Deadline deadline = Deadline.after(1, TimeUnit.HOURS);
+        RetryPolicy large = new RetryPolicy().setInitialBackoff(Long.MAX_VALUE / 3).setMaxBackoff(Long.MAX_VALUE);
+        assertFalse(deadline.call(() -> large.backoff(2)), "The backoff did not saturate");
+    }
+
+    @Test
+    public void busyInsertsAreRetried() throws Exception {
+        RetryPolicy policy = new RetryPolicy().setMaxAttempts(3).setInitialBackoff(1).setMaxBackoff(1);
+        database.setRetryPolicy(policy);
+        locker.raw("BEGIN IMMEDIATE");
+
+        // Every attempt finds the database locked
+        assertThrows(SQLException.class, () -> database.insert(TABLE_SCHEMA, new DatabaseValue("Name", "Locked")));
+        assertEquals(2, policy.getRetries());
+        assertEquals(1, policy.getExhausted());
+
+        // Once unlocked, the insert goes through
+        locker.raw("COMMIT");
+        database.insert(TABLE_SCHEMA, new DatabaseValue("Name", "Unlocked"));
+        assertEquals(1, database.count(TABLE_SCHEMA));
+    }
+
+    @Test
+    public void retriedOperationsDoNotRetryTheirStatements() throws Exception {
+        RetryPolicy policy = new RetryPolicy().setMaxAttempts(3).setInitialBackoff(1).setMaxBackoff(1);
+        database.setRetryPolicy(policy);
+        locker.raw("BEGIN IMMEDIATE");
+
+        // The operation is attempted three times, rather than three times three
+        int[] attempts = new int[1];
+        assertThrows(SQLException.class, () -> database.retry(() -> {
+            attempts[0]++;
+            return database.retry(() -> {
+                database.insert(TABLE_SCHEMA, new DatabaseValue("Name", "Locked"));
+                return null;
+            });
+        }));
+        assertEquals(3, attempts[0]);
+        assertEquals(2, policy.getRetries());
+        assertEquals(1, policy.getExhausted());
+        locker.raw("COMMIT");
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks full-text searches against the FTS5 table of an SQLite database.
+ */
+public class SearchTest {
+
+    // Schema
+    private static final TableSchema TABLE_SCHEMA = new TableSchema("posts",
+        new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+        new ColumnSchema("Title", DataType.VARCHAR, 50).setFullText(true)
+    );
+
+    // Connection
+    private File file;
+    private Database database;
+
+    /**
+     * Connects to a new SQLite file with a table of posts.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-search", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(TABLE_SCHEMA);
+        database.insert(TABLE_SCHEMA, new DatabaseValue("Title", "Chocolate sprinkles"));
+        database.insert(TABLE_SCHEMA, new DatabaseValue("Title", "Vanilla \"custard\""));
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void wordsMatchAnyRow() throws Exception {
+        assertEquals(1, database.search(TABLE_SCHEMA, "chocolate", -1).getRowCount());
+        assertEquals(2, database.search(TABLE_SCHEMA, "  sprinkles   \"custard\" ", -1).getRowCount());
+    }
+
+    @Test
+    public void blankQueriesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> database.search(TABLE_SCHEMA, "", 10));
+        assertThrows(IllegalArgumentException.class, () -> database.search(TABLE_SCHEMA, " \t\n", 10));
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks that selecting a very large set of keys through a temporary table leaves the transaction of the caller alone.
+ */
+public class SelectInTest {
+
+    // Schema
+    private static final TableSchema TABLE_SCHEMA = new TableSchema("entries",
+        new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true)
+    );
+
+    // Connection
+    private File file;
+    private Database database;
+    private List<Object> keys;
+
+    /**
+     * Connects to a new SQLite file with more entries than fit in the "IN" chunks.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-select-in", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(TABLE_SCHEMA);
+
+        keys = new ArrayList<>();
+        for (long i = 1; i <= (long) DatabaseType.SQLite.getMaxParameters() * Database.TEMPORARY_TABLE_CHUNKS + 1; i++) {
+            keys.add(i);
+        }
+        database.getConnection().setAutoCommit(false);
+        for (Object key : keys) {
+            database.insert(TABLE_SCHEMA, new DatabaseValue("Id", key));
+        }
+        database.getConnection().commit();
+        database.getConnection().setAutoCommit(true);
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void everyKeyIsSelected() throws Exception {
+        ArrayList<DatabaseResult> results = database.selectIn(TABLE_SCHEMA, TABLE_SCHEMA.getColumn("Id"), keys);
+        assertEquals(1, results.size());
+        assertEquals(keys.size(), results.get(0).getRowCount());
+    }
+
+    @Test
+    public void theTransactionOfTheCallerIsLeftOpen() throws Exception {
+        database.getConnection().setAutoCommit(false);
+        database.insert(TABLE_SCHEMA, new DatabaseValue("Id", 0L));
+        database.selectIn(TABLE_SCHEMA, TABLE_SCHEMA.getColumn("Id"), keys);
+
+        // Rolling back still removes the row inserted by the caller
+        assertFalse(database.getConnection().getAutoCommit());
+        database.getConnection().rollback();
+        database.getConnection().setAutoCommit(true);
+        assertEquals(keys.size(), database.count(TABLE_SCHEMA));
+    }
+
+}
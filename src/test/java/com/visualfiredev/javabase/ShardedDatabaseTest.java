@@ -0,0 +1,192 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.query.Query;
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that a {@link ShardedDatabase} routes rows to their shards and reads every row exactly once.
+ */
+public class ShardedDatabaseTest {
+
+    // Keys below 100 are stored on the first shard, and the rest on the second
+    private static final RangeRouter ROUTER = new RangeRouter().addRange(Long.MIN_VALUE, 0).addRange(100, 1);
+
+    // Shards
+    private File[] files;
+    private Database[] shards;
+
+    /**
+     * Connects to two new SQLite files.
+     * @throws Exception Thrown if connecting failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        files = new File[2];
+        shards = new Database[2];
+        for (int i = 0; i < shards.length; i++) {
+            files[i] = File.createTempFile("javabase-shard", ".db");
+            shards[i] = new Database("", files[i].getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        }
+    }
+
+    /**
+     * Disconnects, deleting the SQLite files.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        for (int i = 0; i < shards.length; i++) {
+            shards[i].disconnect();
+            if (!files[i].delete()) {
+                files[i].deleteOnExit();
+            }
+        }
+    }
+
+    @Test
+    public void shardedRowsAreStoredOnTheirShardAndMerged() throws Exception {
+        ShardedDatabase database = new ShardedDatabase(ROUTER, shards);
+        database.createTable(Item.SHARDED_SCHEMA);
+        database.insert(Arrays.asList(new Item(Item.SHARDED_SCHEMA, 150), new Item(Item.SHARDED_SCHEMA, 1), new Item(Item.SHARDED_SCHEMA, 151), new Item(Item.SHARDED_SCHEMA, 2)));
+
+        assertEquals(2, shards[0].count(Item.SHARDED_SCHEMA));
+        assertEquals(2, shards[1].count(Item.SHARDED_SCHEMA));
+        assertEquals(4, database.count(Item.SHARDED_SCHEMA, null));
+
+        ArrayList<Item> items = database.select(new Query(Item.SHARDED_SCHEMA).orderBy(Item.SHARDED_SCHEMA.getColumn("Id")), Item.class);
+        assertEquals(4, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(new long[] { 1, 2, 150, 151 }[i], items.get(i).id);
+        }
+    }
+
+    @Test
+    public void unshardedRowsAreCopiedButReadOnce() throws Exception {
+        ShardedDatabase database = new ShardedDatabase(ROUTER, shards);
+        database.createTable(Item.UNSHARDED_SCHEMA);
+        database.insert(Arrays.asList(new Item(Item.UNSHARDED_SCHEMA, 1), new Item(Item.UNSHARDED_SCHEMA, 2), new Item(Item.UNSHARDED_SCHEMA, 3)));
+
+        assertEquals(3, shards[0].count(Item.UNSHARDED_SCHEMA));
+        assertEquals(3, shards[1].count(Item.UNSHARDED_SCHEMA));
+        assertEquals(3, database.count(Item.UNSHARDED_SCHEMA, null));
+        assertEquals(3, database.select(new Query(Item.UNSHARDED_SCHEMA)).getRowCount());
+    }
+
+    @Test
+    public void batchesFindTheirShardByIndex() throws Exception {
+        // The same database registered as both shards
+        ShardedDatabase database = new ShardedDatabase(ROUTER, shards[0], shards[0]);
+        shards[0].createTable(Item.SHARDED_SCHEMA);
+        database.insert(Arrays.asList(new Item(Item.SHARDED_SCHEMA, 150), new Item(Item.SHARDED_SCHEMA, 151)));
+
+        assertEquals(2, shards[0].count(Item.SHARDED_SCHEMA));
+    }
+
+    @Test
+    public void unshardedRowsKeepTheKeyOfTheFirstShard() throws Exception {
+        ShardedDatabase database = new ShardedDatabase(ROUTER, shards);
+        database.createTable(Note.TABLE_SCHEMA);
+
+        // The second shard would generate a different key
+        shards[1].insert(Note.TABLE_SCHEMA, new DatabaseValue("Id", 100), new DatabaseValue("Text", "Other"));
+
+        Note note = new Note("First");
+        database.insert(note);
+        assertEquals(1, note.id);
+        assertEquals(1, shards[1].select(Note.TABLE_SCHEMA, "Id = ?", "1").getRowCount());
+
+        Note second = new Note("Second");
+        database.insert(Arrays.asList(second));
+        assertEquals(2, second.id);
+        assertEquals(1, shards[1].select(Note.TABLE_SCHEMA, "Id = ?", "2").getRowCount());
+    }
+
+    /**
+     * A row with a key, stored in a sharded or unsharded table.
+     */
+    public static class Item extends DatabaseObject {
+
+        // Schemas
+        public static final TableSchema SHARDED_SCHEMA = Item.createSchema("sharded_items", true);
+        public static final TableSchema UNSHARDED_SCHEMA = Item.createSchema("unsharded_items", false);
+
+        // Values
+        private long id;
+
+        /**
+         * Creates a new Item to insert.
+         *
+         * @param tableSchema The table the item is stored in.
+         * @param id The key of the item.
+         */
+        public Item(TableSchema tableSchema, long id) {
+            super(tableSchema);
+            this.id = id;
+        }
+
+        /**
+         * Creates a blank Item for Javabase to map into.
+         */
+        public Item() {
+            super(SHARDED_SCHEMA);
+        }
+
+        /**
+         * Creates the schema of a table of items.
+         *
+         * @param name The name of the table.
+         * @param sharded Whether or not the key is the shard key.
+         * @return The schema.
+         */
+        private static TableSchema createSchema(String name, boolean sharded) {
+            ColumnSchema id = new ColumnSchema("Id", DataType.BIGINT).setPrimaryKey(true);
+            TableSchema schema = new TableSchema(name, id);
+            return sharded ? schema.setShardKey(id) : schema;
+        }
+
+    }
+
+    /**
+     * A note with an auto-increment key, stored in an unsharded table.
+     */
+    public static class Note extends DatabaseObject {
+
+        // Schema
+        public static final TableSchema TABLE_SCHEMA = new TableSchema("notes",
+            new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+            new ColumnSchema("Text", DataType.VARCHAR, 32)
+        );
+
+        // Values
+        private long id;
+        private String text;
+
+        /**
+         * Creates a new Note to insert.
+         * @param text The text of the note.
+         */
+        public Note(String text) {
+            super(TABLE_SCHEMA);
+            this.text = text;
+        }
+
+        /**
+         * Creates a blank Note for Javabase to map into.
+         */
+        public Note() {
+            super(TABLE_SCHEMA);
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a {@link SlowQueryLog} reports the parameters each statement ran with, and explains it separately.
+ */
+public class SlowQueryLogTest {
+
+    // Schema
+    private static final TableSchema TABLE_SCHEMA = new TableSchema("notes",
+        new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+        new ColumnSchema("Text", DataType.VARCHAR, 32)
+    );
+
+    // Connection
+    private File file;
+    private Database database;
+    private SlowQueryLog slowLog;
+
+    /**
+     * Connects to a new SQLite file with an empty table of notes, logging every statement.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-slow", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(TABLE_SCHEMA);
+        slowLog = new SlowQueryLog().setThreshold(0, TimeUnit.NANOSECONDS).setExplainRate(1);
+        database.setSlowQueryLog(slowLog);
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void cachedStatementsReportTheParametersTheyRanWith() throws Exception {
+        String sql = "SELECT * FROM notes WHERE Text = ?";
+        for (String text : new String[] { "First", "Second", "Third" }) {
+            database.queryCached(sql, new ArrayList<>(Collections.singletonList(text)), ResultSet::next);
+        }
+
+        ArrayList<SlowQuery> entries = slowLog.getEntries();
+        assertEquals(3, entries.size());
+        assertEquals(Collections.singletonList("First"), entries.get(0).getParameters());
+        assertEquals(Collections.singletonList("Second"), entries.get(1).getParameters());
+        assertEquals(Collections.singletonList("Third"), entries.get(2).getParameters());
+    }
+
+    @Test
+    public void statementsWithoutCapturedParametersReportNone() throws Exception {
+        database.select(TABLE_SCHEMA, "Text = ?", "First");
+        database.raw("SELECT COUNT(*) FROM notes");
+
+        ArrayList<SlowQuery> entries = slowLog.getEntries();
+        assertEquals(Collections.singletonList("First"), entries.get(0).getParameters());
+        assertTrue(entries.get(1).getParameters().isEmpty());
+    }
+
+    @Test
+    public void statementsRunningUnderADeadlineAreExplained() throws Exception {
+        Deadline.after(1, TimeUnit.MINUTES).call(() -> database.select(TABLE_SCHEMA, "Text = ?", "First"));
+
+        String plan = slowLog.getEntries().get(0).getPlan();
+        assertNotNull(plan);
+        assertTrue(plan.contains("notes"), plan);
+    }
+
+    @Test
+    public void failedStatementsAreNotExplained() throws Exception {
+        // A duplicate key, which could still be explained
+        String sql = "INSERT INTO notes(Id, Text) VALUES(1, 'First')";
+        database.raw(sql);
+        assertThrows(SQLException.class, () -> database.raw(sql));
+
+        SlowQuery entry = slowLog.getEntries().get(1);
+        assertTrue(entry.isFailed());
+        assertNull(entry.getPlan());
+    }
+
+    @Test
+    public void statementsAreOnlyCountedWhenNothingKeepsThem() throws Exception {
+        slowLog.setCapacity(0);
+        database.select(TABLE_SCHEMA, "Text = ?", "First");
+
+        assertEquals(1, slowLog.getLogged());
+        assertTrue(slowLog.getEntries().isEmpty());
+    }
+
+}
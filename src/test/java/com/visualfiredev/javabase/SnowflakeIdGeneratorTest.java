@@ -0,0 +1,32 @@
+package com.visualfiredev.javabase;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a {@link SnowflakeIdGenerator} never generates 0, and keeps its keys increasing past the sequence limit.
+ */
+public class SnowflakeIdGeneratorTest {
+
+    @Test
+    public void firstKeyAtTheEpochIsNotZero() {
+        // The epoch is the current millisecond, so the first key is usually generated within it
+        for (int i = 0; i < 100; i++) {
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, System.currentTimeMillis());
+            assertTrue(generator.nextId(null) > 0);
+        }
+    }
+
+    @Test
+    public void keysIncreasePastTheSequenceLimit() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        long last = 0;
+        for (int i = 0; i < 20_000; i++) {
+            long id = generator.nextId(null);
+            assertTrue(id > last, "Key " + id + " does not increase from " + last);
+            last = id;
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link Database#queryCached(String, java.util.List, ResultSetHandler)} reuses its statements, and closes
+ * them instead when anything fails.
+ */
+public class StatementCacheTest {
+
+    // Schema
+    private static final TableSchema TABLE_SCHEMA = new TableSchema("cached_notes",
+        new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+        new ColumnSchema("Text", DataType.VARCHAR, 32)
+    );
+
+    // The query every test runs
+    private static final String SQL = "SELECT * FROM cached_notes WHERE Text = ?";
+
+    // Connection
+    private File file;
+    private Database database;
+
+    /**
+     * Connects to a new SQLite file with an empty table of notes.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-cache", ".db");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(TABLE_SCHEMA);
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void statementsAreReused() throws Exception {
+        Statement first = database.queryCached(SQL, new ArrayList<>(Collections.singletonList("First")), set -> set.getStatement());
+        Statement second = database.queryCached(SQL, new ArrayList<>(Collections.singletonList("Second")), set -> set.getStatement());
+        assertSame(first, second);
+    }
+
+    @Test
+    public void statementsAreClosedWhenTheHandlerThrows() throws Exception {
+        AtomicReference<Statement> failed = new AtomicReference<>();
+        assertThrows(IllegalStateException.class, () -> database.queryCached(SQL, new ArrayList<>(Collections.singletonList("First")), set -> {
+            failed.set(set.getStatement());
+            throw new IllegalStateException("Handler failed");
+        }));
+        assertTrue(failed.get().isClosed());
+
+        // The next query prepares a new statement
+        Statement next = database.queryCached(SQL, new ArrayList<>(Collections.singletonList("First")), set -> set.getStatement());
+        assertNotSame(failed.get(), next);
+    }
+
+}
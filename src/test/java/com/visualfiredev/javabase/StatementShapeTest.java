@@ -0,0 +1,43 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.metrics.Operation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link StatementShape} finds the table of a statement, remembers a bounded amount of SQL, and shares the
+ * shapes of statements whose kind and table are already known.
+ */
+public class StatementShapeTest {
+
+    @Test
+    public void findsTheOperationAndTable() {
+        StatementShape shape = StatementShape.of("INSERT OR IGNORE INTO `shop`.`flavors`(Name) VALUES(?)");
+        assertEquals(Operation.INSERT, shape.getOperation());
+        assertEquals("flavors", shape.getTable());
+        assertEquals("flavors", StatementShape.of("SELECT * FROM flavors WHERE Id = ?").getTable());
+    }
+
+    @Test
+    public void rememberedSqlStaysBounded() {
+        // Far more distinct statements than are remembered, mixed with a frequent one
+        String hot = "SELECT * FROM shape_hot WHERE Id = ?";
+        for (int i = 0; i < 10000; i++) {
+            StatementShape.of("INSERT INTO shape_cold(Id) VALUES(" + i + ")");
+            assertEquals("shape_hot", StatementShape.of(hot).getTable());
+            assertTrue(StatementShape.getCacheSize() <= StatementShape.CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void knownShapesAreShared() {
+        StatementShape shape = StatementShape.of(Operation.UPDATE, "shape_known");
+        assertEquals(Operation.UPDATE, shape.getOperation());
+        assertEquals("shape_known", shape.getTable());
+        assertSame(shape, StatementShape.of(Operation.UPDATE, "shape_known"));
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.visualfiredev.javabase;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a {@link TenantRouter} reuses, limits, and closes the connections of SQLite tenants.
+ */
+public class TenantRouterTest {
+
+    // Router
+    private File directory;
+    private TenantRouter router;
+
+    /**
+     * Creates a router keeping the SQLite file of every tenant in a new directory.
+     * @throws Exception Thrown if creating the directory failed.
+     */
+    @BeforeEach
+    public void create() throws Exception {
+        directory = Files.createTempDirectory("javabase-tenants").toFile();
+        router = new TenantRouter("", DatabaseType.SQLite, tenant -> new File(directory, tenant + ".db").getAbsolutePath());
+    }
+
+    /**
+     * Closes the router, deleting the SQLite files.
+     */
+    @AfterEach
+    public void close() {
+        router.close();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (!file.delete()) {
+                    file.deleteOnExit();
+                }
+            }
+        }
+        if (!directory.delete()) {
+            directory.deleteOnExit();
+        }
+    }
+
+    @Test
+    public void idleConnectionsAreReused() throws Exception {
+        Database database;
+        try (TenantRouter.Lease lease = router.acquire("a")) {
+            database = lease.getDatabase();
+        }
+        try (TenantRouter.Lease lease = router.acquire("a")) {
+            assertSame(database, lease.getDatabase());
+        }
+        assertEquals(1, router.getOpenConnections());
+        assertEquals(1, router.getIdleConnections());
+    }
+
+    @Test
+    public void waitsNoLongerThanTheMaxWait() throws Exception {
+        router.setMaxConnectionsPerTenant(1).setMaxWait(100);
+
+        try (TenantRouter.Lease ignored = router.acquire("a")) {
+            long start = System.nanoTime();
+            assertThrows(SQLTransientConnectionException.class, () -> router.acquire("a"));
+            assertTrue(System.nanoTime() - start < 2_000_000_000L);
+        }
+        assertEquals(1, router.getOpenConnections());
+    }
+
+    @Test
+    public void brokenIdleConnectionsAreReplaced() throws Exception {
+        router.setMaxConnectionsPerTenant(1).setMaxWait(100);
+        Database broken;
+        try (TenantRouter.Lease lease = router.acquire("a")) {
+            broken = lease.getDatabase();
+            broken.getConnection().close();
+        }
+
+        // Let the cached connection check of the broken connection expire
+        Thread.sleep(2600);
+
+        // The broken connection frees its room for a new one, instead of waiting for a release
+        try (TenantRouter.Lease lease = router.acquire("a")) {
+            assertNotSame(broken, lease.getDatabase());
+            assertTrue(lease.getDatabase().isConnected());
+        }
+        assertEquals(1, router.getOpenConnections());
+    }
+
+    @Test
+    public void longestIdleConnectionIsEvictedForAnotherTenant() throws Exception {
+        router.setMaxConnections(1);
+        Database idle;
+        try (TenantRouter.Lease lease = router.acquire("a")) {
+            idle = lease.getDatabase();
+        }
+
+        try (TenantRouter.Lease lease = router.acquire("b")) {
+            assertEquals("b", lease.getTenant());
+            assertNull(idle.getConnection());
+        }
+        assertEquals(1, router.getEvictions());
+        assertEquals(0, router.getOpenConnections("a"));
+        assertEquals(1, router.getOpenConnections("b"));
+    }
+
+    @Test
+    public void idleConnectionsAreClosedAfterTheTimeout() throws Exception {
+        router.setIdleTimeout(50);
+        Database idle;
+        try (TenantRouter.Lease lease = router.acquire("a")) {
+            idle = lease.getDatabase();
+        }
+
+        Thread.sleep(100);
+        router.evictIdle();
+        assertNull(idle.getConnection());
+        assertEquals(0, router.getOpenConnections());
+    }
+
+    @Test
+    public void closingClosesIdleConnections() throws Exception {
+        Database idle;
+        try (TenantRouter.Lease lease = router.acquire("a")) {
+            idle = lease.getDatabase();
+        }
+        TenantRouter.Lease leased = router.acquire("b");
+
+        router.close();
+        assertNull(idle.getConnection());
+        assertFalse(leased.getDatabase().getConnection() == null);
+        assertThrows(SQLException.class, () -> router.acquire("a"));
+
+        // Connections still leased are closed once released
+        Database database = leased.getDatabase();
+        leased.close();
+        assertNull(database.getConnection());
+        assertEquals(0, router.getOpenConnections());
+    }
+
+}
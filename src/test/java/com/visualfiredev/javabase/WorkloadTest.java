@@ -0,0 +1,139 @@
+package com.visualfiredev.javabase;
+
+import com.visualfiredev.javabase.schema.ColumnSchema;
+import com.visualfiredev.javabase.schema.TableSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a workload recorded from an SQLite database reads back and replays the same, and that neither the
+ * log nor the report grow with every distinct SQL string.
+ */
+public class WorkloadTest {
+
+    // The table the workload uses
+    private static final TableSchema TABLE_SCHEMA = new TableSchema("workload_items",
+        new ColumnSchema("Id", DataType.INTEGER).setPrimaryKey(true).setAutoIncrement(true),
+        new ColumnSchema("Name", DataType.VARCHAR, 32)
+    );
+
+    // Files
+    private File file;
+    private File log;
+    private Database database;
+
+    /**
+     * Connects to a new SQLite file with an empty table, and creates an empty log file.
+     * @throws Exception Thrown if connecting or creating the table failed.
+     */
+    @BeforeEach
+    public void connect() throws Exception {
+        file = File.createTempFile("javabase-workload", ".db");
+        log = File.createTempFile("javabase-workload", ".jbwl");
+        database = new Database("", file.getAbsolutePath(), DatabaseType.SQLite).connect("", "");
+        database.createTable(TABLE_SCHEMA);
+    }
+
+    /**
+     * Disconnects, deleting the SQLite file and the log.
+     * @throws Exception Thrown if disconnecting failed.
+     */
+    @AfterEach
+    public void disconnect() throws Exception {
+        database.disconnect();
+        for (File created : Arrays.asList(file, log)) {
+            if (!created.delete()) {
+                created.deleteOnExit();
+            }
+        }
+    }
+
+    @Test
+    public void recordedStatementsReadBackAndReplay() throws Exception {
+        // Record
+        WorkloadRecorder recorder = new WorkloadRecorder(log);
+        database.setWorkloadRecorder(recorder);
+        database.insert(TABLE_SCHEMA, new DatabaseValue("Name", "First"));
+        database.insert(TABLE_SCHEMA, new DatabaseValue("Name", "Second"));
+        assertEquals(1, database.select(TABLE_SCHEMA, "Name = ?", "Second").getRowCount());
+        database.setWorkloadRecorder(null);
+        recorder.close();
+        assertEquals(3, recorder.getRecorded());
+
+        // Read Back
+        List<RecordedStatement> statements;
+        try (WorkloadReader reader = new WorkloadReader(log)) {
+            statements = reader.readAll();
+        }
+        assertEquals(3, statements.size());
+        assertTrue(statements.get(0).getSql().contains("'First'"), statements.get(0).getSql());
+        RecordedStatement select = statements.get(2);
+        assertTrue(select.isParametersKnown());
+        assertEquals(Collections.singletonList("Second"), select.getParameters());
+        assertEquals(1, select.getRows());
+        assertEquals(Thread.currentThread().getName(), select.getThreadName());
+        assertFalse(select.isFailed());
+
+        // Replay Against The Same Table, Which Inserts The Rows Again
+        ReplayReport report = new WorkloadReplayer(log).setSpeed(0).replay(database);
+        assertEquals(3, report.getReplayed());
+        assertEquals(0, report.getErrors());
+        assertEquals(4, database.count(TABLE_SCHEMA));
+        ReplayReport.Entry entry = report.getEntry(select.getSql());
+        assertNotNull(entry);
+        assertEquals(1, entry.getCount());
+    }
+
+    @Test
+    public void replacedShapesAreWrittenAgain() throws Exception {
+        // More distinct SQL strings than are remembered, then the first again after it was replaced
+        int distinct = WorkloadFormat.MAX_SHAPES + 10;
+        try (WorkloadRecorder recorder = new WorkloadRecorder(log)) {
+            for (int i = 0; i < distinct; i++) {
+                recorder.record("SELECT " + i, null, System.nanoTime(), 1, 1, false);
+            }
+            recorder.record("SELECT 0", null, System.nanoTime(), 1, 1, false);
+            recorder.record("SELECT " + (distinct - 1), null, System.nanoTime(), 1, 1, false);
+        }
+
+        // Every statement still reads back with its own SQL
+        try (WorkloadReader reader = new WorkloadReader(log)) {
+            for (int i = 0; i < distinct; i++) {
+                assertEquals("SELECT " + i, reader.read().getSql());
+            }
+            assertEquals("SELECT 0", reader.read().getSql());
+            assertEquals("SELECT " + (distinct - 1), reader.read().getSql());
+            assertEquals(null, reader.read());
+        }
+    }
+
+    @Test
+    public void reportGroupsStatementsBeyondTheLimit() {
+        ReplayReport report = new ReplayReport();
+        int distinct = ReplayReport.MAX_ENTRIES + 50;
+        for (int i = 0; i < distinct; i++) {
+            String sql = "INSERT INTO workload_items(Name) VALUES('Item " + i + "')";
+            report.recordReplayed(new RecordedStatement(sql, Collections.emptyList(), true, 1, "main", 0, 1000, 1, false), 1000);
+        }
+
+        // The statements beyond the limit share one entry
+        assertEquals(ReplayReport.MAX_ENTRIES + 1, report.getEntries().size());
+        ReplayReport.Entry group = report.getEntry("INSERT INTO workload_items(Name) VALUES('Item " + (distinct - 1) + "')");
+        assertNotNull(group);
+        assertEquals("INSERT INTO workload_items ...", group.getSql());
+        assertEquals(50, group.getCount());
+        assertEquals(distinct, report.getReplayed());
+    }
+
+}